@@ -0,0 +1,50 @@
+package com.eaglebank.loadgen;
+
+import com.eaglebank.api.EagleBankApiApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.util.UUID;
+
+/**
+ * Boots the API in-process on a random port against an in-memory H2 database. Settings are passed as
+ * command-line arguments so they take precedence over {@code application.yaml}. Rate limiting is off, since
+ * the generator would otherwise measure the limiter rather than the application.
+ */
+public final class EmbeddedApplication implements AutoCloseable {
+    
+    private final ConfigurableApplicationContext context;
+    
+    private EmbeddedApplication(ConfigurableApplicationContext context) {
+        this.context = context;
+    }
+    
+    public static EmbeddedApplication start(String... extraArguments) {
+        String[] defaults = {
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:eaglebank-loadgen;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.jpa.hibernate.ddl-auto=update",
+                "--jwt.secret=" + UUID.randomUUID() + UUID.randomUUID(),
+                "--rate-limit.enabled=false"
+        };
+        String[] arguments = new String[defaults.length + extraArguments.length];
+        System.arraycopy(defaults, 0, arguments, 0, defaults.length);
+        System.arraycopy(extraArguments, 0, arguments, defaults.length, extraArguments.length);
+        return new EmbeddedApplication(new SpringApplicationBuilder(EagleBankApiApplication.class).run(arguments));
+    }
+    
+    public URI baseUri() {
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        return URI.create("http://localhost:" + port + "/");
+    }
+    
+    @Override
+    public void close() {
+        context.close();
+    }
+}
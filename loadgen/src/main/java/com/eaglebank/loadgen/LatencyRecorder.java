@@ -0,0 +1,50 @@
+package com.eaglebank.loadgen;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/** Per-endpoint latency histograms in microseconds, plus error counts. Safe for concurrent recording. */
+public class LatencyRecorder {
+    
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    
+    public void record(String endpoint, long latencyNanos, boolean success) {
+        Endpoint stats = endpoints.computeIfAbsent(endpoint, key -> new Endpoint());
+        stats.histogram.recordValue(Math.min(HIGHEST_TRACKABLE_MICROS,
+                Math.max(0, TimeUnit.NANOSECONDS.toMicros(latencyNanos))));
+        if (!success) {
+            stats.errors.increment();
+        }
+    }
+    
+    /** Discards everything recorded so far, for example at the end of a warm-up phase. */
+    public void reset() {
+        endpoints.clear();
+    }
+    
+    /** Copies of the histograms by endpoint, sorted by endpoint name. */
+    public Map<String, Result> results() {
+        Map<String, Result> results = new TreeMap<>();
+        endpoints.forEach((endpoint, stats) -> results.put(endpoint,
+                new Result(stats.histogram.copy(), stats.errors.sum())));
+        return results;
+    }
+    
+    public record Result(Histogram histogram, long errors) {
+    }
+    
+    private static final class Endpoint {
+        
+        private final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        private final LongAdder errors = new LongAdder();
+    }
+}
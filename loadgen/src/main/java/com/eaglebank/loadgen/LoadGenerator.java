@@ -0,0 +1,130 @@
+package com.eaglebank.loadgen;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replays a scenario against the API and reports per-endpoint latency histograms and throughput. Every
+ * iteration runs on its own virtual thread, so the open model can keep its arrival rate even when the server
+ * slows down and thousands of iterations are in flight.
+ */
+public final class LoadGenerator {
+    
+    private final LoadOptions options;
+    private final ScenarioRunner runner;
+    private final AtomicLong iterations = new AtomicLong();
+    
+    public LoadGenerator(LoadOptions options, ScenarioRunner runner) {
+        this.options = options;
+        this.runner = runner;
+    }
+    
+    public static void main(String[] args) throws Exception {
+        LoadOptions options;
+        try {
+            options = LoadOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+            return;
+        }
+        Scenario scenario = Scenario.load(options.scenario());
+        
+        EmbeddedApplication application = options.target() == null
+                ? EmbeddedApplication.start(options.applicationArguments().toArray(String[]::new))
+                : null;
+        try {
+            URI target = application != null ? application.baseUri() : options.target();
+            LatencyRecorder recorder = new LatencyRecorder();
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .connectTimeout(options.requestTimeout())
+                    .build();
+            String runId = Long.toString(System.currentTimeMillis(), 36);
+            LoadGenerator generator = new LoadGenerator(options,
+                    new ScenarioRunner(scenario, target, httpClient, recorder, options.requestTimeout(), runId));
+            
+            if (!options.warmup().isZero()) {
+                generator.runPhase(options.warmup());
+                recorder.reset();
+            }
+            PhaseResult measured = generator.runPhase(options.duration());
+            Map<String, LatencyRecorder.Result> results = recorder.results();
+            
+            LoadReport.print(System.out, options, scenario, target.toString(), measured, results);
+            if (options.histogramDirectory() != null) {
+                LoadReport.writeHistograms(options.histogramDirectory(), results);
+            }
+        } finally {
+            if (application != null) {
+                application.close();
+            }
+        }
+    }
+    
+    /** Runs iterations for the given length of time and waits for those still in flight to finish. */
+    public PhaseResult runPhase(Duration length) {
+        LongAdder completed = new LongAdder();
+        LongAdder failed = new LongAdder();
+        long started = System.nanoTime();
+        long end = started + length.toNanos();
+        long count;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            count = options.openModel()
+                    ? scheduleAtFixedRate(executor, started, end, completed, failed)
+                    : loopVirtualUsers(executor, end, completed, failed);
+        }
+        return new PhaseResult(count, completed.sum(), failed.sum(), System.nanoTime() - started);
+    }
+    
+    // Arrival times are computed from the phase start rather than from the previous submission, so a slow
+    // scheduler tick never shifts later arrivals and the offered rate stays constant.
+    private long scheduleAtFixedRate(ExecutorService executor, long started, long end,
+                                     LongAdder completed, LongAdder failed) {
+        long intervalNanos = Math.max(1, (long) (1_000_000_000L / options.rate()));
+        long submitted = 0;
+        for (long scheduled = started; scheduled < end; scheduled = started + submitted * intervalNanos) {
+            parkUntil(scheduled);
+            long iteration = iterations.getAndIncrement();
+            long scheduledStart = scheduled;
+            executor.submit(() -> count(runner.run(iteration, scheduledStart), completed, failed));
+            submitted++;
+        }
+        return submitted;
+    }
+    
+    private long loopVirtualUsers(ExecutorService executor, long end, LongAdder completed, LongAdder failed) {
+        LongAdder started = new LongAdder();
+        for (int user = 0; user < options.concurrency(); user++) {
+            executor.submit(() -> {
+                while (System.nanoTime() < end) {
+                    started.increment();
+                    count(runner.run(iterations.getAndIncrement(), System.nanoTime()), completed, failed);
+                }
+            });
+        }
+        executor.close();
+        return started.sum();
+    }
+    
+    private static void count(boolean success, LongAdder completed, LongAdder failed) {
+        (success ? completed : failed).increment();
+    }
+    
+    private static void parkUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+    
+    public record PhaseResult(long started, long completed, long failed, long elapsedNanos) {
+    }
+}
@@ -0,0 +1,89 @@
+package com.eaglebank.loadgen;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Command-line options. Either {@code --rate} (open model: scenario iterations started at a fixed rate,
+ * regardless of how fast earlier ones finish) or {@code --concurrency} (closed model: that many virtual users
+ * looping back to back) selects the arrival model; the open model is the default.
+ */
+public record LoadOptions(
+        String scenario,
+        URI target,
+        double rate,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        Duration requestTimeout,
+        Path histogramDirectory,
+        List<String> applicationArguments
+) {
+    
+    private static final String USAGE = """
+            Usage: loadgen --scenario=<file or bundled name> [--target=<base URL>]
+                           [--rate=<iterations per second> | --concurrency=<virtual users>]
+                           [--warmup=PT10S] [--duration=PT60S] [--request-timeout=PT30S]
+                           [--histogram-dir=<directory>] [--app.<property>=<value> ...]
+            Without --target the API is started in-process against an in-memory database;
+            --app.* arguments are passed to it as Spring properties.""";
+    
+    public boolean openModel() {
+        return concurrency == 0;
+    }
+    
+    public static LoadOptions parse(String... args) {
+        String scenario = null;
+        URI target = null;
+        double rate = 0;
+        int concurrency = 0;
+        Duration warmup = Duration.ofSeconds(10);
+        Duration duration = Duration.ofSeconds(60);
+        Duration requestTimeout = Duration.ofSeconds(30);
+        Path histogramDirectory = null;
+        List<String> applicationArguments = new ArrayList<>();
+        
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Unrecognised argument " + arg + "\n" + USAGE);
+            }
+            String name = arg.substring(2, separator);
+            String value = arg.substring(separator + 1);
+            switch (name) {
+                case "scenario" -> scenario = value;
+                case "target" -> target = URI.create(value.endsWith("/") ? value : value + "/");
+                case "rate" -> rate = Double.parseDouble(value);
+                case "concurrency" -> concurrency = Integer.parseInt(value);
+                case "warmup" -> warmup = Duration.parse(value);
+                case "duration" -> duration = Duration.parse(value);
+                case "request-timeout" -> requestTimeout = Duration.parse(value);
+                case "histogram-dir" -> histogramDirectory = Path.of(value);
+                default -> {
+                    if (!name.startsWith("app.")) {
+                        throw new IllegalArgumentException("Unrecognised option --" + name + "\n" + USAGE);
+                    }
+                    applicationArguments.add("--" + name.substring(4) + "=" + value);
+                }
+            }
+        }
+        
+        if (scenario == null) {
+            throw new IllegalArgumentException("--scenario is required\n" + USAGE);
+        }
+        if (rate > 0 && concurrency > 0) {
+            throw new IllegalArgumentException("--rate and --concurrency are mutually exclusive\n" + USAGE);
+        }
+        if (rate <= 0 && concurrency <= 0) {
+            rate = 50;
+        }
+        if (target != null && !applicationArguments.isEmpty()) {
+            throw new IllegalArgumentException("--app.* options only apply to the in-process application");
+        }
+        return new LoadOptions(scenario, target, rate, concurrency, warmup, duration, requestTimeout,
+                histogramDirectory, List.copyOf(applicationArguments));
+    }
+}
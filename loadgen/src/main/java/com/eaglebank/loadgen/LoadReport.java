@@ -0,0 +1,53 @@
+package com.eaglebank.loadgen;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+/** Summary table of a measured phase, plus optional HdrHistogram percentile files per endpoint. */
+public final class LoadReport {
+    
+    private static final double MICROS_PER_MILLI = 1000.0;
+    
+    private LoadReport() {
+    }
+    
+    public static void print(PrintStream out, LoadOptions options, Scenario scenario, String target,
+                             LoadGenerator.PhaseResult phase, Map<String, LatencyRecorder.Result> results) {
+        double seconds = phase.elapsedNanos() / 1_000_000_000.0;
+        out.printf("Scenario %s against %s, %s%n", scenario.name(), target, options.openModel()
+                ? String.format("open model at %.1f iterations/s", options.rate())
+                : String.format("closed model with %d virtual users", options.concurrency()));
+        out.printf("Measured %.1f s: %d iterations (%d completed, %d failed), %.1f iterations/s%n%n",
+                seconds, phase.started(), phase.completed(), phase.failed(), phase.started() / seconds);
+        out.printf("%-50s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        results.forEach((endpoint, result) -> {
+            Histogram histogram = result.histogram();
+            out.printf("%-50s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    endpoint, histogram.getTotalCount(), result.errors(), histogram.getTotalCount() / seconds,
+                    millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()));
+        });
+    }
+    
+    /** Writes one {@code .hgrm} file per endpoint, in milliseconds, for plotting with the HdrHistogram tools. */
+    public static void writeHistograms(Path directory, Map<String, LatencyRecorder.Result> results) throws IOException {
+        Files.createDirectories(directory);
+        for (Map.Entry<String, LatencyRecorder.Result> entry : results.entrySet()) {
+            String fileName = entry.getKey().replaceAll("[^A-Za-z0-9]+", "_").replaceAll("^_|_$", "") + ".hgrm";
+            try (PrintStream file = new PrintStream(Files.newOutputStream(directory.resolve(fileName)))) {
+                entry.getValue().histogram().outputPercentileDistribution(file, MICROS_PER_MILLI);
+            }
+        }
+    }
+    
+    private static double millis(long micros) {
+        return micros / MICROS_PER_MILLI;
+    }
+}
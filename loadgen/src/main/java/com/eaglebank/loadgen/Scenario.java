@@ -0,0 +1,89 @@
+package com.eaglebank.loadgen;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * An ordered list of steps read from a JSON Lines file, one step object per line, in the same shape as the
+ * repository's request backlog. Blank lines and lines starting with {@code #} are skipped.
+ */
+public record Scenario(String name, List<ScenarioStep> steps) {
+    
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, true);
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\$\\{([A-Za-z0-9_]+)}");
+    
+    public Scenario {
+        if (steps.isEmpty()) {
+            throw new IllegalArgumentException("Scenario " + name + " has no steps");
+        }
+        steps = List.copyOf(steps);
+    }
+    
+    /** Loads a scenario from a file path, or from the bundled {@code scenarios/} resources by name. */
+    public static Scenario load(String location) throws IOException {
+        Path path = Path.of(location);
+        if (Files.exists(path)) {
+            try (Reader reader = Files.newBufferedReader(path)) {
+                return parse(path.getFileName().toString(), reader);
+            }
+        }
+        String resource = "scenarios/" + (location.endsWith(".jsonl") ? location : location + ".jsonl");
+        InputStream in = Scenario.class.getClassLoader().getResourceAsStream(resource);
+        if (in == null) {
+            throw new IllegalArgumentException("No scenario file or bundled scenario named " + location);
+        }
+        try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            return parse(location, reader);
+        }
+    }
+    
+    public static Scenario parse(String name, Reader reader) throws IOException {
+        List<ScenarioStep> steps = new ArrayList<>();
+        BufferedReader lines = new BufferedReader(reader);
+        String line;
+        int lineNumber = 0;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            String trimmed = line.strip();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            try {
+                steps.add(MAPPER.readValue(trimmed, ScenarioStep.class));
+            } catch (IOException | IllegalArgumentException e) {
+                throw new IllegalArgumentException(name + ":" + lineNumber + ": " + e.getMessage(), e);
+            }
+        }
+        return new Scenario(name, steps);
+    }
+    
+    /** Replaces {@code ${name}} placeholders; unknown names are an error so typos fail on the first iteration. */
+    public static String resolve(String template, Map<String, String> variables) {
+        Matcher matcher = PLACEHOLDER.matcher(template);
+        StringBuilder resolved = new StringBuilder();
+        while (matcher.find()) {
+            String value = variables.get(matcher.group(1));
+            if (value == null) {
+                throw new IllegalStateException("Unbound scenario variable ${" + matcher.group(1) + "}");
+            }
+            matcher.appendReplacement(resolved, Matcher.quoteReplacement(value));
+        }
+        matcher.appendTail(resolved);
+        return resolved.toString();
+    }
+}
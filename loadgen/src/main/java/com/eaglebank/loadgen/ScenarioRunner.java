@@ -0,0 +1,103 @@
+package com.eaglebank.loadgen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Plays one iteration of a scenario. Each step's latency is measured from the moment it was due rather than
+ * the moment it was sent: the first step is due at the iteration's scheduled start and every later step when
+ * the previous one completes. Under the open model this charges queueing delay to the requests that suffered
+ * it, so coordinated omission does not hide the tail.
+ */
+public class ScenarioRunner {
+    
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    
+    private final Scenario scenario;
+    private final URI target;
+    private final HttpClient httpClient;
+    private final LatencyRecorder recorder;
+    private final Duration requestTimeout;
+    private final String runId;
+    
+    public ScenarioRunner(Scenario scenario, URI target, HttpClient httpClient, LatencyRecorder recorder,
+                          Duration requestTimeout, String runId) {
+        this.scenario = scenario;
+        this.target = target;
+        this.httpClient = httpClient;
+        this.recorder = recorder;
+        this.requestTimeout = requestTimeout;
+        this.runId = runId;
+    }
+    
+    /**
+     * Runs every step in order, stopping at the first failure since later steps usually depend on values the
+     * failed one would have extracted.
+     *
+     * @return whether all steps succeeded
+     */
+    public boolean run(long iteration, long scheduledStartNanos) {
+        Map<String, String> variables = new HashMap<>();
+        variables.put("iteration", runId + "-" + iteration);
+        long dueNanos = scheduledStartNanos;
+        for (ScenarioStep step : scenario.steps()) {
+            boolean success;
+            try {
+                success = execute(step, variables);
+            } catch (IOException | RuntimeException e) {
+                success = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            long completedNanos = System.nanoTime();
+            recorder.record(step.endpoint(), completedNanos - dueNanos, success);
+            if (!success) {
+                return false;
+            }
+            dueNanos = completedNanos;
+        }
+        return true;
+    }
+    
+    private boolean execute(ScenarioStep step, Map<String, String> variables) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(target.resolve(Scenario.resolve(step.path(), variables)))
+                .timeout(requestTimeout)
+                .header("Accept", "application/json");
+        if (step.auth()) {
+            request.header("Authorization", "Bearer " + Scenario.resolve("${token}", variables));
+        }
+        if (step.body() != null && !step.body().isNull()) {
+            request.header("Content-Type", "application/json")
+                    .method(step.method(), HttpRequest.BodyPublishers.ofString(
+                            Scenario.resolve(MAPPER.writeValueAsString(step.body()), variables)));
+        } else {
+            request.method(step.method(), HttpRequest.BodyPublishers.noBody());
+        }
+        
+        HttpResponse<String> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        boolean success = step.expectedStatus() != 0
+                ? response.statusCode() == step.expectedStatus()
+                : response.statusCode() / 100 == 2;
+        if (success && !step.extract().isEmpty()) {
+            JsonNode json = MAPPER.readTree(response.body());
+            for (Map.Entry<String, String> entry : step.extract().entrySet()) {
+                JsonNode value = json.at("/" + entry.getValue().replace('.', '/'));
+                if (value.isMissingNode() || value.isNull()) {
+                    return false;
+                }
+                variables.put(entry.getKey(), value.asText());
+            }
+        }
+        return success;
+    }
+}
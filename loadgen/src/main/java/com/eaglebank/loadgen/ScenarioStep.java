@@ -0,0 +1,35 @@
+package com.eaglebank.loadgen;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Map;
+
+/**
+ * One request in a scenario. {@code ${name}} placeholders in the path and body are filled from the
+ * iteration's variables; {@code extract} copies fields of a successful response into those variables
+ * (for example {@code {"token": "token"}} after login), using dotted paths for nested fields.
+ */
+public record ScenarioStep(
+        @JsonProperty("step_id") String stepId,
+        String method,
+        String path,
+        JsonNode body,
+        @JsonProperty("expect") int expectedStatus,
+        boolean auth,
+        Map<String, String> extract
+) {
+    
+    public ScenarioStep {
+        if (stepId == null || method == null || path == null) {
+            throw new IllegalArgumentException("Scenario steps need step_id, method and path");
+        }
+        method = method.toUpperCase();
+        extract = extract != null ? extract : Map.of();
+    }
+    
+    /** Histogram key: the method and unresolved path template, so every iteration lands in the same bucket. */
+    public String endpoint() {
+        return method + " " + path;
+    }
+}
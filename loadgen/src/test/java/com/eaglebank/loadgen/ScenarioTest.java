@@ -0,0 +1,65 @@
+package com.eaglebank.loadgen;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ScenarioTest {
+
+    @Test
+    void load_ShouldReadBundledScenarioByName() throws IOException {
+        Scenario scenario = Scenario.load("banking");
+
+        assertThat(scenario.steps()).extracting(ScenarioStep::stepId).containsExactly(
+                "create-user", "login", "create-account", "deposit", "deposit-again", "withdrawal",
+                "list-transactions", "list-accounts");
+        assertThat(scenario.steps().get(1).extract()).containsEntry("token", "token");
+        assertThat(scenario.steps().get(3).endpoint()).isEqualTo("POST /v1/accounts/${accountNumber}/transactions");
+    }
+
+    @Test
+    void parse_ShouldSkipCommentsAndBlankLines() throws IOException {
+        Scenario scenario = Scenario.parse("inline", new StringReader("""
+                # comment
+
+                {"step_id": "list", "method": "get", "path": "/v1/accounts", "auth": true}
+                """));
+
+        assertThat(scenario.steps()).singleElement().satisfies(step -> {
+            assertThat(step.method()).isEqualTo("GET");
+            assertThat(step.auth()).isTrue();
+            assertThat(step.expectedStatus()).isZero();
+            assertThat(step.extract()).isEmpty();
+        });
+    }
+
+    @Test
+    void parse_ShouldReportLineNumber_WhenStepIsInvalid() {
+        assertThatThrownBy(() -> Scenario.parse("broken", new StringReader("""
+                {"step_id": "ok", "method": "GET", "path": "/v1/accounts"}
+                {"step_id": "bad", "method": "GET"}
+                """)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("broken:2:");
+    }
+
+    @Test
+    void resolve_ShouldSubstituteVariables() {
+        String resolved = Scenario.resolve("/v1/accounts/${accountNumber}/transactions?ref=${iteration}",
+                Map.of("accountNumber", "01234567", "iteration", "run-7"));
+
+        assertThat(resolved).isEqualTo("/v1/accounts/01234567/transactions?ref=run-7");
+    }
+
+    @Test
+    void resolve_ShouldFail_WhenVariableIsUnbound() {
+        assertThatThrownBy(() -> Scenario.resolve("/v1/accounts/${accountNumber}", Map.of()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("accountNumber");
+    }
+}
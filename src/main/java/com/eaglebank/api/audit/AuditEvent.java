@@ -0,0 +1,12 @@
+package com.eaglebank.api.audit;
+
+import java.time.Instant;
+
+public record AuditEvent(
+        Instant timestamp,
+        String userId,
+        String method,
+        String path,
+        int status
+) {
+}
@@ -0,0 +1,35 @@
+package com.eaglebank.api.audit;
+
+import com.eaglebank.api.util.SecurityContextUtil;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Instant;
+import java.util.Set;
+
+public class AuditInterceptor implements HandlerInterceptor {
+    
+    private static final Set<String> MUTATING_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+    
+    private final AuditJournal auditJournal;
+    
+    public AuditInterceptor(AuditJournal auditJournal) {
+        this.auditJournal = auditJournal;
+    }
+    
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (!MUTATING_METHODS.contains(request.getMethod())) {
+            return;
+        }
+        auditJournal.publish(new AuditEvent(
+                Instant.now(),
+                SecurityContextUtil.findCurrentUserId().orElse(null),
+                request.getMethod(),
+                request.getRequestURI(),
+                response.getStatus()
+        ));
+    }
+}
@@ -0,0 +1,139 @@
+package com.eaglebank.api.audit;
+
+import com.eaglebank.api.journal.MappedSegmentLog;
+import com.eaglebank.api.journal.MpscRingBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Request threads {@link #publish(AuditEvent) publish} into a lock-free ring buffer and return immediately;
+ * a single writer thread drains the buffer in batches, chains and appends each record to the segment log,
+ * and forces the log once per batch. When the writer falls behind and the buffer fills up, events are
+ * dropped and counted rather than blocking the request.
+ */
+public class AuditJournal implements Closeable {
+    
+    private static final Logger log = LoggerFactory.getLogger(AuditJournal.class);
+    
+    static final String SEGMENT_PREFIX = "audit";
+    static final byte[] GENESIS_HASH = new byte[AuditRecord.HASH_BYTES];
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    
+    private final MpscRingBuffer<AuditEvent> ringBuffer;
+    private final MappedSegmentLog segmentLog;
+    private final int batchSize;
+    private final MessageDigest digest;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final Thread writerThread;
+    private volatile boolean running = true;
+    
+    private long nextSequence;
+    private byte[] previousHash;
+    
+    public AuditJournal(Path directory, int segmentSize, int bufferCapacity, int batchSize) throws IOException {
+        this.ringBuffer = new MpscRingBuffer<>(bufferCapacity);
+        this.segmentLog = new MappedSegmentLog(directory, SEGMENT_PREFIX, segmentSize);
+        this.batchSize = batchSize;
+        this.digest = sha256();
+        
+        byte[] lastRecord = segmentLog.lastRecord();
+        if (lastRecord != null) {
+            AuditRecord last = AuditRecord.decode(lastRecord);
+            nextSequence = last.sequence() + 1;
+            previousHash = last.hash();
+        } else {
+            nextSequence = 1;
+            previousHash = GENESIS_HASH;
+        }
+        
+        this.writerThread = Thread.ofPlatform().name("audit-journal-writer").daemon().start(this::runWriter);
+    }
+    
+    public boolean publish(AuditEvent event) {
+        if (!running || !ringBuffer.offer(event)) {
+            droppedCount.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+    
+    public long droppedCount() {
+        return droppedCount.get();
+    }
+    
+    public long writtenCount() {
+        return writtenCount.get();
+    }
+    
+    /**
+     * Stops accepting events, waits for the writer to drain what was already published and closes the log.
+     */
+    @Override
+    public void close() throws IOException {
+        running = false;
+        try {
+            writerThread.join();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        segmentLog.close();
+    }
+    
+    private void runWriter() {
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        while (running || !ringBuffer.isEmpty()) {
+            if (ringBuffer.drainTo(batch, batchSize) == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            int written = 0;
+            try {
+                for (AuditEvent event : batch) {
+                    append(event);
+                    written++;
+                }
+                segmentLog.force();
+            } catch (Exception ex) {
+                droppedCount.addAndGet(batch.size() - written);
+                log.error("Failed to append {} audit events to the journal", batch.size() - written, ex);
+            }
+            writtenCount.addAndGet(written);
+            batch.clear();
+        }
+    }
+    
+    private void append(AuditEvent event) throws IOException {
+        byte[] body = AuditRecord.encodeBody(nextSequence, event);
+        digest.update(previousHash);
+        digest.update(body);
+        byte[] hash = digest.digest();
+        
+        byte[] payload = new byte[body.length + hash.length];
+        System.arraycopy(body, 0, payload, 0, body.length);
+        System.arraycopy(hash, 0, payload, body.length, hash.length);
+        segmentLog.append(payload);
+        
+        previousHash = hash;
+        nextSequence++;
+    }
+    
+    static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.eaglebank.api.audit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.io.IOException;
+
+@Configuration
+@ConditionalOnProperty(prefix = "audit.journal", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(AuditJournalProperties.class)
+public class AuditJournalConfig {
+    
+    @Bean
+    public AuditJournal auditJournal(AuditJournalProperties properties, MeterRegistry meterRegistry) throws IOException {
+        AuditJournal auditJournal = new AuditJournal(
+                properties.directory(),
+                Math.toIntExact(properties.segmentSize().toBytes()),
+                properties.bufferCapacity(),
+                properties.batchSize()
+        );
+        FunctionCounter.builder("audit.journal.written", auditJournal, AuditJournal::writtenCount)
+                .description("Audit events appended to the journal")
+                .register(meterRegistry);
+        FunctionCounter.builder("audit.journal.dropped", auditJournal, AuditJournal::droppedCount)
+                .description("Audit events dropped because the journal writer fell behind or failed")
+                .register(meterRegistry);
+        return auditJournal;
+    }
+    
+    @Bean
+    public WebMvcConfigurer auditWebMvcConfigurer(AuditJournal auditJournal) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(new AuditInterceptor(auditJournal)).addPathPatterns("/v1/**");
+            }
+        };
+    }
+}
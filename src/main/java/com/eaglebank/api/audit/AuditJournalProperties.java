@@ -0,0 +1,17 @@
+package com.eaglebank.api.audit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+@ConfigurationProperties(prefix = "audit.journal")
+public record AuditJournalProperties(
+        boolean enabled,
+        @DefaultValue("audit") Path directory,
+        @DefaultValue("64MB") DataSize segmentSize,
+        @DefaultValue("65536") int bufferCapacity,
+        @DefaultValue("512") int batchSize
+) {
+}
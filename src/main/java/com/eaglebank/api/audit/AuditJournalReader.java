@@ -0,0 +1,120 @@
+package com.eaglebank.api.audit;
+
+import com.eaglebank.api.journal.MappedSegmentLog;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Offline replay, search and verification of an audit journal directory. Run it from the application jar
+ * with {@code java -cp eaglebank-api.jar -Dloader.main=com.eaglebank.api.audit.AuditJournalReader
+ * org.springframework.boot.loader.launch.PropertiesLauncher <directory> [options]}.
+ */
+public final class AuditJournalReader {
+    
+    private static final String USAGE = """
+            Usage: AuditJournalReader <directory> [--verify] [--user <userId>] [--path <text>] \
+            [--from <instant>] [--to <instant>]""";
+    
+    private AuditJournalReader() {
+    }
+    
+    public static void replay(Path directory, Consumer<AuditRecord> consumer) throws IOException {
+        MappedSegmentLog.readAll(directory, AuditJournal.SEGMENT_PREFIX,
+                payload -> consumer.accept(AuditRecord.decode(payload)));
+    }
+    
+    public static void search(Path directory, Predicate<AuditRecord> filter, Consumer<AuditRecord> consumer)
+            throws IOException {
+        replay(directory, record -> {
+            if (filter.test(record)) {
+                consumer.accept(record);
+            }
+        });
+    }
+    
+    /**
+     * Recomputes the hash chain from the first record.
+     *
+     * @return a description of the first broken link, or {@code null} if the whole journal verifies
+     */
+    public static String verify(Path directory) throws IOException {
+        ChainVerifier verifier = new ChainVerifier();
+        replay(directory, verifier);
+        return verifier.failure;
+    }
+    
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+        Path directory = Path.of(args[0]);
+        boolean verify = false;
+        Predicate<AuditRecord> filter = record -> true;
+        
+        for (int i = 1; i < args.length; i++) {
+            String option = args[i];
+            if (option.equals("--verify")) {
+                verify = true;
+                continue;
+            }
+            if (i + 1 >= args.length) {
+                System.err.println(USAGE);
+                System.exit(2);
+            }
+            String value = args[++i];
+            filter = switch (option) {
+                case "--user" -> filter.and(record -> value.equals(record.userId()));
+                case "--path" -> filter.and(record -> record.path().contains(value));
+                case "--from" -> filter.and(record -> !record.timestamp().isBefore(Instant.parse(value)));
+                case "--to" -> filter.and(record -> record.timestamp().isBefore(Instant.parse(value)));
+                default -> {
+                    System.err.println(USAGE);
+                    System.exit(2);
+                    yield filter;
+                }
+            };
+        }
+        
+        if (verify) {
+            String failure = verify(directory);
+            System.out.println(failure == null ? "Journal verified" : "Verification failed: " + failure);
+            System.exit(failure == null ? 0 : 1);
+        }
+        search(directory, filter, System.out::println);
+    }
+    
+    private static final class ChainVerifier implements Consumer<AuditRecord> {
+        
+        private final MessageDigest digest = AuditJournal.sha256();
+        private byte[] previousHash = AuditJournal.GENESIS_HASH;
+        private long expectedSequence = 1;
+        private String failure;
+        
+        @Override
+        public void accept(AuditRecord record) {
+            if (failure != null) {
+                return;
+            }
+            if (record.sequence() != expectedSequence) {
+                failure = "expected sequence " + expectedSequence + " but found " + record.sequence();
+                return;
+            }
+            digest.update(previousHash);
+            digest.update(record.body());
+            byte[] expectedHash = digest.digest();
+            if (!Arrays.equals(expectedHash, record.hash())) {
+                failure = "hash mismatch at sequence " + record.sequence();
+                return;
+            }
+            previousHash = record.hash();
+            expectedSequence++;
+        }
+    }
+}
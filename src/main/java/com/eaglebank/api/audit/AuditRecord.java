@@ -0,0 +1,83 @@
+package com.eaglebank.api.audit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+/**
+ * An {@link AuditEvent} as stored in the journal: a sequence number and the SHA-256 of the previous record's
+ * hash followed by this record's body, so that removing or editing any record breaks the chain.
+ */
+public record AuditRecord(
+        long sequence,
+        Instant timestamp,
+        String userId,
+        String method,
+        String path,
+        int status,
+        byte[] hash
+) {
+    
+    static final int HASH_BYTES = 32;
+    private static final int MAX_PATH_LENGTH = 2048;
+    
+    static byte[] encodeBody(long sequence, AuditEvent event) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeLong(sequence);
+            out.writeLong(event.timestamp().getEpochSecond());
+            out.writeInt(event.timestamp().getNano());
+            out.writeUTF(event.userId() != null ? event.userId() : "");
+            out.writeUTF(event.method());
+            String path = event.path();
+            out.writeUTF(path.length() > MAX_PATH_LENGTH ? path.substring(0, MAX_PATH_LENGTH) : path);
+            out.writeInt(event.status());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return bytes.toByteArray();
+    }
+    
+    static AuditRecord decode(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            long sequence = in.readLong();
+            Instant timestamp = Instant.ofEpochSecond(in.readLong(), in.readInt());
+            String userId = in.readUTF();
+            String method = in.readUTF();
+            String path = in.readUTF();
+            int status = in.readInt();
+            byte[] hash = in.readNBytes(HASH_BYTES);
+            return new AuditRecord(sequence, timestamp, userId.isEmpty() ? null : userId, method, path, status, hash);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+    
+    byte[] body() {
+        return encodeBody(sequence, new AuditEvent(timestamp, userId, method, path, status));
+    }
+    
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof AuditRecord record
+                && sequence == record.sequence
+                && Arrays.equals(hash, record.hash);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Long.hashCode(sequence) * 31 + Arrays.hashCode(hash);
+    }
+    
+    @Override
+    public String toString() {
+        return sequence + " " + timestamp + " " + (userId != null ? userId : "-") + " " + method + " " + path
+                + " " + status + " " + HexFormat.of().formatHex(hash);
+    }
+}
@@ -0,0 +1,147 @@
+package com.eaglebank.api.batch;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Finishes closing accounts that {@code AccountService.deleteAccount} has marked {@code CLOSED}: their
+ * transactions are copied to {@code transactions_archive} and deleted in batches of {@code batchSize}, each
+ * batch in its own short transaction, and the account row goes last once nothing references it.
+ * <p>
+ * Closed accounts accept no postings, so the batches need no account lock. Deletes are paced to
+ * {@code maxRowsPerSecond} and a run stops at {@code maxDuration}; since every batch commits on its own, the
+ * next run simply picks up whatever is still there.
+ */
+@Component
+public class AccountClosureJob {
+    
+    private static final Logger log = LoggerFactory.getLogger(AccountClosureJob.class);
+    
+    private static final String SCAN_SQL = """
+            select account_number
+            from bank_accounts
+            where account_number > ? and status = 'CLOSED'
+            order by account_number
+            limit ?""";
+    
+    private static final String NEXT_BATCH_SQL = """
+            select id
+            from transactions
+            where account_number = ?
+            order by id
+            limit ?""";
+    
+    private static final String ARCHIVE_SQL = """
+            insert into transactions_archive (id, amount, currency, type, reference, original_amount,
+                                              original_currency, account_number, user_id, created_timestamp,
+                                              archived_timestamp)
+            select id, amount, currency, type, reference, original_amount, original_currency, account_number,
+                   user_id, created_timestamp, current_timestamp
+            from transactions
+            where id in (:ids)""";
+    
+    private static final String DELETE_TRANSACTIONS_SQL = "delete from transactions where id in (:ids)";
+    
+    private static final String DELETE_ROLLUPS_SQL = "delete from account_monthly_rollups where account_number = ?";
+    
+    private static final String DELETE_ACCOUNT_SQL = """
+            delete from bank_accounts
+            where account_number = ? and status = 'CLOSED'
+              and not exists (select 1 from transactions where account_number = ?)""";
+    
+    private static final int SCAN_CHUNK_SIZE = 100;
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BatchProperties.AccountClosure properties;
+    
+    public AccountClosureJob(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             BatchProperties batchProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = batchProperties.accountClosure();
+    }
+    
+    public AccountClosureResult run() {
+        long startNanos = System.nanoTime();
+        long deadline = startNanos + properties.maxDuration().toNanos();
+        long accountsPurged = 0;
+        long archived = 0;
+        boolean finished = false;
+        
+        String cursor = "";
+        try {
+            scan:
+            while (true) {
+                List<String> chunk = jdbcTemplate.queryForList(SCAN_SQL, String.class, cursor, SCAN_CHUNK_SIZE);
+                if (chunk.isEmpty()) {
+                    finished = true;
+                    break;
+                }
+                for (String accountNumber : chunk) {
+                    while (true) {
+                        if (System.nanoTime() >= deadline) {
+                            break scan;
+                        }
+                        int moved = transactionTemplate.execute(status -> archiveBatch(accountNumber));
+                        if (moved == 0) {
+                            break;
+                        }
+                        archived += moved;
+                        pace(startNanos, archived);
+                    }
+                    if (transactionTemplate.execute(status -> deleteAccount(accountNumber))) {
+                        accountsPurged++;
+                    }
+                    cursor = accountNumber;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Account closure interrupted", e);
+        }
+        
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+        AccountClosureResult result = new AccountClosureResult(accountsPurged, archived, elapsed, finished);
+        log.info("Account closure {}: purged {} accounts and archived {} transactions in {} ms",
+                finished ? "finished" : "paused at time budget", accountsPurged, archived, elapsed.toMillis());
+        return result;
+    }
+    
+    private int archiveBatch(String accountNumber) {
+        List<String> ids = jdbcTemplate.queryForList(NEXT_BATCH_SQL, String.class, accountNumber,
+                properties.batchSize());
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        Map<String, List<String>> params = Map.of("ids", ids);
+        namedParameterJdbcTemplate.update(ARCHIVE_SQL, params);
+        return namedParameterJdbcTemplate.update(DELETE_TRANSACTIONS_SQL, params);
+    }
+    
+    private boolean deleteAccount(String accountNumber) {
+        jdbcTemplate.update(DELETE_ROLLUPS_SQL, accountNumber);
+        return jdbcTemplate.update(DELETE_ACCOUNT_SQL, accountNumber, accountNumber) > 0;
+    }
+    
+    private void pace(long startNanos, long rows) throws InterruptedException {
+        long earliest = startNanos + rows * 1_000_000_000L / properties.maxRowsPerSecond();
+        long wait = earliest - System.nanoTime();
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+}
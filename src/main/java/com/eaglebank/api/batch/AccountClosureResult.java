@@ -0,0 +1,15 @@
+package com.eaglebank.api.batch;
+
+import java.time.Duration;
+
+/**
+ * Outcome of one account closure run. {@code finished} is false when the run stopped at its time budget
+ * with closed accounts still to purge; the next run carries on where the data left off.
+ */
+public record AccountClosureResult(
+        long accountsPurged,
+        long transactionsArchived,
+        Duration elapsed,
+        boolean finished
+) {
+}
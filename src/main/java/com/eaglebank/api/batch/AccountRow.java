@@ -0,0 +1,14 @@
+package com.eaglebank.api.batch;
+
+/**
+ * Flat read model of a {@code bank_accounts} row as seen by the keyset scan. No entity is attached to a
+ * persistence context, so a full-table scan does not grow the first-level cache.
+ */
+public record AccountRow(
+        String accountNumber,
+        String userId,
+        String accountType,
+        long balance,
+        String currency
+) {
+}
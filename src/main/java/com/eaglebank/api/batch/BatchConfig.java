@@ -0,0 +1,27 @@
+package com.eaglebank.api.batch;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(BatchProperties.class)
+public class BatchConfig {
+    
+    @Bean
+    public InterestAccrualJob interestAccrualJob(BatchProperties properties) {
+        return new InterestAccrualJob(properties.interest().annualRate());
+    }
+    
+    @Bean
+    public MonthlyFeeJob monthlyFeeJob(BatchProperties properties) {
+        return new MonthlyFeeJob(properties.fee().monthlyAmount());
+    }
+    
+    @Bean
+    public RollupBackfillEndpoint rollupBackfillEndpoint(RollupBackfillJob rollupBackfillJob) {
+        return new RollupBackfillEndpoint(rollupBackfillJob);
+    }
+}
@@ -0,0 +1,33 @@
+package com.eaglebank.api.batch;
+
+import com.eaglebank.api.enums.TransactionType;
+
+import java.time.LocalDate;
+
+/**
+ * An end-of-day job applied to every bank account. Implementations only decide the balance delta for an
+ * account; scanning, chunking, persistence and checkpointing are handled by {@link BatchJobRunner}.
+ */
+public interface BatchJob {
+    
+    /** Stable job name, used as part of the checkpoint key. */
+    String name();
+    
+    /**
+     * Short alphanumeric code embedded in the ids of the transactions this job records. Together with
+     * the run key and account number it makes each posting idempotent across restarts.
+     */
+    String transactionCode();
+    
+    /** Identifies one run of the job, for example the business date for a daily job. */
+    String runKey(LocalDate businessDate);
+    
+    /** Returns the signed amount in minor units to post to the account, or zero to leave it untouched. */
+    long delta(AccountRow account, LocalDate businessDate);
+    
+    String reference(LocalDate businessDate);
+    
+    default TransactionType transactionType(long delta) {
+        return delta < 0 ? TransactionType.WITHDRAWAL : TransactionType.DEPOSIT;
+    }
+}
@@ -0,0 +1,18 @@
+package com.eaglebank.api.batch;
+
+import java.time.Duration;
+
+public record BatchJobResult(
+        String jobName,
+        String runKey,
+        long rowsProcessed,
+        long rowsUpdated,
+        Duration elapsed,
+        boolean alreadyCompleted
+) {
+    
+    public double rowsPerSecond() {
+        long nanos = elapsed.toNanos();
+        return nanos == 0 ? 0 : rowsProcessed / (nanos / 1_000_000_000.0);
+    }
+}
@@ -0,0 +1,312 @@
+package com.eaglebank.api.batch;
+
+import com.eaglebank.api.cache.ResponseByteCache;
+import com.eaglebank.api.constants.ApplicationConstants;
+import com.eaglebank.api.domain.BatchJobCheckpoint;
+import com.eaglebank.api.enums.BatchJobStatus;
+import com.eaglebank.api.ledger.EventSourcedLedger;
+import com.eaglebank.api.repository.BatchJobCheckpointRepository;
+import com.eaglebank.api.repository.MonthlyRollupStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs a {@link BatchJob} over every bank account. The calling thread walks {@code bank_accounts} by
+ * keyset in chunks and hands each chunk to a bounded pool; a full queue makes the caller process the chunk
+ * itself, which throttles the scan to the speed of the workers. Each chunk commits in its own transaction
+ * using plain JDBC batch statements, and the checkpoint advances to the last contiguous completed chunk so
+ * a crashed run resumes where it left off. Postings use deterministic transaction ids, so chunks past the
+ * checkpoint that did commit before a crash are skipped rather than applied twice.
+ * <p>
+ * When the event-sourced ledger is active every posting is also applied to it inside the chunk transaction,
+ * so the in-memory projection and the journal see batch postings just like API writes. A posting the ledger
+ * rejects is reverted on the row, which the chunk still holds locked.
+ */
+@Component
+public class BatchJobRunner implements DisposableBean {
+    
+    private static final Logger log = LoggerFactory.getLogger(BatchJobRunner.class);
+    
+    private static final String SCAN_SQL = """
+            select account_number, user_id, account_type, balance, currency
+            from bank_accounts
+            where account_number > ? and status = 'OPEN'
+            order by account_number
+            limit ?""";
+    
+    private static final String EXISTING_POSTINGS_SQL = "select id from transactions where id in (:ids)";
+    
+    // Relative update so concurrent API traffic on the same row is never overwritten; the guard keeps the
+    // balance inside the same bounds the entity validates.
+    private static final String APPLY_DELTA_SQL = """
+            update bank_accounts
+            set balance = balance + ?, version = version + 1, updated_timestamp = ?
+            where account_number = ? and status = 'OPEN' and balance + ? between 0 and ?""";
+    
+    private static final String REVERT_DELTA_SQL = "update bank_accounts set balance = balance - ? where account_number = ?";
+    
+    private static final String BALANCES_SQL =
+            "select account_number, balance from bank_accounts where account_number in (:accountNumbers)";
+    
+    private static final String INSERT_TRANSACTION_SQL = """
+            insert into transactions (id, amount, currency, type, reference, account_number, user_id, created_timestamp)
+            values (?, ?, ?, ?, ?, ?, ?, ?)""";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BatchJobCheckpointRepository checkpointRepository;
+    private final MonthlyRollupStore monthlyRollupStore;
+    private final ResponseByteCache responseByteCache;
+    private final EventSourcedLedger eventSourcedLedger;
+    private final int chunkSize;
+    private final ThreadPoolExecutor executor;
+    
+    public BatchJobRunner(JdbcTemplate jdbcTemplate,
+                          PlatformTransactionManager transactionManager,
+                          BatchJobCheckpointRepository checkpointRepository,
+                          MonthlyRollupStore monthlyRollupStore,
+                          ResponseByteCache responseByteCache,
+                          ObjectProvider<EventSourcedLedger> eventSourcedLedger,
+                          BatchProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.checkpointRepository = checkpointRepository;
+        this.monthlyRollupStore = monthlyRollupStore;
+        this.responseByteCache = responseByteCache;
+        this.eventSourcedLedger = eventSourcedLedger.getIfAvailable();
+        this.chunkSize = properties.chunkSize();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                properties.threads(), properties.threads(), 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(properties.queueCapacity()),
+                runnable -> Thread.ofPlatform()
+                        .name("batch-worker-" + threadCount.incrementAndGet())
+                        .daemon()
+                        .unstarted(runnable),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+    
+    public BatchJobResult run(BatchJob job, LocalDate businessDate) {
+        String runKey = job.runKey(businessDate);
+        BatchJobCheckpoint checkpoint = checkpointRepository.findById(checkpointId(job, runKey))
+                .orElseGet(() -> newCheckpoint(job, runKey));
+        if (checkpoint.getStatus() == BatchJobStatus.COMPLETED) {
+            log.info("Batch job {} for {} already completed, skipping", job.name(), runKey);
+            return new BatchJobResult(job.name(), runKey, checkpoint.getRowsProcessed(),
+                    checkpoint.getRowsUpdated(), Duration.ZERO, true);
+        }
+        if (checkpoint.getLastAccountNumber() != null) {
+            log.info("Resuming batch job {} for {} after account {}", job.name(), runKey,
+                    checkpoint.getLastAccountNumber());
+        }
+        
+        ChunkCheckpointTracker tracker = new ChunkCheckpointTracker(checkpoint.getLastAccountNumber(),
+                checkpoint.getRowsProcessed(), checkpoint.getRowsUpdated());
+        long resumedRows = checkpoint.getRowsProcessed();
+        long startNanos = System.nanoTime();
+        
+        List<Future<?>> inFlight = new ArrayList<>();
+        String cursor = checkpoint.getLastAccountNumber() == null ? "" : checkpoint.getLastAccountNumber();
+        long sequence = 0;
+        try {
+            while (true) {
+                List<AccountRow> chunk = jdbcTemplate.query(SCAN_SQL, (rs, rowNum) -> new AccountRow(
+                        rs.getString("account_number"),
+                        rs.getString("user_id"),
+                        rs.getString("account_type"),
+                        rs.getLong("balance"),
+                        rs.getString("currency")
+                ), cursor, chunkSize);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                cursor = chunk.getLast().accountNumber();
+                long chunkSequence = sequence++;
+                inFlight.add(executor.submit(() -> {
+                    int updated = transactionTemplate.execute(status -> processChunk(job, businessDate, runKey, chunk));
+                    synchronized (tracker) {
+                        if (tracker.complete(chunkSequence, chunk.getLast().accountNumber(), chunk.size(), updated)) {
+                            saveProgress(checkpoint, tracker, BatchJobStatus.RUNNING);
+                        }
+                    }
+                }));
+                inFlight.removeIf(future -> future.state() == Future.State.SUCCESS);
+                if (inFlight.stream().anyMatch(future -> future.state() == Future.State.FAILED)) {
+                    break;
+                }
+            }
+            for (Future<?> future : inFlight) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            inFlight.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("Batch job " + job.name() + " interrupted", e);
+        } catch (ExecutionException e) {
+            inFlight.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("Batch job " + job.name() + " failed for " + runKey, e.getCause());
+        }
+        
+        synchronized (tracker) {
+            saveProgress(checkpoint, tracker, BatchJobStatus.COMPLETED);
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+        BatchJobResult result = new BatchJobResult(job.name(), runKey, tracker.rowsProcessed() - resumedRows,
+                tracker.rowsUpdated(), elapsed, false);
+        log.info("Batch job {} for {} processed {} accounts ({} updated) in {} ms, {} rows/s",
+                job.name(), runKey, result.rowsProcessed(), result.rowsUpdated(), elapsed.toMillis(),
+                Math.round(result.rowsPerSecond()));
+        return result;
+    }
+    
+    private int processChunk(BatchJob job, LocalDate businessDate, String runKey, List<AccountRow> chunk) {
+        List<Posting> postings = new ArrayList<>(chunk.size());
+        for (AccountRow account : chunk) {
+            long delta = job.delta(account, businessDate);
+            if (delta != 0) {
+                postings.add(new Posting(account, delta, transactionId(job, runKey, account.accountNumber())));
+            }
+        }
+        if (postings.isEmpty()) {
+            return 0;
+        }
+        
+        Set<String> alreadyPosted = new HashSet<>(namedParameterJdbcTemplate.queryForList(EXISTING_POSTINGS_SQL,
+                Map.of("ids", postings.stream().map(Posting::transactionId).toList()), String.class));
+        postings.removeIf(posting -> alreadyPosted.contains(posting.transactionId()));
+        if (postings.isEmpty()) {
+            return 0;
+        }
+        
+        Timestamp now = Timestamp.from(Instant.now());
+        int[] updateCounts = jdbcTemplate.batchUpdate(APPLY_DELTA_SQL, postings, postings.size(), (ps, posting) -> {
+            ps.setLong(1, posting.delta());
+            ps.setTimestamp(2, now);
+            ps.setString(3, posting.account().accountNumber());
+            ps.setLong(4, posting.delta());
+            ps.setLong(5, ApplicationConstants.MAX_BALANCE_MINOR);
+        })[0];
+        
+        List<Posting> applied = new ArrayList<>(postings.size());
+        for (int i = 0; i < updateCounts.length; i++) {
+            if (updateCounts[i] > 0) {
+                applied.add(postings.get(i));
+            }
+        }
+        if (eventSourcedLedger != null && !applied.isEmpty()) {
+            applied = applyToLedger(applied);
+        }
+        if (applied.isEmpty()) {
+            return 0;
+        }
+        String reference = job.reference(businessDate);
+        jdbcTemplate.batchUpdate(INSERT_TRANSACTION_SQL, applied, applied.size(), (ps, posting) -> {
+            ps.setString(1, posting.transactionId());
+            ps.setLong(2, Math.abs(posting.delta()));
+            ps.setString(3, posting.account().currency());
+            ps.setString(4, job.transactionType(posting.delta()).getValue());
+            ps.setString(5, reference);
+            ps.setString(6, posting.account().accountNumber());
+            ps.setString(7, posting.account().userId());
+            ps.setTimestamp(8, now);
+        });
+        monthlyRollupStore.add(applied.stream()
+                .map(posting -> MonthlyRollupStore.Delta.of(posting.account().accountNumber(), now.toInstant(),
+                        job.transactionType(posting.delta()), Math.abs(posting.delta())))
+                .toList());
+        applied.stream()
+                .map(posting -> posting.account().userId())
+                .distinct()
+                .forEach(userId -> responseByteCache.invalidate(ResponseByteCache.accountsKey(userId)));
+        return applied.size();
+    }
+    
+    private List<Posting> applyToLedger(List<Posting> applied) {
+        // The rows are locked by the update, so reading them back gives exactly the balance before each posting,
+        // which the ledger needs to open an account it has not seen yet.
+        Map<String, Long> balances = new HashMap<>();
+        namedParameterJdbcTemplate.query(BALANCES_SQL,
+                Map.of("accountNumbers", applied.stream().map(posting -> posting.account().accountNumber()).toList()),
+                rs -> {
+                    balances.put(rs.getString("account_number"), rs.getLong("balance"));
+                });
+        
+        List<Posting> accepted = new ArrayList<>(applied.size());
+        List<Posting> rejected = new ArrayList<>();
+        for (Posting posting : applied) {
+            String accountNumber = posting.account().accountNumber();
+            long previousBalance = balances.get(accountNumber) - posting.delta();
+            if (eventSourcedLedger.apply(accountNumber, previousBalance, posting.delta()).isPresent()) {
+                accepted.add(posting);
+            } else {
+                rejected.add(posting);
+            }
+        }
+        if (!rejected.isEmpty()) {
+            jdbcTemplate.batchUpdate(REVERT_DELTA_SQL, rejected, rejected.size(), (ps, posting) -> {
+                ps.setLong(1, posting.delta());
+                ps.setString(2, posting.account().accountNumber());
+            });
+        }
+        return accepted;
+    }
+    
+    private void saveProgress(BatchJobCheckpoint checkpoint, ChunkCheckpointTracker tracker, BatchJobStatus status) {
+        checkpoint.setLastAccountNumber(tracker.watermark());
+        checkpoint.setRowsProcessed(tracker.rowsProcessed());
+        checkpoint.setRowsUpdated(tracker.rowsUpdated());
+        checkpoint.setStatus(status);
+        checkpointRepository.save(checkpoint);
+    }
+    
+    private BatchJobCheckpoint newCheckpoint(BatchJob job, String runKey) {
+        BatchJobCheckpoint checkpoint = new BatchJobCheckpoint();
+        checkpoint.setId(checkpointId(job, runKey));
+        checkpoint.setJobName(job.name());
+        checkpoint.setRunKey(runKey);
+        checkpoint.setStatus(BatchJobStatus.RUNNING);
+        return checkpoint;
+    }
+    
+    private static String checkpointId(BatchJob job, String runKey) {
+        return job.name() + ":" + runKey;
+    }
+    
+    static String transactionId(BatchJob job, String runKey, String accountNumber) {
+        return "tan-" + job.transactionCode() + runKey + accountNumber;
+    }
+    
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+    
+    private record Posting(AccountRow account, long delta, String transactionId) {
+    }
+}
@@ -0,0 +1,59 @@
+package com.eaglebank.api.batch;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "batch")
+public record BatchProperties(
+        @DefaultValue("500") int chunkSize,
+        @DefaultValue("4") int threads,
+        @DefaultValue("8") int queueCapacity,
+        @DefaultValue Interest interest,
+        @DefaultValue Fee fee,
+        @DefaultValue Reconciliation reconciliation,
+        @DefaultValue RollupBackfill rollupBackfill,
+        @DefaultValue AccountClosure accountClosure
+) {
+    
+    public record Interest(
+            @DefaultValue("-") String cron,
+            @DefaultValue("0.0100") BigDecimal annualRate
+    ) {
+    }
+    
+    public record Fee(
+            @DefaultValue("-") String cron,
+            @DefaultValue("2.00") BigDecimal monthlyAmount
+    ) {
+    }
+    
+    public record Reconciliation(
+            @DefaultValue("-") String cron,
+            @DefaultValue("1000") int chunkSize,
+            @DefaultValue("2") int threads,
+            @DefaultValue("50000") int maxRowsPerSecond,
+            @DefaultValue("30m") Duration maxDuration,
+            @DefaultValue("1m") Duration clockSkew,
+            @DefaultValue("reports") Path reportDirectory
+    ) {
+    }
+    
+    public record RollupBackfill(
+            @DefaultValue("-") String cron,
+            @DefaultValue("200") int chunkSize,
+            @DefaultValue("4") int threads
+    ) {
+    }
+    
+    public record AccountClosure(
+            @DefaultValue("-") String cron,
+            @DefaultValue("500") int batchSize,
+            @DefaultValue("2000") int maxRowsPerSecond,
+            @DefaultValue("30m") Duration maxDuration
+    ) {
+    }
+}
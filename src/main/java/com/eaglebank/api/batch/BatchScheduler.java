@@ -0,0 +1,62 @@
+package com.eaglebank.api.batch;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+/**
+ * Triggers the end-of-day jobs. Every cron defaults to {@code -}, which disables the trigger, so only
+ * the instance configured to run batches picks them up.
+ */
+@Component
+public class BatchScheduler {
+    
+    private final BatchJobRunner batchJobRunner;
+    private final InterestAccrualJob interestAccrualJob;
+    private final MonthlyFeeJob monthlyFeeJob;
+    private final ReconciliationJob reconciliationJob;
+    private final RollupBackfillJob rollupBackfillJob;
+    private final AccountClosureJob accountClosureJob;
+    
+    public BatchScheduler(BatchJobRunner batchJobRunner,
+                          InterestAccrualJob interestAccrualJob,
+                          MonthlyFeeJob monthlyFeeJob,
+                          ReconciliationJob reconciliationJob,
+                          RollupBackfillJob rollupBackfillJob,
+                          AccountClosureJob accountClosureJob) {
+        this.batchJobRunner = batchJobRunner;
+        this.interestAccrualJob = interestAccrualJob;
+        this.monthlyFeeJob = monthlyFeeJob;
+        this.reconciliationJob = reconciliationJob;
+        this.rollupBackfillJob = rollupBackfillJob;
+        this.accountClosureJob = accountClosureJob;
+    }
+    
+    // Runs after midnight UTC and accrues interest for the day that just closed.
+    @Scheduled(cron = "${batch.interest.cron:-}", zone = "UTC")
+    public void accrueInterest() {
+        batchJobRunner.run(interestAccrualJob, LocalDate.now(ZoneOffset.UTC).minusDays(1));
+    }
+    
+    @Scheduled(cron = "${batch.fee.cron:-}", zone = "UTC")
+    public void chargeMonthlyFees() {
+        batchJobRunner.run(monthlyFeeJob, LocalDate.now(ZoneOffset.UTC));
+    }
+    
+    @Scheduled(cron = "${batch.reconciliation.cron:-}", zone = "UTC")
+    public void reconcileLedger() {
+        reconciliationJob.run(false);
+    }
+    
+    @Scheduled(cron = "${batch.rollup-backfill.cron:-}", zone = "UTC")
+    public void backfillRollups() {
+        rollupBackfillJob.run();
+    }
+    
+    @Scheduled(cron = "${batch.account-closure.cron:-}", zone = "UTC")
+    public void purgeClosedAccounts() {
+        accountClosureJob.run();
+    }
+}
@@ -0,0 +1,54 @@
+package com.eaglebank.api.batch;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Tracks chunks that finish out of order and exposes the low-water mark: the last account number of the
+ * longest contiguous run of completed chunks. Only that mark is safe to checkpoint, because every account
+ * at or below it has been processed. Not thread-safe; callers synchronize on the tracker.
+ */
+final class ChunkCheckpointTracker {
+    
+    private final Map<Long, Chunk> pending = new HashMap<>();
+    private long nextSequence;
+    private String watermark;
+    private long rowsProcessed;
+    private long rowsUpdated;
+    
+    ChunkCheckpointTracker(String watermark, long rowsProcessed, long rowsUpdated) {
+        this.watermark = watermark;
+        this.rowsProcessed = rowsProcessed;
+        this.rowsUpdated = rowsUpdated;
+    }
+    
+    /** Records a finished chunk and returns {@code true} if the watermark moved forward. */
+    boolean complete(long sequence, String lastAccountNumber, int rows, int updated) {
+        pending.put(sequence, new Chunk(lastAccountNumber, rows, updated));
+        boolean advanced = false;
+        Chunk next;
+        while ((next = pending.remove(nextSequence)) != null) {
+            watermark = next.lastAccountNumber();
+            rowsProcessed += next.rows();
+            rowsUpdated += next.updated();
+            nextSequence++;
+            advanced = true;
+        }
+        return advanced;
+    }
+    
+    String watermark() {
+        return watermark;
+    }
+    
+    long rowsProcessed() {
+        return rowsProcessed;
+    }
+    
+    long rowsUpdated() {
+        return rowsUpdated;
+    }
+    
+    private record Chunk(String lastAccountNumber, int rows, int updated) {
+    }
+}
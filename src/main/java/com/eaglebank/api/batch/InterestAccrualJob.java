@@ -0,0 +1,51 @@
+package com.eaglebank.api.batch;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Credits one day of simple interest on the closing balance, rounded to the nearest penny.
+ */
+public class InterestAccrualJob implements BatchJob {
+    
+    private static final BigDecimal DAYS_PER_YEAR = BigDecimal.valueOf(365);
+    
+    private final BigDecimal annualRate;
+    
+    public InterestAccrualJob(BigDecimal annualRate) {
+        this.annualRate = annualRate;
+    }
+    
+    @Override
+    public String name() {
+        return "interest-accrual";
+    }
+    
+    @Override
+    public String transactionCode() {
+        return "int";
+    }
+    
+    @Override
+    public String runKey(LocalDate businessDate) {
+        return businessDate.format(DateTimeFormatter.BASIC_ISO_DATE);
+    }
+    
+    @Override
+    public long delta(AccountRow account, LocalDate businessDate) {
+        if (account.balance() <= 0) {
+            return 0;
+        }
+        return BigDecimal.valueOf(account.balance())
+                .multiply(annualRate)
+                .divide(DAYS_PER_YEAR, 0, RoundingMode.HALF_UP)
+                .longValueExact();
+    }
+    
+    @Override
+    public String reference(LocalDate businessDate) {
+        return "Interest " + businessDate;
+    }
+}
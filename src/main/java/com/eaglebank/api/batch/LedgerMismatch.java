@@ -0,0 +1,12 @@
+package com.eaglebank.api.batch;
+
+public record LedgerMismatch(
+        String accountNumber,
+        long balance,
+        long ledgerBalance
+) {
+    
+    public long difference() {
+        return balance - ledgerBalance;
+    }
+}
@@ -0,0 +1,51 @@
+package com.eaglebank.api.batch;
+
+import com.eaglebank.api.util.MoneyUtil;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Debits a flat monthly maintenance fee. Accounts that cannot cover the fee are left untouched rather than
+ * taken overdrawn.
+ */
+public class MonthlyFeeJob implements BatchJob {
+    
+    private static final DateTimeFormatter RUN_KEY_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+    
+    private final long monthlyAmount;
+    
+    public MonthlyFeeJob(BigDecimal monthlyAmount) {
+        this.monthlyAmount = MoneyUtil.toMinorUnits(monthlyAmount);
+    }
+    
+    @Override
+    public String name() {
+        return "monthly-fee";
+    }
+    
+    @Override
+    public String transactionCode() {
+        return "fee";
+    }
+    
+    @Override
+    public String runKey(LocalDate businessDate) {
+        return YearMonth.from(businessDate).format(RUN_KEY_FORMAT);
+    }
+    
+    @Override
+    public long delta(AccountRow account, LocalDate businessDate) {
+        if (account.balance() < monthlyAmount) {
+            return 0;
+        }
+        return -monthlyAmount;
+    }
+    
+    @Override
+    public String reference(LocalDate businessDate) {
+        return "Monthly fee " + YearMonth.from(businessDate);
+    }
+}
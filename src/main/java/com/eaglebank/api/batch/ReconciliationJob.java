@@ -0,0 +1,254 @@
+package com.eaglebank.api.batch;
+
+import com.eaglebank.api.domain.BatchJobCheckpoint;
+import com.eaglebank.api.enums.BatchJobStatus;
+import com.eaglebank.api.repository.BatchJobCheckpointRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Checks that every account's {@code balance} equals the signed sum of its transactions. The first run is
+ * a full pass; later runs only revisit accounts whose {@code updated_timestamp} moved since the previous
+ * pass started, since every posting touches its account row. Each chunk is verified by a single aggregate
+ * statement, so balance and ledger are read from the same snapshot.
+ * <p>
+ * To stay gentle on the primary the scan is paced to {@code maxRowsPerSecond}, runs on a small pool and
+ * stops at {@code maxDuration}; an unfinished pass is resumed from its checkpoint on the next run.
+ */
+@Component
+public class ReconciliationJob implements DisposableBean {
+    
+    static final String CHECKPOINT_ID = "reconciliation:ledger";
+    
+    private static final Logger log = LoggerFactory.getLogger(ReconciliationJob.class);
+    
+    private static final String SCAN_ALL_SQL = """
+            select account_number
+            from bank_accounts
+            where account_number > ? and status = 'OPEN'
+            order by account_number
+            limit ?""";
+    
+    private static final String SCAN_CHANGED_SQL = """
+            select account_number
+            from bank_accounts
+            where account_number > ? and status = 'OPEN' and updated_timestamp >= ?
+            order by account_number
+            limit ?""";
+    
+    private static final String AGGREGATE_SQL = """
+            select a.account_number, a.balance,
+                   coalesce(sum(case when t.type = 'deposit' then t.amount else -t.amount end), 0) as ledger_balance
+            from bank_accounts a
+            left join transactions t on t.account_number = a.account_number
+            where a.account_number in (:accountNumbers)
+            group by a.account_number, a.balance""";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final BatchJobCheckpointRepository checkpointRepository;
+    private final BatchProperties.Reconciliation properties;
+    private final ThreadPoolExecutor executor;
+    private final Counter accountsChecked;
+    private final Counter mismatchesFound;
+    private final Timer passDuration;
+    private final AtomicLong lastPassMismatches = new AtomicLong();
+    
+    public ReconciliationJob(JdbcTemplate jdbcTemplate,
+                             BatchJobCheckpointRepository checkpointRepository,
+                             BatchProperties batchProperties,
+                             MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.checkpointRepository = checkpointRepository;
+        this.properties = batchProperties.reconciliation();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                properties.threads(), properties.threads(), 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(properties.threads() * 2),
+                runnable -> Thread.ofPlatform()
+                        .name("reconciliation-worker-" + threadCount.incrementAndGet())
+                        .daemon()
+                        .unstarted(runnable),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.accountsChecked = Counter.builder("reconciliation.accounts.checked")
+                .description("Accounts whose balance was checked against their transactions")
+                .register(meterRegistry);
+        this.mismatchesFound = Counter.builder("reconciliation.mismatches.found")
+                .description("Accounts found with a balance that differs from the sum of their transactions")
+                .register(meterRegistry);
+        this.passDuration = Timer.builder("reconciliation.duration")
+                .description("Wall time of reconciliation runs")
+                .register(meterRegistry);
+        Gauge.builder("reconciliation.mismatches", lastPassMismatches, AtomicLong::get)
+                .description("Mismatches found by the most recently finished reconciliation pass")
+                .register(meterRegistry);
+    }
+    
+    public ReconciliationResult run(boolean forceFullPass) {
+        Instant startedAt = Instant.now();
+        BatchJobCheckpoint checkpoint = checkpointRepository.findById(CHECKPOINT_ID)
+                .map(existing -> existing.getStatus() == BatchJobStatus.COMPLETED || forceFullPass
+                        ? nextPass(existing, startedAt, forceFullPass)
+                        : existing)
+                .orElseGet(() -> nextPass(newCheckpoint(), startedAt, true));
+        boolean fullPass = checkpoint.getWindowStart() == null;
+        
+        ChunkCheckpointTracker tracker = new ChunkCheckpointTracker(checkpoint.getLastAccountNumber(),
+                checkpoint.getRowsProcessed(), checkpoint.getRowsUpdated());
+        long resumedRows = checkpoint.getRowsProcessed();
+        long deadline = System.nanoTime() + properties.maxDuration().toNanos();
+        long scanStart = System.nanoTime();
+        long scanned = 0;
+        boolean finished = false;
+        
+        List<Future<?>> inFlight = new ArrayList<>();
+        String cursor = checkpoint.getLastAccountNumber() == null ? "" : checkpoint.getLastAccountNumber();
+        long sequence = 0;
+        try (ReconciliationReport report = new ReconciliationReport(properties.reportDirectory(), startedAt)) {
+            try {
+                while (System.nanoTime() < deadline) {
+                    List<String> chunk = fullPass
+                            ? jdbcTemplate.queryForList(SCAN_ALL_SQL, String.class, cursor, properties.chunkSize())
+                            : jdbcTemplate.queryForList(SCAN_CHANGED_SQL, String.class, cursor,
+                                    Timestamp.from(checkpoint.getWindowStart()), properties.chunkSize());
+                    if (chunk.isEmpty()) {
+                        finished = true;
+                        break;
+                    }
+                    cursor = chunk.getLast();
+                    long chunkSequence = sequence++;
+                    inFlight.add(executor.submit(() -> {
+                        int mismatches = checkChunk(chunk, report);
+                        synchronized (tracker) {
+                            if (tracker.complete(chunkSequence, chunk.getLast(), chunk.size(), mismatches)) {
+                                saveProgress(checkpoint, tracker, BatchJobStatus.RUNNING);
+                            }
+                        }
+                    }));
+                    inFlight.removeIf(future -> future.state() == Future.State.SUCCESS);
+                    if (inFlight.stream().anyMatch(future -> future.state() == Future.State.FAILED)) {
+                        break;
+                    }
+                    scanned += chunk.size();
+                    pace(scanStart, scanned);
+                }
+                for (Future<?> future : inFlight) {
+                    future.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                inFlight.forEach(future -> future.cancel(true));
+                throw new IllegalStateException("Reconciliation interrupted", e);
+            } catch (ExecutionException e) {
+                inFlight.forEach(future -> future.cancel(true));
+                throw new IllegalStateException("Reconciliation failed", e.getCause());
+            }
+            
+            synchronized (tracker) {
+                saveProgress(checkpoint, tracker, finished ? BatchJobStatus.COMPLETED : BatchJobStatus.RUNNING);
+            }
+            Duration elapsed = Duration.between(startedAt, Instant.now());
+            passDuration.record(elapsed);
+            if (finished) {
+                lastPassMismatches.set(tracker.rowsUpdated());
+            }
+            ReconciliationResult result = new ReconciliationResult(fullPass, tracker.rowsProcessed() - resumedRows,
+                    tracker.rowsUpdated(), elapsed, finished, report.pathIfWritten());
+            log.info("Reconciliation {} pass {}: checked {} accounts in {} ms, {} mismatches",
+                    fullPass ? "full" : "incremental", finished ? "finished" : "paused at time budget",
+                    result.accountsChecked(), elapsed.toMillis(), result.mismatches());
+            return result;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close reconciliation report", e);
+        }
+    }
+    
+    private int checkChunk(List<String> accountNumbers, ReconciliationReport report) {
+        List<LedgerMismatch> mismatches = namedParameterJdbcTemplate.query(AGGREGATE_SQL,
+                Map.of("accountNumbers", accountNumbers),
+                (rs, rowNum) -> new LedgerMismatch(
+                        rs.getString("account_number"),
+                        rs.getLong("balance"),
+                        rs.getLong("ledger_balance")
+                )).stream()
+                .filter(row -> row.balance() != row.ledgerBalance())
+                .toList();
+        for (LedgerMismatch mismatch : mismatches) {
+            log.warn("Ledger mismatch on account {}: balance {} but transactions sum to {} (minor units)",
+                    mismatch.accountNumber(), mismatch.balance(), mismatch.ledgerBalance());
+            report.write(mismatch);
+        }
+        accountsChecked.increment(accountNumbers.size());
+        mismatchesFound.increment(mismatches.size());
+        return mismatches.size();
+    }
+    
+    private void pace(long scanStart, long scanned) throws InterruptedException {
+        long earliest = scanStart + scanned * 1_000_000_000L / properties.maxRowsPerSecond();
+        long wait = earliest - System.nanoTime();
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+    
+    private BatchJobCheckpoint nextPass(BatchJobCheckpoint checkpoint, Instant startedAt, boolean fullPass) {
+        // Start the window a little before the previous pass began so clock skew between application
+        // nodes and the database cannot hide a change made while that pass was running.
+        Instant previousStart = checkpoint.getWindowEnd();
+        checkpoint.setWindowStart(fullPass || previousStart == null
+                ? null
+                : previousStart.minus(properties.clockSkew()));
+        checkpoint.setWindowEnd(startedAt);
+        checkpoint.setRunKey(fullPass || previousStart == null ? "full" : "incremental");
+        checkpoint.setLastAccountNumber(null);
+        checkpoint.setRowsProcessed(0);
+        checkpoint.setRowsUpdated(0);
+        checkpoint.setStatus(BatchJobStatus.RUNNING);
+        return checkpoint;
+    }
+    
+    private BatchJobCheckpoint newCheckpoint() {
+        BatchJobCheckpoint checkpoint = new BatchJobCheckpoint();
+        checkpoint.setId(CHECKPOINT_ID);
+        checkpoint.setJobName("reconciliation");
+        return checkpoint;
+    }
+    
+    private void saveProgress(BatchJobCheckpoint checkpoint, ChunkCheckpointTracker tracker, BatchJobStatus status) {
+        checkpoint.setLastAccountNumber(tracker.watermark());
+        checkpoint.setRowsProcessed(tracker.rowsProcessed());
+        checkpoint.setRowsUpdated(tracker.rowsUpdated());
+        checkpoint.setStatus(status);
+        checkpointRepository.save(checkpoint);
+    }
+    
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
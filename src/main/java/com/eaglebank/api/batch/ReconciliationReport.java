@@ -0,0 +1,59 @@
+package com.eaglebank.api.batch;
+
+import com.eaglebank.api.util.MoneyUtil;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * CSV report of ledger mismatches for one reconciliation run. The file is only created once the first
+ * mismatch is written, so clean runs leave nothing behind. Safe to call from several worker threads.
+ */
+class ReconciliationReport implements Closeable {
+    
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'")
+            .withZone(ZoneOffset.UTC);
+    
+    private final Path path;
+    private BufferedWriter writer;
+    
+    ReconciliationReport(Path directory, Instant startedAt) {
+        this.path = directory.resolve("reconciliation-" + FILE_TIMESTAMP.format(startedAt) + ".csv");
+    }
+    
+    synchronized void write(LedgerMismatch mismatch) {
+        try {
+            if (writer == null) {
+                Files.createDirectories(path.getParent());
+                writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+                writer.write("account_number,balance,ledger_balance,difference");
+                writer.newLine();
+            }
+            writer.write(mismatch.accountNumber() + "," + MoneyUtil.fromMinorUnits(mismatch.balance()) + ","
+                    + MoneyUtil.fromMinorUnits(mismatch.ledgerBalance()) + ","
+                    + MoneyUtil.fromMinorUnits(mismatch.difference()));
+            writer.newLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write reconciliation report " + path, e);
+        }
+    }
+    
+    synchronized Path pathIfWritten() {
+        return writer == null ? null : path;
+    }
+    
+    @Override
+    public synchronized void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.eaglebank.api.batch;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Outcome of one reconciliation run. {@code finished} is false when the run stopped at its time budget;
+ * the next run resumes the same pass from the checkpoint. {@code report} is null when no mismatch was found.
+ */
+public record ReconciliationResult(
+        boolean fullPass,
+        long accountsChecked,
+        long mismatches,
+        Duration elapsed,
+        boolean finished,
+        Path report
+) {
+}
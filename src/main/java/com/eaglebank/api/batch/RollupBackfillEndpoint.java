@@ -0,0 +1,23 @@
+package com.eaglebank.api.batch;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+/**
+ * Starts a rollup backfill on demand. Not exposed over HTTP unless {@code rollupbackfill} is added to
+ * {@code management.endpoints.web.exposure.include}; the call blocks until the rebuild finishes.
+ */
+@Endpoint(id = "rollupbackfill")
+public class RollupBackfillEndpoint {
+    
+    private final RollupBackfillJob rollupBackfillJob;
+    
+    public RollupBackfillEndpoint(RollupBackfillJob rollupBackfillJob) {
+        this.rollupBackfillJob = rollupBackfillJob;
+    }
+    
+    @WriteOperation
+    public RollupBackfillResult run() {
+        return rollupBackfillJob.run();
+    }
+}
@@ -0,0 +1,148 @@
+package com.eaglebank.api.batch;
+
+import com.eaglebank.api.enums.TransactionType;
+import com.eaglebank.api.repository.MonthlyRollupStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Rebuilds {@code account_monthly_rollups} from the full transaction history, for the initial rollout and
+ * after any repair of the ledger. Accounts are scanned in chunks and each chunk is rebuilt on the pool in its
+ * own transaction: the chunk's account rows are locked first, the same lock every posting takes, so live
+ * traffic on those accounts waits for the rebuild instead of being lost between the read and the replace.
+ */
+@Component
+public class RollupBackfillJob implements DisposableBean {
+    
+    private static final Logger log = LoggerFactory.getLogger(RollupBackfillJob.class);
+    
+    private static final String SCAN_SQL = """
+            select account_number
+            from bank_accounts
+            where account_number > ? and status = 'OPEN'
+            order by account_number
+            limit ?""";
+    
+    private static final String LOCK_SQL = """
+            select account_number
+            from bank_accounts
+            where account_number in (:accountNumbers)
+            order by account_number
+            for update""";
+    
+    private static final String HISTORY_SQL = """
+            select account_number, type, amount, created_timestamp
+            from transactions
+            where account_number in (:accountNumbers)""";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MonthlyRollupStore monthlyRollupStore;
+    private final int chunkSize;
+    private final ThreadPoolExecutor executor;
+    
+    public RollupBackfillJob(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             MonthlyRollupStore monthlyRollupStore,
+                             BatchProperties batchProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.monthlyRollupStore = monthlyRollupStore;
+        BatchProperties.RollupBackfill properties = batchProperties.rollupBackfill();
+        this.chunkSize = properties.chunkSize();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                properties.threads(), properties.threads(), 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(properties.threads() * 2),
+                runnable -> Thread.ofPlatform()
+                        .name("rollup-backfill-worker-" + threadCount.incrementAndGet())
+                        .daemon()
+                        .unstarted(runnable),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+    
+    public RollupBackfillResult run() {
+        long startNanos = System.nanoTime();
+        AtomicLong accounts = new AtomicLong();
+        AtomicLong rollupRows = new AtomicLong();
+        
+        List<Future<?>> inFlight = new ArrayList<>();
+        String cursor = "";
+        try {
+            while (true) {
+                List<String> chunk = jdbcTemplate.queryForList(SCAN_SQL, String.class, cursor, chunkSize);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                cursor = chunk.getLast();
+                inFlight.add(executor.submit(() -> {
+                    int rows = transactionTemplate.execute(status -> rebuildChunk(chunk));
+                    accounts.addAndGet(chunk.size());
+                    rollupRows.addAndGet(rows);
+                }));
+                inFlight.removeIf(future -> future.state() == Future.State.SUCCESS);
+                if (inFlight.stream().anyMatch(future -> future.state() == Future.State.FAILED)) {
+                    break;
+                }
+            }
+            for (Future<?> future : inFlight) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            inFlight.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("Rollup backfill interrupted", e);
+        } catch (ExecutionException e) {
+            inFlight.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("Rollup backfill failed", e.getCause());
+        }
+        
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+        RollupBackfillResult result = new RollupBackfillResult(accounts.get(), rollupRows.get(), elapsed);
+        log.info("Rollup backfill rebuilt {} accounts into {} monthly rows in {} ms",
+                result.accountsRebuilt(), result.rollupRows(), elapsed.toMillis());
+        return result;
+    }
+    
+    private int rebuildChunk(List<String> accountNumbers) {
+        Map<String, List<String>> params = Map.of("accountNumbers", accountNumbers);
+        namedParameterJdbcTemplate.queryForList(LOCK_SQL, params, String.class);
+        
+        Map<String, MonthlyRollupStore.Delta> totals = new HashMap<>();
+        namedParameterJdbcTemplate.query(HISTORY_SQL, params, rs -> {
+            Instant createdTimestamp = rs.getTimestamp("created_timestamp").toInstant();
+            MonthlyRollupStore.Delta delta = MonthlyRollupStore.Delta.of(rs.getString("account_number"),
+                    createdTimestamp, TransactionType.fromString(rs.getString("type")), rs.getLong("amount"));
+            totals.merge(delta.id(), delta, MonthlyRollupStore.Delta::plus);
+        });
+        monthlyRollupStore.replace(accountNumbers, totals.values());
+        return totals.size();
+    }
+    
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
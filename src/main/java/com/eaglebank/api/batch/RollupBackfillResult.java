@@ -0,0 +1,13 @@
+package com.eaglebank.api.batch;
+
+import java.time.Duration;
+
+/**
+ * Outcome of one rollup backfill: how many accounts were rebuilt and how many account-month rows they now have.
+ */
+public record RollupBackfillResult(
+        long accountsRebuilt,
+        long rollupRows,
+        Duration elapsed
+) {
+}
@@ -0,0 +1,201 @@
+package com.eaglebank.api.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Pre-serialized JSON for the hottest GET responses, so a hit skips the query, the mapping and Jackson.
+ * <p>
+ * Each entry is stamped with the version of its key at the time the response was loaded. Writers bump the
+ * version both immediately and again after their transaction commits, so a reader that loaded the old row
+ * while the write was in flight stores an entry that is already stale and is never served. Versions live in
+ * a fixed array of stripes rather than per key, so they take constant memory; keys sharing a stripe only
+ * cost each other an occasional extra miss.
+ * <p>
+ * The byte total is capped by {@code maxSize}; when it is exceeded the least recently read entries are
+ * dropped until the cache is back under 90% of the cap.
+ */
+public class ResponseByteCache {
+    
+    private static final int VERSION_STRIPES = 4096;
+    
+    // Rough per-entry cost of the map node, the entry object and the key, counted against the cap.
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+    
+    private final boolean enabled;
+    private final long maxBytes;
+    private final long maxEntryBytes;
+    private final long timeToLiveNanos;
+    private final ObjectMapper objectMapper;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+    private final AtomicLong totalBytes = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    
+    public ResponseByteCache(ResponseCacheProperties properties, ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry) {
+        this.enabled = properties.enabled();
+        this.maxBytes = properties.maxSize().toBytes();
+        this.maxEntryBytes = properties.maxEntrySize().toBytes();
+        this.timeToLiveNanos = properties.timeToLive().toNanos();
+        this.objectMapper = objectMapper;
+        FunctionCounter.builder("response.cache.requests", hits, LongAdder::sum)
+                .description("Cached GET responses served without loading")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("response.cache.requests", misses, LongAdder::sum)
+                .description("Cacheable GET responses that had to be loaded and serialized")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        FunctionCounter.builder("response.cache.evictions", evictions, LongAdder::sum)
+                .description("Entries dropped to keep the cache under its size cap")
+                .register(meterRegistry);
+        Gauge.builder("response.cache.hit.ratio", this, ResponseByteCache::hitRatio)
+                .description("Fraction of cacheable GET requests served from the cache since startup")
+                .register(meterRegistry);
+        Gauge.builder("response.cache.size", totalBytes, AtomicLong::get)
+                .description("Bytes held by the response cache, including per-entry overhead")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("response.cache.entries", entries, Map::size)
+                .description("Responses currently held by the response cache")
+                .register(meterRegistry);
+    }
+    
+    public static String userKey(String userId) {
+        return "user:" + userId;
+    }
+    
+    public static String accountsKey(String userId) {
+        return "accounts:" + userId;
+    }
+    
+    /** Returns the cached JSON for {@code key}, or loads, serializes and caches the response. */
+    public byte[] getOrLoad(String key, Supplier<?> loader) {
+        if (!enabled) {
+            return serialize(loader.get());
+        }
+        int stripe = stripe(key);
+        long version = versions.get(stripe);
+        long now = System.nanoTime();
+        Entry entry = entries.get(key);
+        if (entry != null && entry.version == version && now - entry.loadedAt < timeToLiveNanos) {
+            entry.lastRead = now;
+            hits.increment();
+            return entry.bytes;
+        }
+        misses.increment();
+        byte[] bytes = serialize(loader.get());
+        if (bytes.length <= maxEntryBytes) {
+            store(key, new Entry(version, bytes, now, ENTRY_OVERHEAD_BYTES + key.length() * 2L + bytes.length));
+        }
+        return bytes;
+    }
+    
+    /**
+     * Drops the response for {@code key}. Inside a transaction the key is invalidated again after commit,
+     * since until then readers on other connections still see, and may cache, the previous state.
+     */
+    public void invalidate(String key) {
+        bump(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump(key);
+                }
+            });
+        }
+    }
+    
+    public double hitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+    
+    private void bump(String key) {
+        versions.incrementAndGet(stripe(key));
+        Entry removed = entries.remove(key);
+        if (removed != null) {
+            totalBytes.addAndGet(-removed.weight);
+        }
+    }
+    
+    private void store(String key, Entry entry) {
+        Entry previous = entries.put(key, entry);
+        long total = totalBytes.addAndGet(entry.weight - (previous != null ? previous.weight : 0));
+        if (total > maxBytes) {
+            evict();
+        }
+    }
+    
+    private synchronized void evict() {
+        long target = maxBytes / 10 * 9;
+        if (totalBytes.get() <= target) {
+            return;
+        }
+        // Read times keep moving while we sort, so order a snapshot of them.
+        List<EvictionCandidate> candidates = new ArrayList<>(entries.size());
+        entries.forEach((key, entry) -> candidates.add(new EvictionCandidate(key, entry, entry.lastRead)));
+        candidates.sort(Comparator.comparingLong(EvictionCandidate::lastRead));
+        for (EvictionCandidate candidate : candidates) {
+            if (totalBytes.get() <= target) {
+                break;
+            }
+            if (entries.remove(candidate.key(), candidate.entry())) {
+                totalBytes.addAndGet(-candidate.entry().weight);
+                evictions.increment();
+            }
+        }
+    }
+    
+    private byte[] serialize(Object response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private static int stripe(String key) {
+        return (key.hashCode() & 0x7fffffff) % VERSION_STRIPES;
+    }
+    
+    private static final class Entry {
+        private final long version;
+        private final byte[] bytes;
+        private final long loadedAt;
+        private final long weight;
+        private volatile long lastRead;
+        
+        private Entry(long version, byte[] bytes, long loadedAt, long weight) {
+            this.version = version;
+            this.bytes = bytes;
+            this.loadedAt = loadedAt;
+            this.weight = weight;
+            this.lastRead = loadedAt;
+        }
+    }
+    
+    private record EvictionCandidate(String key, Entry entry, long lastRead) {
+    }
+}
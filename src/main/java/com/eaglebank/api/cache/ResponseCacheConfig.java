@@ -0,0 +1,19 @@
+package com.eaglebank.api.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Always registered: the write paths invalidate unconditionally, and a disabled cache just serializes.
+@Configuration
+@EnableConfigurationProperties(ResponseCacheProperties.class)
+public class ResponseCacheConfig {
+    
+    @Bean
+    public ResponseByteCache responseByteCache(ResponseCacheProperties properties, ObjectMapper objectMapper,
+                                               MeterRegistry meterRegistry) {
+        return new ResponseByteCache(properties, objectMapper, meterRegistry);
+    }
+}
@@ -0,0 +1,21 @@
+package com.eaglebank.api.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * {@code maxSize} caps the serialized bytes held across all entries; responses larger than
+ * {@code maxEntrySize} are never cached. {@code timeToLive} bounds how long a node can serve a response
+ * after a write made on another node, which cannot invalidate this node's copy.
+ */
+@ConfigurationProperties(prefix = "response-cache")
+public record ResponseCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("32MB") DataSize maxSize,
+        @DefaultValue("256KB") DataSize maxEntrySize,
+        @DefaultValue("10s") Duration timeToLive
+) {
+}
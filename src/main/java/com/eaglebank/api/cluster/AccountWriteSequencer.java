@@ -0,0 +1,225 @@
+package com.eaglebank.api.cluster;
+
+import com.eaglebank.api.deadline.DeadlineExceededException;
+import com.eaglebank.api.deadline.RequestDeadline;
+import com.eaglebank.api.dto.transaction.CreateTransactionRequest;
+import com.eaglebank.api.dto.transaction.TransactionResponse;
+import com.eaglebank.api.service.TransactionService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Applies the transaction writes for the accounts this node owns. Accounts are spread over a fixed number of
+ * stripes, each drained by a single thread, so writes to one account never race each other for the row
+ * lock. Whatever has queued up for an account while its stripe was busy is applied in one database
+ * transaction; if any write in the group fails, the group is rolled back and replayed one write per
+ * transaction so only the failing write reports an error.
+ * <p>
+ * A write is claimed by its worker just before it is applied. Cancelling the returned future only succeeds
+ * while the write is still queued, and writes whose timeout passed while queued are dropped, so a caller that
+ * gave up on a write can rely on it never being committed. The submitting request's {@link RequestDeadline}
+ * travels with the write and is bound on the worker while the write is applied, so a write past its request
+ * deadline is rejected before it starts and never committed.
+ */
+public class AccountWriteSequencer implements AutoCloseable {
+    
+    private static final Logger log = LoggerFactory.getLogger(AccountWriteSequencer.class);
+    
+    private static final int QUEUE_CAPACITY_PER_STRIPE = 4096;
+    
+    private final TransactionService transactionService;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxBatchSize;
+    private final List<BlockingQueue<PendingWrite>> queues = new ArrayList<>();
+    private final List<Thread> workers = new ArrayList<>();
+    private final DistributionSummary batchSizes;
+    private volatile boolean running = true;
+    
+    public AccountWriteSequencer(TransactionService transactionService, TransactionTemplate transactionTemplate,
+                                 int stripes, int maxBatchSize, MeterRegistry meterRegistry) {
+        if (stripes < 1 || maxBatchSize < 1) {
+            throw new IllegalArgumentException("stripes and maxBatchSize must be positive");
+        }
+        this.transactionService = transactionService;
+        this.transactionTemplate = transactionTemplate;
+        this.maxBatchSize = maxBatchSize;
+        this.batchSizes = DistributionSummary.builder("cluster.write.batch.size")
+                .description("Writes to one account applied in a single database transaction")
+                .register(meterRegistry);
+        for (int i = 0; i < stripes; i++) {
+            BlockingQueue<PendingWrite> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY_PER_STRIPE);
+            Thread worker = new Thread(() -> drain(queue), "account-writes-" + i);
+            worker.setDaemon(true);
+            queues.add(queue);
+            workers.add(worker);
+            worker.start();
+        }
+    }
+    
+    public CompletableFuture<TransactionResponse> submit(String accountNumber, CreateTransactionRequest request,
+                                                         String userId, Duration timeout) {
+        PendingWrite write = new PendingWrite(accountNumber, request, userId, System.nanoTime() + timeout.toNanos(),
+                RequestDeadline.current());
+        BlockingQueue<PendingWrite> queue = queues.get(Math.floorMod(accountNumber.hashCode(), queues.size()));
+        if (!running || !queue.offer(write)) {
+            write.completeExceptionally(
+                    new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Account write queue is full"));
+        }
+        return write;
+    }
+    
+    @Override
+    public void close() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+        for (BlockingQueue<PendingWrite> queue : queues) {
+            List<PendingWrite> abandoned = new ArrayList<>();
+            queue.drainTo(abandoned);
+            abandoned.forEach(write -> write.completeExceptionally(
+                    new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Node is shutting down")));
+        }
+    }
+    
+    private void drain(BlockingQueue<PendingWrite> queue) {
+        List<PendingWrite> batch = new ArrayList<>(maxBatchSize);
+        while (running) {
+            try {
+                PendingWrite first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatchSize - 1);
+                
+                Map<String, List<PendingWrite>> byAccount = new LinkedHashMap<>();
+                for (PendingWrite write : batch) {
+                    if (claim(write)) {
+                        byAccount.computeIfAbsent(write.accountNumber, key -> new ArrayList<>()).add(write);
+                    }
+                }
+                byAccount.values().forEach(this::apply);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Unexpected failure applying account writes", e);
+                batch.forEach(write -> write.completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+    
+    private void apply(List<PendingWrite> writes) {
+        batchSizes.record(writes.size());
+        if (writes.size() > 1) {
+            // The group commits under its earliest deadline; if that passes, the replay below gives every write
+            // its own.
+            RequestDeadline.bind(earliestDeadline(writes));
+            try {
+                List<TransactionResponse> responses = transactionTemplate.execute(status ->
+                        writes.stream().map(this::createTransaction).toList());
+                for (int i = 0; i < writes.size(); i++) {
+                    writes.get(i).complete(responses.get(i));
+                }
+                return;
+            } catch (RuntimeException e) {
+                log.debug("Batch of {} writes to account {} failed, replaying individually",
+                        writes.size(), writes.get(0).accountNumber, e);
+            } finally {
+                RequestDeadline.end();
+            }
+        }
+        for (PendingWrite write : writes) {
+            RequestDeadline.bind(write.requestDeadline);
+            try {
+                write.complete(transactionTemplate.execute(status -> createTransaction(write)));
+            } catch (RuntimeException e) {
+                write.completeExceptionally(e);
+            } finally {
+                RequestDeadline.end();
+            }
+        }
+    }
+    
+    private static RequestDeadline earliestDeadline(List<PendingWrite> writes) {
+        RequestDeadline earliest = null;
+        long earliestRemaining = Long.MAX_VALUE;
+        for (PendingWrite write : writes) {
+            if (write.requestDeadline != null) {
+                long remaining = write.requestDeadline.remainingNanos();
+                if (remaining < earliestRemaining) {
+                    earliest = write.requestDeadline;
+                    earliestRemaining = remaining;
+                }
+            }
+        }
+        return earliest;
+    }
+    
+    private TransactionResponse createTransaction(PendingWrite write) {
+        return transactionService.createTransaction(write.accountNumber, write.request, write.userId);
+    }
+    
+    /**
+     * Returns false for a write that was cancelled, timed out or passed its request deadline while queued; it
+     * must not be applied.
+     */
+    private static boolean claim(PendingWrite write) {
+        if (!write.claimed.compareAndSet(false, true)) {
+            return false;
+        }
+        if (System.nanoTime() - write.deadlineNanos >= 0) {
+            write.completeExceptionally(
+                    new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Timed out applying account write"));
+            return false;
+        }
+        if (write.requestDeadline != null && write.requestDeadline.expired()) {
+            write.completeExceptionally(new DeadlineExceededException("applying the account write",
+                    -write.requestDeadline.remainingNanos()));
+            return false;
+        }
+        return true;
+    }
+    
+    private static final class PendingWrite extends CompletableFuture<TransactionResponse> {
+        
+        private final String accountNumber;
+        private final CreateTransactionRequest request;
+        private final String userId;
+        private final long deadlineNanos;
+        private final RequestDeadline requestDeadline;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        
+        PendingWrite(String accountNumber, CreateTransactionRequest request, String userId, long deadlineNanos,
+                     RequestDeadline requestDeadline) {
+            this.accountNumber = accountNumber;
+            this.request = request;
+            this.userId = userId;
+            this.deadlineNanos = deadlineNanos;
+            this.requestDeadline = requestDeadline;
+        }
+        
+        // Fails once a worker has claimed the write, since it may already be committing.
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            return claimed.compareAndSet(false, true) && super.cancel(mayInterruptIfRunning);
+        }
+    }
+}
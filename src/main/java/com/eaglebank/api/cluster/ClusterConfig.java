@@ -0,0 +1,56 @@
+package com.eaglebank.api.cluster;
+
+import com.eaglebank.api.ledger.EventSourcedLedger;
+import com.eaglebank.api.service.TransactionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+
+@Configuration
+@ConditionalOnProperty(prefix = "cluster", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ClusterProperties.class)
+public class ClusterConfig {
+    
+    @Bean
+    public ClusterMembership clusterMembership(ClusterProperties properties, ObjectMapper objectMapper) throws IOException {
+        return new ClusterMembership(properties.nodeId(), properties.members(), properties.membersFile(),
+                properties.virtualNodes(), objectMapper);
+    }
+    
+    // Event-sourced ledger appends cannot be rolled back with a failed batch, so writes are applied one per
+    // transaction in that mode.
+    @Bean
+    public AccountWriteSequencer accountWriteSequencer(ClusterProperties properties,
+                                                       TransactionService transactionService,
+                                                       PlatformTransactionManager transactionManager,
+                                                       ObjectProvider<EventSourcedLedger> eventSourcedLedger,
+                                                       MeterRegistry meterRegistry) {
+        int maxBatchSize = eventSourcedLedger.getIfAvailable() != null ? 1 : properties.maxBatchSize();
+        return new AccountWriteSequencer(transactionService, new TransactionTemplate(transactionManager),
+                properties.writeStripes(), maxBatchSize, meterRegistry);
+    }
+    
+    @Bean
+    public ClusterForwarder clusterForwarder(ClusterProperties properties, RestClient.Builder restClientBuilder) {
+        return new ClusterForwarder(restClientBuilder, properties.forwardTimeout(), properties.internalToken());
+    }
+    
+    @Bean
+    public ClusterTransactionRouter clusterTransactionRouter(ClusterProperties properties,
+                                                             ClusterMembership membership,
+                                                             AccountWriteSequencer sequencer,
+                                                             ClusterForwarder forwarder,
+                                                             MeterRegistry meterRegistry) {
+        return new ClusterTransactionRouter(membership, sequencer, forwarder, properties.forwardTimeout(),
+                meterRegistry);
+    }
+}
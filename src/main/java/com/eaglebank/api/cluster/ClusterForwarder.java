@@ -0,0 +1,80 @@
+package com.eaglebank.api.cluster;
+
+import com.eaglebank.api.deadline.RequestDeadline;
+import com.eaglebank.api.dto.common.ErrorResponse;
+import com.eaglebank.api.dto.transaction.CreateTransactionRequest;
+import com.eaglebank.api.dto.transaction.TransactionResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+
+/**
+ * Sends a transaction write to the node that owns the account. The caller's bearer token is passed through
+ * so the owner authenticates the user exactly as it would for a direct request, and errors returned by the
+ * owner are rethrown with the same status and message. The rest of the request's deadline goes with it, so
+ * the owner stops when the original caller would.
+ */
+public class ClusterForwarder {
+    
+    static final String CLUSTER_TOKEN_HEADER = "X-Cluster-Token";
+    
+    private final RestClient restClient;
+    private final String internalToken;
+    
+    public ClusterForwarder(RestClient.Builder restClientBuilder, Duration timeout, String internalToken) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(timeout);
+        requestFactory.setReadTimeout(timeout);
+        this.restClient = restClientBuilder.requestFactory(requestFactory).build();
+        this.internalToken = internalToken;
+    }
+    
+    public TransactionResponse forward(ClusterProperties.Member owner, String accountNumber,
+                                       CreateTransactionRequest request, String authorization) {
+        RequestDeadline.check("forwarding to the owning node");
+        RequestDeadline deadline = RequestDeadline.current();
+        try {
+            return restClient.post()
+                    .uri(owner.url() + "/internal/cluster/accounts/{accountNumber}/transactions", accountNumber)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .headers(headers -> {
+                        if (authorization != null) {
+                            headers.set(HttpHeaders.AUTHORIZATION, authorization);
+                        }
+                        if (StringUtils.hasText(internalToken)) {
+                            headers.set(CLUSTER_TOKEN_HEADER, internalToken);
+                        }
+                        if (deadline != null) {
+                            headers.set(RequestDeadline.TIMEOUT_HEADER,
+                                    Long.toString(Math.max(1, deadline.remainingMillis())));
+                        }
+                    })
+                    .body(request)
+                    .retrieve()
+                    .body(TransactionResponse.class);
+        } catch (RestClientResponseException e) {
+            ErrorResponse error = readError(e);
+            throw new ResponseStatusException(e.getStatusCode(),
+                    error != null && error.message() != null ? error.message() : e.getStatusText());
+        } catch (ResourceAccessException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "Owning node " + owner.id() + " is unavailable", e);
+        }
+    }
+    
+    private static ErrorResponse readError(RestClientResponseException e) {
+        try {
+            return e.getResponseBodyAs(ErrorResponse.class);
+        } catch (RuntimeException ignored) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.eaglebank.api.cluster;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Current cluster membership and the hash ring built from it. Like the FX rate table, a reload builds a
+ * complete new ring and swaps it in, so a lookup never sees a partially updated membership.
+ */
+public class ClusterMembership {
+    
+    private static final Logger log = LoggerFactory.getLogger(ClusterMembership.class);
+    
+    private final String nodeId;
+    private final int virtualNodes;
+    private final Path membersFile;
+    private final ObjectMapper objectMapper;
+    private final AtomicReference<ConsistentHashRing> ring = new AtomicReference<>();
+    
+    public ClusterMembership(String nodeId, List<ClusterProperties.Member> staticMembers, Path membersFile,
+                             int virtualNodes, ObjectMapper objectMapper) throws IOException {
+        if (nodeId == null || nodeId.isBlank()) {
+            throw new IllegalArgumentException("cluster.node-id is required in cluster mode");
+        }
+        this.nodeId = nodeId;
+        this.virtualNodes = virtualNodes;
+        this.membersFile = membersFile;
+        this.objectMapper = objectMapper;
+        install(membersFile != null ? readMembersFile() : staticMembers);
+    }
+    
+    public String nodeId() {
+        return nodeId;
+    }
+    
+    public ClusterProperties.Member owner(String accountNumber) {
+        return ring.get().owner(accountNumber);
+    }
+    
+    public boolean isLocal(String accountNumber) {
+        return owner(accountNumber).id().equals(nodeId);
+    }
+    
+    public List<ClusterProperties.Member> members() {
+        return ring.get().members();
+    }
+    
+    @Scheduled(fixedDelayString = "${cluster.membership-reload-interval:PT30S}",
+            initialDelayString = "${cluster.membership-reload-interval:PT30S}")
+    public void reload() {
+        if (membersFile == null) {
+            return;
+        }
+        try {
+            List<ClusterProperties.Member> members = readMembersFile();
+            if (!members.equals(members())) {
+                install(members);
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Could not reload cluster members from {}, keeping current membership", membersFile, e);
+        }
+    }
+    
+    private List<ClusterProperties.Member> readMembersFile() throws IOException {
+        if (!Files.exists(membersFile)) {
+            throw new IOException("Cluster members file not found: " + membersFile);
+        }
+        return objectMapper.readValue(membersFile.toFile(), new TypeReference<List<ClusterProperties.Member>>() {
+        });
+    }
+    
+    private void install(List<ClusterProperties.Member> members) {
+        if (members.stream().noneMatch(member -> member.id().equals(nodeId))) {
+            throw new IllegalArgumentException("Node " + nodeId + " is not listed in the cluster members");
+        }
+        ring.set(new ConsistentHashRing(members, virtualNodes));
+        log.info("Cluster node {} installed membership of {} nodes", nodeId, members.size());
+    }
+}
@@ -0,0 +1,31 @@
+package com.eaglebank.api.cluster;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Static membership is taken from {@code members}; when {@code members-file} is set, the file is read
+ * instead and re-read every {@code membership-reload-interval}. Every node must list the same members for
+ * ownership to agree.
+ */
+@ConfigurationProperties(prefix = "cluster")
+public record ClusterProperties(
+        @DefaultValue("false") boolean enabled,
+        String nodeId,
+        @DefaultValue List<Member> members,
+        Path membersFile,
+        @DefaultValue("PT30S") Duration membershipReloadInterval,
+        @DefaultValue("128") int virtualNodes,
+        String internalToken,
+        @DefaultValue("PT5S") Duration forwardTimeout,
+        @DefaultValue("16") int writeStripes,
+        @DefaultValue("64") int maxBatchSize
+) {
+    
+    public record Member(String id, String url) {
+    }
+}
@@ -0,0 +1,85 @@
+package com.eaglebank.api.cluster;
+
+import com.eaglebank.api.dto.transaction.CreateTransactionRequest;
+import com.eaglebank.api.dto.transaction.TransactionResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Routes a transaction write to the account's owning node: applied through the local
+ * {@link AccountWriteSequencer} when this node owns the account, forwarded otherwise.
+ */
+public class ClusterTransactionRouter {
+    
+    private final ClusterMembership membership;
+    private final AccountWriteSequencer sequencer;
+    private final ClusterForwarder forwarder;
+    private final Duration timeout;
+    private final Counter localWrites;
+    private final Counter forwardedWrites;
+    
+    public ClusterTransactionRouter(ClusterMembership membership, AccountWriteSequencer sequencer,
+                                    ClusterForwarder forwarder, Duration timeout, MeterRegistry meterRegistry) {
+        this.membership = membership;
+        this.sequencer = sequencer;
+        this.forwarder = forwarder;
+        this.timeout = timeout;
+        this.localWrites = Counter.builder("cluster.writes")
+                .description("Transaction writes received by this node")
+                .tag("route", "local")
+                .register(meterRegistry);
+        this.forwardedWrites = Counter.builder("cluster.writes")
+                .description("Transaction writes received by this node")
+                .tag("route", "forwarded")
+                .register(meterRegistry);
+    }
+    
+    public TransactionResponse createTransaction(String accountNumber, CreateTransactionRequest request,
+                                                 String userId, String authorization) {
+        ClusterProperties.Member owner = membership.owner(accountNumber);
+        if (owner.id().equals(membership.nodeId())) {
+            return applyLocally(accountNumber, request, userId);
+        }
+        forwardedWrites.increment();
+        return forwarder.forward(owner, accountNumber, request, authorization);
+    }
+    
+    /**
+     * Applies a write on this node without consulting the ring. Used for forwarded writes so that two nodes
+     * briefly disagreeing on membership cannot bounce a write between them.
+     */
+    public TransactionResponse applyLocally(String accountNumber, CreateTransactionRequest request, String userId) {
+        localWrites.increment();
+        CompletableFuture<TransactionResponse> result = sequencer.submit(accountNumber, request, userId, timeout);
+        try {
+            try {
+                return result.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (result.cancel(false)) {
+                    throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Timed out applying account write");
+                }
+                // Already claimed by its worker and possibly committing, so wait for the real outcome.
+                return result.get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (result.cancel(false)) {
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Interrupted applying account write");
+            }
+            throw new IllegalStateException("Interrupted while the account write was being applied", e);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.eaglebank.api.cluster;
+
+import com.eaglebank.api.dto.transaction.CreateTransactionRequest;
+import com.eaglebank.api.dto.transaction.TransactionResponse;
+import com.eaglebank.api.util.SecurityContextUtil;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Pattern;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Receives writes forwarded by other nodes. The user is authenticated from the forwarded bearer token as
+ * usual; when {@code cluster.internal-token} is set the request must also carry it, so clients cannot
+ * address a node's write queue directly.
+ */
+@RestController
+@RequestMapping("/internal/cluster")
+@ConditionalOnProperty(prefix = "cluster", name = "enabled", havingValue = "true")
+@Validated
+public class ClusterWriteController {
+    
+    private final ClusterTransactionRouter router;
+    private final byte[] internalToken;
+    
+    public ClusterWriteController(ClusterTransactionRouter router, ClusterProperties properties) {
+        this.router = router;
+        this.internalToken = StringUtils.hasText(properties.internalToken())
+                ? properties.internalToken().getBytes(StandardCharsets.UTF_8) : null;
+    }
+    
+    @PostMapping("/accounts/{accountNumber}/transactions")
+    public ResponseEntity<TransactionResponse> applyTransaction(
+            @PathVariable @Pattern(regexp = "^01\\d{6}$") String accountNumber,
+            @RequestHeader(name = ClusterForwarder.CLUSTER_TOKEN_HEADER, required = false) String token,
+            @Valid @RequestBody CreateTransactionRequest request) {
+        if (internalToken != null && (token == null
+                || !MessageDigest.isEqual(internalToken, token.getBytes(StandardCharsets.UTF_8)))) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Access denied");
+        }
+        String userId = SecurityContextUtil.getCurrentUserId();
+        TransactionResponse response = router.applyLocally(accountNumber, request, userId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+}
@@ -0,0 +1,59 @@
+package com.eaglebank.api.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Immutable consistent-hash ring. Each member is placed at {@code virtualNodes} points so keys spread
+ * evenly, and adding or removing a member only moves the keys in the arcs it gains or loses.
+ */
+public final class ConsistentHashRing {
+    
+    private final NavigableMap<Long, ClusterProperties.Member> ring;
+    private final List<ClusterProperties.Member> members;
+    
+    public ConsistentHashRing(List<ClusterProperties.Member> members, int virtualNodes) {
+        if (members.isEmpty()) {
+            throw new IllegalArgumentException("A cluster needs at least one member");
+        }
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("virtualNodes must be positive");
+        }
+        TreeMap<Long, ClusterProperties.Member> points = new TreeMap<>();
+        for (ClusterProperties.Member member : members) {
+            for (int i = 0; i < virtualNodes; i++) {
+                points.put(hash(member.id() + "#" + i), member);
+            }
+        }
+        this.ring = points;
+        this.members = List.copyOf(members);
+    }
+    
+    public ClusterProperties.Member owner(String key) {
+        Map.Entry<Long, ClusterProperties.Member> entry = ring.ceilingEntry(hash(key));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+    
+    public List<ClusterProperties.Member> members() {
+        return members;
+    }
+    
+    // FNV-1a over the UTF-8 bytes followed by the MurmurHash3 finaliser; account numbers differ only in a
+    // few trailing digits, so the raw FNV value alone clusters them on the ring.
+    static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,49 @@
+package com.eaglebank.api.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.time.Instant;
+
+@Configuration
+public class JacksonConfig {
+    
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+    
+    @Bean
+    public Module responseSerializersModule() {
+        return responseSerializers();
+    }
+    
+    static SimpleModule responseSerializers() {
+        SimpleModule module = new SimpleModule("eaglebank-response-serializers");
+        module.addSerializer(Instant.class, IsoInstantSerializer.INSTANCE);
+        return module;
+    }
+    
+    // Writes the same ISO-8601 text as the JSR-310 serializer with timestamps disabled, without
+    // re-resolving the formatter and time zone settings on every call.
+    static final class IsoInstantSerializer extends StdSerializer<Instant> {
+        
+        static final IsoInstantSerializer INSTANCE = new IsoInstantSerializer();
+        
+        private IsoInstantSerializer() {
+            super(Instant.class);
+        }
+        
+        @Override
+        public void serialize(Instant value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeString(value.toString());
+        }
+    }
+}
@@ -9,8 +9,14 @@ public final class ApplicationConstants {
     public static final String ACCOUNT_SORT_CODE = "10-10-10";
     public static final String ACCOUNT_DEFAULT_CURRENCY = "GBP";
     
+    // Money constants, in minor units (pence)
+    public static final long MAX_BALANCE_MINOR = 1_000_000L;
+    public static final long MAX_TRANSACTION_AMOUNT_MINOR = 1_000_000L;
+    
     // Transaction constants
     public static final String TRANSACTION_DEFAULT_CURRENCY = "GBP";
+    public static final int TRANSACTION_PAGE_SIZE_DEFAULT = 50;
+    public static final int TRANSACTION_PAGE_SIZE_MAX = 500;
     
     // ID Generation constants
     public static final String USER_ID_PREFIX = "usr-";
@@ -1,14 +1,16 @@
 package com.eaglebank.api.controller;
 
+import com.eaglebank.api.cache.ResponseByteCache;
+import com.eaglebank.api.dto.account.AccountSummaryResponse;
 import com.eaglebank.api.dto.account.BankAccountResponse;
 import com.eaglebank.api.dto.account.CreateBankAccountRequest;
-import com.eaglebank.api.dto.account.ListBankAccountsResponse;
 import com.eaglebank.api.dto.account.UpdateBankAccountRequest;
 import com.eaglebank.api.service.AccountService;
 import com.eaglebank.api.util.SecurityContextUtil;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Pattern;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -19,9 +21,11 @@ import org.springframework.web.bind.annotation.*;
 public class AccountController {
     
     private final AccountService accountService;
+    private final ResponseByteCache responseByteCache;
     
-    public AccountController(AccountService accountService) {
+    public AccountController(AccountService accountService, ResponseByteCache responseByteCache) {
         this.accountService = accountService;
+        this.responseByteCache = responseByteCache;
     }
     
     @PostMapping
@@ -32,9 +36,17 @@ public class AccountController {
     }
     
     @GetMapping
-    public ResponseEntity<ListBankAccountsResponse> listAccounts() {
+    public ResponseEntity<byte[]> listAccounts() {
         String userId = SecurityContextUtil.getCurrentUserId();
-        ListBankAccountsResponse response = accountService.listAccounts(userId);
+        byte[] body = responseByteCache.getOrLoad(ResponseByteCache.accountsKey(userId),
+                () -> accountService.listAccounts(userId));
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+    
+    @GetMapping("/summary")
+    public ResponseEntity<AccountSummaryResponse> getAccountSummary() {
+        String userId = SecurityContextUtil.getCurrentUserId();
+        AccountSummaryResponse response = accountService.getAccountSummary(userId);
         return ResponseEntity.ok(response);
     }
     
@@ -3,11 +3,16 @@ package com.eaglebank.api.controller;
 import com.eaglebank.api.dto.auth.LoginRequest;
 import com.eaglebank.api.dto.auth.LoginResponse;
 import com.eaglebank.api.service.AuthenticationService;
+import com.eaglebank.api.service.TokenRevocationService;
+import com.eaglebank.api.util.SecurityContextUtil;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -15,10 +20,13 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuthenticationController {
     
     private final AuthenticationService authenticationService;
+    private final TokenRevocationService tokenRevocationService;
 
 
-    public AuthenticationController(AuthenticationService authenticationService) {
+    public AuthenticationController(AuthenticationService authenticationService,
+                                    TokenRevocationService tokenRevocationService) {
         this.authenticationService = authenticationService;
+        this.tokenRevocationService = tokenRevocationService;
     }
     
     @PostMapping("/login")
@@ -26,5 +34,16 @@ public class AuthenticationController {
         LoginResponse response = authenticationService.authenticate(request);
         return ResponseEntity.ok(response);
     }
+    
+    // Revokes the presented token, or with allSessions=true every token issued to the user so far.
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization,
+                                       @RequestParam(defaultValue = "false") boolean allSessions) {
+        if (allSessions) {
+            tokenRevocationService.revokeUser(SecurityContextUtil.getCurrentUserId());
+        } else {
+            tokenRevocationService.revokeToken(authorization.substring("Bearer ".length()));
+        }
+        return ResponseEntity.noContent().build();
+    }
 }
-
@@ -0,0 +1,29 @@
+package com.eaglebank.api.controller;
+
+import com.eaglebank.api.dto.insights.MonthlyInsightsResponse;
+import com.eaglebank.api.service.InsightsService;
+import com.eaglebank.api.util.SecurityContextUtil;
+import jakarta.validation.constraints.Pattern;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/v1/accounts/{accountNumber}/insights")
+@Validated
+public class InsightsController {
+    
+    private final InsightsService insightsService;
+    
+    public InsightsController(InsightsService insightsService) {
+        this.insightsService = insightsService;
+    }
+    
+    @GetMapping("/monthly")
+    public ResponseEntity<MonthlyInsightsResponse> getMonthlyInsights(
+            @PathVariable @Pattern(regexp = "^01\\d{6}$") String accountNumber) {
+        String userId = SecurityContextUtil.getCurrentUserId();
+        MonthlyInsightsResponse response = insightsService.getMonthlyInsights(accountNumber, userId);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,42 +1,68 @@
 package com.eaglebank.api.controller;
 
+import com.eaglebank.api.cluster.ClusterTransactionRouter;
 import com.eaglebank.api.dto.transaction.CreateTransactionRequest;
 import com.eaglebank.api.dto.transaction.ListTransactionsResponse;
 import com.eaglebank.api.dto.transaction.TransactionResponse;
+import com.eaglebank.api.dto.transaction.TransactionSearchRequest;
 import com.eaglebank.api.service.TransactionService;
 import com.eaglebank.api.util.SecurityContextUtil;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Pattern;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.math.BigDecimal;
+import java.time.Instant;
+
 @RestController
 @RequestMapping("/v1/accounts/{accountNumber}/transactions")
 @Validated
 public class TransactionController {
     
     private final TransactionService transactionService;
+    // Present only in cluster mode, where writes are applied by the account's owning node.
+    private final ClusterTransactionRouter clusterRouter;
     
-    public TransactionController(TransactionService transactionService) {
+    public TransactionController(TransactionService transactionService,
+                                 ObjectProvider<ClusterTransactionRouter> clusterRouter) {
         this.transactionService = transactionService;
+        this.clusterRouter = clusterRouter.getIfAvailable();
     }
     
     @PostMapping
     public ResponseEntity<TransactionResponse> createTransaction(
             @PathVariable @Pattern(regexp = "^01\\d{6}$") String accountNumber,
+            @RequestHeader(name = HttpHeaders.AUTHORIZATION, required = false) String authorization,
             @Valid @RequestBody CreateTransactionRequest request) {
         String userId = SecurityContextUtil.getCurrentUserId();
-        TransactionResponse response = transactionService.createTransaction(accountNumber, request, userId);
+        TransactionResponse response = clusterRouter != null
+                ? clusterRouter.createTransaction(accountNumber, request, userId, authorization)
+                : transactionService.createTransaction(accountNumber, request, userId);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
     
     @GetMapping
     public ResponseEntity<ListTransactionsResponse> listTransactions(
-            @PathVariable @Pattern(regexp = "^01\\d{6}$") String accountNumber) {
+            @PathVariable @Pattern(regexp = "^01\\d{6}$") String accountNumber,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) BigDecimal minAmount,
+            @RequestParam(required = false) BigDecimal maxAmount,
+            @RequestParam(required = false) Instant from,
+            @RequestParam(required = false) Instant to,
+            @RequestParam(required = false) String reference,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
         String userId = SecurityContextUtil.getCurrentUserId();
-        ListTransactionsResponse response = transactionService.listTransactions(accountNumber, userId);
+        TransactionSearchRequest search = new TransactionSearchRequest(type, minAmount, maxAmount, from, to,
+                reference, limit, cursor);
+        ListTransactionsResponse response = search.isUnfiltered()
+                ? transactionService.listTransactions(accountNumber, userId)
+                : transactionService.searchTransactions(accountNumber, search, userId);
         return ResponseEntity.ok(response);
     }
     
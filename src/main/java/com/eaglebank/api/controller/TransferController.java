@@ -0,0 +1,31 @@
+package com.eaglebank.api.controller;
+
+import com.eaglebank.api.dto.transfer.CreateTransferRequest;
+import com.eaglebank.api.dto.transfer.TransferResponse;
+import com.eaglebank.api.service.TransferService;
+import com.eaglebank.api.util.SecurityContextUtil;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/v1/transfers")
+public class TransferController {
+    
+    private final TransferService transferService;
+    
+    public TransferController(TransferService transferService) {
+        this.transferService = transferService;
+    }
+    
+    @PostMapping
+    public ResponseEntity<TransferResponse> createTransfer(@Valid @RequestBody CreateTransferRequest request) {
+        String userId = SecurityContextUtil.getCurrentUserId();
+        TransferResponse response = transferService.createTransfer(request, userId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+}
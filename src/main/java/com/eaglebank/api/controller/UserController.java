@@ -1,5 +1,6 @@
 package com.eaglebank.api.controller;
 
+import com.eaglebank.api.cache.ResponseByteCache;
 import com.eaglebank.api.dto.user.CreateUserRequest;
 import com.eaglebank.api.dto.user.UpdateUserRequest;
 import com.eaglebank.api.dto.user.UserResponse;
@@ -8,6 +9,7 @@ import com.eaglebank.api.util.SecurityContextUtil;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Pattern;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -18,9 +20,11 @@ import org.springframework.web.bind.annotation.*;
 public class UserController {
     
     private final UserService userService;
+    private final ResponseByteCache responseByteCache;
     
-    public UserController(UserService userService) {
+    public UserController(UserService userService, ResponseByteCache responseByteCache) {
         this.userService = userService;
+        this.responseByteCache = responseByteCache;
     }
     
     @PostMapping
@@ -30,11 +34,16 @@ public class UserController {
     }
     
     @GetMapping("/{userId}")
-    public ResponseEntity<UserResponse> getUserById(
+    public ResponseEntity<?> getUserById(
             @PathVariable @Pattern(regexp = "^usr-[A-Za-z0-9]+$") String userId) {
         String authenticatedUserId = SecurityContextUtil.getCurrentUserId();
-        UserResponse response = userService.getUserById(userId, authenticatedUserId);
-        return ResponseEntity.ok(response);
+        if (!userId.equals(authenticatedUserId)) {
+            // Rejected by the service; only the caller's own record is ever looked up in the cache.
+            return ResponseEntity.ok(userService.getUserById(userId, authenticatedUserId));
+        }
+        byte[] body = responseByteCache.getOrLoad(ResponseByteCache.userKey(userId),
+                () -> userService.getUserById(userId, authenticatedUserId));
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
     }
     
     @PatchMapping("/{userId}")
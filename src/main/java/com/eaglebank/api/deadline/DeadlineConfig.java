@@ -0,0 +1,45 @@
+package com.eaglebank.api.deadline;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+@ConditionalOnProperty(prefix = "deadline", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(DeadlineProperties.class)
+public class DeadlineConfig {
+    
+    // Runs last, so the timeout it sets covers only the statement itself.
+    @Bean
+    @Order(3)
+    public DeadlineHook deadlineHook() {
+        return new DeadlineHook();
+    }
+    
+    // Replaces Boot's JpaTransactionManager, which backs off when one is defined; customizers still apply.
+    @Bean
+    public PlatformTransactionManager transactionManager(ObjectProvider<TransactionManagerCustomizers> customizers) {
+        DeadlineJpaTransactionManager transactionManager = new DeadlineJpaTransactionManager();
+        customizers.ifAvailable(c -> c.customize(transactionManager));
+        return transactionManager;
+    }
+    
+    @Bean
+    public FilterRegistrationBean<DeadlineFilter> deadlineFilter(DeadlineProperties properties,
+                                                                 MeterRegistry meterRegistry) {
+        FilterRegistrationBean<DeadlineFilter> registration =
+                new FilterRegistrationBean<>(new DeadlineFilter(properties, meterRegistry));
+        // API routes only: actuator operations such as the rollup backfill legitimately run for minutes.
+        registration.addUrlPatterns("/v1/*", "/internal/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
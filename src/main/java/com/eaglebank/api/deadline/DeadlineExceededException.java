@@ -0,0 +1,11 @@
+package com.eaglebank.api.deadline;
+
+/**
+ * Thrown when work is about to start or commit after the current request's deadline has passed.
+ */
+public class DeadlineExceededException extends RuntimeException {
+    
+    public DeadlineExceededException(String stage, long overdueNanos) {
+        super("Request deadline exceeded by " + overdueNanos / 1_000_000 + " ms before " + stage);
+    }
+}
@@ -0,0 +1,80 @@
+package com.eaglebank.api.deadline;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opens a {@link RequestDeadline} around each request and counts requests that were still running when it
+ * passed as {@code http.server.deadline.exceeded}, tagged with the matched route.
+ */
+public class DeadlineFilter extends OncePerRequestFilter {
+    
+    private final DeadlineProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final List<TimedRoute> routes;
+    
+    public DeadlineFilter(DeadlineProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.routes = properties.routes().stream()
+                .map(route -> new TimedRoute(route.method(), PathPatternParser.defaultInstance.parse(route.pattern()),
+                        route.timeout()))
+                .toList();
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestDeadline deadline = RequestDeadline.begin(budgetNanos(request));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestDeadline.end();
+            if (deadline.expired()) {
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                Counter.builder("http.server.deadline.exceeded")
+                        .description("Requests still running when their deadline passed")
+                        .tags("method", request.getMethod(), "uri", pattern != null ? pattern.toString() : "UNKNOWN")
+                        .register(meterRegistry)
+                        .increment();
+            }
+        }
+    }
+    
+    private long budgetNanos(HttpServletRequest request) {
+        long requestedMillis = RequestDeadline.parseTimeoutMillis(request.getHeader(RequestDeadline.TIMEOUT_HEADER));
+        if (requestedMillis > 0) {
+            return Math.min(TimeUnit.MILLISECONDS.toNanos(requestedMillis), properties.maxTimeout().toNanos());
+        }
+        if (!routes.isEmpty()) {
+            PathContainer path = PathContainer.parsePath(request.getRequestURI());
+            for (TimedRoute route : routes) {
+                if (route.matches(request.getMethod(), path)) {
+                    return route.timeout().toNanos();
+                }
+            }
+        }
+        return properties.defaultTimeout().toNanos();
+    }
+    
+    private record TimedRoute(String method, PathPattern pattern, Duration timeout) {
+        
+        boolean matches(String requestMethod, PathContainer path) {
+            return (method == null || method.equalsIgnoreCase(requestMethod)) && pattern.matches(path);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.eaglebank.api.deadline;
+
+import com.eaglebank.api.jdbc.JdbcHook;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Gives every statement executed on a request thread the request's remaining budget as its query timeout,
+ * so the database cancels a slow query once the caller has given up on it. A shorter timeout already set on
+ * the statement is kept, and a connection checkout or statement that would start after the deadline fails
+ * with {@link DeadlineExceededException} without reaching the database.
+ */
+public class DeadlineHook implements JdbcHook {
+    
+    @Override
+    public void beforeCheckout() {
+        RequestDeadline.check("acquiring a connection");
+    }
+    
+    @Override
+    public Object beforeExecute(Statement statement, String sql) throws SQLException {
+        RequestDeadline deadline = RequestDeadline.current();
+        if (deadline != null) {
+            RequestDeadline.check("executing a statement");
+            int timeout = deadline.queryTimeoutSeconds();
+            int current = statement.getQueryTimeout();
+            if (current == 0 || current > timeout) {
+                statement.setQueryTimeout(timeout);
+            }
+        }
+        return null;
+    }
+}
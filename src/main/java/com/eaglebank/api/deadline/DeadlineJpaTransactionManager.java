@@ -0,0 +1,25 @@
+package com.eaglebank.api.deadline;
+
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+/**
+ * Transaction manager that will not start or commit a transaction for a request whose deadline has passed.
+ * The check runs in {@link #prepareForCommit}, so an overdue transaction is rolled back rather than
+ * committed and the caller gets a {@link DeadlineExceededException}.
+ */
+public class DeadlineJpaTransactionManager extends JpaTransactionManager {
+    
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        RequestDeadline.check("beginning a transaction");
+        super.doBegin(transaction, definition);
+    }
+    
+    @Override
+    protected void prepareForCommit(DefaultTransactionStatus status) {
+        super.prepareForCommit(status);
+        RequestDeadline.check("committing");
+    }
+}
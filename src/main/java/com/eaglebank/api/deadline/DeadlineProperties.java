@@ -0,0 +1,32 @@
+package com.eaglebank.api.deadline;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Budgets for servlet requests. A client may shorten or extend its budget with the
+ * {@value RequestDeadline#TIMEOUT_HEADER} header, capped at {@code maxTimeout}; otherwise the first matching
+ * route's timeout applies, falling back to {@code defaultTimeout}.
+ */
+@ConfigurationProperties(prefix = "deadline")
+public record DeadlineProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("2s") Duration defaultTimeout,
+        @DefaultValue("30s") Duration maxTimeout,
+        List<Route> routes
+) {
+    
+    public DeadlineProperties {
+        routes = routes == null ? List.of() : List.copyOf(routes);
+    }
+    
+    public record Route(
+            String method,
+            String pattern,
+            Duration timeout
+    ) {
+    }
+}
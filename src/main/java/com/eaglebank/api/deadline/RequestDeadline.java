@@ -0,0 +1,88 @@
+package com.eaglebank.api.deadline;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deadline of the current HTTP request, opened by {@link DeadlineFilter} and bound to the request thread so
+ * the service layer, JDBC statements and commits see it without it being passed around. Work a request hands
+ * to another thread, such as a clustered account write, captures {@link #current()} and {@link #bind binds} it
+ * there; other background work, such as batch workers, has no deadline.
+ */
+public final class RequestDeadline {
+    
+    /** Remaining budget in milliseconds, set by clients and gateways and passed on to other nodes. */
+    public static final String TIMEOUT_HEADER = "X-Request-Timeout";
+    
+    private static final ThreadLocal<RequestDeadline> CURRENT = new ThreadLocal<>();
+    
+    private final long deadlineNanos;
+    
+    private RequestDeadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+    
+    public static RequestDeadline begin(long budgetNanos) {
+        RequestDeadline deadline = new RequestDeadline(System.nanoTime() + budgetNanos);
+        CURRENT.set(deadline);
+        return deadline;
+    }
+    
+    public static RequestDeadline current() {
+        return CURRENT.get();
+    }
+    
+    /** Binds a deadline captured on a request thread to the current thread; {@code null} clears it. */
+    public static void bind(RequestDeadline deadline) {
+        if (deadline == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(deadline);
+        }
+    }
+    
+    public static void end() {
+        CURRENT.remove();
+    }
+    
+    /** Throws if the current request has run out of time; does nothing outside a request. */
+    public static void check(String stage) {
+        RequestDeadline deadline = CURRENT.get();
+        if (deadline != null) {
+            long remaining = deadline.remainingNanos();
+            if (remaining <= 0) {
+                throw new DeadlineExceededException(stage, -remaining);
+            }
+        }
+    }
+    
+    /** Parses a {@value #TIMEOUT_HEADER} value, returning -1 when it is absent or not a positive number. */
+    public static long parseTimeoutMillis(String header) {
+        if (header == null || header.isBlank()) {
+            return -1;
+        }
+        try {
+            long millis = Long.parseLong(header.trim());
+            return millis > 0 ? millis : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+    
+    public long remainingNanos() {
+        return deadlineNanos - System.nanoTime();
+    }
+    
+    public long remainingMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(remainingNanos());
+    }
+    
+    public boolean expired() {
+        return remainingNanos() <= 0;
+    }
+    
+    /** Remaining budget as a JDBC query timeout, which only has whole seconds, so it is rounded up. */
+    public int queryTimeoutSeconds() {
+        long remaining = remainingNanos();
+        return (int) Math.max(1, Math.min(Integer.MAX_VALUE, (remaining + 999_999_999L) / 1_000_000_000L));
+    }
+}
@@ -0,0 +1,59 @@
+package com.eaglebank.api.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Copy of a {@link Transaction} of a closed account, written by {@code AccountClosureJob} just before the
+ * original row is deleted. Account and user are kept as plain columns so the archive outlives both.
+ */
+@Entity
+@Table(name = "transactions_archive", indexes = {
+        @Index(name = "idx_transactions_archive_account_created", columnList = "account_number, created_timestamp")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedTransaction {
+    
+    @Id
+    @Column(name = "id", length = 50)
+    private String id;
+    
+    // Minor units (pence) in the account currency.
+    @Column(nullable = false)
+    private long amount;
+    
+    @Column(nullable = false, length = 3)
+    private String currency;
+    
+    @Column(nullable = false)
+    private String type;
+    
+    @Column
+    private String reference;
+    
+    @Column(name = "original_amount")
+    private Long originalAmount;
+    
+    @Column(name = "original_currency", length = 3)
+    private String originalCurrency;
+    
+    @Column(name = "account_number", nullable = false, length = 8)
+    private String accountNumber;
+    
+    @Column(name = "user_id", nullable = false, length = 50)
+    private String userId;
+    
+    @Column(name = "created_timestamp", nullable = false)
+    private Instant createdTimestamp;
+    
+    @Column(name = "archived_timestamp", nullable = false)
+    private Instant archivedTimestamp;
+}
@@ -1,23 +1,35 @@
 package com.eaglebank.api.domain;
 
+import com.eaglebank.api.constants.ApplicationConstants;
+import com.eaglebank.api.enums.AccountStatus;
 import jakarta.persistence.*;
-import jakarta.validation.constraints.DecimalMax;
-import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.SQLRestriction;
 import org.hibernate.annotations.UpdateTimestamp;
 
-import java.math.BigDecimal;
 import java.time.Instant;
 
+/**
+ * Closed accounts stay in the table until {@code AccountClosureJob} has archived their transactions, but the
+ * restriction hides them from every JPA query, so to the API they no longer exist. Plain SQL readers of
+ * {@code bank_accounts} filter on {@code status} themselves.
+ */
 @Entity
-@Table(name = "bank_accounts")
+@Table(name = "bank_accounts", indexes = {
+        @Index(name = "idx_bank_accounts_user_type", columnList = "user_id, account_type"),
+        @Index(name = "idx_bank_accounts_updated", columnList = "updated_timestamp"),
+        @Index(name = "idx_bank_accounts_status", columnList = "status, account_number")
+})
+@SQLRestriction("status = 'OPEN'")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -41,11 +53,11 @@ public class BankAccount {
     @Column(name = "account_type", nullable = false)
     private String accountType;
     
-    @NotNull
-    @DecimalMin(value = "0.00")
-    @DecimalMax(value = "10000.00")
-    @Column(nullable = false, precision = 10, scale = 2)
-    private BigDecimal balance;
+    // Held in minor units (pence); converted to a decimal only when mapped to a response.
+    @Min(0)
+    @Max(ApplicationConstants.MAX_BALANCE_MINOR)
+    @Column(nullable = false)
+    private long balance;
     
     @NotBlank
     @Column(nullable = false, length = 3)
@@ -55,6 +67,14 @@ public class BankAccount {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
     
+    @Enumerated(EnumType.STRING)
+    @ColumnDefault("'OPEN'")
+    @Column(nullable = false, length = 10)
+    private AccountStatus status = AccountStatus.OPEN;
+    
+    @Column(name = "closed_timestamp")
+    private Instant closedTimestamp;
+    
     @CreationTimestamp
     @Column(name = "created_timestamp", nullable = false, updatable = false)
     private Instant createdTimestamp;
@@ -0,0 +1,60 @@
+package com.eaglebank.api.domain;
+
+import com.eaglebank.api.enums.BatchJobStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "batch_job_checkpoints")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchJobCheckpoint {
+    
+    @Id
+    @Column(name = "id", length = 100)
+    private String id;
+    
+    @Column(name = "job_name", nullable = false, length = 50)
+    private String jobName;
+    
+    @Column(name = "run_key", nullable = false, length = 20)
+    private String runKey;
+    
+    @Column(name = "last_account_number", length = 8)
+    private String lastAccountNumber;
+    
+    @Column(name = "rows_processed", nullable = false)
+    private long rowsProcessed;
+    
+    @Column(name = "rows_updated", nullable = false)
+    private long rowsUpdated;
+    
+    // Incremental jobs only revisit rows changed at or after window_start; window_end becomes the next
+    // run's window_start once this run completes.
+    @Column(name = "window_start")
+    private Instant windowStart;
+    
+    @Column(name = "window_end")
+    private Instant windowEnd;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private BatchJobStatus status;
+    
+    @CreationTimestamp
+    @Column(name = "created_timestamp", nullable = false, updatable = false)
+    private Instant createdTimestamp;
+    
+    @UpdateTimestamp
+    @Column(name = "updated_timestamp", nullable = false)
+    private Instant updatedTimestamp;
+}
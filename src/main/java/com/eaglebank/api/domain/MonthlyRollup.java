@@ -0,0 +1,53 @@
+package com.eaglebank.api.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Per-account, per-calendar-month (UTC) totals of posted transactions, kept current by every write path so
+ * monthly insights never aggregate the raw history. Written only through {@code MonthlyRollupStore}.
+ */
+@Entity
+@Table(name = "account_monthly_rollups", indexes = {
+        @Index(name = "idx_monthly_rollups_account_month", columnList = "account_number, month_start")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MonthlyRollup {
+    
+    // The account number followed by the month, for example "01234567:2024-03".
+    @Id
+    @Column(name = "id", length = 20)
+    private String id;
+    
+    @Column(name = "account_number", nullable = false, length = 8)
+    private String accountNumber;
+    
+    // First day of the month.
+    @Column(name = "month_start", nullable = false)
+    private LocalDate monthStart;
+    
+    // Minor units (pence) in the account currency.
+    @Column(name = "deposit_total", nullable = false)
+    private long depositTotal;
+    
+    @Column(name = "deposit_count", nullable = false)
+    private long depositCount;
+    
+    @Column(name = "withdrawal_total", nullable = false)
+    private long withdrawalTotal;
+    
+    @Column(name = "withdrawal_count", nullable = false)
+    private long withdrawalCount;
+    
+    @Column(name = "updated_timestamp", nullable = false)
+    private Instant updatedTimestamp;
+}
@@ -0,0 +1,46 @@
+package com.eaglebank.api.domain;
+
+import com.eaglebank.api.enums.RevocationType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "token_revocations", indexes = {
+        @Index(name = "idx_token_revocations_updated", columnList = "updated_timestamp")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenRevocation {
+    
+    // The revocation type followed by the token ID or user ID, so each user has at most one USER row.
+    @Id
+    @Column(name = "id", length = 100)
+    private String id;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private RevocationType type;
+    
+    @Column(nullable = false, length = 64)
+    private String subject;
+    
+    // For USER revocations: tokens issued at or before this instant are rejected.
+    @Column(name = "not_before")
+    private Instant notBefore;
+    
+    // Once every token the row could match has expired, the row is no longer needed.
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+    
+    @UpdateTimestamp
+    @Column(name = "updated_timestamp", nullable = false)
+    private Instant updatedTimestamp;
+}
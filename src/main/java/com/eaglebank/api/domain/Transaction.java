@@ -1,10 +1,10 @@
 package com.eaglebank.api.domain;
 
+import com.eaglebank.api.constants.ApplicationConstants;
 import jakarta.persistence.*;
-import jakarta.validation.constraints.DecimalMax;
-import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -12,11 +12,14 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
 
-import java.math.BigDecimal;
 import java.time.Instant;
 
 @Entity
-@Table(name = "transactions")
+@Table(name = "transactions", indexes = {
+        @Index(name = "idx_transactions_account_created", columnList = "account_number, created_timestamp"),
+        @Index(name = "idx_transactions_account_type_created", columnList = "account_number, type, created_timestamp"),
+        @Index(name = "idx_transactions_account_amount", columnList = "account_number, amount")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -28,11 +31,11 @@ public class Transaction {
     @Column(name = "id", length = 50)
     private String id;
     
-    @NotNull
-    @DecimalMin(value = "0.00")
-    @DecimalMax(value = "10000.00")
-    @Column(nullable = false, precision = 10, scale = 2)
-    private BigDecimal amount;
+    // Minor units (pence) in the account currency.
+    @Min(0)
+    @Max(ApplicationConstants.MAX_TRANSACTION_AMOUNT_MINOR)
+    @Column(nullable = false)
+    private long amount;
     
     @NotBlank
     @Column(nullable = false, length = 3)
@@ -45,6 +48,14 @@ public class Transaction {
     @Column
     private String reference;
     
+    // Set only when the request was made in a currency other than the account's; amount and currency
+    // above always hold the converted value in the account currency.
+    @Column(name = "original_amount")
+    private Long originalAmount;
+    
+    @Column(name = "original_currency", length = 3)
+    private String originalCurrency;
+    
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "account_number", nullable = false)
     private BankAccount account;
@@ -0,0 +1,13 @@
+package com.eaglebank.api.dto.account;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Map;
+
+public record AccountSummaryResponse(
+        BigDecimal totalBalance,
+        long accountCount,
+        Map<String, Long> accountCountByType,
+        Instant lastActivityTimestamp
+) {
+}
@@ -0,0 +1,11 @@
+package com.eaglebank.api.dto.account;
+
+import java.time.Instant;
+
+public record AccountTypeSummary(
+        String accountType,
+        Long accountCount,
+        Long totalBalanceMinor,
+        Instant lastActivityTimestamp
+) {
+}
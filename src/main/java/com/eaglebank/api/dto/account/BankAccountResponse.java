@@ -1,5 +1,7 @@
 package com.eaglebank.api.dto.account;
 
+import com.eaglebank.api.util.MoneyUtil;
+
 import java.math.BigDecimal;
 import java.time.Instant;
 
@@ -13,5 +15,13 @@ public record BankAccountResponse(
         Instant createdTimestamp,
         Instant updatedTimestamp
 ) {
+    
+    // Used by JPQL constructor expressions, which select the stored minor-unit balance.
+    public BankAccountResponse(String accountNumber, String sortCode, String name, String accountType,
+                               long balanceMinor, String currency, Instant createdTimestamp,
+                               Instant updatedTimestamp) {
+        this(accountNumber, sortCode, name, accountType, MoneyUtil.fromMinorUnits(balanceMinor), currency,
+                createdTimestamp, updatedTimestamp);
+    }
 }
 
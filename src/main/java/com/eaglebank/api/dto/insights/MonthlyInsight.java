@@ -0,0 +1,13 @@
+package com.eaglebank.api.dto.insights;
+
+import java.math.BigDecimal;
+
+public record MonthlyInsight(
+        String month,
+        BigDecimal deposits,
+        long depositCount,
+        BigDecimal withdrawals,
+        long withdrawalCount,
+        BigDecimal netFlow
+) {
+}
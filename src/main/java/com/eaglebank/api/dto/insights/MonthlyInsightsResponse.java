@@ -0,0 +1,8 @@
+package com.eaglebank.api.dto.insights;
+
+import java.util.List;
+
+public record MonthlyInsightsResponse(
+        List<MonthlyInsight> months
+) {
+}
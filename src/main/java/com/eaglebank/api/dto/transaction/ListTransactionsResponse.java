@@ -1,9 +1,16 @@
 package com.eaglebank.api.dto.transaction;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 
 public record ListTransactionsResponse(
-        List<TransactionResponse> transactions
+        List<TransactionResponse> transactions,
+        // Set only on a filtered page that has more results; pass it back as the cursor parameter.
+        @JsonInclude(JsonInclude.Include.NON_NULL) String nextCursor
 ) {
+    
+    public ListTransactionsResponse(List<TransactionResponse> transactions) {
+        this(transactions, null);
+    }
 }
-
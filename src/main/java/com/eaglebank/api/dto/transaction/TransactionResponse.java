@@ -1,5 +1,7 @@
 package com.eaglebank.api.dto.transaction;
 
+import com.eaglebank.api.util.MoneyUtil;
+
 import java.math.BigDecimal;
 import java.time.Instant;
 
@@ -12,5 +14,11 @@ public record TransactionResponse(
         String userId,
         Instant createdTimestamp
 ) {
+    
+    // Used by JPQL constructor expressions, which select the stored minor-unit amount.
+    public TransactionResponse(String id, long amountMinor, String currency, String type, String reference,
+                               String userId, Instant createdTimestamp) {
+        this(id, MoneyUtil.fromMinorUnits(amountMinor), currency, type, reference, userId, createdTimestamp);
+    }
 }
 
@@ -0,0 +1,26 @@
+package com.eaglebank.api.dto.transaction;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Optional filters for listing an account's transactions. Amounts are inclusive, {@code from} is inclusive
+ * and {@code to} exclusive, and {@code reference} matches case-insensitively anywhere in the reference.
+ */
+public record TransactionSearchRequest(
+        String type,
+        BigDecimal minAmount,
+        BigDecimal maxAmount,
+        Instant from,
+        Instant to,
+        String reference,
+        Integer limit,
+        String cursor
+) {
+    
+    /** Whether no filter or paging parameter was given, in which case the full history is returned. */
+    public boolean isUnfiltered() {
+        return type == null && minAmount == null && maxAmount == null && from == null && to == null
+                && reference == null && limit == null && cursor == null;
+    }
+}
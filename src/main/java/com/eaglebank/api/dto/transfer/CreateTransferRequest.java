@@ -0,0 +1,18 @@
+package com.eaglebank.api.dto.transfer;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+
+import java.math.BigDecimal;
+
+public record CreateTransferRequest(
+        @NotBlank @Pattern(regexp = "^01\\d{6}$") String sourceAccountNumber,
+        @NotBlank @Pattern(regexp = "^01\\d{6}$") String destinationAccountNumber,
+        @NotNull @DecimalMin(value = "0.00") @DecimalMax(value = "10000.00") BigDecimal amount,
+        @NotBlank String currency,
+        String reference
+) {
+}
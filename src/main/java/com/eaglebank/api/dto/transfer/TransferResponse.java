@@ -0,0 +1,11 @@
+package com.eaglebank.api.dto.transfer;
+
+import com.eaglebank.api.dto.transaction.TransactionResponse;
+
+public record TransferResponse(
+        String sourceAccountNumber,
+        String destinationAccountNumber,
+        TransactionResponse debit,
+        TransactionResponse credit
+) {
+}
@@ -11,5 +11,21 @@ public record UserResponse(
         Instant createdTimestamp,
         Instant updatedTimestamp
 ) {
+    
+    // Used by JPQL constructor expressions, which select the embedded address columns individually.
+    public UserResponse(String id, String name, String line1, String line2, String line3, String town,
+                        String county, String postcode, String phoneNumber, String email,
+                        Instant createdTimestamp, Instant updatedTimestamp) {
+        this(id, name, toAddress(line1, line2, line3, town, county, postcode), phoneNumber, email,
+                createdTimestamp, updatedTimestamp);
+    }
+    
+    private static AddressDto toAddress(String line1, String line2, String line3, String town,
+                                        String county, String postcode) {
+        if (line1 == null && line2 == null && line3 == null && town == null && county == null && postcode == null) {
+            return null;
+        }
+        return new AddressDto(line1, line2, line3, town, county, postcode);
+    }
 }
 
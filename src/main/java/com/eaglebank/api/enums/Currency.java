@@ -1,7 +1,18 @@
 package com.eaglebank.api.enums;
 
 public enum Currency {
-    GBP("GBP");
+    GBP("GBP"),
+    EUR("EUR"),
+    USD("USD"),
+    CHF("CHF"),
+    CAD("CAD"),
+    AUD("AUD"),
+    NZD("NZD"),
+    SEK("SEK"),
+    NOK("NOK"),
+    DKK("DKK");
+    
+    private static final Currency[] VALUES = values();
     
     private final String code;
     
@@ -14,7 +25,7 @@ public enum Currency {
     }
     
     public static Currency fromString(String code) {
-        for (Currency currency : Currency.values()) {
+        for (Currency currency : VALUES) {
             if (currency.code.equalsIgnoreCase(code)) {
                 return currency;
             }
@@ -22,4 +33,3 @@ public enum Currency {
         return null;
     }
 }
-
@@ -0,0 +1,6 @@
+package com.eaglebank.api.enums;
+
+public enum RevocationType {
+    TOKEN,
+    USER
+}
@@ -1,14 +1,17 @@
 package com.eaglebank.api.exception;
 
+import com.eaglebank.api.deadline.DeadlineExceededException;
 import com.eaglebank.api.dto.common.BadRequestErrorResponse;
 import com.eaglebank.api.dto.common.ErrorResponse;
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
@@ -17,6 +20,12 @@ import java.util.stream.Collectors;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
     
+    private static final ErrorResponse CONCURRENT_MODIFICATION_RESPONSE =
+            new ErrorResponse("Concurrent modification detected. Please retry your request.");
+    private static final ErrorResponse DEADLINE_EXCEEDED_RESPONSE =
+            new ErrorResponse("The request did not complete within its deadline");
+    private static final ErrorResponse UNEXPECTED_ERROR_RESPONSE = new ErrorResponse("An unexpected error occurred");
+    
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<BadRequestErrorResponse> handleValidationExceptions(MethodArgumentNotValidException ex) {
         List<BadRequestErrorResponse.ValidationErrorDetail> details = ex.getBindingResult()
@@ -41,6 +50,19 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
     
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<BadRequestErrorResponse> handleTypeMismatch(MethodArgumentTypeMismatchException ex) {
+        BadRequestErrorResponse response = new BadRequestErrorResponse(
+                "Invalid details supplied",
+                List.of(new BadRequestErrorResponse.ValidationErrorDetail(
+                        ex.getName(),
+                        "Invalid value",
+                        "validation_error"
+                ))
+        );
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+    
     @ExceptionHandler(ResponseStatusException.class)
     public ResponseEntity<ErrorResponse> handleResponseStatusException(ResponseStatusException ex) {
         ErrorResponse response = new ErrorResponse(ex.getReason());
@@ -49,8 +71,12 @@ public class GlobalExceptionHandler {
     
     @ExceptionHandler(OptimisticLockingFailureException.class)
     public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
-        ErrorResponse response = new ErrorResponse("Concurrent modification detected. Please retry your request.");
-        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(CONCURRENT_MODIFICATION_RESPONSE);
+    }
+    
+    @ExceptionHandler({DeadlineExceededException.class, QueryTimeoutException.class})
+    public ResponseEntity<ErrorResponse> handleDeadlineExceeded(RuntimeException ex) {
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(DEADLINE_EXCEEDED_RESPONSE);
     }
     
     @ExceptionHandler(IllegalArgumentException.class)
@@ -68,8 +94,7 @@ public class GlobalExceptionHandler {
     
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
-        ErrorResponse response = new ErrorResponse("An unexpected error occurred");
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(UNEXPECTED_ERROR_RESPONSE);
     }
 }
 
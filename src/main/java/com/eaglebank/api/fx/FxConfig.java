@@ -0,0 +1,25 @@
+package com.eaglebank.api.fx;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+
+@Configuration
+@EnableConfigurationProperties(FxProperties.class)
+public class FxConfig {
+    
+    @Bean
+    public FxRateProvider fxRateProvider(FxProperties properties, ObjectMapper objectMapper) throws IOException {
+        FxRateProvider fxRateProvider = new FxRateProvider(objectMapper, properties.ratesFile());
+        fxRateProvider.reload();
+        return fxRateProvider;
+    }
+    
+    @Bean
+    public FxRatesEndpoint fxRatesEndpoint(FxRateProvider fxRateProvider) {
+        return new FxRatesEndpoint(fxRateProvider);
+    }
+}
@@ -0,0 +1,11 @@
+package com.eaglebank.api.fx;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+
+@ConfigurationProperties(prefix = "fx")
+public record FxProperties(
+        Path ratesFile
+) {
+}
@@ -0,0 +1,55 @@
+package com.eaglebank.api.fx;
+
+import com.eaglebank.api.enums.Currency;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the current {@link FxRateTable}. Readers take whatever snapshot is current without locking; updates
+ * build a complete new table and publish it with a single reference swap, so a conversion never sees a
+ * half-applied update.
+ */
+public class FxRateProvider {
+    
+    private static final Logger log = LoggerFactory.getLogger(FxRateProvider.class);
+    
+    private final AtomicReference<FxRateTable> current = new AtomicReference<>(FxRateTable.identity());
+    private final ObjectMapper objectMapper;
+    private final Path ratesFile;
+    
+    public FxRateProvider(ObjectMapper objectMapper, Path ratesFile) {
+        this.objectMapper = objectMapper;
+        this.ratesFile = ratesFile;
+    }
+    
+    public FxRateTable current() {
+        return current.get();
+    }
+    
+    /** See {@link FxRateTable#convertMinor(long, Currency, Currency)}. */
+    public long convertMinor(long amountMinor, Currency from, Currency to) {
+        return current.get().convertMinor(amountMinor, from, to);
+    }
+    
+    public FxRateTable replace(FxRateTable table) {
+        current.set(table);
+        log.info("Installed FX rate table based on {} as of {} with {} currencies",
+                table.base(), table.asOf(), table.baseRates().size());
+        return table;
+    }
+    
+    /** Reloads the configured rates file; a missing file leaves the current table in place. */
+    public FxRateTable reload() throws IOException {
+        if (ratesFile == null || !Files.exists(ratesFile)) {
+            log.info("No FX rates file configured or found, keeping current rate table");
+            return current();
+        }
+        return replace(objectMapper.readValue(ratesFile.toFile(), FxRatesDocument.class).toTable());
+    }
+}
@@ -0,0 +1,109 @@
+package com.eaglebank.api.fx;
+
+import com.eaglebank.api.enums.Currency;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of exchange rates. Every cross rate is resolved once when the table is built and stored
+ * as a fixed-point {@code long} with {@link #RATE_SCALE}, so converting an amount in minor units is a single
+ * array read, multiply and divide with no allocation. A rate of zero marks a pair with no quote.
+ */
+public final class FxRateTable {
+    
+    public static final int RATE_DECIMALS = 8;
+    public static final long RATE_SCALE = 100_000_000L;
+    
+    private static final Currency[] CURRENCIES = Currency.values();
+    
+    private final Currency base;
+    private final Instant asOf;
+    private final Map<Currency, BigDecimal> baseRates;
+    private final long[] crossRates;
+    
+    private FxRateTable(Currency base, Instant asOf, Map<Currency, BigDecimal> baseRates, long[] crossRates) {
+        this.base = base;
+        this.asOf = asOf;
+        this.baseRates = baseRates;
+        this.crossRates = crossRates;
+    }
+    
+    /** A table that only knows that every currency converts to itself. */
+    public static FxRateTable identity() {
+        return fromBaseRates(Currency.GBP, Map.of(), Instant.EPOCH);
+    }
+    
+    /**
+     * Builds a table from quotes of how many units of each currency one unit of {@code base} buys.
+     */
+    public static FxRateTable fromBaseRates(Currency base, Map<Currency, BigDecimal> unitsPerBase, Instant asOf) {
+        EnumMap<Currency, BigDecimal> quotes = new EnumMap<>(Currency.class);
+        quotes.putAll(unitsPerBase);
+        quotes.put(base, BigDecimal.ONE);
+        quotes.forEach((currency, rate) -> {
+            if (rate == null || rate.signum() <= 0) {
+                throw new IllegalArgumentException("Rate for " + currency + " must be positive");
+            }
+        });
+        
+        long[] crossRates = new long[CURRENCIES.length * CURRENCIES.length];
+        for (Map.Entry<Currency, BigDecimal> from : quotes.entrySet()) {
+            for (Map.Entry<Currency, BigDecimal> to : quotes.entrySet()) {
+                long rate = to.getValue()
+                        .divide(from.getValue(), RATE_DECIMALS, RoundingMode.HALF_EVEN)
+                        .unscaledValue()
+                        .longValueExact();
+                if (rate == 0) {
+                    throw new IllegalArgumentException(
+                            "Rate from " + from.getKey() + " to " + to.getKey() + " is too small to represent");
+                }
+                crossRates[index(from.getKey(), to.getKey())] = rate;
+            }
+        }
+        for (Currency currency : CURRENCIES) {
+            crossRates[index(currency, currency)] = RATE_SCALE;
+        }
+        return new FxRateTable(base, asOf, Collections.unmodifiableMap(quotes), crossRates);
+    }
+    
+    /**
+     * Converts a non-negative amount in minor units, rounding half up. Returns {@code -1} if there is no rate
+     * for the pair.
+     */
+    public long convertMinor(long amountMinor, Currency from, Currency to) {
+        if (from == to) {
+            return amountMinor;
+        }
+        long rate = crossRates[index(from, to)];
+        if (rate == 0) {
+            return -1;
+        }
+        return Math.addExact(Math.multiplyExact(amountMinor, rate), RATE_SCALE / 2) / RATE_SCALE;
+    }
+    
+    /** Fixed-point rate for the pair scaled by {@link #RATE_SCALE}, or zero if there is none. */
+    public long rate(Currency from, Currency to) {
+        return crossRates[index(from, to)];
+    }
+    
+    public Currency base() {
+        return base;
+    }
+    
+    public Instant asOf() {
+        return asOf;
+    }
+    
+    public Map<Currency, BigDecimal> baseRates() {
+        return baseRates;
+    }
+    
+    private static int index(Currency from, Currency to) {
+        return from.ordinal() * CURRENCIES.length + to.ordinal();
+    }
+}
@@ -0,0 +1,43 @@
+package com.eaglebank.api.fx;
+
+import com.eaglebank.api.enums.Currency;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * External form of a rate table, shared by the rates file and the admin endpoint. {@code rates} holds how
+ * many units of each currency one unit of {@code base} buys.
+ */
+public record FxRatesDocument(
+        String base,
+        Instant asOf,
+        Map<String, BigDecimal> rates
+) {
+    
+    public FxRateTable toTable() {
+        Currency baseCurrency = parseCurrency(base);
+        EnumMap<Currency, BigDecimal> quotes = new EnumMap<>(Currency.class);
+        if (rates != null) {
+            rates.forEach((code, rate) -> quotes.put(parseCurrency(code), rate));
+        }
+        return FxRateTable.fromBaseRates(baseCurrency, quotes, asOf == null ? Instant.now() : asOf);
+    }
+    
+    public static FxRatesDocument from(FxRateTable table) {
+        Map<String, BigDecimal> rates = new LinkedHashMap<>();
+        table.baseRates().forEach((currency, rate) -> rates.put(currency.getCode(), rate));
+        return new FxRatesDocument(table.base().getCode(), table.asOf(), rates);
+    }
+    
+    private static Currency parseCurrency(String code) {
+        Currency currency = Currency.fromString(code);
+        if (currency == null) {
+            throw new IllegalArgumentException("Unsupported currency " + code);
+        }
+        return currency;
+    }
+}
@@ -0,0 +1,45 @@
+package com.eaglebank.api.fx;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Admin view of the FX rate table. Not exposed over HTTP unless {@code fxrates} is added to
+ * {@code management.endpoints.web.exposure.include}, which should go with a separate management port.
+ * Posting without {@code rates} reloads the rates file.
+ */
+@Endpoint(id = "fxrates")
+public class FxRatesEndpoint {
+    
+    private final FxRateProvider fxRateProvider;
+    
+    public FxRatesEndpoint(FxRateProvider fxRateProvider) {
+        this.fxRateProvider = fxRateProvider;
+    }
+    
+    @ReadOperation
+    public FxRatesDocument rates() {
+        return FxRatesDocument.from(fxRateProvider.current());
+    }
+    
+    @WriteOperation
+    public FxRatesDocument update(@Nullable String base, @Nullable String asOf,
+                                  @Nullable Map<String, Object> rates) throws IOException {
+        if (rates == null) {
+            return FxRatesDocument.from(fxRateProvider.reload());
+        }
+        Map<String, BigDecimal> quotes = new LinkedHashMap<>();
+        rates.forEach((code, rate) -> quotes.put(code, new BigDecimal(rate.toString())));
+        FxRatesDocument document = new FxRatesDocument(base == null ? "GBP" : base,
+                asOf == null ? null : Instant.parse(asOf), quotes);
+        return FxRatesDocument.from(fxRateProvider.replace(document.toTable()));
+    }
+}
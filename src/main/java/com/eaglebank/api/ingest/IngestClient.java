@@ -0,0 +1,140 @@
+package com.eaglebank.api.ingest;
+
+import com.eaglebank.api.enums.TransactionType;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Blocking client for the binary ingestion protocol, for internal processors running on the JVM. Works over
+ * any pair of streams, usually a socket's. Not thread-safe; use one client per connection.
+ */
+public class IngestClient {
+    
+    private final DataInputStream in;
+    private final DataOutputStream out;
+    private final int maxFrameBytes;
+    
+    public IngestClient(InputStream input, OutputStream output, int maxFrameBytes) {
+        this.in = new DataInputStream(new BufferedInputStream(input));
+        this.out = new DataOutputStream(new BufferedOutputStream(output));
+        this.maxFrameBytes = maxFrameBytes;
+    }
+    
+    public String authenticate(String token) throws IOException {
+        send(IngestProtocol.AUTH, IngestProtocol.payload(p -> p.writeUTF(token)));
+        return expect(IngestProtocol.AUTH_OK).readUTF();
+    }
+    
+    public CreatedTransaction createTransaction(String accountNumber, long amountMinor, String currency,
+                                                TransactionType type, String reference) throws IOException {
+        send(IngestProtocol.CREATE_TRANSACTION, item(accountNumber, amountMinor, currency, type, reference));
+        DataInputStream payload = expect(IngestProtocol.TRANSACTION_CREATED);
+        return new CreatedTransaction(payload.readUTF(), payload.readLong(), payload.readUTF(),
+                TransactionType.values()[payload.readUnsignedByte()], Instant.ofEpochMilli(payload.readLong()));
+    }
+    
+    public Balance getBalance(String accountNumber) throws IOException {
+        send(IngestProtocol.GET_BALANCE, IngestProtocol.payload(p -> p.writeUTF(accountNumber)));
+        DataInputStream payload = expect(IngestProtocol.BALANCE);
+        return new Balance(payload.readUTF(), payload.readLong(), payload.readUTF());
+    }
+    
+    /** Starts a client-streamed batch; nothing is read back until {@link Batch#finish()}. */
+    public Batch beginBatch() throws IOException {
+        send(IngestProtocol.BATCH_BEGIN, new byte[0]);
+        return new Batch();
+    }
+    
+    public class Batch {
+        
+        private Batch() {
+        }
+        
+        public void add(String accountNumber, long amountMinor, String currency, TransactionType type,
+                        String reference) throws IOException {
+            IngestProtocol.writeFrame(out, IngestProtocol.BATCH_ITEM,
+                    item(accountNumber, amountMinor, currency, type, reference));
+        }
+        
+        public BatchResult finish() throws IOException {
+            send(IngestProtocol.BATCH_END, new byte[0]);
+            DataInputStream payload = expect(IngestProtocol.BATCH_RESULT);
+            int accepted = payload.readInt();
+            int count = payload.readInt();
+            List<ItemResult> items = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                items.add(new ItemResult(payload.readUnsignedShort(), payload.readUTF()));
+            }
+            return new BatchResult(accepted, items);
+        }
+    }
+    
+    private static byte[] item(String accountNumber, long amountMinor, String currency, TransactionType type,
+                               String reference) throws IOException {
+        return IngestProtocol.payload(p -> {
+            p.writeUTF(accountNumber);
+            p.writeLong(amountMinor);
+            p.writeUTF(currency);
+            p.writeByte(type.ordinal());
+            IngestProtocol.writeOptionalUtf(p, reference);
+        });
+    }
+    
+    private void send(byte type, byte[] payload) throws IOException {
+        IngestProtocol.writeFrame(out, type, payload);
+        out.flush();
+    }
+    
+    private DataInputStream expect(byte type) throws IOException {
+        IngestProtocol.Frame frame = IngestProtocol.readFrame(in, maxFrameBytes);
+        if (frame == null) {
+            throw new IOException("Connection closed by server");
+        }
+        if (frame.type() == IngestProtocol.ERROR) {
+            DataInputStream payload = frame.payloadStream();
+            throw new IngestException(payload.readUnsignedShort(), payload.readUTF());
+        }
+        if (frame.type() != type) {
+            throw new IOException("Expected frame type " + type + " but received " + frame.type());
+        }
+        return frame.payloadStream();
+    }
+    
+    public record CreatedTransaction(String id, long amountMinor, String currency, TransactionType type,
+                                     Instant createdTimestamp) {
+    }
+    
+    public record Balance(String accountNumber, long balanceMinor, String currency) {
+    }
+    
+    /** Outcome of one batch item: status 201 with the transaction ID, or an error status with its message. */
+    public record ItemResult(int status, String detail) {
+    }
+    
+    public record BatchResult(int accepted, List<ItemResult> items) {
+    }
+    
+    /** An error reported by the server, carrying the HTTP status the REST API would have returned. */
+    public static class IngestException extends IOException {
+        
+        private final int status;
+        
+        public IngestException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+        
+        public int getStatus() {
+            return status;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.eaglebank.api.ingest;
+
+import com.eaglebank.api.cluster.ClusterTransactionRouter;
+import com.eaglebank.api.security.TokenRevocationCache;
+import com.eaglebank.api.service.AccountService;
+import com.eaglebank.api.service.JwtService;
+import com.eaglebank.api.service.TransactionService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "ingest", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(IngestProperties.class)
+public class IngestConfig {
+    
+    @Bean
+    public IngestServer ingestServer(IngestProperties properties,
+                                     TransactionService transactionService,
+                                     AccountService accountService,
+                                     ObjectProvider<ClusterTransactionRouter> clusterRouter,
+                                     JwtService jwtService,
+                                     TokenRevocationCache tokenRevocationCache) {
+        ClusterTransactionRouter router = clusterRouter.getIfAvailable();
+        int maxFrameBytes = Math.toIntExact(properties.maxFrameSize().toBytes());
+        int idleTimeoutMillis = Math.toIntExact(properties.idleTimeout().toMillis());
+        return new IngestServer(properties.bindAddress(), properties.port(), idleTimeoutMillis,
+                () -> new IngestSession(transactionService, accountService, router, jwtService,
+                        tokenRevocationCache, maxFrameBytes, properties.maxBatchItems()));
+    }
+}
@@ -0,0 +1,18 @@
+package com.eaglebank.api.ingest;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "ingest")
+public record IngestProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("0.0.0.0") String bindAddress,
+        @DefaultValue("9090") int port,
+        @DefaultValue("64KB") DataSize maxFrameSize,
+        @DefaultValue("10000") int maxBatchItems,
+        @DefaultValue("5m") Duration idleTimeout
+) {
+}
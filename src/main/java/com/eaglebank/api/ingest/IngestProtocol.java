@@ -0,0 +1,94 @@
+package com.eaglebank.api.ingest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+
+/**
+ * Wire format of the binary ingestion protocol. Every frame is a big-endian {@code int} length, a one-byte
+ * frame type and {@code length - 1} payload bytes. Strings are written with {@link DataOutputStream#writeUTF},
+ * amounts as {@code long} minor units and transaction types as the {@code TransactionType} ordinal, so the
+ * server never parses decimals or JSON.
+ * <p>
+ * A session starts with {@link #AUTH} carrying a bearer token. {@link #CREATE_TRANSACTION} and
+ * {@link #GET_BALANCE} are answered one-for-one. A bulk submission is client-streamed:
+ * {@link #BATCH_BEGIN}, any number of {@link #BATCH_ITEM} frames with no reply, then {@link #BATCH_END},
+ * answered by one {@link #BATCH_RESULT} with an outcome per item.
+ */
+public final class IngestProtocol {
+    
+    private IngestProtocol() {
+    }
+    
+    // Requests
+    public static final byte AUTH = 0x01;
+    public static final byte CREATE_TRANSACTION = 0x02;
+    public static final byte GET_BALANCE = 0x03;
+    public static final byte BATCH_BEGIN = 0x04;
+    public static final byte BATCH_ITEM = 0x05;
+    public static final byte BATCH_END = 0x06;
+    
+    // Responses
+    public static final byte AUTH_OK = 0x41;
+    public static final byte TRANSACTION_CREATED = 0x42;
+    public static final byte BALANCE = 0x43;
+    public static final byte BATCH_RESULT = 0x44;
+    public static final byte ERROR = 0x7F;
+    
+    public record Frame(byte type, byte[] payload) {
+        
+        public DataInputStream payloadStream() {
+            return new DataInputStream(new ByteArrayInputStream(payload));
+        }
+    }
+    
+    /** Reads the next frame, or returns {@code null} if the stream ended cleanly between frames. */
+    public static Frame readFrame(DataInputStream in, int maxFrameBytes) throws IOException {
+        int length;
+        try {
+            length = in.readInt();
+        } catch (EOFException e) {
+            return null;
+        }
+        if (length < 1 || length > maxFrameBytes) {
+            throw new IOException("Frame length " + length + " outside 1.." + maxFrameBytes);
+        }
+        byte type = in.readByte();
+        byte[] payload = new byte[length - 1];
+        in.readFully(payload);
+        return new Frame(type, payload);
+    }
+    
+    public static void writeFrame(DataOutputStream out, byte type, byte[] payload) throws IOException {
+        out.writeInt(payload.length + 1);
+        out.writeByte(type);
+        out.write(payload);
+    }
+    
+    @FunctionalInterface
+    public interface PayloadWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+    
+    public static byte[] payload(PayloadWriter writer) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        DataOutputStream out = new DataOutputStream(bytes);
+        writer.write(out);
+        out.flush();
+        return bytes.toByteArray();
+    }
+    
+    public static void writeOptionalUtf(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+    
+    public static String readOptionalUtf(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -0,0 +1,117 @@
+package com.eaglebank.api.ingest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * TCP listener for the binary ingestion protocol. Each connection is served by its own virtual thread with
+ * a fresh {@link IngestSession}, so a client that blocks on a slow account write holds no platform thread.
+ * A connection that sends nothing for the idle timeout is closed, so idle clients cannot hold sockets open
+ * indefinitely.
+ */
+public class IngestServer implements SmartLifecycle {
+    
+    private static final Logger log = LoggerFactory.getLogger(IngestServer.class);
+    
+    private final String bindAddress;
+    private final int port;
+    private final int idleTimeoutMillis;
+    private final Supplier<IngestSession> sessions;
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+    private ServerSocket serverSocket;
+    private ExecutorService executor;
+    private volatile boolean running;
+    
+    public IngestServer(String bindAddress, int port, int idleTimeoutMillis, Supplier<IngestSession> sessions) {
+        this.bindAddress = bindAddress;
+        this.port = port;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.sessions = sessions;
+    }
+    
+    @Override
+    public synchronized void start() {
+        try {
+            serverSocket = new ServerSocket(port, 128, InetAddress.getByName(bindAddress));
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not bind ingestion listener to " + bindAddress + ":" + port, e);
+        }
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        running = true;
+        Thread acceptor = new Thread(this::acceptLoop, "ingest-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        log.info("Binary ingestion listener started on {}:{}", bindAddress, getPort());
+    }
+    
+    @Override
+    public synchronized void stop() {
+        running = false;
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            log.debug("Error closing ingestion listener", e);
+        }
+        connections.forEach(IngestServer::closeQuietly);
+        executor.shutdown();
+    }
+    
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+    
+    public int getPort() {
+        return serverSocket != null ? serverSocket.getLocalPort() : port;
+    }
+    
+    private void acceptLoop() {
+        while (running) {
+            Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (SocketException e) {
+                return;
+            } catch (IOException e) {
+                log.warn("Failed to accept ingestion connection", e);
+                continue;
+            }
+            connections.add(socket);
+            executor.submit(() -> serve(socket));
+        }
+    }
+    
+    private void serve(Socket socket) {
+        try (socket) {
+            socket.setTcpNoDelay(true);
+            socket.setSoTimeout(idleTimeoutMillis);
+            sessions.get().serve(socket.getInputStream(), socket.getOutputStream());
+        } catch (IOException e) {
+            log.debug("Ingestion connection from {} ended: {}", socket.getRemoteSocketAddress(), e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("Ingestion connection from {} failed", socket.getRemoteSocketAddress(), e);
+        } finally {
+            connections.remove(socket);
+        }
+    }
+    
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+            // Already closing.
+        }
+    }
+}
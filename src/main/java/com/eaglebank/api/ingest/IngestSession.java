@@ -0,0 +1,300 @@
+package com.eaglebank.api.ingest;
+
+import com.eaglebank.api.cluster.ClusterTransactionRouter;
+import com.eaglebank.api.constants.ApplicationConstants;
+import com.eaglebank.api.deadline.DeadlineExceededException;
+import com.eaglebank.api.dto.account.BankAccountResponse;
+import com.eaglebank.api.dto.transaction.CreateTransactionRequest;
+import com.eaglebank.api.dto.transaction.TransactionResponse;
+import com.eaglebank.api.enums.TransactionType;
+import com.eaglebank.api.security.TokenRevocationCache;
+import com.eaglebank.api.service.AccountService;
+import com.eaglebank.api.service.JwtService;
+import com.eaglebank.api.service.TransactionService;
+import com.eaglebank.api.util.MoneyUtil;
+import io.jsonwebtoken.Claims;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Serves one ingestion connection: authenticates it, then applies each request through the same
+ * {@link TransactionService} and {@link AccountService} calls the REST controllers make, or through the
+ * cluster router in cluster mode. Failed requests are returned as {@link IngestProtocol#ERROR} frames, or as
+ * batch item outcomes, carrying the status and message {@code GlobalExceptionHandler} would have answered the
+ * REST call with; malformed frames end the session. The token is checked again before every request, so a
+ * session ends once its token expires or is revoked, just as the same token would stop working over REST.
+ */
+public class IngestSession {
+    
+    private static final Logger log = LoggerFactory.getLogger(IngestSession.class);
+    
+    private static final Pattern ACCOUNT_NUMBER = Pattern.compile("^01\\d{6}$");
+    private static final TransactionType[] TRANSACTION_TYPES = TransactionType.values();
+    
+    private static final String CONCURRENT_MODIFICATION_MESSAGE =
+            "Concurrent modification detected. Please retry your request.";
+    private static final String DEADLINE_EXCEEDED_MESSAGE = "The request did not complete within its deadline";
+    private static final String UNEXPECTED_ERROR_MESSAGE = "An unexpected error occurred";
+    
+    private final TransactionService transactionService;
+    private final AccountService accountService;
+    private final ClusterTransactionRouter clusterRouter;
+    private final JwtService jwtService;
+    private final TokenRevocationCache tokenRevocationCache;
+    private final int maxFrameBytes;
+    private final int maxBatchItems;
+    
+    private String userId;
+    private String authorization;
+    private String tokenId;
+    private Instant issuedAt;
+    private Instant expiresAt;
+    
+    public IngestSession(TransactionService transactionService, AccountService accountService,
+                         ClusterTransactionRouter clusterRouter, JwtService jwtService,
+                         TokenRevocationCache tokenRevocationCache, int maxFrameBytes, int maxBatchItems) {
+        this.transactionService = transactionService;
+        this.accountService = accountService;
+        this.clusterRouter = clusterRouter;
+        this.jwtService = jwtService;
+        this.tokenRevocationCache = tokenRevocationCache;
+        this.maxFrameBytes = maxFrameBytes;
+        this.maxBatchItems = maxBatchItems;
+    }
+    
+    /** Processes frames until the client closes the stream or sends something the protocol does not allow. */
+    public void serve(InputStream input, OutputStream output) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(input));
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(output));
+        IngestProtocol.Frame frame;
+        while ((frame = IngestProtocol.readFrame(in, maxFrameBytes)) != null) {
+            if (!handle(frame, in, out)) {
+                out.flush();
+                return;
+            }
+            out.flush();
+        }
+    }
+    
+    private boolean handle(IngestProtocol.Frame frame, DataInputStream in, DataOutputStream out) throws IOException {
+        if (frame.type() == IngestProtocol.AUTH) {
+            return authenticate(frame, out);
+        }
+        if (userId == null) {
+            writeError(out, HttpStatus.UNAUTHORIZED, "Authentication required");
+            return false;
+        }
+        if (!tokenStillValid(out)) {
+            return false;
+        }
+        switch (frame.type()) {
+            case IngestProtocol.CREATE_TRANSACTION -> {
+                try {
+                    writeTransaction(out, create(frame.payloadStream()));
+                } catch (RuntimeException e) {
+                    writeError(out, ItemOutcome.failed(e));
+                }
+            }
+            case IngestProtocol.GET_BALANCE -> {
+                try {
+                    writeBalance(out, balance(frame.payloadStream()));
+                } catch (RuntimeException e) {
+                    writeError(out, ItemOutcome.failed(e));
+                }
+            }
+            case IngestProtocol.BATCH_BEGIN -> {
+                return batch(in, out);
+            }
+            default -> {
+                writeError(out, HttpStatus.BAD_REQUEST, "Unexpected frame type " + frame.type());
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean authenticate(IngestProtocol.Frame frame, DataOutputStream out) throws IOException {
+        String token = frame.payloadStream().readUTF();
+        Claims claims = jwtService.parseClaims(token);
+        if (claims == null || tokenRevocationCache.isRevoked(claims.getId(), claims.getSubject(),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null)) {
+            writeError(out, HttpStatus.UNAUTHORIZED, "Invalid or revoked token");
+            return false;
+        }
+        userId = claims.getSubject();
+        authorization = "Bearer " + token;
+        tokenId = claims.getId();
+        issuedAt = claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null;
+        expiresAt = claims.getExpiration() != null ? claims.getExpiration().toInstant() : null;
+        IngestProtocol.writeFrame(out, IngestProtocol.AUTH_OK, IngestProtocol.payload(p -> p.writeUTF(userId)));
+        return true;
+    }
+    
+    // Repeats the expiry and revocation checks JwtAuthenticationFilter makes on every REST request; the
+    // revocation cache answers from memory, so this costs no round trip per request.
+    private boolean tokenStillValid(DataOutputStream out) throws IOException {
+        if ((expiresAt != null && !Instant.now().isBefore(expiresAt))
+                || tokenRevocationCache.isRevoked(tokenId, userId, issuedAt)) {
+            writeError(out, HttpStatus.UNAUTHORIZED, "Invalid or revoked token");
+            return false;
+        }
+        return true;
+    }
+    
+    // Items are applied as they arrive so a large batch never has to be held in memory; the outcomes are
+    // reported together once the client ends the stream. Every item failure becomes an outcome, since the items
+    // before it are already committed and the client must learn which ones to retry.
+    private boolean batch(DataInputStream in, DataOutputStream out) throws IOException {
+        List<ItemOutcome> outcomes = new ArrayList<>();
+        int accepted = 0;
+        while (true) {
+            IngestProtocol.Frame frame = IngestProtocol.readFrame(in, maxFrameBytes);
+            if (frame == null) {
+                log.debug("Ingestion client closed the stream during a batch of {} items", outcomes.size());
+                return false;
+            }
+            if (frame.type() == IngestProtocol.BATCH_END) {
+                break;
+            }
+            if (frame.type() != IngestProtocol.BATCH_ITEM) {
+                writeError(out, HttpStatus.BAD_REQUEST, "Expected a batch item or batch end");
+                return false;
+            }
+            if (outcomes.size() == maxBatchItems) {
+                writeError(out, HttpStatus.PAYLOAD_TOO_LARGE, "Batch exceeds " + maxBatchItems + " items");
+                return false;
+            }
+            if (!tokenStillValid(out)) {
+                return false;
+            }
+            try {
+                outcomes.add(ItemOutcome.created(create(frame.payloadStream()).id()));
+                accepted++;
+            } catch (RuntimeException e) {
+                outcomes.add(ItemOutcome.failed(e));
+            }
+        }
+        int acceptedCount = accepted;
+        IngestProtocol.writeFrame(out, IngestProtocol.BATCH_RESULT, IngestProtocol.payload(p -> {
+            p.writeInt(acceptedCount);
+            p.writeInt(outcomes.size());
+            for (ItemOutcome outcome : outcomes) {
+                p.writeShort(outcome.status());
+                p.writeUTF(outcome.detail());
+            }
+        }));
+        return true;
+    }
+    
+    private TransactionResponse create(DataInputStream payload) throws IOException {
+        String accountNumber = payload.readUTF();
+        long amountMinor = payload.readLong();
+        String currency = payload.readUTF();
+        int type = payload.readUnsignedByte();
+        String reference = IngestProtocol.readOptionalUtf(payload);
+        
+        requireAccountNumber(accountNumber);
+        if (amountMinor < 0 || amountMinor > ApplicationConstants.MAX_TRANSACTION_AMOUNT_MINOR) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Amount outside the allowed range");
+        }
+        if (type >= TRANSACTION_TYPES.length) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid transaction type");
+        }
+        CreateTransactionRequest request = new CreateTransactionRequest(MoneyUtil.fromMinorUnits(amountMinor),
+                currency, TRANSACTION_TYPES[type].getValue(), reference);
+        if (clusterRouter != null) {
+            return clusterRouter.createTransaction(accountNumber, request, userId, authorization);
+        }
+        return transactionService.createTransaction(accountNumber, request, userId);
+    }
+    
+    private BankAccountResponse balance(DataInputStream payload) throws IOException {
+        String accountNumber = payload.readUTF();
+        requireAccountNumber(accountNumber);
+        return accountService.getAccountByAccountNumber(accountNumber, userId);
+    }
+    
+    private static void requireAccountNumber(String accountNumber) {
+        if (!ACCOUNT_NUMBER.matcher(accountNumber).matches()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid account number");
+        }
+    }
+    
+    private static void writeTransaction(DataOutputStream out, TransactionResponse transaction) throws IOException {
+        IngestProtocol.writeFrame(out, IngestProtocol.TRANSACTION_CREATED, IngestProtocol.payload(p -> {
+            p.writeUTF(transaction.id());
+            p.writeLong(MoneyUtil.toMinorUnits(transaction.amount()));
+            p.writeUTF(transaction.currency());
+            p.writeByte(TransactionType.fromString(transaction.type()).ordinal());
+            p.writeLong(transaction.createdTimestamp() != null ? transaction.createdTimestamp().toEpochMilli() : 0L);
+        }));
+    }
+    
+    private static void writeBalance(DataOutputStream out, BankAccountResponse account) throws IOException {
+        IngestProtocol.writeFrame(out, IngestProtocol.BALANCE, IngestProtocol.payload(p -> {
+            p.writeUTF(account.accountNumber());
+            p.writeLong(MoneyUtil.toMinorUnits(account.balance()));
+            p.writeUTF(account.currency());
+        }));
+    }
+    
+    private static void writeError(DataOutputStream out, ItemOutcome outcome) throws IOException {
+        writeError(out, outcome.status(), outcome.detail());
+    }
+    
+    private static void writeError(DataOutputStream out, HttpStatus status, String message) throws IOException {
+        writeError(out, status.value(), message);
+    }
+    
+    private static void writeError(DataOutputStream out, int status, String message) throws IOException {
+        IngestProtocol.writeFrame(out, IngestProtocol.ERROR, IngestProtocol.payload(p -> {
+            p.writeShort(status);
+            p.writeUTF(message != null ? message : "");
+        }));
+    }
+    
+    private record ItemOutcome(int status, String detail) {
+        
+        static ItemOutcome created(String transactionId) {
+            return new ItemOutcome(HttpStatus.CREATED.value(), transactionId);
+        }
+        
+        static ItemOutcome failed(int status, String message) {
+            return new ItemOutcome(status, message != null ? message : "");
+        }
+        
+        // Same statuses and messages as GlobalExceptionHandler.
+        static ItemOutcome failed(RuntimeException e) {
+            if (e instanceof ResponseStatusException statusException) {
+                return failed(statusException.getStatusCode().value(), statusException.getReason());
+            }
+            if (e instanceof OptimisticLockingFailureException) {
+                return failed(HttpStatus.CONFLICT.value(), CONCURRENT_MODIFICATION_MESSAGE);
+            }
+            if (e instanceof DeadlineExceededException || e instanceof QueryTimeoutException) {
+                return failed(HttpStatus.GATEWAY_TIMEOUT.value(), DEADLINE_EXCEEDED_MESSAGE);
+            }
+            if (e instanceof IllegalArgumentException) {
+                return failed(HttpStatus.BAD_REQUEST.value(), e.getMessage());
+            }
+            log.error("Unexpected failure serving an ingestion request", e);
+            return failed(HttpStatus.INTERNAL_SERVER_ERROR.value(), UNEXPECTED_ERROR_MESSAGE);
+        }
+    }
+}
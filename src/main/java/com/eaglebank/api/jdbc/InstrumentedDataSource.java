@@ -0,0 +1,284 @@
+package com.eaglebank.api.jdbc;
+
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+/**
+ * The one data source wrapper in the application: runs the registered {@link JdbcHook}s around every
+ * connection checkout and statement execution, so SQL statistics, pool monitoring, deadlines and tracing
+ * share a single layer of JDBC proxies instead of stacking one each.
+ * <p>
+ * Connections are {@link ConnectionProxy} instances. Every proxy compares by identity, answers
+ * {@code unwrap} and {@code isWrapperFor} for its own interfaces before asking the target, and hands out
+ * the proxy rather than the target from {@code getConnection} and {@code getStatement}. Result sets are
+ * only proxied while a hook counts rows.
+ */
+public class InstrumentedDataSource extends DelegatingDataSource {
+    
+    private final JdbcHook[] hooks;
+    
+    public InstrumentedDataSource(DataSource targetDataSource, List<? extends JdbcHook> hooks) {
+        super(targetDataSource);
+        this.hooks = hooks.toArray(JdbcHook[]::new);
+    }
+    
+    @Override
+    public Connection getConnection() throws SQLException {
+        return checkout(super::getConnection);
+    }
+    
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return checkout(() -> super.getConnection(username, password));
+    }
+    
+    private Connection checkout(ConnectionSource source) throws SQLException {
+        for (JdbcHook hook : hooks) {
+            hook.beforeCheckout();
+        }
+        long start = System.nanoTime();
+        Connection connection;
+        try {
+            connection = source.get();
+        } catch (SQLException e) {
+            long waited = System.nanoTime() - start;
+            for (JdbcHook hook : hooks) {
+                hook.checkoutFailed(waited, e);
+            }
+            throw e;
+        }
+        long acquired = System.nanoTime();
+        LongConsumer[] releaseListeners = new LongConsumer[hooks.length];
+        for (int i = 0; i < hooks.length; i++) {
+            releaseListeners[i] = hooks[i].afterCheckout(acquired - start);
+        }
+        return proxy(ConnectionProxy.class, new ConnectionHandler(connection, releaseListeners, acquired));
+    }
+    
+    private LongConsumer rowCounter() {
+        LongConsumer counter = null;
+        for (JdbcHook hook : hooks) {
+            LongConsumer hookCounter = hook.rowCounter();
+            if (hookCounter != null) {
+                counter = counter == null ? hookCounter : counter.andThen(hookCounter);
+            }
+        }
+        return counter;
+    }
+    
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(InstrumentedDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+    
+    @FunctionalInterface
+    private interface ConnectionSource {
+        Connection get() throws SQLException;
+    }
+    
+    /** Handles the methods every JDBC proxy answers itself; everything else goes to {@link #handle}. */
+    private abstract static class WrapperHandler implements InvocationHandler {
+        
+        final Object target;
+        
+        WrapperHandler(Object target) {
+            this.target = target;
+        }
+        
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "toString" -> {
+                    return "Instrumented proxy for [" + target + "]";
+                }
+                case "unwrap" -> {
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return proxy;
+                    }
+                }
+                case "isWrapperFor" -> {
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return true;
+                    }
+                }
+                default -> {
+                }
+            }
+            return handle(proxy, method, args);
+        }
+        
+        abstract Object handle(Object proxy, Method method, Object[] args) throws Throwable;
+    }
+    
+    private final class ConnectionHandler extends WrapperHandler {
+        
+        private final LongConsumer[] releaseListeners;
+        private final long acquired;
+        private boolean released;
+        
+        ConnectionHandler(Connection target, LongConsumer[] releaseListeners, long acquired) {
+            super(target);
+            this.releaseListeners = releaseListeners;
+            this.acquired = acquired;
+        }
+        
+        @Override
+        Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "getTargetConnection" -> {
+                    return target;
+                }
+                case "close" -> release();
+                case "prepareStatement" -> {
+                    return proxy(PreparedStatement.class, new StatementHandler(
+                            InstrumentedDataSource.invoke(target, method, args), (String) args[0], proxy));
+                }
+                case "prepareCall" -> {
+                    return proxy(CallableStatement.class, new StatementHandler(
+                            InstrumentedDataSource.invoke(target, method, args), (String) args[0], proxy));
+                }
+                case "createStatement" -> {
+                    return proxy(Statement.class, new StatementHandler(
+                            InstrumentedDataSource.invoke(target, method, args), null, proxy));
+                }
+                default -> {
+                }
+            }
+            return InstrumentedDataSource.invoke(target, method, args);
+        }
+        
+        private void release() {
+            if (released) {
+                return;
+            }
+            released = true;
+            long held = System.nanoTime() - acquired;
+            for (LongConsumer listener : releaseListeners) {
+                if (listener != null) {
+                    listener.accept(held);
+                }
+            }
+        }
+    }
+    
+    private final class StatementHandler extends WrapperHandler {
+        
+        private final String preparedSql;
+        private final Object connection;
+        
+        StatementHandler(Object target, String preparedSql, Object connection) {
+            super(target);
+            this.preparedSql = preparedSql;
+            this.connection = connection;
+        }
+        
+        @Override
+        Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("getConnection")) {
+                return connection;
+            }
+            if (name.startsWith("execute")) {
+                return execute(proxy, method, args);
+            }
+            Object result = InstrumentedDataSource.invoke(target, method, args);
+            if (result instanceof ResultSet resultSet && name.equals("getResultSet")) {
+                return wrapResultSet(resultSet, proxy);
+            }
+            return result;
+        }
+        
+        // Hooks that entered are always told how the statement ended, even when a later hook refused to run it.
+        private Object execute(Object proxy, Method method, Object[] args) throws Throwable {
+            String sql = preparedSql != null ? preparedSql
+                    : args != null && args.length > 0 ? (String) args[0]
+                    : "batch";
+            Object[] contexts = new Object[hooks.length];
+            int entered = 0;
+            Object result = null;
+            Throwable failure = null;
+            long start = System.nanoTime();
+            try {
+                for (; entered < hooks.length; entered++) {
+                    contexts[entered] = hooks[entered].beforeExecute((Statement) target, sql);
+                }
+                start = System.nanoTime();
+                result = InstrumentedDataSource.invoke(target, method, args);
+            } catch (Throwable e) {
+                failure = e;
+                throw e;
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                for (int i = entered - 1; i >= 0; i--) {
+                    if (contexts[i] != null) {
+                        hooks[i].afterExecute(contexts[i], result, failure, elapsed);
+                    }
+                }
+            }
+            if (result instanceof ResultSet resultSet) {
+                return wrapResultSet(resultSet, proxy);
+            }
+            return result;
+        }
+        
+        private ResultSet wrapResultSet(ResultSet resultSet, Object statement) {
+            LongConsumer counter = rowCounter();
+            if (counter == null) {
+                return resultSet;
+            }
+            return proxy(ResultSet.class, new ResultSetHandler(resultSet, statement, counter));
+        }
+    }
+    
+    private static final class ResultSetHandler extends WrapperHandler {
+        
+        private final Object statement;
+        private final LongConsumer counter;
+        
+        ResultSetHandler(ResultSet target, Object statement, LongConsumer counter) {
+            super(target);
+            this.statement = statement;
+            this.counter = counter;
+        }
+        
+        @Override
+        Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getName().equals("getStatement")) {
+                return statement;
+            }
+            Object result = InstrumentedDataSource.invoke(target, method, args);
+            if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                counter.accept(1);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.eaglebank.api.jdbc;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+@Configuration
+public class JdbcConfig {
+    
+    // Hooks are resolved when the data source is wrapped, not when this post-processor is created, so it
+    // does not pull their dependencies in early.
+    @Bean
+    public static BeanPostProcessor instrumentedDataSourcePostProcessor(ObjectProvider<JdbcHook> hooks) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof InstrumentedDataSource)) {
+                    List<JdbcHook> orderedHooks = hooks.orderedStream().toList();
+                    return orderedHooks.isEmpty() ? bean : new InstrumentedDataSource(dataSource, orderedHooks);
+                }
+                return bean;
+            }
+        };
+    }
+}
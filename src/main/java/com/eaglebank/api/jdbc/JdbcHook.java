@@ -0,0 +1,50 @@
+package com.eaglebank.api.jdbc;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.function.LongConsumer;
+
+/**
+ * Callbacks {@link InstrumentedDataSource} runs around connection checkouts and statement executions. Every
+ * method defaults to doing nothing, so a hook overrides only the events it observes.
+ * <p>
+ * Hook beans are applied in {@code @Order} order: the first one sees a statement first and finishes with it
+ * last, so it measures the work of every hook after it.
+ */
+public interface JdbcHook {
+    
+    /** Called before a connection is requested from the target data source; throwing fails the checkout. */
+    default void beforeCheckout() throws SQLException {
+    }
+    
+    /**
+     * Called once the target handed out a connection after waiting {@code waitedNanos}. A non-null result is
+     * told how long the connection was held when it is closed.
+     */
+    default LongConsumer afterCheckout(long waitedNanos) {
+        return null;
+    }
+    
+    default void checkoutFailed(long waitedNanos, SQLException failure) {
+    }
+    
+    /**
+     * Called before a statement executes; throwing keeps it from reaching the database. A non-null result is
+     * handed back to {@link #afterExecute} once the statement has run.
+     */
+    default Object beforeExecute(Statement statement, String sql) throws SQLException {
+        return null;
+    }
+    
+    /** {@code failure} is null when the statement succeeded, in which case {@code result} is what it returned. */
+    default void afterExecute(Object context, Object result, Throwable failure, long elapsedNanos) {
+    }
+    
+    /**
+     * Returns a consumer counting rows read from a result set opened on the current thread, or null. Result
+     * sets are only wrapped when some hook counts rows.
+     */
+    default LongConsumer rowCounter() {
+        return null;
+    }
+}
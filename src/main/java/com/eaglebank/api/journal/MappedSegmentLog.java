@@ -0,0 +1,169 @@
+package com.eaglebank.api.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only log split into fixed-size, memory-mapped segment files named {@code <prefix>-<index>.seg}.
+ * Each record is framed as {@code [int length][int crc32c][payload]}. Segments are zero-filled, so reading
+ * a segment stops at the first zero length or at the first record that fails its checksum.
+ *
+ * <p>Reopening a log recovers the last intact record and then starts a fresh segment, so a record torn by
+ * a crash is never followed by new data in the same file. Instances are not thread-safe: they are meant to
+ * be owned by a single writer thread.
+ */
+public class MappedSegmentLog implements Closeable {
+    
+    static final int HEADER_BYTES = 8;
+    private static final String SEGMENT_SUFFIX = ".seg";
+    
+    private final Path directory;
+    private final String prefix;
+    private final int segmentSize;
+    
+    private long segmentIndex;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private byte[] lastRecord;
+    
+    public MappedSegmentLog(Path directory, String prefix, int segmentSize) throws IOException {
+        if (segmentSize <= HEADER_BYTES) {
+            throw new IllegalArgumentException("Segment size must be larger than the record header");
+        }
+        this.directory = directory;
+        this.prefix = prefix;
+        this.segmentSize = segmentSize;
+        Files.createDirectories(directory);
+        
+        List<Path> segments = listSegments(directory, prefix);
+        for (int i = segments.size() - 1; i >= 0 && lastRecord == null; i--) {
+            readSegment(segments.get(i), payload -> lastRecord = payload);
+        }
+        openSegment(segments.isEmpty() ? 0 : segmentIndexOf(segments.get(segments.size() - 1), prefix) + 1);
+    }
+    
+    /**
+     * Appends a record, rolling over to a new segment when the current one is full. The record is visible to
+     * readers of the file immediately but only durable after {@link #force()}.
+     */
+    public void append(byte[] payload) throws IOException {
+        if (payload.length == 0 || payload.length > segmentSize - HEADER_BYTES) {
+            throw new IllegalArgumentException("Record size must be between 1 and " + (segmentSize - HEADER_BYTES));
+        }
+        if (buffer.remaining() < HEADER_BYTES + payload.length) {
+            close();
+            openSegment(segmentIndex + 1);
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        buffer.putInt(payload.length);
+        buffer.putInt((int) crc.getValue());
+        buffer.put(payload);
+        lastRecord = payload;
+    }
+    
+    public void force() {
+        buffer.force();
+    }
+    
+    /**
+     * Returns the payload of the most recent record, including one recovered when the log was opened, or
+     * {@code null} if the log is empty.
+     */
+    public byte[] lastRecord() {
+        return lastRecord;
+    }
+    
+    public long segmentIndex() {
+        return segmentIndex;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            buffer.force();
+            channel.close();
+            channel = null;
+        }
+    }
+    
+    /**
+     * Reads every intact record of every segment, oldest first.
+     */
+    public static void readAll(Path directory, String prefix, Consumer<byte[]> consumer) throws IOException {
+        for (Path segment : listSegments(directory, prefix)) {
+            readSegment(segment, consumer);
+        }
+    }
+    
+    /**
+     * Reads every intact record of the segments numbered {@code fromSegmentIndex} and above, oldest first.
+     */
+    public static void readFrom(Path directory, String prefix, long fromSegmentIndex, Consumer<byte[]> consumer)
+            throws IOException {
+        for (Path segment : listSegments(directory, prefix)) {
+            if (segmentIndexOf(segment, prefix) >= fromSegmentIndex) {
+                readSegment(segment, consumer);
+            }
+        }
+    }
+    
+    public static List<Path> listSegments(Path directory, String prefix) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(prefix + "-") && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+    
+    public static void readSegment(Path segment, Consumer<byte[]> consumer) throws IOException {
+        try (FileChannel readChannel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            ByteBuffer view = readChannel.map(FileChannel.MapMode.READ_ONLY, 0, readChannel.size());
+            int position = 0;
+            while (view.limit() - position >= HEADER_BYTES) {
+                int length = view.getInt(position);
+                if (length <= 0 || length > view.limit() - position - HEADER_BYTES) {
+                    return;
+                }
+                byte[] payload = new byte[length];
+                view.get(position + HEADER_BYTES, payload);
+                CRC32C crc = new CRC32C();
+                crc.update(payload);
+                if ((int) crc.getValue() != view.getInt(position + 4)) {
+                    return;
+                }
+                consumer.accept(payload);
+                position += HEADER_BYTES + length;
+            }
+        }
+    }
+    
+    private void openSegment(long index) throws IOException {
+        Path path = directory.resolve(String.format("%s-%020d%s", prefix, index, SEGMENT_SUFFIX));
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        segmentIndex = index;
+    }
+    
+    private static long segmentIndexOf(Path segment, String prefix) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(prefix.length() + 1, name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
@@ -0,0 +1,73 @@
+package com.eaglebank.api.journal;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded multi-producer, single-consumer queue. Producers claim a slot with a CAS on the producer index
+ * and never wait: when the buffer is full {@link #offer(Object)} returns {@code false} immediately.
+ * Only one thread may call {@link #drainTo(Collection, int)}.
+ */
+public class MpscRingBuffer<E> {
+    
+    private final AtomicReferenceArray<E> slots;
+    private final int mask;
+    private final AtomicLong producerIndex = new AtomicLong();
+    private final AtomicLong consumerIndex = new AtomicLong();
+    
+    public MpscRingBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Ring buffer capacity must be a power of two");
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+    
+    public boolean offer(E element) {
+        Objects.requireNonNull(element, "element");
+        while (true) {
+            long claimed = producerIndex.get();
+            if (claimed - consumerIndex.get() >= slots.length()) {
+                return false;
+            }
+            if (producerIndex.compareAndSet(claimed, claimed + 1)) {
+                slots.lazySet((int) (claimed & mask), element);
+                return true;
+            }
+        }
+    }
+    
+    /**
+     * Moves up to {@code limit} published elements into {@code target}, in the order their slots were
+     * claimed. Stops early at a slot that has been claimed but not yet written.
+     */
+    public int drainTo(Collection<? super E> target, int limit) {
+        long next = consumerIndex.get();
+        int drained = 0;
+        while (drained < limit) {
+            int index = (int) (next & mask);
+            E element = slots.get(index);
+            if (element == null) {
+                break;
+            }
+            slots.lazySet(index, null);
+            target.add(element);
+            next++;
+            drained++;
+        }
+        if (drained > 0) {
+            consumerIndex.lazySet(next);
+        }
+        return drained;
+    }
+    
+    public boolean isEmpty() {
+        return consumerIndex.get() == producerIndex.get();
+    }
+    
+    public int capacity() {
+        return slots.length();
+    }
+}
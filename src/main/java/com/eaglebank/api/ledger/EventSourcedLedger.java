@@ -0,0 +1,370 @@
+package com.eaglebank.api.ledger;
+
+import com.eaglebank.api.constants.ApplicationConstants;
+import com.eaglebank.api.journal.MappedSegmentLog;
+import com.eaglebank.api.journal.MpscRingBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Ledger backend in which account balances are a projection of an append-only journal of balance events.
+ *
+ * <p>Balance checks run against an in-memory projection. Withdrawals reserve funds in the projection
+ * immediately and hand the reservation back if the surrounding database transaction rolls back; deposits
+ * reserve headroom below {@link ApplicationConstants#MAX_BALANCE_MINOR} the same way but only become
+ * spendable once that transaction commits. The projection only accepts or rejects a change: callers write the
+ * database balance relative to the row they have locked or versioned, never the projection's figure. Every
+ * event is appended by a single writer thread that forces the journal once per batch (group commit), and the
+ * database transaction waits for its event to be durable before it commits. The writer keeps its own copy of
+ * the balances in journal order and periodically hands it to a background thread to be written out as a
+ * snapshot, so startup only replays the journal written after the latest snapshot.
+ */
+public class EventSourcedLedger implements Closeable {
+    
+    private static final Logger log = LoggerFactory.getLogger(EventSourcedLedger.class);
+    
+    static final String SEGMENT_PREFIX = "ledger";
+    private static final long IDLE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+    
+    private final ConcurrentHashMap<String, AccountBalance> balances = new ConcurrentHashMap<>();
+    private final MpscRingBuffer<PendingEvent> pendingEvents;
+    private final MappedSegmentLog segmentLog;
+    private final LedgerSnapshotStore snapshotStore;
+    private final ExecutorService snapshotExecutor;
+    private final int snapshotInterval;
+    private final int maxBatchSize;
+    private final Duration commitTimeout;
+    private final Thread writerThread;
+    private volatile boolean running = true;
+    
+    // Owned by the writer thread once it has started.
+    private final Map<String, Long> journaledBalances = new HashMap<>();
+    private long lastSequence;
+    private long eventsSinceSnapshot;
+    
+    public EventSourcedLedger(Path directory, int segmentSize, int bufferCapacity, int maxBatchSize,
+                              int snapshotInterval, Duration commitTimeout) throws IOException {
+        this.pendingEvents = new MpscRingBuffer<>(bufferCapacity);
+        this.snapshotStore = new LedgerSnapshotStore(directory);
+        this.maxBatchSize = maxBatchSize;
+        this.snapshotInterval = snapshotInterval;
+        this.commitTimeout = commitTimeout;
+        
+        long replayFromSegment = 0;
+        LedgerSnapshot snapshot = snapshotStore.loadLatest();
+        if (snapshot != null) {
+            journaledBalances.putAll(snapshot.balances());
+            lastSequence = snapshot.sequence();
+            replayFromSegment = snapshot.segmentIndex();
+        }
+        long[] replayed = new long[1];
+        MappedSegmentLog.readFrom(directory, SEGMENT_PREFIX, replayFromSegment, payload -> {
+            LedgerEvent event = LedgerEvent.decode(payload);
+            if (event.sequence() > lastSequence) {
+                applyToJournaledBalances(event);
+                lastSequence = event.sequence();
+                replayed[0]++;
+            }
+        });
+        journaledBalances.forEach((accountNumber, balance) -> balances.put(accountNumber, AccountBalance.recovered(balance)));
+        log.info("Ledger recovered {} accounts at sequence {} ({} events replayed after snapshot)",
+                balances.size(), lastSequence, replayed[0]);
+        
+        this.segmentLog = new MappedSegmentLog(directory, SEGMENT_PREFIX, segmentSize);
+        this.snapshotExecutor = Executors.newSingleThreadExecutor(
+                Thread.ofPlatform().name("ledger-snapshot-writer").daemon().factory());
+        this.writerThread = Thread.ofPlatform().name("ledger-journal-writer").daemon().start(this::runWriter);
+    }
+    
+    /**
+     * Applies a signed balance change. An account not yet known to the ledger is opened with
+     * {@code currentBalanceMinor}, the balance the caller read from the database.
+     *
+     * @return the resulting projected balance, or empty if a withdrawal would take the balance below zero or a
+     *         deposit, counting every uncommitted deposit and withdrawal, could take it above
+     *         {@link ApplicationConstants#MAX_BALANCE_MINOR}
+     */
+    public OptionalLong apply(String accountNumber, long currentBalanceMinor, long deltaMinor) {
+        AccountBalance balance = balances.get(accountNumber);
+        if (balance == null) {
+            balance = open(accountNumber, currentBalanceMinor);
+        } else if (!balance.opened) {
+            awaitOpened(balance);
+        }
+        
+        long resultingBalance;
+        if (deltaMinor < 0) {
+            while (true) {
+                long current = balance.get();
+                resultingBalance = current + deltaMinor;
+                if (resultingBalance < 0) {
+                    return OptionalLong.empty();
+                }
+                if (balance.compareAndSet(current, resultingBalance)) {
+                    break;
+                }
+            }
+        } else {
+            while (true) {
+                long ceiling = balance.ceiling.get();
+                if (ceiling > ApplicationConstants.MAX_BALANCE_MINOR - deltaMinor) {
+                    return OptionalLong.empty();
+                }
+                if (balance.ceiling.compareAndSet(ceiling, ceiling + deltaMinor)) {
+                    break;
+                }
+            }
+            resultingBalance = balance.get() + deltaMinor;
+        }
+        
+        CompletableFuture<Void> durable;
+        try {
+            durable = enqueue(new LedgerEvent(0, LedgerEvent.Type.DELTA, accountNumber, deltaMinor));
+        } catch (RuntimeException ex) {
+            balance.release(deltaMinor);
+            throw ex;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new LedgerSynchronization(balance, accountNumber, deltaMinor, durable));
+        } else {
+            try {
+                awaitDurable(durable);
+            } catch (RuntimeException ex) {
+                balance.release(deltaMinor);
+                throw ex;
+            }
+            balance.settle(deltaMinor);
+        }
+        return OptionalLong.of(resultingBalance);
+    }
+    
+    /**
+     * Publishes the account and then enqueues its OPENING event outside the map's bin lock, since
+     * {@link #enqueue} may park while the ring is full. Other callers wait for the event to be enqueued so no
+     * DELTA for the account can reach the journal ahead of it.
+     */
+    private AccountBalance open(String accountNumber, long currentBalanceMinor) {
+        AccountBalance created = new AccountBalance(currentBalanceMinor);
+        AccountBalance existing = balances.putIfAbsent(accountNumber, created);
+        if (existing != null) {
+            awaitOpened(existing);
+            return existing;
+        }
+        try {
+            enqueue(new LedgerEvent(0, LedgerEvent.Type.OPENING, accountNumber, currentBalanceMinor));
+        } catch (RuntimeException ex) {
+            balances.remove(accountNumber, created);
+            throw ex;
+        } finally {
+            created.opened = true;
+        }
+        return created;
+    }
+    
+    private void awaitOpened(AccountBalance balance) {
+        while (!balance.opened) {
+            if (!running) {
+                throw new IllegalStateException("Ledger is closed");
+            }
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+    }
+    
+    public OptionalLong balanceOf(String accountNumber) {
+        AtomicLong balance = balances.get(accountNumber);
+        return balance != null ? OptionalLong.of(balance.get()) : OptionalLong.empty();
+    }
+    
+    @Override
+    public void close() throws IOException {
+        running = false;
+        try {
+            writerThread.join();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        if (eventsSinceSnapshot > 0) {
+            scheduleSnapshot();
+        }
+        snapshotExecutor.shutdown();
+        try {
+            snapshotExecutor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        segmentLog.close();
+    }
+    
+    private CompletableFuture<Void> enqueue(LedgerEvent event) {
+        PendingEvent pending = new PendingEvent(event, new CompletableFuture<>());
+        while (!pendingEvents.offer(pending)) {
+            if (!running) {
+                throw new IllegalStateException("Ledger is closed");
+            }
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+        return pending.durable();
+    }
+    
+    private void awaitDurable(CompletableFuture<Void> durable) {
+        try {
+            durable.get(commitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the ledger journal", ex);
+        } catch (ExecutionException | TimeoutException ex) {
+            throw new IllegalStateException("Ledger journal commit failed", ex);
+        }
+    }
+    
+    private void runWriter() {
+        List<PendingEvent> batch = new ArrayList<>(maxBatchSize);
+        while (running || !pendingEvents.isEmpty()) {
+            if (pendingEvents.drainTo(batch, maxBatchSize) == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            try {
+                for (PendingEvent pending : batch) {
+                    LedgerEvent event = pending.event().withSequence(lastSequence + 1);
+                    segmentLog.append(event.encode());
+                    applyToJournaledBalances(event);
+                    lastSequence = event.sequence();
+                }
+                segmentLog.force();
+                batch.forEach(pending -> pending.durable().complete(null));
+            } catch (Exception ex) {
+                log.error("Failed to append {} events to the ledger journal", batch.size(), ex);
+                batch.forEach(pending -> pending.durable().completeExceptionally(ex));
+            }
+            eventsSinceSnapshot += batch.size();
+            batch.clear();
+            
+            if (eventsSinceSnapshot >= snapshotInterval) {
+                scheduleSnapshot();
+            }
+        }
+    }
+    
+    private void scheduleSnapshot() {
+        LedgerSnapshot snapshot = new LedgerSnapshot(lastSequence, segmentLog.segmentIndex(),
+                Map.copyOf(journaledBalances));
+        eventsSinceSnapshot = 0;
+        snapshotExecutor.execute(() -> {
+            try {
+                snapshotStore.write(snapshot);
+            } catch (IOException ex) {
+                log.error("Failed to write ledger snapshot at sequence {}", snapshot.sequence(), ex);
+            }
+        });
+    }
+    
+    private void applyToJournaledBalances(LedgerEvent event) {
+        if (event.type() == LedgerEvent.Type.OPENING) {
+            journaledBalances.putIfAbsent(event.accountNumber(), event.amountMinor());
+        } else {
+            journaledBalances.merge(event.accountNumber(), event.amountMinor(), Long::sum);
+        }
+    }
+    
+    private record PendingEvent(LedgerEvent event, CompletableFuture<Void> durable) {
+    }
+    
+    /**
+     * The value is the spendable balance: committed minus reserved withdrawals. {@link #ceiling} is the highest
+     * the committed balance can become: committed plus reserved deposits. Withdrawals are checked against the
+     * value and deposits against the ceiling, each reserving with a CAS, so concurrent changes can neither
+     * overdraw the account nor together push it past the maximum.
+     */
+    private static final class AccountBalance extends AtomicLong {
+        
+        private final AtomicLong ceiling;
+        
+        // Set once the account's OPENING event is in the ring buffer.
+        private volatile boolean opened;
+        
+        AccountBalance(long initialValue) {
+            super(initialValue);
+            this.ceiling = new AtomicLong(initialValue);
+        }
+        
+        /** Makes a reserved change final once its transaction has committed. */
+        void settle(long deltaMinor) {
+            if (deltaMinor > 0) {
+                addAndGet(deltaMinor);
+            } else {
+                ceiling.addAndGet(deltaMinor);
+            }
+        }
+        
+        /** Hands back the reservation of a change whose transaction did not commit. */
+        void release(long deltaMinor) {
+            if (deltaMinor > 0) {
+                ceiling.addAndGet(-deltaMinor);
+            } else {
+                addAndGet(-deltaMinor);
+            }
+        }
+        
+        static AccountBalance recovered(long initialValue) {
+            AccountBalance balance = new AccountBalance(initialValue);
+            balance.opened = true;
+            return balance;
+        }
+    }
+    
+    private final class LedgerSynchronization implements TransactionSynchronization {
+        
+        private final AccountBalance balance;
+        private final String accountNumber;
+        private final long deltaMinor;
+        private final CompletableFuture<Void> durable;
+        
+        LedgerSynchronization(AccountBalance balance, String accountNumber, long deltaMinor,
+                              CompletableFuture<Void> durable) {
+            this.balance = balance;
+            this.accountNumber = accountNumber;
+            this.deltaMinor = deltaMinor;
+            this.durable = durable;
+        }
+        
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            awaitDurable(durable);
+        }
+        
+        @Override
+        public void afterCompletion(int status) {
+            if (status == STATUS_COMMITTED) {
+                balance.settle(deltaMinor);
+                return;
+            }
+            balance.release(deltaMinor);
+            if (!durable.isCompletedExceptionally()) {
+                enqueue(new LedgerEvent(0, LedgerEvent.Type.DELTA, accountNumber, -deltaMinor));
+            }
+        }
+    }
+}
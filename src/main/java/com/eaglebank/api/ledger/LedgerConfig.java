@@ -0,0 +1,26 @@
+package com.eaglebank.api.ledger;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+
+@Configuration
+@ConditionalOnProperty(prefix = "ledger", name = "mode", havingValue = "event-sourced")
+@EnableConfigurationProperties(LedgerProperties.class)
+public class LedgerConfig {
+    
+    @Bean
+    public EventSourcedLedger eventSourcedLedger(LedgerProperties properties) throws IOException {
+        return new EventSourcedLedger(
+                properties.directory(),
+                Math.toIntExact(properties.segmentSize().toBytes()),
+                properties.bufferCapacity(),
+                properties.maxBatchSize(),
+                properties.snapshotInterval(),
+                properties.commitTimeout()
+        );
+    }
+}
@@ -0,0 +1,54 @@
+package com.eaglebank.api.ledger;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * A journal entry. {@link Type#OPENING} carries the balance an account had when the ledger first saw it;
+ * {@link Type#DELTA} carries a signed change in minor units.
+ */
+public record LedgerEvent(
+        long sequence,
+        Type type,
+        String accountNumber,
+        long amountMinor
+) {
+    
+    public enum Type {
+        OPENING,
+        DELTA
+    }
+    
+    LedgerEvent withSequence(long newSequence) {
+        return new LedgerEvent(newSequence, type, accountNumber, amountMinor);
+    }
+    
+    byte[] encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(32);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeLong(sequence);
+            out.writeByte(type.ordinal());
+            out.writeUTF(accountNumber);
+            out.writeLong(amountMinor);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return bytes.toByteArray();
+    }
+    
+    static LedgerEvent decode(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            long sequence = in.readLong();
+            Type type = Type.values()[in.readByte()];
+            String accountNumber = in.readUTF();
+            long amountMinor = in.readLong();
+            return new LedgerEvent(sequence, type, accountNumber, amountMinor);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.eaglebank.api.ledger;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "ledger")
+public record LedgerProperties(
+        @DefaultValue("jpa") String mode,
+        @DefaultValue("ledger") Path directory,
+        @DefaultValue("64MB") DataSize segmentSize,
+        @DefaultValue("65536") int bufferCapacity,
+        @DefaultValue("1024") int maxBatchSize,
+        @DefaultValue("100000") int snapshotInterval,
+        @DefaultValue("5s") Duration commitTimeout
+) {
+}
@@ -0,0 +1,14 @@
+package com.eaglebank.api.ledger;
+
+import java.util.Map;
+
+/**
+ * Balances after applying every event up to {@code sequence}. Events after it are all stored in
+ * segments numbered {@code segmentIndex} or above.
+ */
+public record LedgerSnapshot(
+        long sequence,
+        long segmentIndex,
+        Map<String, Long> balances
+) {
+}
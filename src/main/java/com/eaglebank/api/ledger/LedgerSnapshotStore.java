@@ -0,0 +1,115 @@
+package com.eaglebank.api.ledger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Stores snapshots as {@code snapshot-<sequence>.bin} files with a trailing CRC32C. Files are written to a
+ * temporary name, forced and then atomically renamed, so a crash never leaves a partial snapshot behind.
+ */
+class LedgerSnapshotStore {
+    
+    private static final Logger log = LoggerFactory.getLogger(LedgerSnapshotStore.class);
+    
+    private static final String PREFIX = "snapshot-";
+    private static final String SUFFIX = ".bin";
+    private static final int RETAINED_SNAPSHOTS = 2;
+    
+    private final Path directory;
+    
+    LedgerSnapshotStore(Path directory) throws IOException {
+        this.directory = directory;
+        Files.createDirectories(directory);
+    }
+    
+    /**
+     * Returns the newest snapshot that passes its checksum, or {@code null} if there is none.
+     */
+    LedgerSnapshot loadLatest() throws IOException {
+        for (Path file : snapshotFiles()) {
+            try {
+                return read(file);
+            } catch (IOException ex) {
+                log.warn("Ignoring unreadable ledger snapshot {}", file, ex);
+            }
+        }
+        return null;
+    }
+    
+    void write(LedgerSnapshot snapshot) throws IOException {
+        Path target = directory.resolve(String.format("%s%020d%s", PREFIX, snapshot.sequence(), SUFFIX));
+        Path temporary = directory.resolve(target.getFileName() + ".tmp");
+        
+        try (FileOutputStream file = new FileOutputStream(temporary.toFile())) {
+            CRC32C crc = new CRC32C();
+            DataOutputStream out = new DataOutputStream(new CheckedOutputStream(new BufferedOutputStream(file), crc));
+            out.writeLong(snapshot.sequence());
+            out.writeLong(snapshot.segmentIndex());
+            out.writeInt(snapshot.balances().size());
+            for (Map.Entry<String, Long> entry : snapshot.balances().entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeLong(entry.getValue());
+            }
+            long checksum = crc.getValue();
+            out.writeLong(checksum);
+            out.flush();
+            file.getFD().sync();
+        }
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        
+        List<Path> files = snapshotFiles();
+        for (int i = RETAINED_SNAPSHOTS; i < files.size(); i++) {
+            Files.deleteIfExists(files.get(i));
+        }
+    }
+    
+    private LedgerSnapshot read(Path file) throws IOException {
+        CRC32C crc = new CRC32C();
+        try (DataInputStream in = new DataInputStream(new CheckedInputStream(
+                new BufferedInputStream(Files.newInputStream(file)), crc))) {
+            long sequence = in.readLong();
+            long segmentIndex = in.readLong();
+            int count = in.readInt();
+            Map<String, Long> balances = new HashMap<>(Math.max(16, count * 2));
+            for (int i = 0; i < count; i++) {
+                balances.put(in.readUTF(), in.readLong());
+            }
+            long expected = crc.getValue();
+            if (in.readLong() != expected) {
+                throw new IOException("Checksum mismatch in " + file);
+            }
+            return new LedgerSnapshot(sequence, segmentIndex, balances);
+        }
+    }
+    
+    // Newest first.
+    private List<Path> snapshotFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                    })
+                    .sorted(Comparator.reverseOrder())
+                    .toList();
+        }
+    }
+}
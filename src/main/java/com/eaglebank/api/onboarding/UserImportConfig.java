@@ -0,0 +1,20 @@
+package com.eaglebank.api.onboarding;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(UserImportProperties.class)
+public class UserImportConfig {
+    
+    @Bean
+    @ConditionalOnProperty(prefix = "user-import", name = "file")
+    public UserImportRunner userImportRunner(UserImporter userImporter, UserImportProperties properties,
+                                             ObjectMapper objectMapper, ConfigurableApplicationContext context) {
+        return new UserImportRunner(userImporter, properties, objectMapper, context);
+    }
+}
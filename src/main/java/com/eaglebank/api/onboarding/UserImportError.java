@@ -0,0 +1,9 @@
+package com.eaglebank.api.onboarding;
+
+/** A row that was not imported. {@code line} is the 1-based line in the input file. */
+public record UserImportError(
+        long line,
+        String email,
+        String message
+) {
+}
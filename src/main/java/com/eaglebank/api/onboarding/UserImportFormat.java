@@ -0,0 +1,19 @@
+package com.eaglebank.api.onboarding;
+
+import java.nio.file.Path;
+
+public enum UserImportFormat {
+    NDJSON,
+    CSV;
+    
+    public static UserImportFormat fromPath(Path path) {
+        String name = path.getFileName().toString().toLowerCase();
+        if (name.endsWith(".csv")) {
+            return CSV;
+        }
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return NDJSON;
+        }
+        throw new IllegalArgumentException("Cannot tell the format of " + path + "; set user-import.format");
+    }
+}
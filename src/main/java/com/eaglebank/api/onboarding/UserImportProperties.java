@@ -0,0 +1,26 @@
+package com.eaglebank.api.onboarding;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+
+/**
+ * Setting {@code file} runs the import at startup and exits when it finishes. {@code format} defaults to
+ * the file extension; per-row errors go to {@code errorFile}, by default next to the input.
+ * {@code hashThreads} of 0 uses one BCrypt thread per available processor.
+ */
+@ConfigurationProperties(prefix = "user-import")
+public record UserImportProperties(
+        Path file,
+        UserImportFormat format,
+        Path errorFile,
+        @DefaultValue("1000") int chunkSize,
+        @DefaultValue("0") int hashThreads,
+        @DefaultValue("true") boolean exitOnCompletion
+) {
+    
+    public int effectiveHashThreads() {
+        return hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
+    }
+}
@@ -0,0 +1,137 @@
+package com.eaglebank.api.onboarding;
+
+import com.eaglebank.api.dto.user.AddressDto;
+import com.eaglebank.api.dto.user.CreateUserRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads one user per line, so only the current line is ever held in memory. NDJSON lines are
+ * {@link CreateUserRequest} documents. CSV needs a header row naming the columns {@code name},
+ * {@code phoneNumber}, {@code email}, {@code password}, {@code line1}, {@code line2}, {@code line3},
+ * {@code town}, {@code county} and {@code postcode} in any order; quoted fields may contain commas and
+ * doubled quotes but not line breaks.
+ */
+class UserImportReader {
+    
+    private static final List<String> CSV_COLUMNS = List.of("name", "phoneNumber", "email", "password",
+            "line1", "line2", "line3", "town", "county", "postcode");
+    
+    private final BufferedReader reader;
+    private final UserImportFormat format;
+    private final ObjectReader jsonReader;
+    private Map<String, Integer> csvColumns;
+    private long line;
+    
+    UserImportReader(BufferedReader reader, UserImportFormat format, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.format = format;
+        this.jsonReader = objectMapper.readerFor(CreateUserRequest.class);
+    }
+    
+    /** Returns the next non-blank row, or null at the end of the input. */
+    Row next() throws IOException {
+        if (format == UserImportFormat.CSV && csvColumns == null) {
+            csvColumns = readCsvHeader();
+        }
+        String text;
+        do {
+            text = reader.readLine();
+            line++;
+            if (text == null) {
+                return null;
+            }
+        } while (text.isBlank());
+        
+        try {
+            return new Row(line, format == UserImportFormat.CSV ? parseCsv(text) : jsonReader.readValue(text), null);
+        } catch (JsonProcessingException e) {
+            return new Row(line, null, "Malformed JSON: " + e.getOriginalMessage());
+        } catch (IllegalArgumentException e) {
+            return new Row(line, null, e.getMessage());
+        }
+    }
+    
+    private Map<String, Integer> readCsvHeader() throws IOException {
+        String header = reader.readLine();
+        line++;
+        if (header == null) {
+            return Map.of();
+        }
+        List<String> names = splitCsv(header);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim(), i);
+        }
+        List<String> missing = CSV_COLUMNS.stream()
+                .filter(column -> !column.startsWith("line") || column.equals("line1"))
+                .filter(column -> !columns.containsKey(column))
+                .toList();
+        if (!missing.isEmpty()) {
+            throw new IOException("CSV header is missing columns " + missing);
+        }
+        return columns;
+    }
+    
+    private CreateUserRequest parseCsv(String text) {
+        List<String> fields = splitCsv(text);
+        return new CreateUserRequest(
+                field(fields, "name"),
+                new AddressDto(field(fields, "line1"), field(fields, "line2"), field(fields, "line3"),
+                        field(fields, "town"), field(fields, "county"), field(fields, "postcode")),
+                field(fields, "phoneNumber"),
+                field(fields, "email"),
+                field(fields, "password"));
+    }
+    
+    private String field(List<String> fields, String column) {
+        Integer index = csvColumns.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index);
+        return value.isEmpty() ? null : value;
+    }
+    
+    private static List<String> splitCsv(String text) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+    
+    record Row(long line, CreateUserRequest request, String error) {
+    }
+}
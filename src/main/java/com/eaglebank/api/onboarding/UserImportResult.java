@@ -0,0 +1,21 @@
+package com.eaglebank.api.onboarding;
+
+import java.time.Duration;
+
+public record UserImportResult(
+        long rowsRead,
+        long imported,
+        long duplicates,
+        long invalid,
+        Duration elapsed
+) {
+    
+    public long failed() {
+        return duplicates + invalid;
+    }
+    
+    public double rowsPerSecond() {
+        long nanos = elapsed.toNanos();
+        return nanos == 0 ? 0 : rowsRead / (nanos / 1_000_000_000.0);
+    }
+}
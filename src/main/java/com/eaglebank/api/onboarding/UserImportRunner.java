@@ -0,0 +1,69 @@
+package com.eaglebank.api.onboarding;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Command-line entry point for the import, for example
+ * {@code java -jar api.jar --spring.main.web-application-type=none --user-import.file=customers.csv}.
+ * Rejected rows are written to the error file as NDJSON while the import runs.
+ */
+public class UserImportRunner implements ApplicationRunner {
+    
+    private static final Logger log = LoggerFactory.getLogger(UserImportRunner.class);
+    
+    private final UserImporter userImporter;
+    private final UserImportProperties properties;
+    private final ObjectMapper objectMapper;
+    private final ConfigurableApplicationContext context;
+    
+    public UserImportRunner(UserImporter userImporter, UserImportProperties properties, ObjectMapper objectMapper,
+                            ConfigurableApplicationContext context) {
+        this.userImporter = userImporter;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.context = context;
+    }
+    
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        Path file = properties.file();
+        UserImportFormat format = properties.format() != null ? properties.format() : UserImportFormat.fromPath(file);
+        Path errorFile = properties.errorFile() != null
+                ? properties.errorFile()
+                : file.resolveSibling(file.getFileName() + ".errors.ndjson");
+        log.info("Importing users from {} as {}, rejected rows go to {}", file, format, errorFile);
+        
+        UserImportResult result;
+        try (BufferedReader input = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+             BufferedWriter errors = Files.newBufferedWriter(errorFile, StandardCharsets.UTF_8)) {
+            result = userImporter.importUsers(input, format, error -> {
+                try {
+                    errors.write(objectMapper.writeValueAsString(error));
+                    errors.newLine();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+        if (result.failed() == 0) {
+            Files.deleteIfExists(errorFile);
+        }
+        if (properties.exitOnCompletion()) {
+            System.exit(SpringApplication.exit(context, () -> 0));
+        }
+    }
+}
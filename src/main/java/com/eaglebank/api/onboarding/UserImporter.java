@@ -0,0 +1,263 @@
+package com.eaglebank.api.onboarding;
+
+import com.eaglebank.api.dto.user.CreateUserRequest;
+import com.eaglebank.api.util.IdGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk-creates users from a stream, for partner migrations too large for {@code POST /v1/users}. Rows are
+ * read and validated one at a time and handled in chunks of {@code chunkSize}: emails repeated within a
+ * chunk are caught in memory, emails already registered (including by earlier chunks) by one {@code IN}
+ * query, passwords are BCrypt-hashed in parallel on a bounded pool, and the chunk is written as one JDBC
+ * batch in its own transaction. Should the batch hit an email registered concurrently through the API, the
+ * chunk is retried row by row so only that row is reported.
+ */
+@Component
+public class UserImporter implements DisposableBean {
+    
+    private static final Logger log = LoggerFactory.getLogger(UserImporter.class);
+    
+    private static final long PROGRESS_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+    
+    private static final String EXISTING_EMAILS_SQL = "select email from users where email in (:emails)";
+    
+    private static final String INSERT_SQL = """
+            insert into users (id, name, line1, line2, line3, town, county, postcode, phone_number, email,
+                               password, created_timestamp, updated_timestamp)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+    private final ThreadPoolExecutor hashExecutor;
+    
+    public UserImporter(JdbcTemplate jdbcTemplate,
+                        PlatformTransactionManager transactionManager,
+                        PasswordEncoder passwordEncoder,
+                        Validator validator,
+                        ObjectMapper objectMapper,
+                        UserImportProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.passwordEncoder = passwordEncoder;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.chunkSize = properties.chunkSize();
+        int threads = properties.effectiveHashThreads();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.hashExecutor = new ThreadPoolExecutor(
+                threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(threads * 4),
+                runnable -> Thread.ofPlatform()
+                        .name("user-import-hash-" + threadCount.incrementAndGet())
+                        .daemon()
+                        .unstarted(runnable),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+    
+    /** Imports every row of {@code input}, passing each rejected row to {@code errors} as it is found. */
+    public UserImportResult importUsers(BufferedReader input, UserImportFormat format,
+                                        Consumer<UserImportError> errors) throws IOException {
+        long startNanos = System.nanoTime();
+        Progress progress = new Progress(startNanos);
+        UserImportReader reader = new UserImportReader(input, format, objectMapper);
+        List<UserImportReader.Row> chunk = new ArrayList<>(chunkSize);
+        Set<String> chunkEmails = new HashSet<>();
+        
+        UserImportReader.Row row;
+        while ((row = reader.next()) != null) {
+            progress.rowsRead++;
+            String problem = row.error() != null ? row.error() : validate(row.request());
+            if (problem != null) {
+                progress.invalid++;
+                errors.accept(new UserImportError(row.line(), row.request() != null ? row.request().email() : null,
+                        problem));
+                continue;
+            }
+            if (!chunkEmails.add(row.request().email())) {
+                progress.duplicates++;
+                errors.accept(new UserImportError(row.line(), row.request().email(), "Email repeated in import"));
+                continue;
+            }
+            chunk.add(row);
+            if (chunk.size() == chunkSize) {
+                importChunk(chunk, progress, errors);
+                chunk.clear();
+                chunkEmails.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, progress, errors);
+        }
+        
+        UserImportResult result = new UserImportResult(progress.rowsRead, progress.imported, progress.duplicates,
+                progress.invalid, Duration.ofNanos(System.nanoTime() - startNanos));
+        log.info("User import finished: read {} rows, imported {}, {} duplicate and {} invalid, {} rows/s",
+                result.rowsRead(), result.imported(), result.duplicates(), result.invalid(),
+                Math.round(result.rowsPerSecond()));
+        return result;
+    }
+    
+    private void importChunk(List<UserImportReader.Row> chunk, Progress progress, Consumer<UserImportError> errors) {
+        Set<String> registered = new HashSet<>(namedParameterJdbcTemplate.queryForList(EXISTING_EMAILS_SQL,
+                Map.of("emails", chunk.stream().map(row -> row.request().email()).toList()), String.class));
+        List<UserImportReader.Row> fresh = new ArrayList<>(chunk.size());
+        for (UserImportReader.Row row : chunk) {
+            if (registered.contains(row.request().email())) {
+                progress.duplicates++;
+                errors.accept(new UserImportError(row.line(), row.request().email(), "Email already exists"));
+            } else {
+                fresh.add(row);
+            }
+        }
+        if (fresh.isEmpty()) {
+            return;
+        }
+        
+        List<NewUser> users = hashPasswords(fresh);
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT_SQL, users, users.size(), UserImporter::bind));
+            progress.imported += users.size();
+        } catch (DuplicateKeyException e) {
+            for (NewUser user : users) {
+                try {
+                    transactionTemplate.executeWithoutResult(status ->
+                            jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, user)));
+                    progress.imported++;
+                } catch (DuplicateKeyException duplicate) {
+                    progress.duplicates++;
+                    errors.accept(new UserImportError(user.line(), user.request().email(), "Email already exists"));
+                }
+            }
+        }
+        progress.report();
+    }
+    
+    private List<NewUser> hashPasswords(List<UserImportReader.Row> rows) {
+        List<Future<String>> hashes = new ArrayList<>(rows.size());
+        for (UserImportReader.Row row : rows) {
+            hashes.add(hashExecutor.submit(() -> passwordEncoder.encode(row.request().password())));
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        List<NewUser> users = new ArrayList<>(rows.size());
+        try {
+            for (int i = 0; i < rows.size(); i++) {
+                UserImportReader.Row row = rows.get(i);
+                users.add(new NewUser(row.line(), IdGenerator.generateUserId(), row.request(), hashes.get(i).get(), now));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            hashes.forEach(hash -> hash.cancel(true));
+            throw new IllegalStateException("User import interrupted", e);
+        } catch (ExecutionException e) {
+            hashes.forEach(hash -> hash.cancel(true));
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+        return users;
+    }
+    
+    private String validate(CreateUserRequest request) {
+        if (request.address() == null) {
+            return "address: must not be null";
+        }
+        Set<ConstraintViolation<CreateUserRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .collect(Collectors.joining(", "));
+    }
+    
+    private static void bind(PreparedStatement ps, NewUser user) throws SQLException {
+        CreateUserRequest request = user.request();
+        ps.setString(1, user.id());
+        ps.setString(2, request.name());
+        ps.setString(3, request.address().line1());
+        ps.setString(4, request.address().line2());
+        ps.setString(5, request.address().line3());
+        ps.setString(6, request.address().town());
+        ps.setString(7, request.address().county());
+        ps.setString(8, request.address().postcode());
+        ps.setString(9, request.phoneNumber());
+        ps.setString(10, request.email());
+        ps.setString(11, user.passwordHash());
+        ps.setTimestamp(12, user.createdAt());
+        ps.setTimestamp(13, user.createdAt());
+    }
+    
+    @Override
+    public void destroy() {
+        hashExecutor.shutdownNow();
+    }
+    
+    private record NewUser(long line, String id, CreateUserRequest request, String passwordHash,
+                           Timestamp createdAt) {
+    }
+    
+    private static final class Progress {
+        private final long startNanos;
+        private long lastReport;
+        private long rowsRead;
+        private long imported;
+        private long duplicates;
+        private long invalid;
+        
+        private Progress(long startNanos) {
+            this.startNanos = startNanos;
+            this.lastReport = startNanos;
+        }
+        
+        private void report() {
+            long now = System.nanoTime();
+            if (now - lastReport < PROGRESS_INTERVAL_NANOS) {
+                return;
+            }
+            lastReport = now;
+            double seconds = (now - startNanos) / 1_000_000_000.0;
+            log.info("User import progress: read {} rows, imported {}, {} duplicate and {} invalid, {} rows/s",
+                    rowsRead, imported, duplicates, invalid, Math.round(rowsRead / seconds));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.eaglebank.api.pool;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Resizes the Hikari pool between {@code pool.controller.min-size} and {@code max-size} from the acquire
+ * waits and hold times collected by {@link PoolMonitoringHook}. Hold time stands in for database
+ * latency: when requests wait a large fraction of the time a connection is typically held, more connections
+ * would have been used; when they barely wait, some connections are idle.
+ * <p>
+ * Only created when {@code pool.controller.enabled} is set. Turning it off leaves the pool at whatever size
+ * it was last given, which is always within the configured bounds.
+ */
+public class AdaptivePoolController {
+    
+    private static final Logger log = LoggerFactory.getLogger(AdaptivePoolController.class);
+    
+    private final HikariConfigMXBean poolConfig;
+    private final PoolWaitWindow window;
+    private final PoolProperties.Controller properties;
+    private final AtomicInteger targetSize;
+    private final Counter resizes;
+    
+    public AdaptivePoolController(HikariConfigMXBean poolConfig, PoolWaitWindow window,
+                                  PoolProperties.Controller properties, MeterRegistry meterRegistry) {
+        if (properties.minSize() < 1 || properties.maxSize() < properties.minSize() || properties.step() < 1) {
+            throw new IllegalArgumentException("pool.controller requires 1 <= min-size <= max-size and step >= 1");
+        }
+        this.poolConfig = poolConfig;
+        this.window = window;
+        this.properties = properties;
+        this.targetSize = new AtomicInteger(clamp(poolConfig.getMaximumPoolSize()));
+        this.resizes = Counter.builder("db.pool.controller.resizes")
+                .description("Pool size changes made by the adaptive controller")
+                .register(meterRegistry);
+        Gauge.builder("db.pool.controller.target", targetSize, AtomicInteger::get)
+                .description("Maximum pool size chosen by the adaptive controller")
+                .register(meterRegistry);
+        apply(targetSize.get());
+    }
+    
+    @Scheduled(fixedDelayString = "${pool.controller.interval:PT15S}",
+            initialDelayString = "${pool.controller.interval:PT15S}")
+    public void adjust() {
+        PoolWaitWindow.Snapshot snapshot = window.drain();
+        int current = targetSize.get();
+        int next = nextSize(current, snapshot);
+        if (next == current) {
+            return;
+        }
+        log.info("Resizing connection pool from {} to {} (mean wait {} us, mean hold {} us, {} timeouts)",
+                current, next, (long) snapshot.meanWaitNanos() / 1_000, (long) snapshot.meanHoldNanos() / 1_000,
+                snapshot.timeouts());
+        apply(next);
+        targetSize.set(next);
+        resizes.increment();
+    }
+    
+    public int targetSize() {
+        return targetSize.get();
+    }
+    
+    int nextSize(int current, PoolWaitWindow.Snapshot snapshot) {
+        if (snapshot.acquisitions() + snapshot.timeouts() == 0) {
+            return current;
+        }
+        double meanWait = snapshot.meanWaitNanos();
+        double meanHold = snapshot.meanHoldNanos();
+        if (snapshot.timeouts() > 0 || (meanHold > 0 && meanWait > properties.growWaitRatio() * meanHold)) {
+            return clamp(current + properties.step());
+        }
+        if (meanHold > 0 && meanWait < properties.shrinkWaitRatio() * meanHold) {
+            return clamp(current - properties.step());
+        }
+        return current;
+    }
+    
+    private int clamp(int size) {
+        return Math.max(properties.minSize(), Math.min(properties.maxSize(), size));
+    }
+    
+    private void apply(int size) {
+        // Hikari rejects a minimum idle above the maximum, so lower it first when shrinking.
+        if (poolConfig.getMinimumIdle() > size) {
+            poolConfig.setMinimumIdle(size);
+        }
+        poolConfig.setMaximumPoolSize(size);
+    }
+}
@@ -0,0 +1,43 @@
+package com.eaglebank.api.pool;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+@Configuration
+@ConditionalOnProperty(prefix = "pool.monitor", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(PoolProperties.class)
+public class PoolConfig {
+    
+    @Bean
+    public PoolWaitWindow poolWaitWindow() {
+        return new PoolWaitWindow();
+    }
+    
+    @Bean
+    @Order(2)
+    public PoolMonitoringHook poolMonitoringHook(MeterRegistry meterRegistry, PoolWaitWindow window) {
+        return new PoolMonitoringHook(meterRegistry, window);
+    }
+    
+    @Bean
+    public PoolEndpoint poolEndpoint(DataSource dataSource, MeterRegistry meterRegistry) throws SQLException {
+        return new PoolEndpoint(dataSource.unwrap(HikariDataSource.class), meterRegistry);
+    }
+    
+    @Bean
+    @ConditionalOnProperty(prefix = "pool.controller", name = "enabled", havingValue = "true")
+    public AdaptivePoolController adaptivePoolController(DataSource dataSource, PoolWaitWindow window,
+                                                         PoolProperties properties,
+                                                         MeterRegistry meterRegistry) throws SQLException {
+        return new AdaptivePoolController(dataSource.unwrap(HikariDataSource.class).getHikariConfigMXBean(),
+                window, properties.controller(), meterRegistry);
+    }
+}
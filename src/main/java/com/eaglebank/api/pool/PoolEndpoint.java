@@ -0,0 +1,56 @@
+package com.eaglebank.api.pool;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Point-in-time view of the connection pool and of acquire waits per route, for use during incidents.
+ * Not exposed over HTTP unless {@code pool} is added to {@code management.endpoints.web.exposure.include}.
+ */
+@Endpoint(id = "pool")
+public class PoolEndpoint {
+    
+    private final HikariDataSource dataSource;
+    private final MeterRegistry meterRegistry;
+    
+    public PoolEndpoint(HikariDataSource dataSource, MeterRegistry meterRegistry) {
+        this.dataSource = dataSource;
+        this.meterRegistry = meterRegistry;
+    }
+    
+    @ReadOperation
+    public PoolSnapshot pool() {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        Map<String, EndpointWaits> endpoints = new TreeMap<>();
+        for (Timer timer : meterRegistry.find("db.pool.acquire").timers()) {
+            String endpoint = timer.getId().getTag("endpoint");
+            Counter timeouts = meterRegistry.find("db.pool.timeouts").tag("endpoint", endpoint).counter();
+            endpoints.put(endpoint, new EndpointWaits(timer.count(), timer.mean(TimeUnit.MILLISECONDS),
+                    timer.max(TimeUnit.MILLISECONDS), timeouts != null ? (long) timeouts.count() : 0));
+        }
+        return new PoolSnapshot(
+                pool != null ? pool.getActiveConnections() : 0,
+                pool != null ? pool.getIdleConnections() : 0,
+                pool != null ? pool.getThreadsAwaitingConnection() : 0,
+                pool != null ? pool.getTotalConnections() : 0,
+                dataSource.getHikariConfigMXBean().getMaximumPoolSize(),
+                dataSource.getHikariConfigMXBean().getMinimumIdle(),
+                endpoints);
+    }
+    
+    public record PoolSnapshot(int active, int idle, int pending, int total, int maximumPoolSize, int minimumIdle,
+                               Map<String, EndpointWaits> endpoints) {
+    }
+    
+    public record EndpointWaits(long acquisitions, double meanWaitMillis, double maxWaitMillis, long timeouts) {
+    }
+}
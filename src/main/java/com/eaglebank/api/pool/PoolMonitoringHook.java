@@ -0,0 +1,89 @@
+package com.eaglebank.api.pool;
+
+import com.eaglebank.api.jdbc.JdbcHook;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+
+/**
+ * Times every connection checkout and how long the connection is held before it goes back to the pool,
+ * tagged with the route being served. Records {@code db.pool.acquire} and {@code db.pool.usage} timers with
+ * percentile histograms and a {@code db.pool.timeouts} counter, and feeds the same samples to a
+ * {@link PoolWaitWindow} for the pool controller. Work outside a request, such as batch jobs, is tagged
+ * {@code none}.
+ */
+public class PoolMonitoringHook implements JdbcHook {
+    
+    static final String NO_ENDPOINT = "none";
+    
+    private final MeterRegistry meterRegistry;
+    private final PoolWaitWindow window;
+    private final Map<String, EndpointMeters> metersByEndpoint = new ConcurrentHashMap<>();
+    
+    public PoolMonitoringHook(MeterRegistry meterRegistry, PoolWaitWindow window) {
+        this.meterRegistry = meterRegistry;
+        this.window = window;
+    }
+    
+    @Override
+    public LongConsumer afterCheckout(long waitedNanos) {
+        EndpointMeters meters = meters(currentEndpoint());
+        window.onAcquired(waitedNanos);
+        meters.acquire().record(waitedNanos, TimeUnit.NANOSECONDS);
+        return heldNanos -> {
+            window.onReleased(heldNanos);
+            meters.usage().record(heldNanos, TimeUnit.NANOSECONDS);
+        };
+    }
+    
+    @Override
+    public void checkoutFailed(long waitedNanos, SQLException failure) {
+        if (failure instanceof SQLTransientConnectionException) {
+            EndpointMeters meters = meters(currentEndpoint());
+            window.onTimeout(waitedNanos);
+            meters.timeouts().increment();
+            meters.acquire().record(waitedNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+    
+    private EndpointMeters meters(String endpoint) {
+        return metersByEndpoint.computeIfAbsent(endpoint, key -> new EndpointMeters(
+                Timer.builder("db.pool.acquire")
+                        .description("Time spent waiting for a pooled connection")
+                        .tag("endpoint", key)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry),
+                Timer.builder("db.pool.usage")
+                        .description("Time a pooled connection was held before being returned")
+                        .tag("endpoint", key)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry),
+                Counter.builder("db.pool.timeouts")
+                        .description("Connection requests that timed out waiting for the pool")
+                        .tag("endpoint", key)
+                        .register(meterRegistry)));
+    }
+    
+    private static String currentEndpoint() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return NO_ENDPOINT;
+        }
+        Object pattern = attributes.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE,
+                RequestAttributes.SCOPE_REQUEST);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+    
+    private record EndpointMeters(Timer acquire, Timer usage, Counter timeouts) {
+    }
+}
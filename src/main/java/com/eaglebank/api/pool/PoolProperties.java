@@ -0,0 +1,34 @@
+package com.eaglebank.api.pool;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "pool")
+public record PoolProperties(
+        @DefaultValue Monitor monitor,
+        @DefaultValue Controller controller
+) {
+    
+    public record Monitor(
+            @DefaultValue("true") boolean enabled
+    ) {
+    }
+    
+    /**
+     * The controller grows the pool by {@code step} when the mean acquire wait over an interval exceeds
+     * {@code growWaitRatio} times the mean connection hold time, or when any acquire timed out, and shrinks it
+     * by {@code step} when the wait falls below {@code shrinkWaitRatio} times the hold time.
+     */
+    public record Controller(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("5") int minSize,
+            @DefaultValue("30") int maxSize,
+            @DefaultValue("2") int step,
+            @DefaultValue("PT15S") Duration interval,
+            @DefaultValue("0.5") double growWaitRatio,
+            @DefaultValue("0.05") double shrinkWaitRatio
+    ) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.eaglebank.api.pool;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Acquire-wait and hold-time totals since the last {@link #drain()}, shared between the monitoring data
+ * source, which adds to it on every checkout, and the pool controller, which drains it once per interval.
+ */
+public class PoolWaitWindow {
+    
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder releases = new LongAdder();
+    private final LongAdder holdNanos = new LongAdder();
+    
+    void onAcquired(long nanos) {
+        acquisitions.increment();
+        waitNanos.add(nanos);
+    }
+    
+    void onTimeout(long nanos) {
+        timeouts.increment();
+        waitNanos.add(nanos);
+    }
+    
+    void onReleased(long nanos) {
+        releases.increment();
+        holdNanos.add(nanos);
+    }
+    
+    /** Returns the totals accumulated since the previous call and starts a new window. */
+    public Snapshot drain() {
+        return new Snapshot(acquisitions.sumThenReset(), waitNanos.sumThenReset(), timeouts.sumThenReset(),
+                releases.sumThenReset(), holdNanos.sumThenReset());
+    }
+    
+    public record Snapshot(long acquisitions, long waitNanos, long timeouts, long releases, long holdNanos) {
+        
+        public double meanWaitNanos() {
+            long attempts = acquisitions + timeouts;
+            return attempts == 0 ? 0 : (double) waitNanos / attempts;
+        }
+        
+        public double meanHoldNanos() {
+            return releases == 0 ? 0 : (double) holdNanos / releases;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.eaglebank.api.reactive;
+
+import com.eaglebank.api.security.TokenRevocationCache;
+import com.eaglebank.api.service.JwtService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/**
+ * Optional WebFlux/R2DBC stack for the listing endpoints. The R2DBC pool is built here rather than by
+ * Boot's auto-configuration, which the application excludes so the servlet stack keeps a single
+ * transaction manager.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "reactive-read", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReactiveReadProperties.class)
+public class ReactiveReadConfig {
+    
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool reactiveReadConnectionPool(ReactiveReadProperties properties) {
+        if (!StringUtils.hasText(properties.url())) {
+            throw new IllegalArgumentException("reactive-read.url is required when the reactive read stack is enabled");
+        }
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(properties.url()).mutate();
+        if (StringUtils.hasText(properties.username())) {
+            options.option(ConnectionFactoryOptions.USER, properties.username());
+        }
+        if (properties.password() != null) {
+            options.option(ConnectionFactoryOptions.PASSWORD, properties.password());
+        }
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options.build()))
+                .maxSize(properties.maxPoolSize())
+                .build());
+    }
+    
+    @Bean
+    public ReactiveReadHandler reactiveReadHandler(ConnectionPool reactiveReadConnectionPool,
+                                                   JwtService jwtService,
+                                                   TokenRevocationCache tokenRevocationCache,
+                                                   ReactiveReadProperties properties,
+                                                   MeterRegistry meterRegistry) {
+        ReactiveReadRepository repository = new ReactiveReadRepository(DatabaseClient.create(reactiveReadConnectionPool));
+        return new ReactiveReadHandler(repository, jwtService, tokenRevocationCache, properties, meterRegistry);
+    }
+    
+    @Bean
+    public ReactiveReadServer reactiveReadServer(ReactiveReadProperties properties,
+                                                 ReactiveReadHandler handler,
+                                                 ObjectMapper objectMapper) {
+        RouterFunction<ServerResponse> routes = RouterFunctions.route()
+                .GET("/v1/accounts", handler::listAccounts)
+                .GET("/v1/accounts/{accountNumber}/transactions", handler::listTransactions)
+                .filter(handler.authentication())
+                .build();
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper,
+                            MediaType.APPLICATION_JSON, MediaType.APPLICATION_NDJSON));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .build();
+        return new ReactiveReadServer(properties.bindAddress(), properties.port(),
+                RouterFunctions.toHttpHandler(routes, strategies));
+    }
+}
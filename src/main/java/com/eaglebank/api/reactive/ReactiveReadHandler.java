@@ -0,0 +1,139 @@
+package com.eaglebank.api.reactive;
+
+import com.eaglebank.api.dto.account.BankAccountResponse;
+import com.eaglebank.api.dto.account.ListBankAccountsResponse;
+import com.eaglebank.api.dto.common.ErrorResponse;
+import com.eaglebank.api.dto.transaction.ListTransactionsResponse;
+import com.eaglebank.api.dto.transaction.TransactionResponse;
+import com.eaglebank.api.security.TokenRevocationCache;
+import com.eaglebank.api.service.JwtService;
+import com.eaglebank.api.deadline.RequestDeadline;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.HandlerFilterFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Functional handlers for the reactive listing endpoints. Clients that accept {@code application/x-ndjson}
+ * receive one record per line as rows arrive; everyone else gets the same wrapped JSON body as the MVC
+ * controllers.
+ * <p>
+ * Wrapped responses are bounded by the same {@value RequestDeadline#TIMEOUT_HEADER} budget as the servlet
+ * stack and answer 504 when it runs out. NDJSON streams are exports with no deadline: they end when the
+ * client disconnects, which cancels the subscription and with it the query feeding the stream.
+ */
+public class ReactiveReadHandler {
+    
+    private static final String USER_ID_ATTRIBUTE = ReactiveReadHandler.class.getName() + ".userId";
+    private static final Pattern ACCOUNT_NUMBER = Pattern.compile("^01\\d{6}$");
+    
+    private final ReactiveReadRepository repository;
+    private final JwtService jwtService;
+    private final TokenRevocationCache tokenRevocationCache;
+    private final ReactiveReadProperties properties;
+    private final Counter abandonedStreams;
+    private final Counter deadlineExceeded;
+    
+    public ReactiveReadHandler(ReactiveReadRepository repository, JwtService jwtService,
+                               TokenRevocationCache tokenRevocationCache, ReactiveReadProperties properties,
+                               MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.jwtService = jwtService;
+        this.tokenRevocationCache = tokenRevocationCache;
+        this.properties = properties;
+        this.abandonedStreams = Counter.builder("reactive.read.streams.abandoned")
+                .description("NDJSON streams cancelled because the client disconnected")
+                .register(meterRegistry);
+        this.deadlineExceeded = Counter.builder("reactive.read.deadline.exceeded")
+                .description("Wrapped listings abandoned when their deadline passed")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Validates the bearer token the same way {@code JwtAuthenticationFilter} does. Rejections use 403, which
+     * is what the servlet security chain returns for unauthenticated requests, so clients see no difference
+     * between the stacks.
+     */
+    public HandlerFilterFunction<ServerResponse, ServerResponse> authentication() {
+        return (request, next) -> {
+            String authHeader = request.headers().firstHeader(HttpHeaders.AUTHORIZATION);
+            if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+                return ServerResponse.status(HttpStatus.FORBIDDEN).build();
+            }
+            Claims claims = jwtService.parseClaims(authHeader.substring(7));
+            if (claims == null || tokenRevocationCache.isRevoked(claims.getId(), claims.getSubject(),
+                    claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null)) {
+                return ServerResponse.status(HttpStatus.FORBIDDEN).build();
+            }
+            request.attributes().put(USER_ID_ATTRIBUTE, claims.getSubject());
+            return next.handle(request);
+        };
+    }
+    
+    public Mono<ServerResponse> listAccounts(ServerRequest request) {
+        Flux<BankAccountResponse> accounts = repository.findAccountsByUserId(userId(request));
+        return respond(request, accounts, BankAccountResponse.class, ListBankAccountsResponse::new);
+    }
+    
+    public Mono<ServerResponse> listTransactions(ServerRequest request) {
+        String accountNumber = request.pathVariable("accountNumber");
+        if (!ACCOUNT_NUMBER.matcher(accountNumber).matches()) {
+            return error(HttpStatus.BAD_REQUEST, "Invalid account number");
+        }
+        String userId = userId(request);
+        return repository.findAccountOwner(accountNumber)
+                .flatMap(owner -> owner.equals(userId)
+                        ? respond(request, repository.findTransactionsByAccountNumber(accountNumber),
+                                TransactionResponse.class, ListTransactionsResponse::new)
+                        : error(HttpStatus.FORBIDDEN, "Access denied"))
+                .switchIfEmpty(Mono.defer(() -> error(HttpStatus.NOT_FOUND, "Bank account not found")));
+    }
+    
+    private <T, W> Mono<ServerResponse> respond(ServerRequest request, Flux<T> rows, Class<T> type,
+                                                Function<List<T>, W> wrapper) {
+        if (request.headers().accept().contains(MediaType.APPLICATION_NDJSON)) {
+            return ServerResponse.ok().contentType(MediaType.APPLICATION_NDJSON)
+                    .body(rows.doOnCancel(abandonedStreams::increment), type);
+        }
+        return rows.collectList()
+                .timeout(timeout(request))
+                .flatMap(list -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(wrapper.apply(list)))
+                .onErrorResume(TimeoutException.class, e -> {
+                    deadlineExceeded.increment();
+                    return error(HttpStatus.GATEWAY_TIMEOUT, "The request did not complete within its deadline");
+                });
+    }
+    
+    private Duration timeout(ServerRequest request) {
+        long requestedMillis = RequestDeadline.parseTimeoutMillis(
+                request.headers().firstHeader(RequestDeadline.TIMEOUT_HEADER));
+        if (requestedMillis > 0) {
+            Duration requested = Duration.ofMillis(requestedMillis);
+            return requested.compareTo(properties.maxRequestTimeout()) < 0 ? requested : properties.maxRequestTimeout();
+        }
+        return properties.requestTimeout();
+    }
+    
+    private static Mono<ServerResponse> error(HttpStatus status, String message) {
+        return ServerResponse.status(status).contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new ErrorResponse(message));
+    }
+    
+    private static String userId(ServerRequest request) {
+        return (String) request.attributes().get(USER_ID_ATTRIBUTE);
+    }
+}
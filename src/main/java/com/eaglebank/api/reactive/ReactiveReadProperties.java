@@ -0,0 +1,20 @@
+package com.eaglebank.api.reactive;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "reactive-read")
+public record ReactiveReadProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("0.0.0.0") String bindAddress,
+        @DefaultValue("8081") int port,
+        String url,
+        String username,
+        String password,
+        @DefaultValue("20") int maxPoolSize,
+        @DefaultValue("2s") Duration requestTimeout,
+        @DefaultValue("30s") Duration maxRequestTimeout
+) {
+}
@@ -0,0 +1,86 @@
+package com.eaglebank.api.reactive;
+
+import com.eaglebank.api.dto.account.BankAccountResponse;
+import com.eaglebank.api.dto.transaction.TransactionResponse;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+
+/**
+ * R2DBC counterparts of the projection queries in {@code BankAccountRepository} and
+ * {@code TransactionRepository}. Rows are mapped to the same response records as they arrive, so a
+ * listing is never materialised as a whole unless the caller collects it.
+ */
+public class ReactiveReadRepository {
+    
+    private final DatabaseClient databaseClient;
+    
+    public ReactiveReadRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+    
+    public Flux<BankAccountResponse> findAccountsByUserId(String userId) {
+        return databaseClient.sql("""
+                        select account_number, sort_code, name, account_type, balance, currency,
+                               created_timestamp, updated_timestamp
+                        from bank_accounts
+                        where user_id = :userId and status = 'OPEN'
+                        """)
+                .bind("userId", userId)
+                .map(ReactiveReadRepository::toAccount)
+                .all();
+    }
+    
+    public Mono<String> findAccountOwner(String accountNumber) {
+        return databaseClient.sql("""
+                        select user_id from bank_accounts
+                        where account_number = :accountNumber and status = 'OPEN'
+                        """)
+                .bind("accountNumber", accountNumber)
+                .map(row -> row.get("user_id", String.class))
+                .one();
+    }
+    
+    public Flux<TransactionResponse> findTransactionsByAccountNumber(String accountNumber) {
+        return databaseClient.sql("""
+                        select id, amount, currency, type, reference, user_id, created_timestamp
+                        from transactions
+                        where account_number = :accountNumber
+                        order by created_timestamp desc
+                        """)
+                .bind("accountNumber", accountNumber)
+                .map(ReactiveReadRepository::toTransaction)
+                .all();
+    }
+    
+    private static BankAccountResponse toAccount(Readable row) {
+        return new BankAccountResponse(
+                row.get("account_number", String.class),
+                row.get("sort_code", String.class),
+                row.get("name", String.class),
+                row.get("account_type", String.class),
+                row.get("balance", Long.class),
+                row.get("currency", String.class),
+                toInstant(row.get("created_timestamp", OffsetDateTime.class)),
+                toInstant(row.get("updated_timestamp", OffsetDateTime.class)));
+    }
+    
+    private static TransactionResponse toTransaction(Readable row) {
+        return new TransactionResponse(
+                row.get("id", String.class),
+                row.get("amount", Long.class),
+                row.get("currency", String.class),
+                row.get("type", String.class),
+                row.get("reference", String.class),
+                row.get("user_id", String.class),
+                toInstant(row.get("created_timestamp", OffsetDateTime.class)));
+    }
+    
+    private static Instant toInstant(OffsetDateTime timestamp) {
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+}
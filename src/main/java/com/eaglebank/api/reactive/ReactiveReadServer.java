@@ -0,0 +1,56 @@
+package com.eaglebank.api.reactive;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * Netty listener for the reactive read endpoints, started beside the servlet container on its own port.
+ * Responses are written as the client drains them, so a slow reader holds a connection but no thread.
+ */
+public class ReactiveReadServer implements SmartLifecycle {
+    
+    private static final Logger log = LoggerFactory.getLogger(ReactiveReadServer.class);
+    
+    private final String bindAddress;
+    private final int port;
+    private final HttpHandler httpHandler;
+    private DisposableServer server;
+    
+    public ReactiveReadServer(String bindAddress, int port, HttpHandler httpHandler) {
+        this.bindAddress = bindAddress;
+        this.port = port;
+        this.httpHandler = httpHandler;
+    }
+    
+    @Override
+    public synchronized void start() {
+        server = HttpServer.create()
+                .host(bindAddress)
+                .port(port)
+                .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                .bindNow();
+        log.info("Reactive read listener started on {}:{}", bindAddress, server.port());
+    }
+    
+    @Override
+    public synchronized void stop() {
+        if (server != null) {
+            server.disposeNow();
+            server = null;
+        }
+    }
+    
+    @Override
+    public synchronized boolean isRunning() {
+        return server != null;
+    }
+    
+    public synchronized int getPort() {
+        return server != null ? server.port() : port;
+    }
+}
@@ -1,7 +1,13 @@
 package com.eaglebank.api.repository;
 
 import com.eaglebank.api.domain.BankAccount;
+import com.eaglebank.api.dto.account.AccountTypeSummary;
+import com.eaglebank.api.dto.account.BankAccountResponse;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,6 +17,50 @@ import java.util.Optional;
 public interface BankAccountRepository extends JpaRepository<BankAccount, String> {
     List<BankAccount> findByUserId(String userId);
     Optional<BankAccount> findByAccountNumberAndUserId(String accountNumber, String userId);
-    boolean existsByUserId(String userId);
+    boolean existsByAccountNumberAndUserId(String accountNumber, String userId);
+    
+    @Query("select count(a) > 0 from BankAccount a where a.user.id = :userId")
+    boolean existsOpenByUserId(@Param("userId") String userId);
+    
+    // Native, so closed accounts still awaiting purge count too: their rows still reference the user.
+    @Query(value = "select count(*) > 0 from bank_accounts where user_id = :userId", nativeQuery = true)
+    boolean existsByUserId(@Param("userId") String userId);
+    
+    // Native, so a closed account's number is not handed out again before its row is purged.
+    @Query(value = "select count(*) > 0 from bank_accounts where account_number = :accountNumber",
+            nativeQuery = true)
+    boolean existsIncludingClosed(@Param("accountNumber") String accountNumber);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from BankAccount a where a.accountNumber = :accountNumber")
+    Optional<BankAccount> findByAccountNumberForUpdate(@Param("accountNumber") String accountNumber);
+    
+    @Query("""
+            select new com.eaglebank.api.dto.account.AccountTypeSummary(
+                a.accountType, count(a), sum(a.balance), max(a.updatedTimestamp))
+            from BankAccount a
+            where a.user.id = :userId
+            group by a.accountType
+            """)
+    List<AccountTypeSummary> summarizeByUserId(@Param("userId") String userId);
+    
+    @Query("""
+            select new com.eaglebank.api.dto.account.BankAccountResponse(
+                a.accountNumber, a.sortCode, a.name, a.accountType, a.balance, a.currency,
+                a.createdTimestamp, a.updatedTimestamp)
+            from BankAccount a
+            where a.user.id = :userId
+            """)
+    List<BankAccountResponse> findResponsesByUserId(@Param("userId") String userId);
+    
+    @Query("""
+            select new com.eaglebank.api.dto.account.BankAccountResponse(
+                a.accountNumber, a.sortCode, a.name, a.accountType, a.balance, a.currency,
+                a.createdTimestamp, a.updatedTimestamp)
+            from BankAccount a
+            where a.accountNumber = :accountNumber and a.user.id = :userId
+            """)
+    Optional<BankAccountResponse> findResponseByAccountNumberAndUserId(@Param("accountNumber") String accountNumber,
+                                                                       @Param("userId") String userId);
 }
 
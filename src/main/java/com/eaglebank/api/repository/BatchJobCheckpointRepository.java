@@ -0,0 +1,9 @@
+package com.eaglebank.api.repository;
+
+import com.eaglebank.api.domain.BatchJobCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BatchJobCheckpointRepository extends JpaRepository<BatchJobCheckpoint, String> {
+}
@@ -0,0 +1,20 @@
+package com.eaglebank.api.repository;
+
+import com.eaglebank.api.domain.MonthlyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface MonthlyRollupRepository extends JpaRepository<MonthlyRollup, String> {
+    
+    List<MonthlyRollup> findByAccountNumberOrderByMonthStartDesc(String accountNumber);
+    
+    @Modifying
+    @Query("delete from MonthlyRollup r where r.accountNumber = :accountNumber")
+    int deleteByAccountNumber(@Param("accountNumber") String accountNumber);
+}
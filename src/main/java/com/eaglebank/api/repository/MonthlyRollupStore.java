@@ -0,0 +1,145 @@
+package com.eaglebank.api.repository;
+
+import com.eaglebank.api.enums.TransactionType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Applies transaction postings to {@code account_monthly_rollups} with plain JDBC in the caller's
+ * transaction. On PostgreSQL each delta is a single {@code INSERT ... ON CONFLICT DO UPDATE}; other
+ * databases (H2 in tests) fall back to update-then-insert. The fallback is safe because every caller already
+ * holds the account's row lock, so no two transactions can create the same account-month row at once.
+ */
+@Repository
+public class MonthlyRollupStore {
+    
+    private static final String UPSERT_SQL = """
+            insert into account_monthly_rollups (id, account_number, month_start, deposit_total, deposit_count,
+                                                 withdrawal_total, withdrawal_count, updated_timestamp)
+            values (?, ?, ?, ?, ?, ?, ?, ?)
+            on conflict (id) do update set
+                deposit_total = account_monthly_rollups.deposit_total + excluded.deposit_total,
+                deposit_count = account_monthly_rollups.deposit_count + excluded.deposit_count,
+                withdrawal_total = account_monthly_rollups.withdrawal_total + excluded.withdrawal_total,
+                withdrawal_count = account_monthly_rollups.withdrawal_count + excluded.withdrawal_count,
+                updated_timestamp = excluded.updated_timestamp""";
+    
+    private static final String INCREMENT_SQL = """
+            update account_monthly_rollups
+            set deposit_total = deposit_total + ?, deposit_count = deposit_count + ?,
+                withdrawal_total = withdrawal_total + ?, withdrawal_count = withdrawal_count + ?,
+                updated_timestamp = ?
+            where id = ?""";
+    
+    private static final String INSERT_SQL = """
+            insert into account_monthly_rollups (id, account_number, month_start, deposit_total, deposit_count,
+                                                 withdrawal_total, withdrawal_count, updated_timestamp)
+            values (?, ?, ?, ?, ?, ?, ?, ?)""";
+    
+    private static final String DELETE_ACCOUNTS_SQL =
+            "delete from account_monthly_rollups where account_number in (:accountNumbers)";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final boolean nativeUpsert;
+    
+    public MonthlyRollupStore(JdbcTemplate jdbcTemplate, DataSource dataSource) throws MetaDataAccessException {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        this.nativeUpsert = "PostgreSQL".equalsIgnoreCase(product);
+    }
+    
+    public void add(String accountNumber, Instant createdTimestamp, TransactionType type, long amount) {
+        add(List.of(Delta.of(accountNumber, createdTimestamp, type, amount)));
+    }
+    
+    /** Adds each delta to its account-month row, creating the row if needed. */
+    public void add(Collection<Delta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        // Callers hold the account row locks, but a consistent order still keeps batch callers deterministic.
+        List<Delta> ordered = deltas.stream().sorted(Comparator.comparing(Delta::id)).toList();
+        Timestamp now = Timestamp.from(Instant.now());
+        if (nativeUpsert) {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, ordered, ordered.size(), (ps, delta) -> bindInsert(ps, delta, now));
+            return;
+        }
+        for (Delta delta : ordered) {
+            int updated = jdbcTemplate.update(INCREMENT_SQL, delta.depositTotal(), delta.depositCount(),
+                    delta.withdrawalTotal(), delta.withdrawalCount(), now, delta.id());
+            if (updated == 0) {
+                jdbcTemplate.update(INSERT_SQL, ps -> bindInsert(ps, delta, now));
+            }
+        }
+    }
+    
+    /** Replaces every rollup row of the given accounts with the supplied totals, as a rebuild from history. */
+    public void replace(Collection<String> accountNumbers, Collection<Delta> totals) {
+        if (accountNumbers.isEmpty()) {
+            return;
+        }
+        namedParameterJdbcTemplate.update(DELETE_ACCOUNTS_SQL, Map.of("accountNumbers", accountNumbers));
+        if (totals.isEmpty()) {
+            return;
+        }
+        List<Delta> ordered = totals.stream().sorted(Comparator.comparing(Delta::id)).toList();
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, ordered, ordered.size(), (ps, delta) -> bindInsert(ps, delta, now));
+    }
+    
+    private static void bindInsert(PreparedStatement ps, Delta delta, Timestamp now) throws SQLException {
+        ps.setString(1, delta.id());
+        ps.setString(2, delta.accountNumber());
+        ps.setObject(3, delta.month().atDay(1));
+        ps.setLong(4, delta.depositTotal());
+        ps.setLong(5, delta.depositCount());
+        ps.setLong(6, delta.withdrawalTotal());
+        ps.setLong(7, delta.withdrawalCount());
+        ps.setTimestamp(8, now);
+    }
+    
+    /** Totals to add to (or, when rebuilding, to store as) one account-month row. */
+    public record Delta(String accountNumber, YearMonth month, long depositTotal, long depositCount,
+                        long withdrawalTotal, long withdrawalCount) {
+        
+        public static Delta of(String accountNumber, Instant createdTimestamp, TransactionType type, long amount) {
+            YearMonth month = YearMonth.from(createdTimestamp.atZone(ZoneOffset.UTC));
+            return type == TransactionType.WITHDRAWAL
+                    ? new Delta(accountNumber, month, 0, 0, amount, 1)
+                    : new Delta(accountNumber, month, amount, 1, 0, 0);
+        }
+        
+        public Delta plus(Delta other) {
+            return new Delta(accountNumber, month, depositTotal + other.depositTotal,
+                    depositCount + other.depositCount, withdrawalTotal + other.withdrawalTotal,
+                    withdrawalCount + other.withdrawalCount);
+        }
+        
+        public String id() {
+            return accountNumber + ":" + month;
+        }
+        
+        public LocalDate monthStart() {
+            return month.atDay(1);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.eaglebank.api.repository;
+
+import com.eaglebank.api.domain.TokenRevocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface TokenRevocationRepository extends JpaRepository<TokenRevocation, String> {
+    List<TokenRevocation> findByUpdatedTimestampAfterAndExpiresAtAfter(Instant updatedAfter, Instant expiresAfter);
+    
+    @Modifying
+    @Query("delete from TokenRevocation r where r.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -1,15 +1,34 @@
 package com.eaglebank.api.repository;
 
 import com.eaglebank.api.domain.Transaction;
+import com.eaglebank.api.dto.transaction.TransactionResponse;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TransactionRepository extends JpaRepository<Transaction, String> {
-    List<Transaction> findByAccountAccountNumberOrderByCreatedTimestampDesc(String accountNumber);
-    Optional<Transaction> findByIdAndAccountAccountNumber(String transactionId, String accountNumber);
+public interface TransactionRepository extends JpaRepository<Transaction, String>, TransactionSearchRepository {
+    // Read paths project straight into the response record so no entities enter the persistence context.
+    @Query("""
+            select new com.eaglebank.api.dto.transaction.TransactionResponse(
+                t.id, t.amount, t.currency, t.type, t.reference, t.user.id, t.createdTimestamp)
+            from Transaction t
+            where t.account.accountNumber = :accountNumber
+            order by t.createdTimestamp desc
+            """)
+    List<TransactionResponse> findResponsesByAccountNumber(@Param("accountNumber") String accountNumber);
+    
+    @Query("""
+            select new com.eaglebank.api.dto.transaction.TransactionResponse(
+                t.id, t.amount, t.currency, t.type, t.reference, t.user.id, t.createdTimestamp)
+            from Transaction t
+            where t.id = :transactionId and t.account.accountNumber = :accountNumber
+            """)
+    Optional<TransactionResponse> findResponseByIdAndAccountNumber(@Param("transactionId") String transactionId,
+                                                                   @Param("accountNumber") String accountNumber);
 }
 
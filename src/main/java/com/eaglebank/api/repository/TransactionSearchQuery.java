@@ -0,0 +1,20 @@
+package com.eaglebank.api.repository;
+
+import java.time.Instant;
+
+/**
+ * Resolved search filters in storage units. Every field except {@code limit} is optional; {@code afterCreated}
+ * and {@code afterId} together are the keyset position of the last row of the previous page.
+ */
+public record TransactionSearchQuery(
+        String type,
+        Long minAmountMinor,
+        Long maxAmountMinor,
+        Instant from,
+        Instant to,
+        String referenceText,
+        Instant afterCreated,
+        String afterId,
+        int limit
+) {
+}
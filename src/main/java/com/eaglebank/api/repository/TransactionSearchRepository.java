@@ -0,0 +1,14 @@
+package com.eaglebank.api.repository;
+
+import com.eaglebank.api.dto.transaction.TransactionResponse;
+
+import java.util.List;
+
+public interface TransactionSearchRepository {
+    
+    /**
+     * Returns up to {@code query.limit()} matching transactions of one account, newest first with the
+     * transaction ID as tie-breaker, starting after the query's keyset position.
+     */
+    List<TransactionResponse> search(String accountNumber, TransactionSearchQuery query);
+}
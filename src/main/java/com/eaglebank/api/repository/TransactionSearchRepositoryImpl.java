@@ -0,0 +1,81 @@
+package com.eaglebank.api.repository;
+
+import com.eaglebank.api.domain.Transaction;
+import com.eaglebank.api.dto.transaction.TransactionResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Builds the search as a projection query with only the predicates that were asked for, so each filter
+ * combination gets a plan that can use the account-leading composite indexes on {@code transactions}. The
+ * reference filter is a lower-cased LIKE: PostgreSQL serves it from the trigram index created by
+ * {@code db/transaction-search-indexes.sql}, while H2 evaluates it as a residual filter within the account.
+ */
+public class TransactionSearchRepositoryImpl implements TransactionSearchRepository {
+    
+    private static final char LIKE_ESCAPE = '\\';
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public List<TransactionResponse> search(String accountNumber, TransactionSearchQuery query) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TransactionResponse> criteria = cb.createQuery(TransactionResponse.class);
+        Root<Transaction> t = criteria.from(Transaction.class);
+        Path<Instant> created = t.get("createdTimestamp");
+        Path<String> id = t.get("id");
+        Path<Long> amount = t.get("amount");
+        
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(t.get("account").get("accountNumber"), accountNumber));
+        if (query.type() != null) {
+            predicates.add(cb.equal(t.get("type"), query.type()));
+        }
+        if (query.minAmountMinor() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(amount, query.minAmountMinor()));
+        }
+        if (query.maxAmountMinor() != null) {
+            predicates.add(cb.lessThanOrEqualTo(amount, query.maxAmountMinor()));
+        }
+        if (query.from() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(created, query.from()));
+        }
+        if (query.to() != null) {
+            predicates.add(cb.lessThan(created, query.to()));
+        }
+        if (query.referenceText() != null) {
+            predicates.add(cb.like(cb.lower(t.get("reference")),
+                    "%" + escapeLike(query.referenceText().toLowerCase(Locale.ROOT)) + "%", LIKE_ESCAPE));
+        }
+        if (query.afterCreated() != null) {
+            predicates.add(cb.or(
+                    cb.lessThan(created, query.afterCreated()),
+                    cb.and(cb.equal(created, query.afterCreated()), cb.lessThan(id, query.afterId()))));
+        }
+        
+        criteria.select(cb.construct(TransactionResponse.class,
+                        id, amount, t.get("currency"), t.get("type"), t.get("reference"),
+                        t.get("user").get("id"), created))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.desc(created), cb.desc(id));
+        
+        return entityManager.createQuery(criteria)
+                .setMaxResults(query.limit())
+                .getResultList();
+    }
+    
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
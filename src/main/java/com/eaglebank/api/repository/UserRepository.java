@@ -1,7 +1,10 @@
 package com.eaglebank.api.repository;
 
 import com.eaglebank.api.domain.User;
+import com.eaglebank.api.dto.user.UserResponse;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -10,5 +13,15 @@ import java.util.Optional;
 public interface UserRepository extends JpaRepository<User, String> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+    
+    @Query("""
+            select new com.eaglebank.api.dto.user.UserResponse(
+                u.id, u.name, u.address.line1, u.address.line2, u.address.line3, u.address.town,
+                u.address.county, u.address.postcode, u.phoneNumber, u.email,
+                u.createdTimestamp, u.updatedTimestamp)
+            from User u
+            where u.id = :userId
+            """)
+    Optional<UserResponse> findResponseById(@Param("userId") String userId);
 }
 
@@ -1,6 +1,9 @@
 package com.eaglebank.api.security;
 
 import com.eaglebank.api.service.JwtService;
+import com.eaglebank.api.tracing.RequestTrace;
+import com.eaglebank.api.tracing.SpanLayer;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -23,9 +26,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final Logger log = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
     
     private final JwtService jwtService;
+    private final TokenRevocationCache tokenRevocationCache;
     
-    public JwtAuthenticationFilter(JwtService jwtService) {
+    public JwtAuthenticationFilter(JwtService jwtService, TokenRevocationCache tokenRevocationCache) {
         this.jwtService = jwtService;
+        this.tokenRevocationCache = tokenRevocationCache;
     }
     
     @Override
@@ -38,10 +43,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
         
-        String token = authHeader.substring(7);
+        int span = RequestTrace.enter(SpanLayer.AUTHENTICATION, "JwtAuthenticationFilter");
+        try {
+            authenticate(request, authHeader.substring(7));
+        } finally {
+            RequestTrace.exit(span);
+        }
+        
+        filterChain.doFilter(request, response);
+    }
+    
+    private void authenticate(HttpServletRequest request, String token) {
+        Claims claims = jwtService.parseClaims(token);
         
-        if (jwtService.validateToken(token)) {
-            String userId = jwtService.extractUserId(token);
+        if (claims != null && !isRevoked(claims)) {
+            String userId = claims.getSubject();
             
             UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                     userId,
@@ -52,10 +68,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             SecurityContextHolder.getContext().setAuthentication(authentication);
         } else {
             SecurityContextHolder.clearContext();
-            log.warn("Invalid JWT token received for request {} {}", request.getMethod(), request.getRequestURI());
+            log.warn("Invalid or revoked JWT token received for request {} {}",
+                    request.getMethod(), request.getRequestURI());
         }
-        
-        filterChain.doFilter(request, response);
+    }
+    
+    private boolean isRevoked(Claims claims) {
+        return tokenRevocationCache.isRevoked(claims.getId(), claims.getSubject(),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null);
     }
 }
 
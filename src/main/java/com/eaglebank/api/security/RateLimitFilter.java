@@ -0,0 +1,88 @@
+package com.eaglebank.api.security;
+
+import com.eaglebank.api.dto.common.ErrorResponse;
+import com.eaglebank.api.util.SecurityContextUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+    
+    private static final ErrorResponse TOO_MANY_REQUESTS_RESPONSE =
+            new ErrorResponse("Too many requests. Please retry later.");
+    
+    private final RateLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final List<LimitedRoute> routes;
+    
+    public RateLimitFilter(RateLimitProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.routes = properties.routes().stream()
+                .map(route -> new LimitedRoute(
+                        route.method(),
+                        PathPatternParser.defaultInstance.parse(route.pattern()),
+                        new TokenBucketRateLimiter(route.capacity(), route.refillPerSecond(),
+                                properties.maxTrackedUsers())))
+                .toList();
+    }
+    
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.enabled() || routes.isEmpty();
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                   FilterChain filterChain) throws ServletException, IOException {
+        Optional<String> userId = SecurityContextUtil.findCurrentUserId();
+        LimitedRoute route = userId.isPresent() ? findRoute(request) : null;
+        
+        if (route != null) {
+            long waitNanos = route.limiter().tryAcquire(userId.get());
+            if (waitNanos > 0) {
+                long retryAfterSeconds = Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+                response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                objectMapper.writeValue(response.getOutputStream(), TOO_MANY_REQUESTS_RESPONSE);
+                return;
+            }
+        }
+        
+        filterChain.doFilter(request, response);
+    }
+    
+    private LimitedRoute findRoute(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        for (LimitedRoute route : routes) {
+            if (route.matches(request.getMethod(), path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+    
+    private record LimitedRoute(String method, PathPattern pattern, TokenBucketRateLimiter limiter) {
+        
+        boolean matches(String requestMethod, PathContainer path) {
+            return (method == null || method.equalsIgnoreCase(requestMethod)) && pattern.matches(path);
+        }
+    }
+}
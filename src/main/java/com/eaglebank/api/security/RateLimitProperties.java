@@ -0,0 +1,27 @@
+package com.eaglebank.api.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+@ConfigurationProperties(prefix = "rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100000") int maxTrackedUsers,
+        List<Route> routes
+) {
+    
+    public RateLimitProperties {
+        routes = routes == null ? List.of() : List.copyOf(routes);
+    }
+    
+    public record Route(
+            String name,
+            String method,
+            String pattern,
+            int capacity,
+            double refillPerSecond
+    ) {
+    }
+}
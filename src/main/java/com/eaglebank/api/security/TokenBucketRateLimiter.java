@@ -0,0 +1,72 @@
+package com.eaglebank.api.security;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket expressed as a generic cell rate algorithm: each key holds a single "theoretical arrival
+ * time" that is advanced with a CAS, so acquiring a token is lock-free. A bucket whose arrival time is in
+ * the past is full, which means it can be dropped from the map without changing behaviour.
+ */
+public class TokenBucketRateLimiter {
+    
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final int maxTrackedKeys;
+    private final LongSupplier nanoClock;
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    
+    public TokenBucketRateLimiter(int capacity, double refillPerSecond, int maxTrackedKeys) {
+        this(capacity, refillPerSecond, maxTrackedKeys, System::nanoTime);
+    }
+    
+    TokenBucketRateLimiter(int capacity, double refillPerSecond, int maxTrackedKeys, LongSupplier nanoClock) {
+        if (capacity < 1 || refillPerSecond <= 0 || maxTrackedKeys < 1) {
+            throw new IllegalArgumentException("Rate limit capacity, refill rate and key limit must be positive");
+        }
+        this.emissionIntervalNanos = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond));
+        this.burstToleranceNanos = emissionIntervalNanos * capacity;
+        this.maxTrackedKeys = maxTrackedKeys;
+        this.nanoClock = nanoClock;
+    }
+    
+    /**
+     * Takes one token for the key.
+     *
+     * @return {@code 0} when the call is allowed, otherwise the nanoseconds until a token is available
+     */
+    public long tryAcquire(String key) {
+        long now = nanoClock.getAsLong();
+        AtomicLong arrivalTime = buckets.get(key);
+        if (arrivalTime == null) {
+            if (buckets.size() >= maxTrackedKeys && evictFullBuckets(now) == 0) {
+                return 0;
+            }
+            arrivalTime = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+        
+        while (true) {
+            long current = arrivalTime.get();
+            long next = Math.max(current, now) + emissionIntervalNanos;
+            long waitNanos = next - now - burstToleranceNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (arrivalTime.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+    
+    int trackedKeys() {
+        return buckets.size();
+    }
+    
+    private int evictFullBuckets(long now) {
+        int before = buckets.size();
+        buckets.values().removeIf(arrivalTime -> arrivalTime.get() <= now);
+        return before - buckets.size();
+    }
+}
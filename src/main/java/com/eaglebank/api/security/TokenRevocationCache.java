@@ -0,0 +1,143 @@
+package com.eaglebank.api.security;
+
+import com.eaglebank.api.domain.TokenRevocation;
+import com.eaglebank.api.enums.RevocationType;
+import com.eaglebank.api.repository.TokenRevocationRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory copy of the {@code token_revocations} table, consulted by {@link JwtAuthenticationFilter} on
+ * every request without touching the database. Revoked token IDs go into a Bloom filter, so the common
+ * case of a token that was never revoked is answered from a few bit lookups, backed by a map of token ID to
+ * expiry that confirms the rare positive. Per-user cut-offs live in a separate map.
+ * <p>
+ * Revocations made on this node apply immediately; those made on other nodes are picked up by
+ * {@link #refresh()}, so they take effect everywhere within {@code jwt.revocation.refresh-interval}.
+ * Entries are dropped once every token they could match has expired.
+ */
+@Component
+public class TokenRevocationCache {
+    
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationCache.class);
+    
+    // Rows committed just before the previous refresh may carry an earlier timestamp, so each refresh
+    // re-reads a short overlap; applying a row twice is harmless.
+    private static final Duration REFRESH_OVERLAP = Duration.ofSeconds(30);
+    
+    private final TokenRevocationRepository repository;
+    private final int expectedRevokedTokens;
+    private final Clock clock;
+    private volatile State state;
+    private volatile Instant lastRefresh = Instant.EPOCH;
+    
+    @Autowired
+    public TokenRevocationCache(TokenRevocationRepository repository,
+                                @Value("${jwt.revocation.expected-revoked-tokens:100000}") int expectedRevokedTokens) {
+        this(repository, expectedRevokedTokens, Clock.systemUTC());
+    }
+    
+    TokenRevocationCache(TokenRevocationRepository repository, int expectedRevokedTokens, Clock clock) {
+        this.repository = repository;
+        this.expectedRevokedTokens = expectedRevokedTokens;
+        this.clock = clock;
+        this.state = new State(new BloomFilter(expectedRevokedTokens, 0.01));
+    }
+    
+    /**
+     * JWT issue times have one-second resolution, so a user cut-off also rejects tokens issued in the same
+     * second as the revocation.
+     */
+    public boolean isRevoked(String tokenId, String userId, Instant issuedAt) {
+        State current = state;
+        if (userId != null) {
+            UserCutoff cutoff = current.userCutoffs.get(userId);
+            if (cutoff != null && (issuedAt == null || !issuedAt.isAfter(cutoff.notBefore()))) {
+                return true;
+            }
+        }
+        if (tokenId == null || !current.tokenFilter.mightContain(tokenId)) {
+            return false;
+        }
+        return current.revokedTokens.containsKey(tokenId);
+    }
+    
+    public void revokeToken(String tokenId, Instant expiresAt) {
+        State current = state;
+        current.revokedTokens.put(tokenId, expiresAt);
+        current.tokenFilter.add(tokenId);
+    }
+    
+    public void revokeUser(String userId, Instant notBefore, Instant expiresAt) {
+        state.userCutoffs.merge(userId, new UserCutoff(notBefore, expiresAt),
+                (existing, added) -> added.notBefore().isAfter(existing.notBefore()) ? added : existing);
+    }
+    
+    /** Applies rows written since the last refresh, including those written by other nodes. */
+    @Scheduled(fixedDelayString = "${jwt.revocation.refresh-interval:PT5S}",
+            initialDelayString = "${jwt.revocation.refresh-interval:PT5S}")
+    public void refresh() {
+        Instant now = clock.instant();
+        List<TokenRevocation> rows = repository.findByUpdatedTimestampAfterAndExpiresAtAfter(
+                lastRefresh.minus(REFRESH_OVERLAP), now);
+        rows.forEach(this::apply);
+        lastRefresh = now;
+    }
+    
+    /** Rebuilds the filter and maps from the table, dropping entries that can no longer match any token. */
+    @PostConstruct
+    public void reloadAll() {
+        Instant now = clock.instant();
+        State previous = state;
+        state = new State(new BloomFilter(expectedRevokedTokens, 0.01));
+        repository.findByUpdatedTimestampAfterAndExpiresAtAfter(Instant.EPOCH, now).forEach(this::apply);
+        // Keep unexpired local revocations made while the table was being read; the next refresh would
+        // restore them anyway, but this node should not accept them in between.
+        previous.revokedTokens.forEach((tokenId, expiresAt) -> {
+            if (expiresAt.isAfter(now)) {
+                revokeToken(tokenId, expiresAt);
+            }
+        });
+        previous.userCutoffs.forEach((userId, cutoff) -> {
+            if (cutoff.expiresAt().isAfter(now)) {
+                revokeUser(userId, cutoff.notBefore(), cutoff.expiresAt());
+            }
+        });
+        lastRefresh = now;
+        log.info("Loaded {} revoked tokens and {} user revocations", state.revokedTokens.size(),
+                state.userCutoffs.size());
+    }
+    
+    private void apply(TokenRevocation row) {
+        if (row.getType() == RevocationType.TOKEN) {
+            revokeToken(row.getSubject(), row.getExpiresAt());
+        } else {
+            revokeUser(row.getSubject(), row.getNotBefore(), row.getExpiresAt());
+        }
+    }
+    
+    private static final class State {
+        private final BloomFilter tokenFilter;
+        private final Map<String, Instant> revokedTokens = new ConcurrentHashMap<>();
+        private final Map<String, UserCutoff> userCutoffs = new ConcurrentHashMap<>();
+        
+        private State(BloomFilter tokenFilter) {
+            this.tokenFilter = tokenFilter;
+        }
+    }
+    
+    private record UserCutoff(Instant notBefore, Instant expiresAt) {
+    }
+}
@@ -1,24 +1,30 @@
 package com.eaglebank.api.service;
 
+import com.eaglebank.api.cache.ResponseByteCache;
 import com.eaglebank.api.constants.ApplicationConstants;
 import com.eaglebank.api.domain.BankAccount;
 import com.eaglebank.api.domain.User;
+import com.eaglebank.api.dto.account.AccountSummaryResponse;
+import com.eaglebank.api.dto.account.AccountTypeSummary;
 import com.eaglebank.api.dto.account.BankAccountResponse;
 import com.eaglebank.api.dto.account.CreateBankAccountRequest;
 import com.eaglebank.api.dto.account.ListBankAccountsResponse;
 import com.eaglebank.api.dto.account.UpdateBankAccountRequest;
+import com.eaglebank.api.enums.AccountStatus;
 import com.eaglebank.api.enums.AccountType;
 import com.eaglebank.api.repository.BankAccountRepository;
 import com.eaglebank.api.repository.UserRepository;
 import com.eaglebank.api.util.EntityMapper;
 import com.eaglebank.api.util.IdGenerator;
+import com.eaglebank.api.util.MoneyUtil;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.math.BigDecimal;
-import java.util.List;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Service
 @Transactional
@@ -26,11 +32,14 @@ public class AccountService {
     
     private final BankAccountRepository bankAccountRepository;
     private final UserRepository userRepository;
+    private final ResponseByteCache responseByteCache;
     
     public AccountService(BankAccountRepository bankAccountRepository, 
-                         UserRepository userRepository) {
+                         UserRepository userRepository,
+                         ResponseByteCache responseByteCache) {
         this.bankAccountRepository = bankAccountRepository;
         this.userRepository = userRepository;
+        this.responseByteCache = responseByteCache;
     }
     
     public BankAccountResponse createAccount(CreateBankAccountRequest request, String userId) {
@@ -44,7 +53,7 @@ public class AccountService {
         
         String accountNumber = IdGenerator.generateAccountNumber();
 
-        while (bankAccountRepository.existsById(accountNumber)) {
+        while (bankAccountRepository.existsIncludingClosed(accountNumber)) {
             accountNumber = IdGenerator.generateAccountNumber();
         }
         
@@ -53,32 +62,49 @@ public class AccountService {
         account.setSortCode(ApplicationConstants.ACCOUNT_SORT_CODE);
         account.setName(request.name());
         account.setAccountType(accountType.getValue());
-        account.setBalance(BigDecimal.ZERO);
+        account.setBalance(0L);
         account.setCurrency(ApplicationConstants.ACCOUNT_DEFAULT_CURRENCY);
         account.setUser(user);
         
         BankAccount savedAccount = bankAccountRepository.save(account);
+        responseByteCache.invalidate(ResponseByteCache.accountsKey(userId));
         return EntityMapper.toBankAccountResponse(savedAccount);
     }
     
+    @Transactional(readOnly = true)
     public ListBankAccountsResponse listAccounts(String userId) {
-        List<BankAccount> accounts = bankAccountRepository.findByUserId(userId);
-        List<BankAccountResponse> accountResponses = accounts.stream()
-                .map(EntityMapper::toBankAccountResponse)
-                .toList();
-        return new ListBankAccountsResponse(accountResponses);
+        return new ListBankAccountsResponse(bankAccountRepository.findResponsesByUserId(userId));
     }
     
+    @Transactional(readOnly = true)
+    public AccountSummaryResponse getAccountSummary(String userId) {
+        long totalBalanceMinor = 0;
+        long accountCount = 0;
+        Map<String, Long> accountCountByType = new LinkedHashMap<>();
+        Instant lastActivity = null;
+        
+        for (AccountTypeSummary summary : bankAccountRepository.summarizeByUserId(userId)) {
+            totalBalanceMinor += summary.totalBalanceMinor();
+            accountCount += summary.accountCount();
+            accountCountByType.put(summary.accountType(), summary.accountCount());
+            if (lastActivity == null || summary.lastActivityTimestamp().isAfter(lastActivity)) {
+                lastActivity = summary.lastActivityTimestamp();
+            }
+        }
+        
+        return new AccountSummaryResponse(MoneyUtil.fromMinorUnits(totalBalanceMinor), accountCount,
+                accountCountByType, lastActivity);
+    }
+    
+    @Transactional(readOnly = true)
     public BankAccountResponse getAccountByAccountNumber(String accountNumber, String userId) {
-        BankAccount account = bankAccountRepository.findByAccountNumberAndUserId(accountNumber, userId)
+        return bankAccountRepository.findResponseByAccountNumberAndUserId(accountNumber, userId)
                 .orElseThrow(() -> {
                     if (bankAccountRepository.existsById(accountNumber)) {
                         return new ResponseStatusException(HttpStatus.FORBIDDEN, "Access denied");
                     }
                     return new ResponseStatusException(HttpStatus.NOT_FOUND, "Bank account not found");
                 });
-        
-        return EntityMapper.toBankAccountResponse(account);
     }
     
     public BankAccountResponse updateAccount(String accountNumber, UpdateBankAccountRequest request, String userId) {
@@ -102,6 +128,7 @@ public class AccountService {
         }
         
         BankAccount updatedAccount = bankAccountRepository.save(account);
+        responseByteCache.invalidate(ResponseByteCache.accountsKey(userId));
         return EntityMapper.toBankAccountResponse(updatedAccount);
     }
     
@@ -114,7 +141,12 @@ public class AccountService {
                     return new ResponseStatusException(HttpStatus.NOT_FOUND, "Bank account not found");
                 });
         
-        bankAccountRepository.delete(account);
+        // Only marks the account closed; its transactions are archived and the row removed later by
+        // AccountClosureJob in small batches. The version bump fails any posting racing with the close.
+        account.setStatus(AccountStatus.CLOSED);
+        account.setClosedTimestamp(Instant.now());
+        bankAccountRepository.save(account);
+        responseByteCache.invalidate(ResponseByteCache.accountsKey(userId));
     }
     
     public BankAccount getAccountEntity(String accountNumber, String userId) {
@@ -126,5 +158,15 @@ public class AccountService {
                     return new ResponseStatusException(HttpStatus.NOT_FOUND, "Bank account not found");
                 });
     }
+    
+    @Transactional(readOnly = true)
+    public void verifyAccountAccess(String accountNumber, String userId) {
+        if (bankAccountRepository.existsByAccountNumberAndUserId(accountNumber, userId)) {
+            return;
+        }
+        if (bankAccountRepository.existsById(accountNumber)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Access denied");
+        }
+        throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Bank account not found");
+    }
 }
-
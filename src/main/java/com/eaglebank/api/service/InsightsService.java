@@ -0,0 +1,46 @@
+package com.eaglebank.api.service;
+
+import com.eaglebank.api.domain.MonthlyRollup;
+import com.eaglebank.api.dto.insights.MonthlyInsight;
+import com.eaglebank.api.dto.insights.MonthlyInsightsResponse;
+import com.eaglebank.api.repository.MonthlyRollupRepository;
+import com.eaglebank.api.util.MoneyUtil;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+
+@Service
+@Transactional(readOnly = true)
+public class InsightsService {
+    
+    private final MonthlyRollupRepository monthlyRollupRepository;
+    private final AccountService accountService;
+    
+    public InsightsService(MonthlyRollupRepository monthlyRollupRepository, AccountService accountService) {
+        this.monthlyRollupRepository = monthlyRollupRepository;
+        this.accountService = accountService;
+    }
+    
+    // Served entirely from the rollup rows, so the cost is one indexed read per month of history however
+    // many transactions the account has.
+    public MonthlyInsightsResponse getMonthlyInsights(String accountNumber, String userId) {
+        accountService.verifyAccountAccess(accountNumber, userId);
+        
+        return new MonthlyInsightsResponse(monthlyRollupRepository
+                .findByAccountNumberOrderByMonthStartDesc(accountNumber).stream()
+                .map(InsightsService::toMonthlyInsight)
+                .toList());
+    }
+    
+    private static MonthlyInsight toMonthlyInsight(MonthlyRollup rollup) {
+        return new MonthlyInsight(
+                YearMonth.from(rollup.getMonthStart()).toString(),
+                MoneyUtil.fromMinorUnits(rollup.getDepositTotal()),
+                rollup.getDepositCount(),
+                MoneyUtil.fromMinorUnits(rollup.getWithdrawalTotal()),
+                rollup.getWithdrawalCount(),
+                MoneyUtil.fromMinorUnits(rollup.getDepositTotal() - rollup.getWithdrawalTotal())
+        );
+    }
+}
@@ -12,6 +12,7 @@ import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
+import java.util.UUID;
 
 @Service
 public class JwtService {
@@ -43,6 +44,7 @@ public class JwtService {
         Instant expiry = now.plus(expirationHours, ChronoUnit.HOURS);
         
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(userId)
                 .issuedAt(Date.from(now))
                 .expiration(Date.from(expiry))
@@ -64,6 +66,19 @@ public class JwtService {
         }
     }
     
+    /** Returns the claims of a correctly signed, unexpired token, or {@code null} if the token is invalid. */
+    public Claims parseClaims(String token) {
+        try {
+            return extractAllClaims(token);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+    
+    public int getExpirationHours() {
+        return expirationHours;
+    }
+    
     private Claims extractAllClaims(String token) {
         return Jwts.parser()
                 .verifyWith(getSigningKey())
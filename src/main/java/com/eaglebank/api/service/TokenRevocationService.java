@@ -0,0 +1,83 @@
+package com.eaglebank.api.service;
+
+import com.eaglebank.api.domain.TokenRevocation;
+import com.eaglebank.api.enums.RevocationType;
+import com.eaglebank.api.repository.TokenRevocationRepository;
+import com.eaglebank.api.security.TokenRevocationCache;
+import io.jsonwebtoken.Claims;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+@Service
+@Transactional
+public class TokenRevocationService {
+    
+    private final TokenRevocationRepository tokenRevocationRepository;
+    private final TokenRevocationCache tokenRevocationCache;
+    private final JwtService jwtService;
+    
+    public TokenRevocationService(TokenRevocationRepository tokenRevocationRepository,
+                                  TokenRevocationCache tokenRevocationCache,
+                                  JwtService jwtService) {
+        this.tokenRevocationRepository = tokenRevocationRepository;
+        this.tokenRevocationCache = tokenRevocationCache;
+        this.jwtService = jwtService;
+    }
+    
+    public void revokeToken(String token) {
+        Claims claims = jwtService.parseClaims(token);
+        if (claims == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid token");
+        }
+        if (claims.getId() == null) {
+            // Tokens issued before token IDs were introduced can only be revoked with the rest of the user's tokens.
+            revokeUser(claims.getSubject());
+            return;
+        }
+        Instant expiresAt = claims.getExpiration().toInstant();
+        tokenRevocationRepository.save(new TokenRevocation(RevocationType.TOKEN + ":" + claims.getId(),
+                RevocationType.TOKEN, claims.getId(), null, expiresAt, null));
+        afterCommit(() -> tokenRevocationCache.revokeToken(claims.getId(), expiresAt));
+    }
+    
+    /** Revokes every token issued to the user up to now. */
+    public void revokeUser(String userId) {
+        Instant notBefore = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        Instant expiresAt = notBefore.plus(jwtService.getExpirationHours(), ChronoUnit.HOURS);
+        tokenRevocationRepository.save(new TokenRevocation(RevocationType.USER + ":" + userId,
+                RevocationType.USER, userId, notBefore, expiresAt, null));
+        afterCommit(() -> tokenRevocationCache.revokeUser(userId, notBefore, expiresAt));
+    }
+    
+    /**
+     * Runs a cache update once the surrounding transaction commits. The cache keeps local revocations across
+     * reloads, so one applied before a rollback, such as a failed user deletion, would never be undone.
+     */
+    private static void afterCommit(Runnable cacheUpdate) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cacheUpdate.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cacheUpdate.run();
+            }
+        });
+    }
+    
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval:PT10M}",
+            initialDelayString = "${jwt.revocation.purge-interval:PT10M}")
+    public void purgeExpired() {
+        tokenRevocationRepository.deleteExpired(Instant.now());
+        tokenRevocationCache.reloadAll();
+    }
+}
@@ -1,18 +1,28 @@
 package com.eaglebank.api.service;
 
+import com.eaglebank.api.cache.ResponseByteCache;
+import com.eaglebank.api.constants.ApplicationConstants;
 import com.eaglebank.api.domain.BankAccount;
 import com.eaglebank.api.domain.Transaction;
 import com.eaglebank.api.domain.User;
 import com.eaglebank.api.dto.transaction.CreateTransactionRequest;
 import com.eaglebank.api.dto.transaction.ListTransactionsResponse;
 import com.eaglebank.api.dto.transaction.TransactionResponse;
+import com.eaglebank.api.dto.transaction.TransactionSearchRequest;
 import com.eaglebank.api.enums.Currency;
 import com.eaglebank.api.enums.TransactionType;
+import com.eaglebank.api.fx.FxRateProvider;
+import com.eaglebank.api.ledger.EventSourcedLedger;
 import com.eaglebank.api.repository.BankAccountRepository;
+import com.eaglebank.api.repository.MonthlyRollupStore;
 import com.eaglebank.api.repository.TransactionRepository;
+import com.eaglebank.api.repository.TransactionSearchQuery;
 import com.eaglebank.api.repository.UserRepository;
 import com.eaglebank.api.util.EntityMapper;
 import com.eaglebank.api.util.IdGenerator;
+import com.eaglebank.api.util.MoneyUtil;
+import com.eaglebank.api.util.TransactionCursor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -20,8 +30,8 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.List;
+import java.util.OptionalLong;
 
 @Service
 @Transactional
@@ -31,15 +41,27 @@ public class TransactionService {
     private final AccountService accountService;
     private final BankAccountRepository bankAccountRepository;
     private final UserRepository userRepository;
+    private final EventSourcedLedger eventSourcedLedger;
+    private final FxRateProvider fxRateProvider;
+    private final MonthlyRollupStore monthlyRollupStore;
+    private final ResponseByteCache responseByteCache;
     
     public TransactionService(TransactionRepository transactionRepository,
                              AccountService accountService,
                              BankAccountRepository bankAccountRepository,
-                             UserRepository userRepository) {
+                             UserRepository userRepository,
+                             ObjectProvider<EventSourcedLedger> eventSourcedLedger,
+                             FxRateProvider fxRateProvider,
+                             MonthlyRollupStore monthlyRollupStore,
+                             ResponseByteCache responseByteCache) {
         this.transactionRepository = transactionRepository;
         this.accountService = accountService;
         this.bankAccountRepository = bankAccountRepository;
         this.userRepository = userRepository;
+        this.eventSourcedLedger = eventSourcedLedger.getIfAvailable();
+        this.fxRateProvider = fxRateProvider;
+        this.monthlyRollupStore = monthlyRollupStore;
+        this.responseByteCache = responseByteCache;
     }
     
     public TransactionResponse createTransaction(String accountNumber, CreateTransactionRequest request, String userId) {
@@ -57,15 +79,33 @@ public class TransactionService {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid transaction type");
         }
         
-        BigDecimal amount = request.amount().setScale(2, RoundingMode.HALF_UP);
-        if (transactionType == TransactionType.WITHDRAWAL) {
-            if (account.getBalance().compareTo(amount) < 0) {
+        Currency accountCurrency = Currency.fromString(account.getCurrency());
+        long requestedAmount = MoneyUtil.toMinorUnits(request.amount());
+        long amount = convertToAccountCurrency(requestedAmount, currency, accountCurrency);
+        long delta = transactionType == TransactionType.WITHDRAWAL ? -amount : amount;
+        if (eventSourcedLedger != null) {
+            // The projection only accepts or rejects: it already counts other transactions' uncommitted
+            // withdrawals, so the row is moved relative to the version this save is checked against.
+            OptionalLong balance = eventSourcedLedger.apply(accountNumber, account.getBalance(), delta);
+            if (balance.isEmpty()) {
+                throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY,
+                        transactionType == TransactionType.WITHDRAWAL
+                                ? "Insufficient funds to process transaction"
+                                : "Deposit would exceed the maximum account balance");
+            }
+            account.setBalance(account.getBalance() + delta);
+        } else if (transactionType == TransactionType.WITHDRAWAL) {
+            if (account.getBalance() < amount) {
                 throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, 
                         "Insufficient funds to process transaction");
             }
-            account.setBalance(account.getBalance().subtract(amount));
+            account.setBalance(account.getBalance() - amount);
         } else {
-            account.setBalance(account.getBalance().add(amount));
+            if (account.getBalance() + amount > ApplicationConstants.MAX_BALANCE_MINOR) {
+                throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY,
+                        "Deposit would exceed the maximum account balance");
+            }
+            account.setBalance(account.getBalance() + amount);
         }
         
         BankAccount persistedAccount;
@@ -85,35 +125,129 @@ public class TransactionService {
         Transaction transaction = new Transaction();
         transaction.setId(transactionId);
         transaction.setAmount(amount);
-        transaction.setCurrency(currency.getCode());
+        transaction.setCurrency(accountCurrency.getCode());
         transaction.setType(transactionType.getValue());
         transaction.setReference(request.reference());
+        if (currency != accountCurrency) {
+            transaction.setOriginalAmount(requestedAmount);
+            transaction.setOriginalCurrency(currency.getCode());
+        }
         transaction.setAccount(persistedAccount);
         transaction.setUser(user);
         
         Transaction savedTransaction = transactionRepository.save(transaction);
+        // Flushing first takes the account row lock (the versioned balance update) before the rollup row is
+        // touched, so every writer locks account then rollup and concurrent postings cannot deadlock.
+        transactionRepository.flush();
+        monthlyRollupStore.add(accountNumber, savedTransaction.getCreatedTimestamp(), transactionType, amount);
+        responseByteCache.invalidate(ResponseByteCache.accountsKey(userId));
         return EntityMapper.toTransactionResponse(savedTransaction);
     }
     
+    @Transactional(readOnly = true)
     public ListTransactionsResponse listTransactions(String accountNumber, String userId) {
 
-        accountService.getAccountEntity(accountNumber, userId);
+        accountService.verifyAccountAccess(accountNumber, userId);
+        
+        return new ListTransactionsResponse(transactionRepository.findResponsesByAccountNumber(accountNumber));
+    }
+    
+    @Transactional(readOnly = true)
+    public ListTransactionsResponse searchTransactions(String accountNumber, TransactionSearchRequest request,
+                                                       String userId) {
         
-        List<Transaction> transactions = transactionRepository.findByAccountAccountNumberOrderByCreatedTimestampDesc(accountNumber);
-        List<TransactionResponse> transactionResponses = transactions.stream()
-                .map(EntityMapper::toTransactionResponse)
-                .toList();
-        return new ListTransactionsResponse(transactionResponses);
+        TransactionSearchQuery query = toSearchQuery(request);
+        accountService.verifyAccountAccess(accountNumber, userId);
+        
+        // One extra row tells us whether another page exists without a separate count query.
+        List<TransactionResponse> rows = transactionRepository.search(accountNumber, query);
+        int pageSize = query.limit() - 1;
+        if (rows.size() <= pageSize) {
+            return new ListTransactionsResponse(rows);
+        }
+        List<TransactionResponse> page = List.copyOf(rows.subList(0, pageSize));
+        TransactionResponse last = page.getLast();
+        return new ListTransactionsResponse(page, new TransactionCursor(last.createdTimestamp(), last.id()).encode());
     }
     
+    @Transactional(readOnly = true)
     public TransactionResponse getTransactionById(String accountNumber, String transactionId, String userId) {
 
-        accountService.getAccountEntity(accountNumber, userId);
+        accountService.verifyAccountAccess(accountNumber, userId);
         
-        Transaction transaction = transactionRepository.findByIdAndAccountAccountNumber(transactionId, accountNumber)
+        return transactionRepository.findResponseByIdAndAccountNumber(transactionId, accountNumber)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Transaction not found"));
+    }
+    
+    private long convertToAccountCurrency(long amount, Currency from, Currency accountCurrency) {
+        if (from == accountCurrency) {
+            return amount;
+        }
+        long converted = fxRateProvider.convertMinor(amount, from, accountCurrency);
+        if (converted < 0) {
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY,
+                    "No exchange rate available from " + from.getCode() + " to " + accountCurrency.getCode());
+        }
+        if (converted > ApplicationConstants.MAX_TRANSACTION_AMOUNT_MINOR) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Converted amount exceeds the maximum transaction amount");
+        }
+        return converted;
+    }
+    
+    private static TransactionSearchQuery toSearchQuery(TransactionSearchRequest request) {
+        String type = null;
+        if (request.type() != null) {
+            TransactionType transactionType = TransactionType.fromString(request.type());
+            if (transactionType == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid transaction type");
+            }
+            type = transactionType.getValue();
+        }
+        
+        Long minAmount = toSearchAmount(request.minAmount());
+        Long maxAmount = toSearchAmount(request.maxAmount());
+        if (minAmount != null && maxAmount != null && minAmount > maxAmount) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "minAmount must not exceed maxAmount");
+        }
+        if (request.from() != null && request.to() != null && !request.from().isBefore(request.to())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "from must be before to");
+        }
+        
+        int limit = request.limit() != null ? request.limit() : ApplicationConstants.TRANSACTION_PAGE_SIZE_DEFAULT;
+        if (limit < 1 || limit > ApplicationConstants.TRANSACTION_PAGE_SIZE_MAX) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "limit must be between 1 and " + ApplicationConstants.TRANSACTION_PAGE_SIZE_MAX);
+        }
+        
+        TransactionCursor cursor = null;
+        if (request.cursor() != null) {
+            try {
+                cursor = TransactionCursor.decode(request.cursor());
+            } catch (IllegalArgumentException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+            }
+        }
         
-        return EntityMapper.toTransactionResponse(transaction);
+        String reference = request.reference() != null && !request.reference().isBlank()
+                ? request.reference().strip()
+                : null;
+        return new TransactionSearchQuery(type, minAmount, maxAmount, request.from(), request.to(), reference,
+                cursor != null ? cursor.createdTimestamp() : null, cursor != null ? cursor.transactionId() : null,
+                limit + 1);
+    }
+    
+    private static Long toSearchAmount(BigDecimal amount) {
+        if (amount == null) {
+            return null;
+        }
+        if (amount.signum() < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Amount filters must not be negative");
+        }
+        try {
+            return MoneyUtil.toMinorUnits(amount);
+        } catch (ArithmeticException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Amount filter is out of range");
+        }
     }
 }
-
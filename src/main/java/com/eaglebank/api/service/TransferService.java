@@ -0,0 +1,194 @@
+package com.eaglebank.api.service;
+
+import com.eaglebank.api.cache.ResponseByteCache;
+import com.eaglebank.api.constants.ApplicationConstants;
+import com.eaglebank.api.domain.BankAccount;
+import com.eaglebank.api.domain.Transaction;
+import com.eaglebank.api.domain.User;
+import com.eaglebank.api.dto.transfer.CreateTransferRequest;
+import com.eaglebank.api.dto.transfer.TransferResponse;
+import com.eaglebank.api.enums.Currency;
+import com.eaglebank.api.enums.TransactionType;
+import com.eaglebank.api.fx.FxRateProvider;
+import com.eaglebank.api.ledger.EventSourcedLedger;
+import com.eaglebank.api.repository.BankAccountRepository;
+import com.eaglebank.api.repository.MonthlyRollupStore;
+import com.eaglebank.api.repository.TransactionRepository;
+import com.eaglebank.api.repository.UserRepository;
+import com.eaglebank.api.util.EntityMapper;
+import com.eaglebank.api.util.IdGenerator;
+import com.eaglebank.api.util.MoneyUtil;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.OptionalLong;
+
+@Service
+@Transactional
+public class TransferService {
+    
+    private final TransactionRepository transactionRepository;
+    private final BankAccountRepository bankAccountRepository;
+    private final UserRepository userRepository;
+    private final EventSourcedLedger eventSourcedLedger;
+    private final FxRateProvider fxRateProvider;
+    private final MonthlyRollupStore monthlyRollupStore;
+    private final ResponseByteCache responseByteCache;
+    
+    public TransferService(TransactionRepository transactionRepository,
+                           BankAccountRepository bankAccountRepository,
+                           UserRepository userRepository,
+                           ObjectProvider<EventSourcedLedger> eventSourcedLedger,
+                           FxRateProvider fxRateProvider,
+                           MonthlyRollupStore monthlyRollupStore,
+                           ResponseByteCache responseByteCache) {
+        this.transactionRepository = transactionRepository;
+        this.bankAccountRepository = bankAccountRepository;
+        this.userRepository = userRepository;
+        this.eventSourcedLedger = eventSourcedLedger.getIfAvailable();
+        this.fxRateProvider = fxRateProvider;
+        this.monthlyRollupStore = monthlyRollupStore;
+        this.responseByteCache = responseByteCache;
+    }
+    
+    public TransferResponse createTransfer(CreateTransferRequest request, String userId) {
+        String sourceAccountNumber = request.sourceAccountNumber();
+        String destinationAccountNumber = request.destinationAccountNumber();
+        if (sourceAccountNumber.equals(destinationAccountNumber)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, 
+                    "Source and destination accounts must be different");
+        }
+        
+        Currency currency = Currency.fromString(request.currency());
+        if (currency == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid currency");
+        }
+        
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
+        
+        // Both rows are always locked in account number order, so two transfers crossing the same pair of
+        // accounts in opposite directions queue on the same first lock instead of deadlocking.
+        boolean sourceFirst = sourceAccountNumber.compareTo(destinationAccountNumber) < 0;
+        BankAccount firstLocked = lockAccount(sourceFirst ? sourceAccountNumber : destinationAccountNumber);
+        BankAccount secondLocked = lockAccount(sourceFirst ? destinationAccountNumber : sourceAccountNumber);
+        BankAccount source = sourceFirst ? firstLocked : secondLocked;
+        BankAccount destination = sourceFirst ? secondLocked : firstLocked;
+        
+        if (!source.getUser().getId().equals(userId)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Access denied");
+        }
+        
+        long amount = MoneyUtil.toMinorUnits(request.amount());
+        long debitAmount = convert(amount, currency, Currency.fromString(source.getCurrency()));
+        long creditAmount = convert(amount, currency, Currency.fromString(destination.getCurrency()));
+        debit(source, debitAmount);
+        credit(destination, creditAmount);
+        bankAccountRepository.save(source);
+        bankAccountRepository.save(destination);
+        
+        Transaction debit = recordTransaction(source, user, debitAmount, amount, currency,
+                TransactionType.WITHDRAWAL, request.reference());
+        Transaction credit = recordTransaction(destination, user, creditAmount, amount, currency,
+                TransactionType.DEPOSIT, request.reference());
+        // Both account rows are already locked, so the rollup rows behind them cannot be contended.
+        transactionRepository.flush();
+        monthlyRollupStore.add(sourceAccountNumber, debit.getCreatedTimestamp(), TransactionType.WITHDRAWAL,
+                debitAmount);
+        monthlyRollupStore.add(destinationAccountNumber, credit.getCreatedTimestamp(), TransactionType.DEPOSIT,
+                creditAmount);
+        responseByteCache.invalidate(ResponseByteCache.accountsKey(userId));
+        responseByteCache.invalidate(ResponseByteCache.accountsKey(destination.getUser().getId()));
+        
+        return new TransferResponse(
+                sourceAccountNumber,
+                destinationAccountNumber,
+                EntityMapper.toTransactionResponse(debit),
+                EntityMapper.toTransactionResponse(credit)
+        );
+    }
+    
+    private BankAccount lockAccount(String accountNumber) {
+        return bankAccountRepository.findByAccountNumberForUpdate(accountNumber)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Bank account not found"));
+    }
+    
+    private void debit(BankAccount account, long amount) {
+        if (eventSourcedLedger != null) {
+            OptionalLong balance = eventSourcedLedger.apply(account.getAccountNumber(), account.getBalance(), -amount);
+            if (balance.isEmpty()) {
+                throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, 
+                        "Insufficient funds to process transaction");
+            }
+            // The projection only accepts or rejects; the locked row is what the new balance is relative to.
+            account.setBalance(account.getBalance() - amount);
+            return;
+        }
+        if (account.getBalance() < amount) {
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, 
+                    "Insufficient funds to process transaction");
+        }
+        account.setBalance(account.getBalance() - amount);
+    }
+    
+    private void credit(BankAccount account, long amount) {
+        if (eventSourcedLedger != null) {
+            OptionalLong balance = eventSourcedLedger.apply(account.getAccountNumber(), account.getBalance(), amount);
+            if (balance.isEmpty()) {
+                throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY,
+                        "Transfer would exceed the maximum balance of the destination account");
+            }
+            account.setBalance(account.getBalance() + amount);
+            return;
+        }
+        if (account.getBalance() + amount > ApplicationConstants.MAX_BALANCE_MINOR) {
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY,
+                    "Transfer would exceed the maximum balance of the destination account");
+        }
+        account.setBalance(account.getBalance() + amount);
+    }
+    
+    private long convert(long amount, Currency from, Currency accountCurrency) {
+        if (from == accountCurrency) {
+            return amount;
+        }
+        long converted = fxRateProvider.convertMinor(amount, from, accountCurrency);
+        if (converted < 0) {
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY,
+                    "No exchange rate available from " + from.getCode() + " to " + accountCurrency.getCode());
+        }
+        if (converted > ApplicationConstants.MAX_TRANSACTION_AMOUNT_MINOR) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Converted amount exceeds the maximum transaction amount");
+        }
+        return converted;
+    }
+    
+    private Transaction recordTransaction(BankAccount account, User user, long amount,
+                                          long requestedAmount, Currency requestedCurrency,
+                                          TransactionType type, String reference) {
+        String transactionId = IdGenerator.generateTransactionId();
+        
+        while (transactionRepository.existsById(transactionId)) {
+            transactionId = IdGenerator.generateTransactionId();
+        }
+        
+        Transaction transaction = new Transaction();
+        transaction.setId(transactionId);
+        transaction.setAmount(amount);
+        transaction.setCurrency(account.getCurrency());
+        transaction.setType(type.getValue());
+        transaction.setReference(reference);
+        if (!requestedCurrency.getCode().equals(account.getCurrency())) {
+            transaction.setOriginalAmount(requestedAmount);
+            transaction.setOriginalCurrency(requestedCurrency.getCode());
+        }
+        transaction.setAccount(account);
+        transaction.setUser(user);
+        
+        return transactionRepository.save(transaction);
+    }
+}
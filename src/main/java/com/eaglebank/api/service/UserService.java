@@ -1,5 +1,6 @@
 package com.eaglebank.api.service;
 
+import com.eaglebank.api.cache.ResponseByteCache;
 import com.eaglebank.api.domain.Address;
 import com.eaglebank.api.domain.User;
 import com.eaglebank.api.dto.user.CreateUserRequest;
@@ -22,13 +23,19 @@ public class UserService {
     private final UserRepository userRepository;
     private final BankAccountRepository bankAccountRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TokenRevocationService tokenRevocationService;
+    private final ResponseByteCache responseByteCache;
     
     public UserService(UserRepository userRepository, 
                       BankAccountRepository bankAccountRepository,
-                      PasswordEncoder passwordEncoder) {
+                      PasswordEncoder passwordEncoder,
+                      TokenRevocationService tokenRevocationService,
+                      ResponseByteCache responseByteCache) {
         this.userRepository = userRepository;
         this.bankAccountRepository = bankAccountRepository;
         this.passwordEncoder = passwordEncoder;
+        this.tokenRevocationService = tokenRevocationService;
+        this.responseByteCache = responseByteCache;
     }
     
     public UserResponse createUser(CreateUserRequest request) {
@@ -48,16 +55,17 @@ public class UserService {
         return EntityMapper.toUserResponse(savedUser);
     }
     
+    @Transactional(readOnly = true)
     public UserResponse getUserById(String userId, String authenticatedUserId) {
 
-        User user = userRepository.findById(userId)
+        UserResponse user = userRepository.findResponseById(userId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
 
         if (!userId.equals(authenticatedUserId)) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Access denied");
         }
 
-        return EntityMapper.toUserResponse(user);
+        return user;
     }
     
     public UserResponse updateUser(String userId, UpdateUserRequest request, String authenticatedUserId) {
@@ -86,6 +94,7 @@ public class UserService {
         }
         
         User updatedUser = userRepository.save(user);
+        responseByteCache.invalidate(ResponseByteCache.userKey(userId));
         return EntityMapper.toUserResponse(updatedUser);
     }
     
@@ -98,12 +107,19 @@ public class UserService {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Access denied");
         }
 
-        if (bankAccountRepository.existsByUserId(userId)) {
+        if (bankAccountRepository.existsOpenByUserId(userId)) {
             throw new ResponseStatusException(HttpStatus.CONFLICT, 
                     "A user cannot be deleted when they are associated with a bank account");
         }
+        // Closed accounts keep referencing the user until AccountClosureJob has archived their history.
+        if (bankAccountRepository.existsByUserId(userId)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "The user's closed bank accounts are still being purged. Please retry later.");
+        }
         
         userRepository.delete(user);
+        tokenRevocationService.revokeUser(userId);
+        responseByteCache.invalidate(ResponseByteCache.userKey(userId));
     }
     
     public User findByEmail(String email) {
@@ -0,0 +1,8 @@
+package com.eaglebank.api.sql;
+
+public class NPlusOneQueryException extends IllegalStateException {
+    
+    public NPlusOneQueryException(String sql, int executions) {
+        super("Statement executed " + executions + " times in one request, likely an N+1 query: " + sql);
+    }
+}
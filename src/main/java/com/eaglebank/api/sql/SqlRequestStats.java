@@ -0,0 +1,89 @@
+package com.eaglebank.api.sql;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * SQL activity of the current HTTP request. A scope is opened per request by {@link SqlStatsFilter} and
+ * bound to the request thread; statements executed on other threads, such as batch workers, are not
+ * attributed to any request.
+ * <p>
+ * Statements arrive from JDBC already parameterised, so the SQL text is the statement shape. When one shape
+ * is executed more than {@code nPlusOneThreshold} times within a request, the request most likely walks a
+ * lazy association row by row.
+ */
+public final class SqlRequestStats {
+    
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+    
+    private final int nPlusOneThreshold;
+    private final boolean failOnNPlusOne;
+    private final Map<String, Integer> executionsByShape = new HashMap<>();
+    private int statements;
+    private long rows;
+    private long elapsedNanos;
+    private String repeatedShape;
+    private int repeatedCount;
+    
+    private SqlRequestStats(int nPlusOneThreshold, boolean failOnNPlusOne) {
+        this.nPlusOneThreshold = nPlusOneThreshold;
+        this.failOnNPlusOne = failOnNPlusOne;
+    }
+    
+    public static SqlRequestStats begin(int nPlusOneThreshold, boolean failOnNPlusOne) {
+        SqlRequestStats stats = new SqlRequestStats(nPlusOneThreshold, failOnNPlusOne);
+        CURRENT.set(stats);
+        return stats;
+    }
+    
+    public static SqlRequestStats current() {
+        return CURRENT.get();
+    }
+    
+    public static void end() {
+        CURRENT.remove();
+    }
+    
+    /** Called before a statement executes; throws if the request has crossed the N+1 threshold in fail mode. */
+    void onExecute(String sql) {
+        statements++;
+        int count = executionsByShape.merge(sql, 1, Integer::sum);
+        if (count > nPlusOneThreshold && count > repeatedCount) {
+            repeatedShape = sql;
+            repeatedCount = count;
+            if (failOnNPlusOne) {
+                throw new NPlusOneQueryException(sql, count);
+            }
+        }
+    }
+    
+    void onComplete(long nanos, long affectedRows) {
+        elapsedNanos += nanos;
+        rows += affectedRows;
+    }
+    
+    void onRows(long fetchedRows) {
+        rows += fetchedRows;
+    }
+    
+    public int statements() {
+        return statements;
+    }
+    
+    public long rows() {
+        return rows;
+    }
+    
+    public long elapsedNanos() {
+        return elapsedNanos;
+    }
+    
+    /** The most repeated statement shape if it crossed the threshold, otherwise {@code null}. */
+    public String repeatedShape() {
+        return repeatedShape;
+    }
+    
+    public int repeatedCount() {
+        return repeatedCount;
+    }
+}
@@ -0,0 +1,31 @@
+package com.eaglebank.api.sql;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+@Configuration
+@ConditionalOnProperty(prefix = "sql-stats", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(SqlStatsProperties.class)
+public class SqlStatsConfig {
+    
+    @Bean
+    @Order(1)
+    public SqlStatsHook sqlStatsHook() {
+        return new SqlStatsHook();
+    }
+    
+    @Bean
+    public FilterRegistrationBean<SqlStatsFilter> sqlStatsFilter(SqlStatsProperties properties,
+                                                                 MeterRegistry meterRegistry) {
+        FilterRegistrationBean<SqlStatsFilter> registration =
+                new FilterRegistrationBean<>(new SqlStatsFilter(properties, meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return registration;
+    }
+}
@@ -0,0 +1,77 @@
+package com.eaglebank.api.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opens a {@link SqlRequestStats} scope around each request and records the totals as
+ * {@code http.server.sql.*} meters tagged with the matched route, so endpoints can be compared by query
+ * count, rows and database time.
+ */
+public class SqlStatsFilter extends OncePerRequestFilter {
+    
+    private static final Logger log = LoggerFactory.getLogger(SqlStatsFilter.class);
+    
+    private final SqlStatsProperties properties;
+    private final MeterRegistry meterRegistry;
+    
+    public SqlStatsFilter(SqlStatsProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        SqlRequestStats stats = SqlRequestStats.begin(properties.nPlusOneThreshold(), properties.failOnNPlusOne());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlRequestStats.end();
+            record(request, stats);
+        }
+    }
+    
+    private void record(HttpServletRequest request, SqlRequestStats stats) {
+        if (stats.statements() == 0) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        Tags tags = Tags.of("method", request.getMethod(), "uri", uri);
+        
+        DistributionSummary.builder("http.server.sql.statements")
+                .description("SQL statements executed per request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.statements());
+        DistributionSummary.builder("http.server.sql.rows")
+                .description("Rows fetched or affected by SQL statements per request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.rows());
+        Timer.builder("http.server.sql.time")
+                .description("Time spent executing SQL statements per request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.elapsedNanos(), TimeUnit.NANOSECONDS);
+        
+        if (stats.repeatedShape() != null) {
+            log.warn("Possible N+1 query on {} {}: statement executed {} times: {}",
+                    request.getMethod(), uri, stats.repeatedCount(), stats.repeatedShape());
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.eaglebank.api.sql;
+
+import com.eaglebank.api.jdbc.JdbcHook;
+
+import java.sql.Statement;
+import java.util.function.LongConsumer;
+
+/**
+ * Reports every statement executed on a request thread to the current {@link SqlRequestStats}: statement
+ * count, execution time, rows fetched or affected, and the statement shape used for N+1 detection. When no
+ * request scope is open it does nothing, and result sets are not wrapped.
+ */
+public class SqlStatsHook implements JdbcHook {
+    
+    @Override
+    public Object beforeExecute(Statement statement, String sql) {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            stats.onExecute(sql);
+        }
+        return stats;
+    }
+    
+    @Override
+    public void afterExecute(Object context, Object result, Throwable failure, long elapsedNanos) {
+        if (failure == null) {
+            ((SqlRequestStats) context).onComplete(elapsedNanos, affectedRows(result));
+        }
+    }
+    
+    @Override
+    public LongConsumer rowCounter() {
+        SqlRequestStats stats = SqlRequestStats.current();
+        return stats != null ? stats::onRows : null;
+    }
+    
+    private static long affectedRows(Object result) {
+        if (result instanceof Integer count) {
+            return Math.max(count, 0);
+        }
+        if (result instanceof Long count) {
+            return Math.max(count, 0);
+        }
+        long total = 0;
+        if (result instanceof int[] counts) {
+            for (int count : counts) {
+                total += Math.max(count, 0);
+            }
+        } else if (result instanceof long[] counts) {
+            for (long count : counts) {
+                total += Math.max(count, 0);
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,12 @@
+package com.eaglebank.api.sql;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "sql-stats")
+public record SqlStatsProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10") int nPlusOneThreshold,
+        @DefaultValue("false") boolean failOnNPlusOne
+) {
+}
@@ -0,0 +1,41 @@
+package com.eaglebank.api.tracing;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable copy of a finished {@link RequestTrace}. Span offsets are relative to the start of the request.
+ */
+public record CompletedTrace(
+        String traceId,
+        Instant start,
+        String method,
+        String route,
+        int status,
+        long durationNanos,
+        List<Span> spans,
+        int droppedSpans
+) {
+    
+    /** Own time per layer: each span's duration minus that of its direct children. */
+    public Map<SpanLayer, Long> selfTimeNanos() {
+        long[] childNanos = new long[spans.size()];
+        for (Span span : spans) {
+            if (span.parent() >= 0) {
+                childNanos[span.parent()] += span.durationNanos();
+            }
+        }
+        Map<SpanLayer, Long> breakdown = new EnumMap<>(SpanLayer.class);
+        for (Span span : spans) {
+            long self = Math.max(0, span.durationNanos() - childNanos[span.index()]);
+            breakdown.merge(span.layer(), self, Long::sum);
+        }
+        return breakdown;
+    }
+    
+    public record Span(int index, int parent, SpanLayer layer, String name, long startOffsetNanos,
+                       long durationNanos) {
+    }
+}
@@ -0,0 +1,179 @@
+package com.eaglebank.api.tracing;
+
+import com.eaglebank.api.journal.MpscRingBuffer;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Appends sampled traces to a file in the OTLP/JSON file format: one {@code ExportTraceServiceRequest} per
+ * line, which the OpenTelemetry Collector's {@code otlpjsonfile} receiver and most tracing back ends can
+ * ingest. Request threads only enqueue; a single writer thread serialises and writes in batches, and traces
+ * are dropped and counted when it falls behind.
+ */
+public class OtlpFileExporter implements Closeable {
+    
+    private static final Logger log = LoggerFactory.getLogger(OtlpFileExporter.class);
+    
+    private static final int BATCH_SIZE = 256;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final String SCOPE_NAME = "com.eaglebank.api.tracing";
+    private static final int KIND_INTERNAL = 1;
+    private static final int KIND_SERVER = 2;
+    private static final int KIND_CLIENT = 3;
+    private static final int STATUS_ERROR = 2;
+    
+    private final MpscRingBuffer<CompletedTrace> queue;
+    private final BufferedWriter writer;
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final String serviceName;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Thread writerThread;
+    private volatile boolean running = true;
+    
+    public OtlpFileExporter(Path file, int queueSize, String serviceName) throws IOException {
+        this.queue = new MpscRingBuffer<>(Integer.highestOneBit(Math.max(2, queueSize - 1)) << 1);
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        this.serviceName = serviceName;
+        this.writerThread = Thread.ofPlatform().name("otlp-file-exporter").daemon().start(this::runWriter);
+    }
+    
+    public void export(CompletedTrace trace) {
+        if (!running || !queue.offer(trace)) {
+            droppedCount.incrementAndGet();
+        }
+    }
+    
+    public long droppedCount() {
+        return droppedCount.get();
+    }
+    
+    /** Stops accepting traces, waits for the queued ones to be written and closes the file. */
+    @Override
+    public void close() throws IOException {
+        running = false;
+        try {
+            writerThread.join();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        writer.close();
+    }
+    
+    private void runWriter() {
+        List<CompletedTrace> batch = new ArrayList<>(BATCH_SIZE);
+        while (running || !queue.isEmpty()) {
+            if (queue.drainTo(batch, BATCH_SIZE) == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            try {
+                for (CompletedTrace trace : batch) {
+                    write(trace);
+                    writer.newLine();
+                }
+                writer.flush();
+            } catch (IOException ex) {
+                droppedCount.addAndGet(batch.size());
+                log.error("Failed to write {} traces to the OTLP file", batch.size(), ex);
+            }
+            batch.clear();
+        }
+    }
+    
+    private void write(CompletedTrace trace) throws IOException {
+        long startEpochNanos = TimeUnit.SECONDS.toNanos(trace.start().getEpochSecond()) + trace.start().getNano();
+        long spanIdBase = Long.parseUnsignedLong(trace.traceId().substring(16), 16);
+        
+        JsonGenerator json = jsonFactory.createGenerator(writer);
+        json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        json.writeStartObject();
+        json.writeArrayFieldStart("resourceSpans");
+        json.writeStartObject();
+        json.writeObjectFieldStart("resource");
+        json.writeArrayFieldStart("attributes");
+        stringAttribute(json, "service.name", serviceName);
+        json.writeEndArray();
+        json.writeEndObject();
+        json.writeArrayFieldStart("scopeSpans");
+        json.writeStartObject();
+        json.writeObjectFieldStart("scope");
+        json.writeStringField("name", SCOPE_NAME);
+        json.writeEndObject();
+        json.writeArrayFieldStart("spans");
+        for (CompletedTrace.Span span : trace.spans()) {
+            long start = startEpochNanos + span.startOffsetNanos();
+            json.writeStartObject();
+            json.writeStringField("traceId", trace.traceId());
+            json.writeStringField("spanId", spanId(spanIdBase, span.index()));
+            if (span.parent() >= 0) {
+                json.writeStringField("parentSpanId", spanId(spanIdBase, span.parent()));
+            }
+            json.writeStringField("name", span.name());
+            json.writeNumberField("kind", span.layer() == SpanLayer.HTTP ? KIND_SERVER
+                    : span.layer() == SpanLayer.JDBC ? KIND_CLIENT
+                    : KIND_INTERNAL);
+            json.writeStringField("startTimeUnixNano", Long.toString(start));
+            json.writeStringField("endTimeUnixNano", Long.toString(start + span.durationNanos()));
+            json.writeArrayFieldStart("attributes");
+            stringAttribute(json, "eaglebank.layer", span.layer().label());
+            if (span.index() == 0) {
+                stringAttribute(json, "http.request.method", trace.method());
+                stringAttribute(json, "http.route", trace.route());
+                json.writeStartObject();
+                json.writeStringField("key", "http.response.status_code");
+                json.writeObjectFieldStart("value");
+                json.writeStringField("intValue", Integer.toString(trace.status()));
+                json.writeEndObject();
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+            if (span.index() == 0 && trace.status() >= 500) {
+                json.writeObjectFieldStart("status");
+                json.writeNumberField("code", STATUS_ERROR);
+                json.writeEndObject();
+            }
+            json.writeEndObject();
+        }
+        json.writeEndArray();
+        json.writeEndObject();
+        json.writeEndArray();
+        json.writeEndObject();
+        json.writeEndArray();
+        json.writeEndObject();
+        json.close();
+    }
+    
+    private static void stringAttribute(JsonGenerator json, String key, String value) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("key", key);
+        json.writeObjectFieldStart("value");
+        json.writeStringField("stringValue", value);
+        json.writeEndObject();
+        json.writeEndObject();
+    }
+    
+    private static String spanId(long base, int index) {
+        return HexFormat.of().toHexDigits(base + index + 1);
+    }
+}
@@ -0,0 +1,129 @@
+package com.eaglebank.api.tracing;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Spans of the current sampled HTTP request. A trace is opened by {@link TracingFilter} and bound to the
+ * request thread; when the request is not sampled, or on any other thread, {@link #enter} returns -1 and
+ * {@link #exit} does nothing, so instrumented code pays for one thread-local lookup.
+ * <p>
+ * Spans nest in the order they are entered and must be exited in reverse order, which {@code try/finally}
+ * gives naturally. A span whose exit was skipped, such as a Hibernate flush that threw, ends when its nearest
+ * exited ancestor does, so later spans never nest under it. A trace keeps at most {@value #MAX_SPANS} spans; later ones, typically repeated
+ * statements of an N+1 loop, are only counted.
+ */
+public final class RequestTrace {
+    
+    static final int MAX_SPANS = 512;
+    
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+    
+    private final String traceId;
+    private final Instant start;
+    private final long startNanos;
+    private final List<OpenSpan> spans = new ArrayList<>();
+    private int current = -1;
+    private int droppedSpans;
+    
+    private RequestTrace() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        this.traceId = HexFormat.of().toHexDigits(random.nextLong()) + HexFormat.of().toHexDigits(random.nextLong());
+        this.start = Instant.now();
+        this.startNanos = System.nanoTime();
+    }
+    
+    public static RequestTrace begin() {
+        RequestTrace trace = new RequestTrace();
+        CURRENT.set(trace);
+        return trace;
+    }
+    
+    public static RequestTrace current() {
+        return CURRENT.get();
+    }
+    
+    public static void end() {
+        CURRENT.remove();
+    }
+    
+    /** Opens a span under the innermost open one and returns its handle, or -1 when nothing is traced. */
+    public static int enter(SpanLayer layer, String name) {
+        RequestTrace trace = CURRENT.get();
+        return trace != null ? trace.open(layer, name) : -1;
+    }
+    
+    /** Layer of the innermost open span, or null when nothing is traced. */
+    public static SpanLayer currentLayer() {
+        RequestTrace trace = CURRENT.get();
+        return trace != null && trace.current >= 0 ? trace.spans.get(trace.current).layer : null;
+    }
+    
+    public static void exit(int span) {
+        if (span >= 0) {
+            RequestTrace trace = CURRENT.get();
+            if (trace != null) {
+                trace.close(span);
+            }
+        }
+    }
+    
+    private int open(SpanLayer layer, String name) {
+        if (spans.size() >= MAX_SPANS) {
+            droppedSpans++;
+            return -1;
+        }
+        spans.add(new OpenSpan(layer, name, current, System.nanoTime()));
+        current = spans.size() - 1;
+        return current;
+    }
+    
+    private void close(int index) {
+        OpenSpan span = spans.get(index);
+        if (span.endNanos != 0) {
+            return;
+        }
+        // Open spans always form the chain from the current one up to the root, so this stops at index.
+        long now = System.nanoTime();
+        for (int open = current; open != index; open = spans.get(open).parent) {
+            spans.get(open).endNanos = now;
+        }
+        span.endNanos = now;
+        current = span.parent;
+    }
+    
+    /**
+     * Closes anything still open and freezes the trace. The root span is renamed after the matched route,
+     * which is only known once the request has been dispatched.
+     */
+    CompletedTrace complete(String method, String route, int status) {
+        long now = System.nanoTime();
+        List<CompletedTrace.Span> completed = new ArrayList<>(spans.size());
+        for (int i = 0; i < spans.size(); i++) {
+            OpenSpan span = spans.get(i);
+            long end = span.endNanos != 0 ? span.endNanos : now;
+            String name = i == 0 ? method + " " + route : span.name;
+            completed.add(new CompletedTrace.Span(i, span.parent, span.layer, name, span.startNanos - startNanos,
+                    end - span.startNanos));
+        }
+        return new CompletedTrace(traceId, start, method, route, status, now - startNanos, completed, droppedSpans);
+    }
+    
+    private static final class OpenSpan {
+        private final SpanLayer layer;
+        private final String name;
+        private final int parent;
+        private final long startNanos;
+        private long endNanos;
+        
+        private OpenSpan(SpanLayer layer, String name, int parent, long startNanos) {
+            this.layer = layer;
+            this.name = name;
+            this.parent = parent;
+            this.startNanos = startNanos;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.eaglebank.api.tracing;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * Records each call into a {@code @Service} bean as a {@link SpanLayer#SERVICE} span. It is added ahead of
+ * any transaction advice, so the span covers the commit and the flush it triggers. Services called from
+ * another layer, such as {@code JwtService} during authentication, are charged to that layer instead.
+ */
+class ServiceTracingInterceptor implements MethodInterceptor {
+    
+    private final String serviceName;
+    
+    ServiceTracingInterceptor(String serviceName) {
+        this.serviceName = serviceName;
+    }
+    
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        SpanLayer layer = RequestTrace.currentLayer();
+        if ((layer != SpanLayer.HTTP && layer != SpanLayer.SERVICE)
+                || invocation.getMethod().getDeclaringClass() == Object.class) {
+            return invocation.proceed();
+        }
+        int span = RequestTrace.enter(SpanLayer.SERVICE, serviceName + "." + invocation.getMethod().getName());
+        try {
+            return invocation.proceed();
+        } finally {
+            RequestTrace.exit(span);
+        }
+    }
+}
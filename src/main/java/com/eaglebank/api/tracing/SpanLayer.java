@@ -0,0 +1,26 @@
+package com.eaglebank.api.tracing;
+
+/**
+ * Layers a request's time is broken down into. Each span's own time, excluding its children, is charged to
+ * its layer, so the layers of a trace add up to the request's duration.
+ */
+public enum SpanLayer {
+    
+    HTTP("http"),
+    AUTHENTICATION("authentication"),
+    VALIDATION("validation"),
+    SERVICE("service"),
+    FLUSH("hibernate.flush"),
+    JDBC("jdbc"),
+    SERIALIZATION("serialization");
+    
+    private final String label;
+    
+    SpanLayer(String label) {
+        this.label = label;
+    }
+    
+    public String label() {
+        return label;
+    }
+}
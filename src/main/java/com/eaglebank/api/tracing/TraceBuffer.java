@@ -0,0 +1,43 @@
+package com.eaglebank.api.tracing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed-size ring of the most recent sampled traces. Writers claim the next slot with one atomic increment
+ * and overwrite whatever was there, so recording never blocks and memory stays bounded.
+ */
+public class TraceBuffer {
+    
+    private final AtomicReferenceArray<CompletedTrace> slots;
+    private final AtomicLong recorded = new AtomicLong();
+    
+    public TraceBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Trace buffer capacity must be positive");
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+    
+    public void record(CompletedTrace trace) {
+        long sequence = recorded.getAndIncrement();
+        slots.set((int) (sequence % slots.length()), trace);
+    }
+    
+    public List<CompletedTrace> snapshot() {
+        List<CompletedTrace> traces = new ArrayList<>(slots.length());
+        for (int i = 0; i < slots.length(); i++) {
+            CompletedTrace trace = slots.get(i);
+            if (trace != null) {
+                traces.add(trace);
+            }
+        }
+        return traces;
+    }
+    
+    public long recorded() {
+        return recorded.get();
+    }
+}
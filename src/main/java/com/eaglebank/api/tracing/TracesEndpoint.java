@@ -0,0 +1,66 @@
+package com.eaglebank.api.tracing;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Slowest of the recently sampled requests, each with its own time per layer and its full span tree, for
+ * finding where a latency regression went. Not exposed over HTTP unless {@code traces} is added to
+ * {@code management.endpoints.web.exposure.include}.
+ */
+@Endpoint(id = "traces")
+public class TracesEndpoint {
+    
+    private final TraceBuffer traceBuffer;
+    private final int defaultLimit;
+    
+    public TracesEndpoint(TraceBuffer traceBuffer, int defaultLimit) {
+        this.traceBuffer = traceBuffer;
+        this.defaultLimit = defaultLimit;
+    }
+    
+    @ReadOperation
+    public TracesSnapshot traces(@Nullable Integer limit) {
+        List<CompletedTrace> buffered = traceBuffer.snapshot();
+        List<TraceView> slowest = buffered.stream()
+                .sorted(Comparator.comparingLong(CompletedTrace::durationNanos).reversed())
+                .limit(limit != null && limit > 0 ? limit : defaultLimit)
+                .map(TracesEndpoint::toView)
+                .toList();
+        return new TracesSnapshot(traceBuffer.recorded(), buffered.size(), slowest);
+    }
+    
+    private static TraceView toView(CompletedTrace trace) {
+        Map<String, Double> breakdown = new LinkedHashMap<>();
+        trace.selfTimeNanos().forEach((layer, nanos) -> breakdown.put(layer.label(), millis(nanos)));
+        List<SpanView> spans = trace.spans().stream()
+                .map(span -> new SpanView(span.index(), span.parent(), span.layer().label(), span.name(),
+                        millis(span.startOffsetNanos()), millis(span.durationNanos())))
+                .toList();
+        return new TraceView(trace.traceId(), trace.start(), trace.method(), trace.route(), trace.status(),
+                millis(trace.durationNanos()), breakdown, spans, trace.droppedSpans());
+    }
+    
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+    
+    public record TracesSnapshot(long sampledRequests, int buffered, List<TraceView> slowest) {
+    }
+    
+    public record TraceView(String traceId, Instant start, String method, String route, int status,
+                            double durationMillis, Map<String, Double> breakdownMillis, List<SpanView> spans,
+                            int droppedSpans) {
+    }
+    
+    public record SpanView(int index, int parent, String layer, String name, double startOffsetMillis,
+                           double durationMillis) {
+    }
+}
@@ -0,0 +1,122 @@
+package com.eaglebank.api.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validator;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Wires the span sources into each layer: the servlet filter, JWT filter, MVC validator, {@code @Service}
+ * beans, Hibernate session events, the JDBC hooks and the Jackson converter.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "tracing", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(TracingProperties.class)
+public class TracingConfig {
+    
+    @Bean
+    public static BeanPostProcessor tracingPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                Class<?> targetClass = AopUtils.getTargetClass(bean);
+                if (AnnotationUtils.findAnnotation(targetClass, Service.class) == null) {
+                    return bean;
+                }
+                // Ahead of the transaction advice when the service is already proxied.
+                ServiceTracingInterceptor interceptor = new ServiceTracingInterceptor(targetClass.getSimpleName());
+                if (bean instanceof Advised advised && !advised.isFrozen()) {
+                    advised.addAdvice(0, interceptor);
+                    return bean;
+                }
+                ProxyFactory proxyFactory = new ProxyFactory(bean);
+                proxyFactory.setProxyTargetClass(true);
+                proxyFactory.addAdvice(interceptor);
+                return proxyFactory.getProxy(targetClass.getClassLoader());
+            }
+        };
+    }
+    
+    // Runs first, so a statement's span covers the work of every other JDBC hook.
+    @Bean
+    @Order(0)
+    public TracingHook tracingHook() {
+        return new TracingHook();
+    }
+    
+    @Bean
+    public HibernatePropertiesCustomizer tracingHibernatePropertiesCustomizer() {
+        return properties -> properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+                TracingSessionEventListener.class.getName());
+    }
+    
+    @Bean
+    public WebMvcConfigurer tracingWebMvcConfigurer(ObjectProvider<Validator> validator) {
+        return new WebMvcConfigurer() {
+            @Override
+            public org.springframework.validation.Validator getValidator() {
+                return new TracingValidator(validator.getObject());
+            }
+            
+            @Override
+            public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+                for (int i = 0; i < converters.size(); i++) {
+                    if (converters.get(i).getClass() == MappingJackson2HttpMessageConverter.class) {
+                        ObjectMapper objectMapper = ((MappingJackson2HttpMessageConverter) converters.get(i))
+                                .getObjectMapper();
+                        converters.set(i, new TracingJacksonHttpMessageConverter(objectMapper));
+                    }
+                }
+            }
+        };
+    }
+    
+    @Bean
+    public TraceBuffer traceBuffer(TracingProperties properties) {
+        return new TraceBuffer(properties.bufferSize());
+    }
+    
+    @Bean
+    public TracesEndpoint tracesEndpoint(TraceBuffer traceBuffer, TracingProperties properties) {
+        return new TracesEndpoint(traceBuffer, properties.slowestLimit());
+    }
+    
+    @Bean
+    @ConditionalOnProperty(prefix = "tracing", name = "otlp-file")
+    public OtlpFileExporter otlpFileExporter(TracingProperties properties,
+                                             @Value("${spring.application.name}") String serviceName)
+            throws IOException {
+        return new OtlpFileExporter(properties.otlpFile(), properties.exportQueueSize(), serviceName);
+    }
+    
+    @Bean
+    public FilterRegistrationBean<TracingFilter> tracingFilter(TracingProperties properties, TraceBuffer traceBuffer,
+                                                               ObjectProvider<OtlpFileExporter> exporter) {
+        FilterRegistrationBean<TracingFilter> registration = new FilterRegistrationBean<>(
+                new TracingFilter(properties.sampleRate(), traceBuffer, exporter.getIfAvailable()));
+        registration.addUrlPatterns("/v1/*", "/internal/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
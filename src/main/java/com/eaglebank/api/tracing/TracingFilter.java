@@ -0,0 +1,53 @@
+package com.eaglebank.api.tracing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Samples requests and, for those sampled, opens a {@link RequestTrace} with a root {@link SpanLayer#HTTP}
+ * span around everything else. Finished traces go to the {@link TraceBuffer} and, when configured, to the
+ * OTLP file exporter.
+ */
+public class TracingFilter extends OncePerRequestFilter {
+    
+    private final double sampleRate;
+    private final TraceBuffer traceBuffer;
+    private final OtlpFileExporter exporter;
+    
+    public TracingFilter(double sampleRate, TraceBuffer traceBuffer, OtlpFileExporter exporter) {
+        this.sampleRate = sampleRate;
+        this.traceBuffer = traceBuffer;
+        this.exporter = exporter;
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (sampleRate <= 0 || (sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        RequestTrace trace = RequestTrace.begin();
+        int root = RequestTrace.enter(SpanLayer.HTTP, request.getMethod());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestTrace.exit(root);
+            RequestTrace.end();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            CompletedTrace completed = trace.complete(request.getMethod(),
+                    pattern != null ? pattern.toString() : "UNKNOWN", response.getStatus());
+            traceBuffer.record(completed);
+            if (exporter != null) {
+                exporter.export(completed);
+            }
+        }
+    }
+}
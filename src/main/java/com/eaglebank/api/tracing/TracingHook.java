@@ -0,0 +1,33 @@
+package com.eaglebank.api.tracing;
+
+import com.eaglebank.api.jdbc.JdbcHook;
+
+import java.sql.Statement;
+
+/**
+ * Records a {@link SpanLayer#JDBC} span, named after the statement, around every statement executed while a
+ * request is being traced.
+ */
+public class TracingHook implements JdbcHook {
+    
+    private static final int MAX_NAME_LENGTH = 160;
+    
+    @Override
+    public Object beforeExecute(Statement statement, String sql) {
+        if (RequestTrace.current() == null) {
+            return null;
+        }
+        int span = RequestTrace.enter(SpanLayer.JDBC, spanName(sql));
+        return span >= 0 ? span : null;
+    }
+    
+    @Override
+    public void afterExecute(Object context, Object result, Throwable failure, long elapsedNanos) {
+        RequestTrace.exit((Integer) context);
+    }
+    
+    private static String spanName(String sql) {
+        String name = sql.strip().replaceAll("\\s+", " ");
+        return name.length() > MAX_NAME_LENGTH ? name.substring(0, MAX_NAME_LENGTH) + "..." : name;
+    }
+}
@@ -0,0 +1,46 @@
+package com.eaglebank.api.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Jackson converter that records reading request bodies and writing response bodies as
+ * {@link SpanLayer#SERIALIZATION} spans.
+ */
+public class TracingJacksonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+    
+    public TracingJacksonHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+    
+    @Override
+    public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        int span = RequestTrace.enter(SpanLayer.SERIALIZATION, "read " + typeName(type));
+        try {
+            return super.read(type, contextClass, inputMessage);
+        } finally {
+            RequestTrace.exit(span);
+        }
+    }
+    
+    @Override
+    protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage)
+            throws IOException {
+        int span = RequestTrace.enter(SpanLayer.SERIALIZATION, "write " + object.getClass().getSimpleName());
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            RequestTrace.exit(span);
+        }
+    }
+    
+    private static String typeName(Type type) {
+        return type instanceof Class<?> clazz ? clazz.getSimpleName() : type.getTypeName();
+    }
+}
@@ -0,0 +1,22 @@
+package com.eaglebank.api.tracing;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+
+/**
+ * {@code sampleRate} is the fraction of API requests traced; {@code bufferSize} how many recent traces the
+ * {@code traces} endpoint chooses the slowest from. Setting {@code otlpFile} also appends every sampled trace
+ * to that file as OTLP/JSON, one export request per line.
+ */
+@ConfigurationProperties(prefix = "tracing")
+public record TracingProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("0.01") double sampleRate,
+        @DefaultValue("1024") int bufferSize,
+        @DefaultValue("20") int slowestLimit,
+        Path otlpFile,
+        @DefaultValue("4096") int exportQueueSize
+) {
+}
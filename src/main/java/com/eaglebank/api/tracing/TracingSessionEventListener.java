@@ -0,0 +1,46 @@
+package com.eaglebank.api.tracing;
+
+import org.hibernate.SessionEventListener;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Records Hibernate flushes as {@link SpanLayer#FLUSH} spans; the statements a flush issues appear as its
+ * JDBC children. Hibernate creates one listener per session, so the open spans need no synchronisation.
+ * <p>
+ * A partial flush can start inside a full one, so open spans are kept as a stack and each end closes the
+ * innermost. A flush that throws never reports its end; its span is ended by {@link RequestTrace} when the
+ * enclosing span exits, and the stale handle left below on the stack is never popped.
+ */
+public class TracingSessionEventListener implements SessionEventListener {
+    
+    private final Deque<Integer> flushSpans = new ArrayDeque<>();
+    
+    @Override
+    public void flushStart() {
+        flushSpans.push(RequestTrace.enter(SpanLayer.FLUSH, "flush"));
+    }
+    
+    @Override
+    public void flushEnd(int numberOfEntities, int numberOfCollections) {
+        exitInnermost();
+    }
+    
+    @Override
+    public void partialFlushStart() {
+        flushSpans.push(RequestTrace.enter(SpanLayer.FLUSH, "auto flush"));
+    }
+    
+    @Override
+    public void partialFlushEnd(int numberOfEntities, int numberOfCollections) {
+        exitInnermost();
+    }
+    
+    private void exitInnermost() {
+        Integer span = flushSpans.poll();
+        if (span != null) {
+            RequestTrace.exit(span);
+        }
+    }
+}
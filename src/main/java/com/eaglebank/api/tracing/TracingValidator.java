@@ -0,0 +1,37 @@
+package com.eaglebank.api.tracing;
+
+import jakarta.validation.Validator;
+import org.springframework.validation.Errors;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+/**
+ * MVC validator that records Bean Validation of {@code @Valid} request bodies as
+ * {@link SpanLayer#VALIDATION} spans. It remains a Bean Validation {@link Validator}, so MVC applies method
+ * validation exactly as it does with Boot's default adapter.
+ */
+public class TracingValidator extends SpringValidatorAdapter {
+    
+    public TracingValidator(Validator targetValidator) {
+        super(targetValidator);
+    }
+    
+    @Override
+    public void validate(Object target, Errors errors) {
+        int span = RequestTrace.enter(SpanLayer.VALIDATION, target.getClass().getSimpleName());
+        try {
+            super.validate(target, errors);
+        } finally {
+            RequestTrace.exit(span);
+        }
+    }
+    
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        int span = RequestTrace.enter(SpanLayer.VALIDATION, target.getClass().getSimpleName());
+        try {
+            super.validate(target, errors, validationHints);
+        } finally {
+            RequestTrace.exit(span);
+        }
+    }
+}
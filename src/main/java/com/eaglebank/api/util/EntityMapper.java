@@ -63,7 +63,7 @@ public class EntityMapper {
                 account.getSortCode(),
                 account.getName(),
                 account.getAccountType(),
-                account.getBalance(),
+                MoneyUtil.fromMinorUnits(account.getBalance()),
                 account.getCurrency(),
                 account.getCreatedTimestamp(),
                 account.getUpdatedTimestamp()
@@ -76,7 +76,7 @@ public class EntityMapper {
         }
         return new TransactionResponse(
                 transaction.getId(),
-                transaction.getAmount(),
+                MoneyUtil.fromMinorUnits(transaction.getAmount()),
                 transaction.getCurrency(),
                 transaction.getType(),
                 transaction.getReference(),
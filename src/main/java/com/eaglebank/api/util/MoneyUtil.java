@@ -0,0 +1,21 @@
+package com.eaglebank.api.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Conversions between decimal amounts at the API boundary and the {@code long} minor units (pence) that
+ * balances and transaction amounts are stored and computed in.
+ */
+public class MoneyUtil {
+    
+    public static final int MINOR_UNIT_SCALE = 2;
+    
+    public static long toMinorUnits(BigDecimal amount) {
+        return amount.setScale(MINOR_UNIT_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+    
+    public static BigDecimal fromMinorUnits(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, MINOR_UNIT_SCALE);
+    }
+}
@@ -5,14 +5,21 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.Optional;
+
 public class SecurityContextUtil {
     
     public static String getCurrentUserId() {
+        return findCurrentUserId()
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Authentication required"));
+    }
+    
+    public static Optional<String> findCurrentUserId() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.getPrincipal() instanceof String) {
-            return (String) authentication.getPrincipal();
+        if (authentication != null && authentication.getPrincipal() instanceof String userId) {
+            return Optional.of(userId);
         }
-        throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Authentication required");
+        return Optional.empty();
     }
 }
 
@@ -0,0 +1,36 @@
+package com.eaglebank.api.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor for transaction pages: the creation time and ID of the last row returned, encoded
+ * as URL-safe Base64 so clients treat it as a token rather than something to construct.
+ */
+public record TransactionCursor(Instant createdTimestamp, String transactionId) {
+    
+    private static final char SEPARATOR = '|';
+    
+    public String encode() {
+        String raw = createdTimestamp.toString() + SEPARATOR + transactionId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * @throws IllegalArgumentException if the value was not produced by {@link #encode()}
+     */
+    public static TransactionCursor decode(String cursor) {
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        int separator = raw.indexOf(SEPARATOR);
+        if (separator < 0 || separator == raw.length() - 1) {
+            throw new IllegalArgumentException("Malformed transaction cursor");
+        }
+        try {
+            return new TransactionCursor(Instant.parse(raw.substring(0, separator)), raw.substring(separator + 1));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Malformed transaction cursor", e);
+        }
+    }
+}
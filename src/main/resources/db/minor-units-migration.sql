@@ -0,0 +1,17 @@
+-- Converts money columns from NUMERIC(10,2) pounds to BIGINT pence.
+-- Hibernate's ddl-auto=update never changes the type of an existing column, so run this once against
+-- existing databases before deploying the minor-unit build. Stop writers first; the statements are
+-- idempotent only in the sense that they fail fast if the columns are already BIGINT.
+
+BEGIN;
+
+ALTER TABLE bank_accounts
+    ALTER COLUMN balance TYPE BIGINT USING (balance * 100)::BIGINT;
+
+ALTER TABLE transactions
+    ALTER COLUMN amount TYPE BIGINT USING (amount * 100)::BIGINT;
+
+ALTER TABLE transactions
+    ALTER COLUMN original_amount TYPE BIGINT USING (original_amount * 100)::BIGINT;
+
+COMMIT;
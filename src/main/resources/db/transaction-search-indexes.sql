@@ -0,0 +1,17 @@
+-- Indexes backing the filtered transaction listing on PostgreSQL.
+-- Hibernate's ddl-auto=update creates the composite account indexes declared on the Transaction entity, but
+-- cannot create extension-backed indexes, so run this once per database. CONCURRENTLY keeps writers
+-- unblocked; it cannot run inside a transaction block, so execute the statements individually.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Serves "lower(reference) LIKE '%text%'", which a B-tree cannot.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_transactions_reference_trgm
+    ON transactions USING gin (lower(reference) gin_trgm_ops);
+
+-- Same definitions as the entity, for databases where ddl-auto is disabled.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_transactions_account_type_created
+    ON transactions (account_number, type, created_timestamp);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_transactions_account_amount
+    ON transactions (account_number, amount);
@@ -0,0 +1,111 @@
+package com.eaglebank.api.audit;
+
+import com.eaglebank.api.journal.MappedSegmentLog;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void publish_ShouldAppendChainedRecordsThatVerify() throws Exception {
+        try (AuditJournal journal = new AuditJournal(directory, 4096, 64, 8)) {
+            assertThat(journal.publish(event("usr-1", "POST", "/v1/accounts", 201))).isTrue();
+            assertThat(journal.publish(event("usr-1", "DELETE", "/v1/accounts/01234567", 204))).isTrue();
+            assertThat(journal.publish(event(null, "POST", "/v1/users", 201))).isTrue();
+        }
+
+        List<AuditRecord> records = new ArrayList<>();
+        AuditJournalReader.replay(directory, records::add);
+
+        assertThat(records).extracting(AuditRecord::sequence).containsExactly(1L, 2L, 3L);
+        assertThat(records.get(2).userId()).isNull();
+        assertThat(AuditJournalReader.verify(directory)).isNull();
+    }
+
+    @Test
+    void constructor_ShouldContinueChainAcrossRestarts() throws Exception {
+        try (AuditJournal journal = new AuditJournal(directory, 4096, 64, 8)) {
+            journal.publish(event("usr-1", "POST", "/v1/accounts", 201));
+        }
+        try (AuditJournal journal = new AuditJournal(directory, 4096, 64, 8)) {
+            journal.publish(event("usr-1", "PATCH", "/v1/accounts/01234567", 200));
+        }
+
+        List<AuditRecord> records = new ArrayList<>();
+        AuditJournalReader.replay(directory, records::add);
+
+        assertThat(records).extracting(AuditRecord::sequence).containsExactly(1L, 2L);
+        assertThat(AuditJournalReader.verify(directory)).isNull();
+    }
+
+    @Test
+    void search_ShouldFilterRecords() throws Exception {
+        try (AuditJournal journal = new AuditJournal(directory, 4096, 64, 8)) {
+            journal.publish(event("usr-1", "POST", "/v1/accounts", 201));
+            journal.publish(event("usr-2", "POST", "/v1/accounts", 201));
+        }
+
+        List<AuditRecord> records = new ArrayList<>();
+        AuditJournalReader.search(directory, record -> "usr-2".equals(record.userId()), records::add);
+
+        assertThat(records).hasSize(1);
+        assertThat(records.get(0).sequence()).isEqualTo(2L);
+    }
+
+    @Test
+    void verify_ShouldDetectTamperedRecord() throws Exception {
+        try (AuditJournal journal = new AuditJournal(directory, 4096, 64, 8)) {
+            journal.publish(event("usr-1", "POST", "/v1/accounts", 201));
+            journal.publish(event("usr-1", "POST", "/v1/accounts", 201));
+        }
+        rewriteFirstRecordStatus(404);
+
+        assertThat(AuditJournalReader.verify(directory)).contains("sequence 1");
+    }
+
+    @Test
+    void publish_ShouldDropEvents_WhenJournalIsClosed() throws Exception {
+        AuditJournal journal = new AuditJournal(directory, 4096, 64, 8);
+        journal.close();
+
+        assertThat(journal.publish(event("usr-1", "POST", "/v1/accounts", 201))).isFalse();
+        assertThat(journal.droppedCount()).isEqualTo(1);
+    }
+
+    // Rewrites the record including a fresh checksum so only the hash chain can catch the change.
+    private void rewriteFirstRecordStatus(int status) throws Exception {
+        List<byte[]> payloads = new ArrayList<>();
+        MappedSegmentLog.readAll(directory, AuditJournal.SEGMENT_PREFIX, payloads::add);
+        AuditRecord original = AuditRecord.decode(payloads.get(0));
+        byte[] body = AuditRecord.encodeBody(original.sequence(), new AuditEvent(original.timestamp(),
+                original.userId(), original.method(), original.path(), status));
+        byte[] tampered = new byte[payloads.get(0).length];
+        System.arraycopy(body, 0, tampered, 0, body.length);
+        System.arraycopy(original.hash(), 0, tampered, body.length, original.hash().length);
+
+        Path firstSegment = MappedSegmentLog.listSegments(directory, AuditJournal.SEGMENT_PREFIX).get(0);
+        CRC32C crc = new CRC32C();
+        crc.update(tampered);
+        try (RandomAccessFile file = new RandomAccessFile(firstSegment.toFile(), "rw")) {
+            file.writeInt(tampered.length);
+            file.writeInt((int) crc.getValue());
+            file.write(tampered);
+        }
+    }
+
+    private static AuditEvent event(String userId, String method, String path, int status) {
+        return new AuditEvent(Instant.parse("2024-01-01T00:00:00Z"), userId, method, path, status);
+    }
+}
@@ -0,0 +1,148 @@
+package com.eaglebank.api.batch;
+
+import com.eaglebank.api.domain.Address;
+import com.eaglebank.api.domain.BankAccount;
+import com.eaglebank.api.domain.User;
+import com.eaglebank.api.repository.BankAccountRepository;
+import com.eaglebank.api.repository.UserRepository;
+import com.eaglebank.api.service.AccountService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:eaglebank-closure-db;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=update",
+        "batch.account-closure.batch-size=100",
+        "batch.account-closure.max-rows-per-second=1000000"
+})
+class AccountClosureJobTest {
+
+    private static final String CLOSED_ACCOUNT = "01000001";
+    private static final String OPEN_ACCOUNT = "01000002";
+    private static final int TRANSACTIONS = 1_050;
+
+    @Autowired
+    private AccountClosureJob accountClosureJob;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BankAccountRepository bankAccountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setId("usr-closure");
+        user.setName("Closure Test");
+        user.setAddress(new Address("1 High Street", null, null, "London", "Greater London", "E1 1AA"));
+        user.setPhoneNumber("+447700900001");
+        user.setEmail("closure@example.com");
+        user.setPassword("not-used");
+        userRepository.save(user);
+
+        for (String accountNumber : List.of(CLOSED_ACCOUNT, OPEN_ACCOUNT)) {
+            BankAccount account = new BankAccount();
+            account.setAccountNumber(accountNumber);
+            account.setSortCode("10-10-10");
+            account.setName("Closure " + accountNumber);
+            account.setAccountType("personal");
+            account.setBalance(0L);
+            account.setCurrency("GBP");
+            account.setUser(user);
+            bankAccountRepository.save(account);
+            insertTransactions(accountNumber);
+        }
+        jdbcTemplate.update("""
+                insert into account_monthly_rollups (id, account_number, month_start, deposit_total, deposit_count,
+                                                     withdrawal_total, withdrawal_count, updated_timestamp)
+                values (?, ?, ?, 1000, 1, 0, 0, ?)""",
+                CLOSED_ACCOUNT + ":2024-01", CLOSED_ACCOUNT, LocalDate.of(2024, 1, 1), Timestamp.from(Instant.now()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from transactions_archive");
+        jdbcTemplate.update("delete from account_monthly_rollups");
+        jdbcTemplate.update("delete from transactions");
+        jdbcTemplate.update("delete from bank_accounts");
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void deleteAccount_ShouldHideAccountWithoutDeletingHistory() {
+        accountService.deleteAccount(CLOSED_ACCOUNT, "usr-closure");
+
+        assertThat(bankAccountRepository.existsById(CLOSED_ACCOUNT)).isFalse();
+        assertThat(bankAccountRepository.existsIncludingClosed(CLOSED_ACCOUNT)).isTrue();
+        assertThat(bankAccountRepository.existsByUserId("usr-closure")).isTrue();
+        assertThat(countTransactions(CLOSED_ACCOUNT)).isEqualTo(TRANSACTIONS);
+        assertThatThrownBy(() -> accountService.getAccountByAccountNumber(CLOSED_ACCOUNT, "usr-closure"))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting("statusCode")
+                .isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void run_ShouldArchiveTransactionsAndPurgeClosedAccount() {
+        accountService.deleteAccount(CLOSED_ACCOUNT, "usr-closure");
+
+        AccountClosureResult result = accountClosureJob.run();
+
+        assertThat(result.finished()).isTrue();
+        assertThat(result.accountsPurged()).isEqualTo(1);
+        assertThat(result.transactionsArchived()).isEqualTo(TRANSACTIONS);
+        assertThat(countTransactions(CLOSED_ACCOUNT)).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from transactions_archive where account_number = ?", Long.class, CLOSED_ACCOUNT))
+                .isEqualTo(TRANSACTIONS);
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from account_monthly_rollups where account_number = ?", Long.class, CLOSED_ACCOUNT))
+                .isZero();
+        assertThat(bankAccountRepository.existsIncludingClosed(CLOSED_ACCOUNT)).isFalse();
+        assertThat(bankAccountRepository.existsById(OPEN_ACCOUNT)).isTrue();
+        assertThat(countTransactions(OPEN_ACCOUNT)).isEqualTo(TRANSACTIONS);
+    }
+
+    private long countTransactions(String accountNumber) {
+        return jdbcTemplate.queryForObject("select count(*) from transactions where account_number = ?",
+                Long.class, accountNumber);
+    }
+
+    private void insertTransactions(String accountNumber) {
+        Instant base = Instant.parse("2024-01-01T00:00:00Z");
+        List<Object[]> batch = new ArrayList<>(TRANSACTIONS);
+        for (int i = 0; i < TRANSACTIONS; i++) {
+            batch.add(new Object[] {"tan-c" + accountNumber + "n" + i, 100L, accountNumber,
+                    Timestamp.from(base.plusSeconds(i))});
+        }
+        jdbcTemplate.batchUpdate("""
+                insert into transactions (id, amount, currency, type, account_number, user_id, created_timestamp)
+                values (?, ?, 'GBP', 'deposit', ?, 'usr-closure', ?)
+                """, batch);
+    }
+}
@@ -0,0 +1,120 @@
+package com.eaglebank.api.batch;
+
+import com.eaglebank.api.domain.Address;
+import com.eaglebank.api.domain.BankAccount;
+import com.eaglebank.api.domain.User;
+import com.eaglebank.api.dto.transaction.CreateTransactionRequest;
+import com.eaglebank.api.ledger.EventSourcedLedger;
+import com.eaglebank.api.repository.BankAccountRepository;
+import com.eaglebank.api.repository.BatchJobCheckpointRepository;
+import com.eaglebank.api.repository.MonthlyRollupRepository;
+import com.eaglebank.api.repository.TransactionRepository;
+import com.eaglebank.api.repository.UserRepository;
+import com.eaglebank.api.service.TransactionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:eaglebank-batch-ledger-db;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=update",
+        "ledger.mode=event-sourced",
+        "ledger.segment-size=1MB"
+})
+class BatchJobRunnerEventSourcedTest {
+
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2026, 10, 18);
+
+    @DynamicPropertySource
+    static void ledgerDirectory(DynamicPropertyRegistry registry) throws IOException {
+        String directory = Files.createTempDirectory("batch-ledger").toString();
+        registry.add("ledger.directory", () -> directory);
+    }
+
+    @Autowired
+    private BatchJobRunner batchJobRunner;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private EventSourcedLedger eventSourcedLedger;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BankAccountRepository bankAccountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private MonthlyRollupRepository monthlyRollupRepository;
+
+    @Autowired
+    private BatchJobCheckpointRepository checkpointRepository;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setId("usr-batch-ledger");
+        user.setName("Batch Ledger Test");
+        user.setAddress(new Address("1 High Street", null, null, "London", "Greater London", "E1 1AA"));
+        user.setPhoneNumber("+447700900001");
+        user.setEmail("batch-ledger@example.com");
+        user.setPassword("not-used");
+        userRepository.save(user);
+
+        BankAccount account = new BankAccount();
+        account.setAccountNumber("01000001");
+        account.setSortCode("10-10-10");
+        account.setName("Batch Ledger");
+        account.setAccountType("personal");
+        account.setBalance(365000L);
+        account.setCurrency("GBP");
+        account.setUser(user);
+        bankAccountRepository.save(account);
+    }
+
+    @AfterEach
+    void tearDown() {
+        checkpointRepository.deleteAll();
+        monthlyRollupRepository.deleteAll();
+        transactionRepository.deleteAll();
+        bankAccountRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void run_ShouldApplyPostingsThroughLedger_SoLaterDepositsKeepThem() {
+        deposit("1.00");
+
+        BatchJobResult result = batchJobRunner.run(new InterestAccrualJob(new BigDecimal("0.0100")), BUSINESS_DATE);
+        deposit("1.00");
+
+        assertThat(result.rowsUpdated()).isEqualTo(1);
+        assertThat(eventSourcedLedger.balanceOf("01000001")).hasValue(365210L);
+        assertThat(bankAccountRepository.findById("01000001").orElseThrow().getBalance()).isEqualTo(365210L);
+        assertThat(transactionRepository.count()).isEqualTo(3);
+    }
+
+    private void deposit(String amount) {
+        transactionService.createTransaction("01000001",
+                new CreateTransactionRequest(new BigDecimal(amount), "GBP", "deposit", null), "usr-batch-ledger");
+    }
+}
@@ -0,0 +1,132 @@
+package com.eaglebank.api.batch;
+
+import com.eaglebank.api.domain.Address;
+import com.eaglebank.api.domain.BankAccount;
+import com.eaglebank.api.domain.BatchJobCheckpoint;
+import com.eaglebank.api.domain.User;
+import com.eaglebank.api.enums.BatchJobStatus;
+import com.eaglebank.api.repository.BankAccountRepository;
+import com.eaglebank.api.repository.BatchJobCheckpointRepository;
+import com.eaglebank.api.repository.TransactionRepository;
+import com.eaglebank.api.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:eaglebank-batch-db;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=update",
+        "batch.chunk-size=7",
+        "batch.threads=3",
+        "batch.queue-capacity=2"
+})
+class BatchJobRunnerTest {
+
+    private static final int ACCOUNTS = 50;
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2026, 10, 18);
+
+    @Autowired
+    private BatchJobRunner batchJobRunner;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BankAccountRepository bankAccountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private BatchJobCheckpointRepository checkpointRepository;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setId("usr-batch");
+        user.setName("Batch Test");
+        user.setAddress(new Address("1 High Street", null, null, "London", "Greater London", "E1 1AA"));
+        user.setPhoneNumber("+447700900001");
+        user.setEmail("batch@example.com");
+        user.setPassword("not-used");
+        userRepository.save(user);
+
+        for (int i = 0; i < ACCOUNTS; i++) {
+            BankAccount account = new BankAccount();
+            account.setAccountNumber(String.format("01%06d", i));
+            account.setSortCode("10-10-10");
+            account.setName("Batch " + i);
+            account.setAccountType("personal");
+            account.setBalance(i == 0 ? 100L : 365000L);
+            account.setCurrency("GBP");
+            account.setUser(user);
+            bankAccountRepository.save(account);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        checkpointRepository.deleteAll();
+        transactionRepository.deleteAll();
+        bankAccountRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void run_ShouldPostToEveryEligibleAccountAndCompleteCheckpoint() {
+        BatchJobResult result = batchJobRunner.run(new MonthlyFeeJob(new BigDecimal("2.00")), BUSINESS_DATE);
+
+        assertThat(result.rowsProcessed()).isEqualTo(ACCOUNTS);
+        assertThat(result.rowsUpdated()).isEqualTo(ACCOUNTS - 1);
+        assertThat(transactionRepository.count()).isEqualTo(ACCOUNTS - 1);
+        assertThat(bankAccountRepository.findById("01000000").orElseThrow().getBalance())
+                .isEqualTo(100L);
+        assertThat(bankAccountRepository.findById("01000049").orElseThrow().getBalance())
+                .isEqualTo(364800L);
+        assertThat(checkpointRepository.findById("monthly-fee:202610").orElseThrow().getStatus())
+                .isEqualTo(BatchJobStatus.COMPLETED);
+    }
+
+    @Test
+    void run_ShouldSkip_WhenRunAlreadyCompleted() {
+        InterestAccrualJob job = new InterestAccrualJob(new BigDecimal("0.0100"));
+        batchJobRunner.run(job, BUSINESS_DATE);
+
+        BatchJobResult second = batchJobRunner.run(job, BUSINESS_DATE);
+
+        assertThat(second.alreadyCompleted()).isTrue();
+        assertThat(transactionRepository.count()).isEqualTo(ACCOUNTS - 1);
+        assertThat(bankAccountRepository.findById("01000001").orElseThrow().getBalance())
+                .isEqualTo(365010L);
+    }
+
+    @Test
+    void run_ShouldNotPostTwice_WhenResumingBehindCommittedChunks() {
+        InterestAccrualJob job = new InterestAccrualJob(new BigDecimal("0.0100"));
+        batchJobRunner.run(job, BUSINESS_DATE);
+
+        // Simulate a crash that committed every chunk but lost the checkpoint past the first few accounts.
+        BatchJobCheckpoint checkpoint = checkpointRepository.findById("interest-accrual:20261018").orElseThrow();
+        checkpoint.setStatus(BatchJobStatus.RUNNING);
+        checkpoint.setLastAccountNumber("01000004");
+        checkpoint.setRowsProcessed(5);
+        checkpointRepository.save(checkpoint);
+
+        BatchJobResult resumed = batchJobRunner.run(job, BUSINESS_DATE);
+
+        assertThat(resumed.rowsProcessed()).isEqualTo(ACCOUNTS - 5);
+        assertThat(transactionRepository.count()).isEqualTo(ACCOUNTS - 1);
+        assertThat(bankAccountRepository.findById("01000049").orElseThrow().getBalance())
+                .isEqualTo(365010L);
+    }
+}
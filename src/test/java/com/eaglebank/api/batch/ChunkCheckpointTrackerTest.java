@@ -0,0 +1,43 @@
+package com.eaglebank.api.batch;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChunkCheckpointTrackerTest {
+
+    @Test
+    void complete_ShouldHoldWatermark_WhenEarlierChunkIsStillRunning() {
+        ChunkCheckpointTracker tracker = new ChunkCheckpointTracker(null, 0, 0);
+
+        assertThat(tracker.complete(1, "01000200", 100, 5)).isFalse();
+        assertThat(tracker.complete(2, "01000300", 100, 5)).isFalse();
+
+        assertThat(tracker.watermark()).isNull();
+        assertThat(tracker.rowsProcessed()).isZero();
+    }
+
+    @Test
+    void complete_ShouldAdvanceOverContiguousChunks_WhenGapIsFilled() {
+        ChunkCheckpointTracker tracker = new ChunkCheckpointTracker(null, 0, 0);
+        tracker.complete(2, "01000300", 100, 1);
+        tracker.complete(1, "01000200", 100, 2);
+
+        assertThat(tracker.complete(0, "01000100", 100, 3)).isTrue();
+
+        assertThat(tracker.watermark()).isEqualTo("01000300");
+        assertThat(tracker.rowsProcessed()).isEqualTo(300);
+        assertThat(tracker.rowsUpdated()).isEqualTo(6);
+    }
+
+    @Test
+    void complete_ShouldAccumulateOntoResumedCounts_WhenResumingFromCheckpoint() {
+        ChunkCheckpointTracker tracker = new ChunkCheckpointTracker("01000100", 100, 40);
+
+        tracker.complete(0, "01000150", 50, 10);
+
+        assertThat(tracker.watermark()).isEqualTo("01000150");
+        assertThat(tracker.rowsProcessed()).isEqualTo(150);
+        assertThat(tracker.rowsUpdated()).isEqualTo(50);
+    }
+}
@@ -0,0 +1,137 @@
+package com.eaglebank.api.batch;
+
+import com.eaglebank.api.domain.Address;
+import com.eaglebank.api.domain.BankAccount;
+import com.eaglebank.api.domain.Transaction;
+import com.eaglebank.api.domain.User;
+import com.eaglebank.api.repository.BankAccountRepository;
+import com.eaglebank.api.repository.BatchJobCheckpointRepository;
+import com.eaglebank.api.repository.TransactionRepository;
+import com.eaglebank.api.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:eaglebank-reconciliation-db;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=update",
+        "batch.reconciliation.chunk-size=3",
+        "batch.reconciliation.clock-skew=0s",
+        "batch.reconciliation.report-directory=build/reconciliation-reports"
+})
+class ReconciliationJobTest {
+
+    private static final int ACCOUNTS = 10;
+
+    @Autowired
+    private ReconciliationJob reconciliationJob;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BankAccountRepository bankAccountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private BatchJobCheckpointRepository checkpointRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setId("usr-reconcile");
+        user.setName("Reconciliation Test");
+        user.setAddress(new Address("1 High Street", null, null, "London", "Greater London", "E1 1AA"));
+        user.setPhoneNumber("+447700900002");
+        user.setEmail("reconcile@example.com");
+        user.setPassword("not-used");
+        userRepository.save(user);
+
+        for (int i = 0; i < ACCOUNTS; i++) {
+            BankAccount account = new BankAccount();
+            account.setAccountNumber(String.format("01%06d", i));
+            account.setSortCode("10-10-10");
+            account.setName("Reconcile " + i);
+            account.setAccountType("personal");
+            account.setBalance(7000L);
+            account.setCurrency("GBP");
+            account.setUser(user);
+            bankAccountRepository.save(account);
+            recordTransaction(account, "tan-rcd" + i, "deposit", 10000L);
+            recordTransaction(account, "tan-rcw" + i, "withdrawal", 3000L);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        checkpointRepository.deleteAll();
+        transactionRepository.deleteAll();
+        bankAccountRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void run_ShouldFindNoMismatches_WhenBalancesMatchTransactions() {
+        ReconciliationResult result = reconciliationJob.run(true);
+
+        assertThat(result.fullPass()).isTrue();
+        assertThat(result.finished()).isTrue();
+        assertThat(result.accountsChecked()).isEqualTo(ACCOUNTS);
+        assertThat(result.mismatches()).isZero();
+        assertThat(result.report()).isNull();
+    }
+
+    @Test
+    void run_ShouldReportMismatch_WhenBalanceDriftsFromTransactions() throws IOException {
+        BankAccount drifted = bankAccountRepository.findById("01000004").orElseThrow();
+        drifted.setBalance(7500L);
+        bankAccountRepository.save(drifted);
+
+        ReconciliationResult result = reconciliationJob.run(true);
+
+        assertThat(result.mismatches()).isEqualTo(1);
+        assertThat(Files.readAllLines(result.report()))
+                .containsExactly("account_number,balance,ledger_balance,difference", "01000004,75.00,70.00,5.00");
+    }
+
+    @Test
+    void run_ShouldOnlyRecheckChangedAccounts_AfterFullPass() {
+        reconciliationJob.run(false);
+
+        BankAccount changed = bankAccountRepository.findById("01000007").orElseThrow();
+        changed.setBalance(8000L);
+        bankAccountRepository.save(changed);
+        recordTransaction(changed, "tan-rcx7", "deposit", 1000L);
+
+        ReconciliationResult incremental = reconciliationJob.run(false);
+
+        assertThat(incremental.fullPass()).isFalse();
+        assertThat(incremental.accountsChecked()).isEqualTo(1);
+        assertThat(incremental.mismatches()).isZero();
+    }
+
+    private void recordTransaction(BankAccount account, String id, String type, long amount) {
+        Transaction transaction = new Transaction();
+        transaction.setId(id);
+        transaction.setAmount(amount);
+        transaction.setCurrency("GBP");
+        transaction.setType(type);
+        transaction.setAccount(account);
+        transaction.setUser(user);
+        transactionRepository.save(transaction);
+    }
+}
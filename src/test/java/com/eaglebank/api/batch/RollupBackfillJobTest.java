@@ -0,0 +1,168 @@
+package com.eaglebank.api.batch;
+
+import com.eaglebank.api.domain.Address;
+import com.eaglebank.api.domain.BankAccount;
+import com.eaglebank.api.domain.MonthlyRollup;
+import com.eaglebank.api.domain.User;
+import com.eaglebank.api.dto.transaction.CreateTransactionRequest;
+import com.eaglebank.api.repository.BankAccountRepository;
+import com.eaglebank.api.repository.MonthlyRollupRepository;
+import com.eaglebank.api.repository.TransactionRepository;
+import com.eaglebank.api.repository.UserRepository;
+import com.eaglebank.api.service.TransactionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:eaglebank-rollup-db;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=update",
+        "batch.rollup-backfill.chunk-size=3",
+        "batch.rollup-backfill.threads=2"
+})
+class RollupBackfillJobTest {
+
+    private static final int ACCOUNTS = 10;
+
+    @Autowired
+    private RollupBackfillJob rollupBackfillJob;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BankAccountRepository bankAccountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private MonthlyRollupRepository monthlyRollupRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setId("usr-rollup");
+        user.setName("Rollup Test");
+        user.setAddress(new Address("1 High Street", null, null, "London", "Greater London", "E1 1AA"));
+        user.setPhoneNumber("+447700900001");
+        user.setEmail("rollup@example.com");
+        user.setPassword("not-used");
+        userRepository.save(user);
+
+        for (int i = 0; i < ACCOUNTS; i++) {
+            BankAccount account = new BankAccount();
+            account.setAccountNumber(String.format("01%06d", i));
+            account.setSortCode("10-10-10");
+            account.setName("Rollup " + i);
+            account.setAccountType("personal");
+            account.setBalance(100000L);
+            account.setCurrency("GBP");
+            account.setUser(user);
+            bankAccountRepository.save(account);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        monthlyRollupRepository.deleteAll();
+        transactionRepository.deleteAll();
+        bankAccountRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void createTransaction_ShouldUpsertCurrentMonthRollup() {
+        transactionService.createTransaction("01000000",
+                new CreateTransactionRequest(new BigDecimal("25.00"), "GBP", "deposit", null), "usr-rollup");
+        transactionService.createTransaction("01000000",
+                new CreateTransactionRequest(new BigDecimal("10.50"), "GBP", "withdrawal", null), "usr-rollup");
+        transactionService.createTransaction("01000000",
+                new CreateTransactionRequest(new BigDecimal("4.50"), "GBP", "deposit", null), "usr-rollup");
+
+        List<MonthlyRollup> rollups = monthlyRollupRepository.findByAccountNumberOrderByMonthStartDesc("01000000");
+
+        assertThat(rollups).hasSize(1);
+        MonthlyRollup rollup = rollups.getFirst();
+        assertThat(rollup.getMonthStart()).isEqualTo(YearMonth.now(ZoneOffset.UTC).atDay(1));
+        assertThat(rollup.getDepositTotal()).isEqualTo(2950L);
+        assertThat(rollup.getDepositCount()).isEqualTo(2);
+        assertThat(rollup.getWithdrawalTotal()).isEqualTo(1050L);
+        assertThat(rollup.getWithdrawalCount()).isEqualTo(1);
+    }
+
+    @Test
+    void run_ShouldRebuildRollupsFromHistory() {
+        insertHistory();
+        jdbcTemplate.update("""
+                insert into account_monthly_rollups (id, account_number, month_start, deposit_total, deposit_count,
+                                                     withdrawal_total, withdrawal_count, updated_timestamp)
+                values ('01000001:2019-01', '01000001', ?, 999, 9, 0, 0, ?)""",
+                LocalDate.of(2019, 1, 1), Timestamp.from(Instant.now()));
+
+        RollupBackfillResult result = rollupBackfillJob.run();
+
+        assertThat(result.accountsRebuilt()).isEqualTo(ACCOUNTS);
+        assertThat(result.rollupRows()).isEqualTo(ACCOUNTS * 3L);
+        List<MonthlyRollup> rollups = monthlyRollupRepository.findByAccountNumberOrderByMonthStartDesc("01000001");
+        assertThat(rollups).extracting(MonthlyRollup::getMonthStart).containsExactly(
+                LocalDate.of(2024, 3, 1), LocalDate.of(2024, 2, 1), LocalDate.of(2024, 1, 1));
+        assertThat(rollups.get(2).getDepositTotal()).isEqualTo(1000L + 1001L);
+        assertThat(rollups.get(2).getDepositCount()).isEqualTo(2);
+        assertThat(rollups.get(2).getWithdrawalTotal()).isEqualTo(500L);
+        assertThat(rollups.get(2).getWithdrawalCount()).isEqualTo(1);
+
+        long depositTotal = jdbcTemplate.queryForObject(
+                "select coalesce(sum(amount), 0) from transactions where type = 'deposit'", Long.class);
+        long rolledUpTotal = jdbcTemplate.queryForObject(
+                "select coalesce(sum(deposit_total), 0) from account_monthly_rollups", Long.class);
+        assertThat(rolledUpTotal).isEqualTo(depositTotal);
+    }
+
+    private void insertHistory() {
+        Instant[] months = {
+                Instant.parse("2024-01-31T23:59:59Z"),
+                Instant.parse("2024-02-01T00:00:00Z"),
+                Instant.parse("2024-03-15T12:00:00Z")
+        };
+        List<Object[]> batch = new ArrayList<>();
+        for (int i = 0; i < ACCOUNTS; i++) {
+            String accountNumber = String.format("01%06d", i);
+            for (int m = 0; m < months.length; m++) {
+                batch.add(new Object[] {"tan-r" + i + "d" + m, 1000L, "deposit", accountNumber,
+                        Timestamp.from(months[m])});
+                batch.add(new Object[] {"tan-r" + i + "w" + m, 500L, "withdrawal", accountNumber,
+                        Timestamp.from(months[m])});
+            }
+            batch.add(new Object[] {"tan-r" + i + "x", 1001L, "deposit", accountNumber,
+                    Timestamp.from(Instant.parse("2024-01-01T00:00:00Z"))});
+        }
+        jdbcTemplate.batchUpdate("""
+                insert into transactions (id, amount, currency, type, account_number, user_id, created_timestamp)
+                values (?, ?, 'GBP', ?, ?, 'usr-rollup', ?)
+                """, batch);
+    }
+}
@@ -0,0 +1,134 @@
+package com.eaglebank.api.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseByteCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void getOrLoad_ShouldServeSerializedBytesWithoutReloading() {
+        ResponseByteCache cache = cache(DataSize.ofMegabytes(1), Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        byte[] first = cache.getOrLoad("user:usr-1", () -> {
+            loads.incrementAndGet();
+            return Map.of("id", "usr-1");
+        });
+        byte[] second = cache.getOrLoad("user:usr-1", () -> {
+            loads.incrementAndGet();
+            return Map.of("id", "changed");
+        });
+
+        assertThat(new String(first, StandardCharsets.UTF_8)).isEqualTo("{\"id\":\"usr-1\"}");
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+        assertThat(cache.hitRatio()).isEqualTo(0.5);
+        assertThat(meterRegistry.get("response.cache.requests").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void invalidate_ShouldForceReload() {
+        ResponseByteCache cache = cache(DataSize.ofMegabytes(1), Duration.ofMinutes(1));
+        cache.getOrLoad("accounts:usr-1", () -> Map.of("balance", 1));
+
+        cache.invalidate("accounts:usr-1");
+        byte[] reloaded = cache.getOrLoad("accounts:usr-1", () -> Map.of("balance", 2));
+
+        assertThat(new String(reloaded, StandardCharsets.UTF_8)).isEqualTo("{\"balance\":2}");
+    }
+
+    @Test
+    void getOrLoad_ShouldNotServeResponseLoadedWhileInvalidated() {
+        ResponseByteCache cache = cache(DataSize.ofMegabytes(1), Duration.ofMinutes(1));
+
+        cache.getOrLoad("accounts:usr-1", () -> {
+            cache.invalidate("accounts:usr-1");
+            return Map.of("balance", 1);
+        });
+        byte[] next = cache.getOrLoad("accounts:usr-1", () -> Map.of("balance", 2));
+
+        assertThat(new String(next, StandardCharsets.UTF_8)).isEqualTo("{\"balance\":2}");
+    }
+
+    @Test
+    void invalidate_ShouldInvalidateAgainAfterCommit() {
+        ResponseByteCache cache = cache(DataSize.ofMegabytes(1), Duration.ofMinutes(1));
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.invalidate("accounts:usr-1");
+        // A reader on another connection still sees the uncommitted state and caches it.
+        cache.getOrLoad("accounts:usr-1", () -> Map.of("balance", 1));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        byte[] afterCommit = cache.getOrLoad("accounts:usr-1", () -> Map.of("balance", 2));
+
+        assertThat(new String(afterCommit, StandardCharsets.UTF_8)).isEqualTo("{\"balance\":2}");
+    }
+
+    @Test
+    void getOrLoad_ShouldExpireEntriesAfterTimeToLive() {
+        ResponseByteCache cache = cache(DataSize.ofMegabytes(1), Duration.ZERO);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.getOrLoad("user:usr-1", () -> Map.of("load", loads.incrementAndGet()));
+        cache.getOrLoad("user:usr-1", () -> Map.of("load", loads.incrementAndGet()));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void getOrLoad_ShouldEvictLeastRecentlyReadEntriesWhenOverCap() {
+        ResponseByteCache cache = cache(DataSize.ofKilobytes(4), Duration.ofMinutes(1));
+        String payload = "x".repeat(900);
+        for (int i = 0; i < 10; i++) {
+            cache.getOrLoad("user:usr-" + i, () -> Map.of("data", payload));
+        }
+
+        double bytes = meterRegistry.get("response.cache.size").gauge().value();
+        assertThat(bytes).isLessThanOrEqualTo(4096);
+        assertThat(meterRegistry.get("response.cache.evictions").functionCounter().count()).isPositive();
+        AtomicInteger loads = new AtomicInteger();
+        cache.getOrLoad("user:usr-9", () -> Map.of("data", loads.incrementAndGet()));
+        cache.getOrLoad("user:usr-0", () -> Map.of("data", loads.incrementAndGet()));
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void getOrLoad_ShouldNotCacheOversizedResponses() {
+        ResponseByteCache cache = cache(DataSize.ofMegabytes(1), Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+        String payload = "x".repeat(2048);
+
+        cache.getOrLoad("accounts:usr-1", () -> Map.of("data", payload, "load", loads.incrementAndGet()));
+        cache.getOrLoad("accounts:usr-1", () -> Map.of("data", payload, "load", loads.incrementAndGet()));
+
+        assertThat(loads).hasValue(2);
+        assertThat(meterRegistry.get("response.cache.entries").gauge().value()).isZero();
+    }
+
+    private ResponseByteCache cache(DataSize maxSize, Duration timeToLive) {
+        return new ResponseByteCache(new ResponseCacheProperties(true, maxSize, DataSize.ofKilobytes(1), timeToLive),
+                new ObjectMapper(), meterRegistry);
+    }
+}
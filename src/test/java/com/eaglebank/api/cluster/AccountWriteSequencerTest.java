@@ -0,0 +1,138 @@
+package com.eaglebank.api.cluster;
+
+import com.eaglebank.api.deadline.DeadlineExceededException;
+import com.eaglebank.api.deadline.RequestDeadline;
+import com.eaglebank.api.dto.transaction.CreateTransactionRequest;
+import com.eaglebank.api.dto.transaction.TransactionResponse;
+import com.eaglebank.api.service.TransactionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AccountWriteSequencerTest {
+
+    private static final CreateTransactionRequest REQUEST =
+            new CreateTransactionRequest(new BigDecimal("10.00"), "GBP", "deposit", null);
+
+    private final CountDownLatch firstWriteStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseFirstWrite = new CountDownLatch(1);
+
+    private TransactionService transactionService;
+    private AccountWriteSequencer sequencer;
+
+    @BeforeEach
+    void setUp() {
+        transactionService = mock(TransactionService.class);
+        when(transactionService.createTransaction(eq("01000001"), any(), any())).thenAnswer(invocation -> {
+            firstWriteStarted.countDown();
+            releaseFirstWrite.await();
+            return null;
+        });
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        sequencer = new AccountWriteSequencer(transactionService, new TransactionTemplate(transactionManager),
+                1, 1, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseFirstWrite.countDown();
+        sequencer.close();
+    }
+
+    @Test
+    void submit_ShouldNeverApplyWrite_WhenCancelledWhileQueued() throws Exception {
+        CompletableFuture<TransactionResponse> first =
+                sequencer.submit("01000001", REQUEST, "usr-1", Duration.ofSeconds(5));
+        assertThat(firstWriteStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<TransactionResponse> second =
+                sequencer.submit("01000002", REQUEST, "usr-1", Duration.ofSeconds(5));
+
+        assertThat(second.cancel(false)).isTrue();
+        releaseFirstWrite.countDown();
+        first.get(5, TimeUnit.SECONDS);
+
+        assertThat(first.cancel(false)).isFalse();
+        verify(transactionService, never()).createTransaction(eq("01000002"), any(), any());
+    }
+
+    @Test
+    void submit_ShouldDropWrite_WhenTimeoutPassedWhileQueued() throws Exception {
+        sequencer.submit("01000001", REQUEST, "usr-1", Duration.ofSeconds(5));
+        assertThat(firstWriteStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<TransactionResponse> second =
+                sequencer.submit("01000002", REQUEST, "usr-1", Duration.ofMillis(1));
+
+        Thread.sleep(20);
+        releaseFirstWrite.countDown();
+
+        assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(ResponseStatusException.class);
+        assertThat(second.cancel(false)).isFalse();
+        verify(transactionService, never()).createTransaction(eq("01000002"), any(), any());
+    }
+
+    @Test
+    void submit_ShouldBindRequestDeadlineOnWorker() throws Exception {
+        AtomicReference<RequestDeadline> seen = new AtomicReference<>();
+        when(transactionService.createTransaction(eq("01000003"), any(), any())).thenAnswer(invocation -> {
+            seen.set(RequestDeadline.current());
+            return null;
+        });
+
+        RequestDeadline deadline = RequestDeadline.begin(TimeUnit.SECONDS.toNanos(5));
+        CompletableFuture<TransactionResponse> write;
+        try {
+            write = sequencer.submit("01000003", REQUEST, "usr-1", Duration.ofSeconds(5));
+        } finally {
+            RequestDeadline.end();
+        }
+        write.get(5, TimeUnit.SECONDS);
+
+        assertThat(seen.get()).isSameAs(deadline);
+    }
+
+    @Test
+    void submit_ShouldRejectWrite_WhenRequestDeadlinePassedWhileQueued() throws Exception {
+        sequencer.submit("01000001", REQUEST, "usr-1", Duration.ofSeconds(5));
+        assertThat(firstWriteStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        RequestDeadline.begin(TimeUnit.MILLISECONDS.toNanos(1));
+        CompletableFuture<TransactionResponse> second;
+        try {
+            second = sequencer.submit("01000002", REQUEST, "usr-1", Duration.ofSeconds(5));
+        } finally {
+            RequestDeadline.end();
+        }
+
+        Thread.sleep(20);
+        releaseFirstWrite.countDown();
+
+        assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(DeadlineExceededException.class);
+        verify(transactionService, never()).createTransaction(eq("01000002"), any(), any());
+    }
+}
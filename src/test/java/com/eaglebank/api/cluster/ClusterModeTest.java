@@ -0,0 +1,192 @@
+package com.eaglebank.api.cluster;
+
+import com.eaglebank.api.EagleBankApiApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Starts three application instances in this JVM, sharing one in-memory database, and checks that writes
+ * sent to any instance are applied by the account's owning node.
+ */
+class ClusterModeTest {
+
+    private static final int NODES = 3;
+    private static final String INTERNAL_TOKEN = "cluster-test-token";
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final HttpClient httpClient = HttpClient.newHttpClient();
+    private static final List<ConfigurableApplicationContext> contexts = new ArrayList<>();
+    private static final int[] ports = new int[NODES];
+
+    private static String token;
+    private static String accountNumber;
+
+    @BeforeAll
+    static void startCluster() throws Exception {
+        for (int i = 0; i < NODES; i++) {
+            ports[i] = freePort();
+        }
+        for (int i = 0; i < NODES; i++) {
+            List<String> properties = new ArrayList<>(List.of(
+                    "server.port=" + ports[i],
+                    "spring.datasource.url=jdbc:h2:mem:eaglebank-cluster-db;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+                    "spring.datasource.username=sa",
+                    "spring.datasource.password=",
+                    "spring.datasource.driver-class-name=org.h2.Driver",
+                    "spring.jpa.hibernate.ddl-auto=update",
+                    "rate-limit.enabled=false",
+                    "deadline.default-timeout=30s",
+                    "cluster.enabled=true",
+                    "cluster.node-id=node-" + i,
+                    "cluster.internal-token=" + INTERNAL_TOKEN
+            ));
+            for (int m = 0; m < NODES; m++) {
+                properties.add("cluster.members[" + m + "].id=node-" + m);
+                properties.add("cluster.members[" + m + "].url=http://localhost:" + ports[m]);
+            }
+            contexts.add(new SpringApplicationBuilder(EagleBankApiApplication.class)
+                    .properties(properties.toArray(String[]::new))
+                    .run());
+        }
+
+        post(0, "/v1/users", null, Map.of(
+                "name", "Cluster Test",
+                "address", Map.of("line1", "1 High Street", "town", "London", "county", "Greater London",
+                        "postcode", "E1 1AA"),
+                "phoneNumber", "+447700900002",
+                "email", "cluster@example.com",
+                "password", "password123"));
+        token = read(post(1, "/v1/auth/login", null,
+                Map.of("email", "cluster@example.com", "password", "password123"))).get("token").asText();
+        accountNumber = read(post(2, "/v1/accounts", token,
+                Map.of("name", "Cluster Account", "accountType", "personal"))).get("accountNumber").asText();
+    }
+
+    @AfterAll
+    static void stopCluster() {
+        contexts.forEach(ConfigurableApplicationContext::close);
+    }
+
+    @Test
+    void writesSentToAnyNode_ShouldAllBeAppliedByTheOwningNode() throws Exception {
+        int owner = ownerIndex();
+        double localBefore = writes(owner, "local");
+
+        int threads = 6;
+        int depositsPerThread = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Integer>> statuses = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int node = t % NODES;
+                statuses.add(executor.submit(() -> {
+                    int created = 0;
+                    for (int d = 0; d < depositsPerThread; d++) {
+                        HttpResponse<String> response = post(node, "/v1/accounts/" + accountNumber + "/transactions",
+                                token, Map.of("amount", new BigDecimal("1.00"), "currency", "GBP", "type", "deposit"));
+                        if (response.statusCode() == 201) {
+                            created++;
+                        }
+                    }
+                    return created;
+                }));
+            }
+            int created = 0;
+            for (Future<Integer> status : statuses) {
+                created += status.get();
+            }
+            assertThat(created).isEqualTo(threads * depositsPerThread);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(writes(owner, "local") - localBefore).isEqualTo(threads * depositsPerThread);
+        for (int node = 0; node < NODES; node++) {
+            if (node != owner) {
+                assertThat(writes(node, "local")).isZero();
+                assertThat(writes(node, "forwarded")).isPositive();
+            }
+        }
+
+        JsonNode account = read(get((owner + 1) % NODES, "/v1/accounts/" + accountNumber, token));
+        assertThat(account.get("balance").decimalValue()).isEqualByComparingTo(new BigDecimal("60.00"));
+    }
+
+    @Test
+    void forwardedWrite_ShouldReturnTheOwnersError() throws Exception {
+        int nonOwner = (ownerIndex() + 1) % NODES;
+
+        HttpResponse<String> response = post(nonOwner, "/v1/accounts/" + accountNumber + "/transactions", token,
+                Map.of("amount", new BigDecimal("9999.00"), "currency", "GBP", "type", "withdrawal"));
+
+        assertThat(response.statusCode()).isEqualTo(422);
+        assertThat(read(response).get("message").asText()).isEqualTo("Insufficient funds to process transaction");
+    }
+
+    @Test
+    void internalEndpoint_ShouldRejectRequestsWithoutTheClusterToken() throws Exception {
+        HttpResponse<String> response = post(ownerIndex(), "/internal/cluster/accounts/" + accountNumber + "/transactions",
+                token, Map.of("amount", new BigDecimal("1.00"), "currency", "GBP", "type", "deposit"));
+
+        assertThat(response.statusCode()).isEqualTo(403);
+    }
+
+    private static int ownerIndex() {
+        String ownerId = contexts.get(0).getBean(ClusterMembership.class).owner(accountNumber).id();
+        return Integer.parseInt(ownerId.substring("node-".length()));
+    }
+
+    private static double writes(int node, String route) {
+        return contexts.get(node).getBean(MeterRegistry.class).get("cluster.writes").tag("route", route).counter().count();
+    }
+
+    private static HttpResponse<String> post(int node, String path, String bearer, Object body) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + ports[node] + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+        if (bearer != null) {
+            request.header("Authorization", "Bearer " + bearer);
+        }
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static HttpResponse<String> get(int node, String path, String bearer) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + ports[node] + path))
+                .header("Authorization", "Bearer " + bearer)
+                .GET()
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static JsonNode read(HttpResponse<String> response) throws IOException {
+        return objectMapper.readTree(response.body());
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.eaglebank.api.cluster;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConsistentHashRingTest {
+
+    private static final int ACCOUNTS = 30_000;
+
+    private static final ClusterProperties.Member NODE_1 = new ClusterProperties.Member("node-1", "http://node-1");
+    private static final ClusterProperties.Member NODE_2 = new ClusterProperties.Member("node-2", "http://node-2");
+    private static final ClusterProperties.Member NODE_3 = new ClusterProperties.Member("node-3", "http://node-3");
+    private static final ClusterProperties.Member NODE_4 = new ClusterProperties.Member("node-4", "http://node-4");
+
+    @Test
+    void owner_ShouldBeStableAcrossRingsBuiltFromTheSameMembers() {
+        ConsistentHashRing first = new ConsistentHashRing(List.of(NODE_1, NODE_2, NODE_3), 128);
+        ConsistentHashRing second = new ConsistentHashRing(List.of(NODE_3, NODE_1, NODE_2), 128);
+
+        for (int i = 0; i < 1_000; i++) {
+            String accountNumber = accountNumber(i);
+            assertThat(second.owner(accountNumber)).isEqualTo(first.owner(accountNumber));
+        }
+    }
+
+    @Test
+    void owner_ShouldSpreadSequentialAccountNumbersEvenly() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of(NODE_1, NODE_2, NODE_3), 128);
+
+        Map<String, Integer> owned = new HashMap<>();
+        for (int i = 0; i < ACCOUNTS; i++) {
+            owned.merge(ring.owner(accountNumber(i)).id(), 1, Integer::sum);
+        }
+
+        assertThat(owned).hasSize(3);
+        assertThat(owned.values()).allSatisfy(count -> assertThat(count).isBetween(ACCOUNTS / 5, ACCOUNTS / 2));
+    }
+
+    @Test
+    void owner_ShouldOnlyMoveAccountsToTheNewNode_WhenANodeJoins() {
+        ConsistentHashRing before = new ConsistentHashRing(List.of(NODE_1, NODE_2, NODE_3), 128);
+        ConsistentHashRing after = new ConsistentHashRing(List.of(NODE_1, NODE_2, NODE_3, NODE_4), 128);
+
+        int moved = 0;
+        for (int i = 0; i < ACCOUNTS; i++) {
+            String accountNumber = accountNumber(i);
+            ClusterProperties.Member oldOwner = before.owner(accountNumber);
+            ClusterProperties.Member newOwner = after.owner(accountNumber);
+            if (!oldOwner.equals(newOwner)) {
+                assertThat(newOwner).isEqualTo(NODE_4);
+                moved++;
+            }
+        }
+
+        assertThat(moved).isBetween(ACCOUNTS / 8, ACCOUNTS * 3 / 8);
+    }
+
+    @Test
+    void constructor_ShouldRejectEmptyMembership() {
+        assertThatThrownBy(() -> new ConsistentHashRing(List.of(), 128))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String accountNumber(int i) {
+        return String.format("01%06d", i);
+    }
+}
@@ -0,0 +1,78 @@
+package com.eaglebank.api.config;
+
+import com.eaglebank.api.dto.account.BankAccountResponse;
+import com.eaglebank.api.dto.account.ListBankAccountsResponse;
+import com.eaglebank.api.dto.common.ErrorResponse;
+import com.eaglebank.api.dto.transaction.ListTransactionsResponse;
+import com.eaglebank.api.dto.transaction.TransactionResponse;
+import com.eaglebank.api.dto.user.AddressDto;
+import com.eaglebank.api.dto.user.UserResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JacksonConfigTest {
+
+    private ObjectMapper defaultMapper;
+    private ObjectMapper tunedMapper;
+
+    @BeforeEach
+    void setUp() {
+        defaultMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        tunedMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .modulesToInstall(new BlackbirdModule(), JacksonConfig.responseSerializers())
+                .build();
+    }
+
+    @Test
+    void transactionResponses_ShouldSerializeIdentically() throws Exception {
+        TransactionResponse withReference = new TransactionResponse("tan-123abc", new BigDecimal("100.00"), "GBP",
+                "deposit", "Test reference", "usr-123abc", Instant.parse("2024-01-01T00:00:00Z"));
+        TransactionResponse withoutReference = new TransactionResponse("tan-456def", new BigDecimal("0.10"), "GBP",
+                "withdrawal", null, "usr-123abc", Instant.parse("2024-03-05T10:15:30.123456789Z"));
+
+        assertSameBytes(withReference);
+        assertSameBytes(new ListTransactionsResponse(List.of(withReference, withoutReference)));
+    }
+
+    @Test
+    void bankAccountResponses_ShouldSerializeIdentically() throws Exception {
+        BankAccountResponse account = new BankAccountResponse("01234567", "10-10-10", "Test Account", "personal",
+                new BigDecimal("10000.00"), "GBP", Instant.parse("2024-01-01T00:00:00.500Z"),
+                Instant.parse("2024-01-02T00:00:00Z"));
+
+        assertSameBytes(account);
+        assertSameBytes(new ListBankAccountsResponse(List.of(account, account)));
+        assertSameBytes(new ListBankAccountsResponse(List.of()));
+    }
+
+    @Test
+    void userResponse_ShouldSerializeIdentically() throws Exception {
+        UserResponse user = new UserResponse("usr-123abc", "Test User",
+                new AddressDto("123 Main St", null, null, "London", "Greater London", "SW1A 1AA"),
+                "+441234567890", "test@example.com", Instant.parse("2024-01-01T00:00:00Z"), null);
+
+        assertSameBytes(user);
+    }
+
+    @Test
+    void errorResponse_ShouldSerializeIdentically() throws Exception {
+        assertSameBytes(new ErrorResponse("Access denied"));
+    }
+
+    private void assertSameBytes(Object value) throws Exception {
+        assertThat(tunedMapper.writeValueAsBytes(value)).isEqualTo(defaultMapper.writeValueAsBytes(value));
+    }
+}
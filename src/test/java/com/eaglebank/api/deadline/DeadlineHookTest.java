@@ -0,0 +1,92 @@
+package com.eaglebank.api.deadline;
+
+import com.eaglebank.api.jdbc.InstrumentedDataSource;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DeadlineHookTest {
+
+    private InstrumentedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:deadline-test;DB_CLOSE_DELAY=-1");
+        dataSource = new InstrumentedDataSource(h2, List.of(new DeadlineHook()));
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("create table if not exists items (id int primary key)");
+            statement.execute("delete from items");
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.end();
+    }
+
+    @Test
+    void execute_ShouldApplyRemainingBudgetAsQueryTimeout_WhenDeadlineIsOpen() throws SQLException {
+        RequestDeadline.begin(TimeUnit.MILLISECONDS.toNanos(2_500));
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("insert into items values (?)")) {
+            statement.setInt(1, 1);
+            statement.executeUpdate();
+
+            assertThat(statement.getQueryTimeout()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    void execute_ShouldKeepShorterTimeout_WhenStatementAlreadyHasOne() throws SQLException {
+        RequestDeadline.begin(TimeUnit.SECONDS.toNanos(20));
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("select id from items")) {
+            statement.setQueryTimeout(5);
+            statement.executeQuery().close();
+
+            assertThat(statement.getQueryTimeout()).isEqualTo(5);
+        }
+    }
+
+    @Test
+    void execute_ShouldNotTouchTimeout_WhenNoDeadlineIsOpen() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("select id from items")) {
+            statement.executeQuery().close();
+
+            assertThat(statement.getQueryTimeout()).isZero();
+        }
+    }
+
+    @Test
+    void execute_ShouldFailWithoutRunning_WhenDeadlineHasPassed() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("insert into items values (?)")) {
+            statement.setInt(1, 2);
+            RequestDeadline.begin(0);
+
+            assertThatThrownBy(statement::executeUpdate).isInstanceOf(DeadlineExceededException.class);
+        }
+        RequestDeadline.end();
+
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            var resultSet = statement.executeQuery("select count(*) from items");
+            resultSet.next();
+            assertThat(resultSet.getInt(1)).isZero();
+        }
+    }
+}
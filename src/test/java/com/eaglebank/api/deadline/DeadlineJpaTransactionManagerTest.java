@@ -0,0 +1,95 @@
+package com.eaglebank.api.deadline;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:eaglebank-deadline-db;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=update"
+})
+class DeadlineJpaTransactionManagerTest {
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        jdbcTemplate.update("delete from users where id like 'usr-deadline%'");
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.end();
+        jdbcTemplate.update("delete from users where id like 'usr-deadline%'");
+    }
+
+    @Test
+    void transactionManager_ShouldBeDeadlineAware() {
+        assertThat(transactionManager).isInstanceOf(DeadlineJpaTransactionManager.class);
+    }
+
+    @Test
+    void commit_ShouldRollBack_WhenDeadlinePassesDuringTransaction() {
+        RequestDeadline.begin(TimeUnit.MILLISECONDS.toNanos(200));
+
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            insertUser("usr-deadline1");
+            sleepMillis(300);
+        })).isInstanceOf(DeadlineExceededException.class);
+
+        RequestDeadline.end();
+        assertThat(countUsers()).isZero();
+    }
+
+    @Test
+    void commit_ShouldSucceed_WhenWithinDeadline() {
+        RequestDeadline.begin(TimeUnit.SECONDS.toNanos(10));
+
+        transactionTemplate.executeWithoutResult(status -> insertUser("usr-deadline2"));
+
+        RequestDeadline.end();
+        assertThat(countUsers()).isEqualTo(1);
+    }
+
+    private void insertUser(String id) {
+        jdbcTemplate.update("""
+                insert into users (id, name, line1, town, county, postcode, phone_number, email, password,
+                                   created_timestamp, updated_timestamp)
+                values (?, 'Deadline Test', '1 High Street', 'London', 'Greater London', 'E1 1AA', '+447700900001',
+                        ?, 'not-used', current_timestamp, current_timestamp)
+                """, id, id + "@example.com");
+    }
+
+    private int countUsers() {
+        return jdbcTemplate.queryForObject("select count(*) from users where id like 'usr-deadline%'", Integer.class);
+    }
+
+    private static void sleepMillis(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
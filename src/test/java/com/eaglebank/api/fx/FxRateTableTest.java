@@ -0,0 +1,62 @@
+package com.eaglebank.api.fx;
+
+import com.eaglebank.api.enums.Currency;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FxRateTableTest {
+
+    private final FxRateTable table = FxRateTable.fromBaseRates(Currency.GBP, Map.of(
+            Currency.USD, new BigDecimal("1.27"),
+            Currency.EUR, new BigDecimal("1.16")
+    ), Instant.parse("2026-10-19T00:00:00Z"));
+
+    @Test
+    void convertMinor_ShouldApplyBaseRate_WhenConvertingFromBase() {
+        assertThat(table.convertMinor(10_000, Currency.GBP, Currency.USD)).isEqualTo(12_700);
+    }
+
+    @Test
+    void convertMinor_ShouldRoundHalfUp_WhenConvertingToBase() {
+        // 1.00 USD = 0.787401... GBP
+        assertThat(table.convertMinor(100, Currency.USD, Currency.GBP)).isEqualTo(79);
+        assertThat(table.convertMinor(12_700, Currency.USD, Currency.GBP)).isEqualTo(10_000);
+    }
+
+    @Test
+    void convertMinor_ShouldUseCrossRate_WhenNeitherCurrencyIsBase() {
+        // 1.16 / 1.27 = 0.91338583
+        assertThat(table.rate(Currency.USD, Currency.EUR)).isEqualTo(91_338_583L);
+        assertThat(table.convertMinor(100_000, Currency.USD, Currency.EUR)).isEqualTo(91_339);
+    }
+
+    @Test
+    void convertMinor_ShouldReturnMinusOne_WhenPairHasNoRate() {
+        assertThat(table.convertMinor(100, Currency.USD, Currency.CHF)).isEqualTo(-1);
+    }
+
+    @Test
+    void convertMinor_ShouldReturnSameAmount_WhenCurrenciesMatch() {
+        assertThat(FxRateTable.identity().convertMinor(123, Currency.SEK, Currency.SEK)).isEqualTo(123);
+    }
+
+    @Test
+    void fromBaseRates_ShouldReject_WhenRateIsNotPositive() {
+        assertThatThrownBy(() -> FxRateTable.fromBaseRates(Currency.GBP,
+                Map.of(Currency.USD, BigDecimal.ZERO), Instant.now()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void toTable_ShouldRejectUnknownCurrency() {
+        FxRatesDocument document = new FxRatesDocument("GBP", null, Map.of("XYZ", BigDecimal.ONE));
+
+        assertThatThrownBy(document::toTable).isInstanceOf(IllegalArgumentException.class);
+    }
+}
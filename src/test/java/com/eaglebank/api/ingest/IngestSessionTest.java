@@ -0,0 +1,318 @@
+package com.eaglebank.api.ingest;
+
+import com.eaglebank.api.deadline.DeadlineExceededException;
+import com.eaglebank.api.dto.account.BankAccountResponse;
+import com.eaglebank.api.dto.transaction.CreateTransactionRequest;
+import com.eaglebank.api.dto.transaction.TransactionResponse;
+import com.eaglebank.api.enums.TransactionType;
+import com.eaglebank.api.security.TokenRevocationCache;
+import com.eaglebank.api.service.AccountService;
+import com.eaglebank.api.service.JwtService;
+import com.eaglebank.api.service.TransactionService;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs a client and a session against each other over in-memory pipes, so the full wire format is
+ * exercised without opening a socket.
+ */
+@ExtendWith(MockitoExtension.class)
+class IngestSessionTest {
+
+    private static final int MAX_FRAME_BYTES = 64 * 1024;
+    private static final Instant CREATED = Instant.parse("2024-06-01T12:00:00Z");
+
+    @Mock
+    private TransactionService transactionService;
+
+    @Mock
+    private AccountService accountService;
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private TokenRevocationCache tokenRevocationCache;
+
+    @Mock
+    private Claims claims;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private PipedOutputStream clientOut;
+    private Future<?> server;
+    private IngestClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        IngestSession session = new IngestSession(transactionService, accountService, null, jwtService,
+                tokenRevocationCache, MAX_FRAME_BYTES, 3);
+
+        clientOut = new PipedOutputStream();
+        PipedInputStream serverIn = new PipedInputStream(clientOut, MAX_FRAME_BYTES);
+        PipedOutputStream serverOut = new PipedOutputStream();
+        PipedInputStream clientIn = new PipedInputStream(serverOut, MAX_FRAME_BYTES);
+        server = executor.submit(() -> {
+            try (serverOut) {
+                session.serve(serverIn, serverOut);
+            }
+            return null;
+        });
+        client = new IngestClient(clientIn, clientOut, MAX_FRAME_BYTES);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        clientOut.close();
+        server.get(5, TimeUnit.SECONDS);
+        executor.shutdownNow();
+    }
+
+    @Test
+    void createTransaction_ShouldApplyThroughTransactionService() throws IOException {
+        authenticate();
+        when(transactionService.createTransaction(eq("01234567"), any(CreateTransactionRequest.class), eq("usr-1")))
+                .thenReturn(response("tan-abc", "12.34", "deposit"));
+
+        IngestClient.CreatedTransaction created = client.createTransaction("01234567", 1234L, "GBP",
+                TransactionType.DEPOSIT, "invoice 7");
+
+        assertThat(created.id()).isEqualTo("tan-abc");
+        assertThat(created.amountMinor()).isEqualTo(1234L);
+        assertThat(created.type()).isEqualTo(TransactionType.DEPOSIT);
+        assertThat(created.createdTimestamp()).isEqualTo(CREATED);
+
+        ArgumentCaptor<CreateTransactionRequest> request = ArgumentCaptor.forClass(CreateTransactionRequest.class);
+        verify(transactionService).createTransaction(eq("01234567"), request.capture(), eq("usr-1"));
+        assertThat(request.getValue().amount()).isEqualByComparingTo(new BigDecimal("12.34"));
+        assertThat(request.getValue().type()).isEqualTo("deposit");
+        assertThat(request.getValue().reference()).isEqualTo("invoice 7");
+    }
+
+    @Test
+    void createTransaction_ShouldReturnServiceErrorAndKeepSessionOpen() throws IOException {
+        authenticate();
+        when(transactionService.createTransaction(eq("01234567"), any(CreateTransactionRequest.class), eq("usr-1")))
+                .thenThrow(new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY,
+                        "Insufficient funds to process transaction"));
+        when(accountService.getAccountByAccountNumber("01234567", "usr-1")).thenReturn(account(5000L));
+
+        assertThatThrownBy(() -> client.createTransaction("01234567", 9000L, "GBP", TransactionType.WITHDRAWAL, null))
+                .isInstanceOf(IngestClient.IngestException.class)
+                .hasMessage("Insufficient funds to process transaction")
+                .extracting("status")
+                .isEqualTo(422);
+
+        assertThat(client.getBalance("01234567").balanceMinor()).isEqualTo(5000L);
+    }
+
+    @Test
+    void createTransaction_ShouldRejectInvalidAccountNumberWithoutCallingService() throws IOException {
+        authenticate();
+
+        assertThatThrownBy(() -> client.createTransaction("99999999", 100L, "GBP", TransactionType.DEPOSIT, null))
+                .isInstanceOf(IngestClient.IngestException.class)
+                .extracting("status")
+                .isEqualTo(400);
+
+        verifyNoInteractions(transactionService);
+    }
+
+    @Test
+    void batch_ShouldApplyEachItemAndReportOutcomesTogether() throws IOException {
+        authenticate();
+        when(transactionService.createTransaction(eq("01234567"), any(CreateTransactionRequest.class), eq("usr-1")))
+                .thenReturn(response("tan-1", "1.00", "deposit"))
+                .thenThrow(new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY,
+                        "Insufficient funds to process transaction"))
+                .thenReturn(response("tan-3", "3.00", "deposit"));
+
+        IngestClient.Batch batch = client.beginBatch();
+        batch.add("01234567", 100L, "GBP", TransactionType.DEPOSIT, null);
+        batch.add("01234567", 999_999L, "GBP", TransactionType.WITHDRAWAL, null);
+        batch.add("01234567", 300L, "GBP", TransactionType.DEPOSIT, "third");
+        IngestClient.BatchResult result = batch.finish();
+
+        assertThat(result.accepted()).isEqualTo(2);
+        assertThat(result.items()).containsExactly(
+                new IngestClient.ItemResult(201, "tan-1"),
+                new IngestClient.ItemResult(422, "Insufficient funds to process transaction"),
+                new IngestClient.ItemResult(201, "tan-3"));
+        verify(transactionService, times(3)).createTransaction(anyString(), any(), anyString());
+    }
+
+    @Test
+    void batch_ShouldReportPersistenceFailuresAsItemOutcomes() throws IOException {
+        authenticate();
+        when(transactionService.createTransaction(eq("01234567"), any(CreateTransactionRequest.class), eq("usr-1")))
+                .thenThrow(new ObjectOptimisticLockingFailureException("BankAccount", "01234567"))
+                .thenThrow(new DeadlineExceededException("committing", 1_000_000L))
+                .thenThrow(new DataIntegrityViolationException("constraint violated"));
+
+        IngestClient.Batch batch = client.beginBatch();
+        for (int i = 0; i < 3; i++) {
+            batch.add("01234567", 100L, "GBP", TransactionType.DEPOSIT, null);
+        }
+        IngestClient.BatchResult result = batch.finish();
+
+        assertThat(result.accepted()).isZero();
+        assertThat(result.items()).containsExactly(
+                new IngestClient.ItemResult(409, "Concurrent modification detected. Please retry your request."),
+                new IngestClient.ItemResult(504, "The request did not complete within its deadline"),
+                new IngestClient.ItemResult(500, "An unexpected error occurred"));
+    }
+
+    @Test
+    void createTransaction_ShouldReturnConflictAndKeepSessionOpen_WhenOptimisticLockFails() throws IOException {
+        authenticate();
+        when(transactionService.createTransaction(eq("01234567"), any(CreateTransactionRequest.class), eq("usr-1")))
+                .thenThrow(new ObjectOptimisticLockingFailureException("BankAccount", "01234567"));
+        when(accountService.getAccountByAccountNumber("01234567", "usr-1")).thenReturn(account(5000L));
+
+        assertThatThrownBy(() -> client.createTransaction("01234567", 100L, "GBP", TransactionType.DEPOSIT, null))
+                .isInstanceOf(IngestClient.IngestException.class)
+                .extracting("status")
+                .isEqualTo(409);
+
+        assertThat(client.getBalance("01234567").balanceMinor()).isEqualTo(5000L);
+    }
+
+    @Test
+    void batch_ShouldEndSession_WhenItExceedsTheItemLimit() throws IOException {
+        authenticate();
+        when(transactionService.createTransaction(eq("01234567"), any(CreateTransactionRequest.class), eq("usr-1")))
+                .thenReturn(response("tan-1", "1.00", "deposit"));
+
+        IngestClient.Batch batch = client.beginBatch();
+        for (int i = 0; i < 4; i++) {
+            batch.add("01234567", 100L, "GBP", TransactionType.DEPOSIT, null);
+        }
+
+        assertThatThrownBy(batch::finish)
+                .isInstanceOf(IngestClient.IngestException.class)
+                .extracting("status")
+                .isEqualTo(413);
+        verify(transactionService, times(3)).createTransaction(anyString(), any(), anyString());
+    }
+
+    @Test
+    void requests_ShouldBeRejected_WhenSessionIsNotAuthenticated() {
+        assertThatThrownBy(() -> client.getBalance("01234567"))
+                .isInstanceOf(IngestClient.IngestException.class)
+                .extracting("status")
+                .isEqualTo(401);
+
+        verifyNoInteractions(accountService);
+    }
+
+    @Test
+    void authenticate_ShouldRejectRevokedToken() {
+        when(jwtService.parseClaims("token")).thenReturn(claims);
+        when(claims.getId()).thenReturn("jti-1");
+        when(claims.getSubject()).thenReturn("usr-1");
+        when(claims.getIssuedAt()).thenReturn(Date.from(CREATED));
+        when(tokenRevocationCache.isRevoked("jti-1", "usr-1", CREATED)).thenReturn(true);
+
+        assertThatThrownBy(() -> client.authenticate("token"))
+                .isInstanceOf(IngestClient.IngestException.class)
+                .extracting("status")
+                .isEqualTo(401);
+    }
+
+    @Test
+    void requests_ShouldEndSession_WhenTokenIsRevokedAfterAuthentication() throws Exception {
+        authenticate();
+        when(tokenRevocationCache.isRevoked("jti-1", "usr-1", CREATED)).thenReturn(true);
+
+        assertThatThrownBy(() -> client.getBalance("01234567"))
+                .isInstanceOf(IngestClient.IngestException.class)
+                .hasMessage("Invalid or revoked token")
+                .extracting("status")
+                .isEqualTo(401);
+
+        server.get(5, TimeUnit.SECONDS);
+        verifyNoInteractions(accountService);
+    }
+
+    @Test
+    void requests_ShouldEndSession_WhenTokenHasExpired() throws Exception {
+        authenticate(Instant.now().minusSeconds(1));
+
+        assertThatThrownBy(() -> client.createTransaction("01234567", 100L, "GBP", TransactionType.DEPOSIT, null))
+                .isInstanceOf(IngestClient.IngestException.class)
+                .extracting("status")
+                .isEqualTo(401);
+
+        server.get(5, TimeUnit.SECONDS);
+        verifyNoInteractions(transactionService);
+    }
+
+    @Test
+    void batch_ShouldEndSession_WhenTokenIsRevokedBetweenItems() throws IOException {
+        authenticate();
+        when(tokenRevocationCache.isRevoked("jti-1", "usr-1", CREATED)).thenReturn(false, false, true);
+        when(transactionService.createTransaction(eq("01234567"), any(CreateTransactionRequest.class), eq("usr-1")))
+                .thenReturn(response("tan-1", "1.00", "deposit"));
+
+        IngestClient.Batch batch = client.beginBatch();
+        batch.add("01234567", 100L, "GBP", TransactionType.DEPOSIT, null);
+        batch.add("01234567", 200L, "GBP", TransactionType.DEPOSIT, null);
+
+        assertThatThrownBy(batch::finish)
+                .isInstanceOf(IngestClient.IngestException.class)
+                .extracting("status")
+                .isEqualTo(401);
+        verify(transactionService, times(1)).createTransaction(anyString(), any(), anyString());
+    }
+
+    private void authenticate() throws IOException {
+        authenticate(Instant.now().plusSeconds(3600));
+    }
+
+    private void authenticate(Instant expiresAt) throws IOException {
+        when(jwtService.parseClaims("token")).thenReturn(claims);
+        when(claims.getId()).thenReturn("jti-1");
+        when(claims.getSubject()).thenReturn("usr-1");
+        when(claims.getIssuedAt()).thenReturn(Date.from(CREATED));
+        when(claims.getExpiration()).thenReturn(Date.from(expiresAt));
+        when(tokenRevocationCache.isRevoked("jti-1", "usr-1", CREATED)).thenReturn(false);
+
+        assertThat(client.authenticate("token")).isEqualTo("usr-1");
+    }
+
+    private static TransactionResponse response(String id, String amount, String type) {
+        return new TransactionResponse(id, new BigDecimal(amount), "GBP", type, null, "usr-1", CREATED);
+    }
+
+    private static BankAccountResponse account(long balanceMinor) {
+        return new BankAccountResponse("01234567", "10-10-10", "Main", "personal", balanceMinor, "GBP",
+                CREATED, CREATED);
+    }
+}
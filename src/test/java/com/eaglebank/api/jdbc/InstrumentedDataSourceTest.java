@@ -0,0 +1,153 @@
+package com.eaglebank.api.jdbc;
+
+import org.h2.jdbc.JdbcConnection;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InstrumentedDataSourceTest {
+
+    private final List<String> events = new ArrayList<>();
+
+    private JdbcDataSource h2;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:instrumented-test;DB_CLOSE_DELAY=-1");
+        try (Connection connection = h2.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("create table if not exists items (id int primary key)");
+            statement.execute("delete from items");
+            statement.execute("insert into items values (1), (2)");
+        }
+    }
+
+    @Test
+    void getConnection_ShouldReturnProxyWithIdentityEqualityAndUnwrap() throws SQLException {
+        InstrumentedDataSource dataSource = new InstrumentedDataSource(h2, List.of(new JdbcHook() {
+        }));
+
+        try (Connection connection = dataSource.getConnection(); Connection other = dataSource.getConnection()) {
+            assertThat(connection).isEqualTo(connection).isNotEqualTo(other);
+            assertThat(connection.hashCode()).isEqualTo(System.identityHashCode(connection));
+            assertThat(connection).isInstanceOf(ConnectionProxy.class);
+            assertThat(((ConnectionProxy) connection).getTargetConnection()).isInstanceOf(JdbcConnection.class);
+            assertThat(connection.unwrap(ConnectionProxy.class)).isSameAs(connection);
+            assertThat(connection.isWrapperFor(ConnectionProxy.class)).isTrue();
+            assertThat(connection.unwrap(JdbcConnection.class)).isInstanceOf(JdbcConnection.class);
+
+            PreparedStatement statement = connection.prepareStatement("select id from items");
+            assertThat(statement.getConnection()).isSameAs(connection);
+            assertThat(statement.unwrap(PreparedStatement.class)).isSameAs(statement);
+            statement.close();
+        }
+    }
+
+    @Test
+    void execute_ShouldRunHooksInOrderAndUnwindInReverse() throws SQLException {
+        InstrumentedDataSource dataSource = new InstrumentedDataSource(h2, List.of(recording("outer"),
+                recording("inner")));
+
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate("update items set id = id");
+        }
+
+        assertThat(events).containsExactly("outer checkout", "inner checkout",
+                "outer before update items set id = id", "inner before update items set id = id",
+                "inner after 2", "outer after 2",
+                "outer release", "inner release");
+    }
+
+    @Test
+    void execute_ShouldUnwindEnteredHooks_WhenLaterHookRefusesStatement() throws SQLException {
+        JdbcHook refusing = new JdbcHook() {
+            @Override
+            public Object beforeExecute(Statement statement, String sql) throws SQLException {
+                throw new SQLException("refused");
+            }
+        };
+        InstrumentedDataSource dataSource = new InstrumentedDataSource(h2, List.of(recording("outer"), refusing));
+
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            assertThatThrownBy(() -> statement.executeUpdate("delete from items")).hasMessage("refused");
+        }
+
+        assertThat(events).contains("outer failed refused");
+        try (Connection connection = h2.getConnection(); Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("select count(*) from items")) {
+            resultSet.next();
+            assertThat(resultSet.getInt(1)).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void executeQuery_ShouldNotWrapResultSet_WhenNoHookCountsRows() throws SQLException {
+        InstrumentedDataSource dataSource = new InstrumentedDataSource(h2, List.of(recording("only")));
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("select id from items");
+             ResultSet resultSet = statement.executeQuery()) {
+            assertThat(Proxy.isProxyClass(resultSet.getClass())).isFalse();
+        }
+    }
+
+    @Test
+    void executeQuery_ShouldCountRows_WhenHookCountsRows() throws SQLException {
+        long[] rows = new long[1];
+        JdbcHook counting = new JdbcHook() {
+            @Override
+            public LongConsumer rowCounter() {
+                return fetched -> rows[0] += fetched;
+            }
+        };
+        InstrumentedDataSource dataSource = new InstrumentedDataSource(h2, List.of(counting));
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("select id from items");
+             ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                // drain
+            }
+            assertThat(resultSet.getStatement()).isSameAs(statement);
+        }
+
+        assertThat(rows[0]).isEqualTo(2);
+    }
+
+    private JdbcHook recording(String name) {
+        return new JdbcHook() {
+            @Override
+            public LongConsumer afterCheckout(long waitedNanos) {
+                events.add(name + " checkout");
+                return heldNanos -> events.add(name + " release");
+            }
+
+            @Override
+            public Object beforeExecute(Statement statement, String sql) {
+                events.add(name + " before " + sql);
+                return name;
+            }
+
+            @Override
+            public void afterExecute(Object context, Object result, Throwable failure, long elapsedNanos) {
+                events.add(failure == null ? context + " after " + result : context + " failed " + failure.getMessage());
+            }
+        };
+    }
+}
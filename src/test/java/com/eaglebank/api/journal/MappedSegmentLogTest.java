@@ -0,0 +1,83 @@
+package com.eaglebank.api.journal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MappedSegmentLogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void readAll_ShouldReturnAppendedRecordsInOrder() throws Exception {
+        try (MappedSegmentLog log = new MappedSegmentLog(directory, "test", 1024)) {
+            log.append(bytes("first"));
+            log.append(bytes("second"));
+        }
+
+        assertThat(readAll()).containsExactly("first", "second");
+    }
+
+    @Test
+    void append_ShouldRollToNewSegment_WhenSegmentIsFull() throws Exception {
+        try (MappedSegmentLog log = new MappedSegmentLog(directory, "test", 64)) {
+            for (int i = 0; i < 10; i++) {
+                log.append(bytes("record-" + i));
+            }
+            assertThat(log.segmentIndex()).isGreaterThan(0);
+        }
+
+        assertThat(MappedSegmentLog.listSegments(directory, "test")).hasSizeGreaterThan(1);
+        assertThat(readAll()).hasSize(10).startsWith("record-0").endsWith("record-9");
+    }
+
+    @Test
+    void constructor_ShouldRecoverLastRecordAndContinueInNewSegment() throws Exception {
+        try (MappedSegmentLog log = new MappedSegmentLog(directory, "test", 1024)) {
+            log.append(bytes("first"));
+            log.append(bytes("second"));
+        }
+
+        try (MappedSegmentLog log = new MappedSegmentLog(directory, "test", 1024)) {
+            assertThat(new String(log.lastRecord(), StandardCharsets.UTF_8)).isEqualTo("second");
+            assertThat(log.segmentIndex()).isEqualTo(1);
+            log.append(bytes("third"));
+        }
+
+        assertThat(readAll()).containsExactly("first", "second", "third");
+    }
+
+    @Test
+    void readAll_ShouldStopAtRecordWithBadChecksum() throws Exception {
+        try (MappedSegmentLog log = new MappedSegmentLog(directory, "test", 1024)) {
+            log.append(bytes("first"));
+            log.append(bytes("second"));
+        }
+        Path segment = MappedSegmentLog.listSegments(directory, "test").get(0);
+        int secondPayloadOffset = MappedSegmentLog.HEADER_BYTES * 2 + "first".length();
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            file.seek(secondPayloadOffset);
+            file.write('X');
+        }
+
+        assertThat(readAll()).containsExactly("first");
+    }
+
+    private List<String> readAll() throws Exception {
+        List<String> records = new ArrayList<>();
+        MappedSegmentLog.readAll(directory, "test", payload -> records.add(new String(payload, StandardCharsets.UTF_8)));
+        return records;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
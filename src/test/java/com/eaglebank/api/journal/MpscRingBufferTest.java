@@ -0,0 +1,90 @@
+package com.eaglebank.api.journal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MpscRingBufferTest {
+
+    @Test
+    void offer_ShouldRejectWithoutBlocking_WhenFull() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+
+        assertThat(buffer.offer(4)).isFalse();
+    }
+
+    @Test
+    void drainTo_ShouldReturnElementsInOrderAndFreeCapacity() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        buffer.offer(1);
+        buffer.offer(2);
+        buffer.offer(3);
+
+        List<Integer> drained = new ArrayList<>();
+        assertThat(buffer.drainTo(drained, 2)).isEqualTo(2);
+        assertThat(drained).containsExactly(1, 2);
+
+        assertThat(buffer.offer(4)).isTrue();
+        assertThat(buffer.offer(5)).isTrue();
+        assertThat(buffer.offer(6)).isTrue();
+        assertThat(buffer.offer(7)).isFalse();
+
+        drained.clear();
+        buffer.drainTo(drained, 10);
+        assertThat(drained).containsExactly(3, 4, 5, 6);
+        assertThat(buffer.isEmpty()).isTrue();
+    }
+
+    @Test
+    void constructor_ShouldRejectCapacityThatIsNotPowerOfTwo() {
+        assertThatThrownBy(() -> new MpscRingBuffer<Integer>(6))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void offer_ShouldNotLoseElements_WhenManyProducersPublish() throws Exception {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(1024);
+        int producers = 4;
+        int perProducer = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            executor.submit(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                done.countDown();
+            });
+        }
+
+        Set<Integer> received = new HashSet<>();
+        List<Integer> batch = new ArrayList<>();
+        while (received.size() < producers * perProducer) {
+            buffer.drainTo(batch, 256);
+            received.addAll(batch);
+            batch.clear();
+        }
+
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+        assertThat(received).hasSize(producers * perProducer);
+    }
+}
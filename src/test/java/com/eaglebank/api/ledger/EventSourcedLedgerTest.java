@@ -0,0 +1,173 @@
+package com.eaglebank.api.ledger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventSourcedLedgerTest {
+
+    @TempDir
+    Path directory;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void apply_ShouldOpenAccountFromDatabaseBalanceAndApplyDeltas() throws Exception {
+        try (EventSourcedLedger ledger = openLedger(1000)) {
+            assertThat(ledger.apply("01234567", 10_000L, 2_500L)).hasValue(12_500L);
+            assertThat(ledger.apply("01234567", 0L, -500L)).hasValue(12_000L);
+            assertThat(ledger.balanceOf("01234567")).hasValue(12_000L);
+        }
+    }
+
+    @Test
+    void apply_ShouldRejectWithdrawal_WhenFundsAreInsufficient() throws Exception {
+        try (EventSourcedLedger ledger = openLedger(1000)) {
+            ledger.apply("01234567", 1_000L, 0L);
+
+            assertThat(ledger.apply("01234567", 0L, -1_001L)).isEmpty();
+            assertThat(ledger.balanceOf("01234567")).hasValue(1_000L);
+        }
+    }
+
+    @Test
+    void apply_ShouldRejectDeposit_WhenBalanceWouldExceedMaximum() throws Exception {
+        try (EventSourcedLedger ledger = openLedger(1000)) {
+            ledger.apply("01234567", 999_000L, 0L);
+
+            assertThat(ledger.apply("01234567", 0L, 1_001L)).isEmpty();
+            assertThat(ledger.apply("01234567", 0L, 1_000L)).hasValue(1_000_000L);
+        }
+    }
+
+    @Test
+    void constructor_ShouldRecoverBalancesFromJournal() throws Exception {
+        try (EventSourcedLedger ledger = openLedger(1000)) {
+            ledger.apply("01234567", 1_000L, 500L);
+            ledger.apply("07654321", 0L, 300L);
+            ledger.apply("01234567", 0L, -200L);
+        }
+
+        try (EventSourcedLedger ledger = openLedger(1000)) {
+            assertThat(ledger.balanceOf("01234567")).hasValue(1_300L);
+            assertThat(ledger.balanceOf("07654321")).hasValue(300L);
+        }
+    }
+
+    @Test
+    void constructor_ShouldRecoverFromSnapshotAndReplayTail() throws Exception {
+        try (EventSourcedLedger ledger = openLedger(2)) {
+            for (int i = 0; i < 10; i++) {
+                ledger.apply("01234567", 0L, 100L);
+            }
+        }
+        assertThat(snapshotFiles()).isNotEmpty();
+
+        try (EventSourcedLedger ledger = openLedger(2)) {
+            assertThat(ledger.balanceOf("01234567")).hasValue(1_000L);
+            ledger.apply("01234567", 0L, -250L);
+        }
+
+        try (EventSourcedLedger ledger = openLedger(2)) {
+            assertThat(ledger.balanceOf("01234567")).hasValue(750L);
+        }
+    }
+
+    @Test
+    void apply_ShouldReleaseReservation_WhenTransactionRollsBack() throws Exception {
+        try (EventSourcedLedger ledger = openLedger(1000)) {
+            ledger.apply("01234567", 1_000L, 0L);
+
+            TransactionSynchronizationManager.initSynchronization();
+            assertThat(ledger.apply("01234567", 0L, -400L)).hasValue(600L);
+            assertThat(ledger.balanceOf("01234567")).hasValue(600L);
+
+            completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+            assertThat(ledger.balanceOf("01234567")).hasValue(1_000L);
+        }
+
+        try (EventSourcedLedger ledger = openLedger(1000)) {
+            assertThat(ledger.balanceOf("01234567")).hasValue(1_000L);
+        }
+    }
+
+    @Test
+    void apply_ShouldExposeDepositOnlyAfterCommit() throws Exception {
+        try (EventSourcedLedger ledger = openLedger(1000)) {
+            ledger.apply("01234567", 1_000L, 0L);
+
+            TransactionSynchronizationManager.initSynchronization();
+            ledger.apply("01234567", 0L, 500L);
+            assertThat(ledger.balanceOf("01234567")).hasValue(1_000L);
+
+            completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+            assertThat(ledger.balanceOf("01234567")).hasValue(1_500L);
+        }
+    }
+
+    @Test
+    void apply_ShouldReserveHeadroom_WhenDepositsAreUncommitted() throws Exception {
+        try (EventSourcedLedger ledger = openLedger(1000)) {
+            ledger.apply("01234567", 999_000L, 0L);
+
+            TransactionSynchronizationManager.initSynchronization();
+            assertThat(ledger.apply("01234567", 0L, 600L)).isPresent();
+            assertThat(ledger.apply("01234567", 0L, 600L)).isEmpty();
+
+            completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+            assertThat(ledger.apply("01234567", 0L, 1_000L)).hasValue(1_000_000L);
+        }
+    }
+
+    @Test
+    void apply_ShouldCountUncommittedWithdrawalTowardsMaximum() throws Exception {
+        try (EventSourcedLedger ledger = openLedger(1000)) {
+            ledger.apply("01234567", 1_000_000L, 0L);
+
+            TransactionSynchronizationManager.initSynchronization();
+            assertThat(ledger.apply("01234567", 0L, -500L)).hasValue(999_500L);
+            assertThat(ledger.apply("01234567", 0L, 500L)).isEmpty();
+
+            completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+            assertThat(ledger.apply("01234567", 0L, 500L)).hasValue(1_000_000L);
+        }
+    }
+
+    private void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private EventSourcedLedger openLedger(int snapshotInterval) throws Exception {
+        return new EventSourcedLedger(directory, 4096, 64, 16, snapshotInterval, Duration.ofSeconds(5));
+    }
+
+    private List<Path> snapshotFiles() throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().startsWith("snapshot-")).toList();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.eaglebank.api.onboarding;
+
+import com.eaglebank.api.domain.Address;
+import com.eaglebank.api.domain.User;
+import com.eaglebank.api.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:eaglebank-import-db;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=update",
+        "user-import.chunk-size=2",
+        "user-import.hash-threads=2"
+})
+class UserImporterTest {
+
+    @Autowired
+    private UserImporter userImporter;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private final List<UserImportError> errors = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setId("usr-existing");
+        user.setName("Existing User");
+        user.setAddress(new Address("1 High Street", null, null, "London", "Greater London", "E1 1AA"));
+        user.setPhoneNumber("+447700900001");
+        user.setEmail("existing@example.com");
+        user.setPassword("not-used");
+        userRepository.save(user);
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void importUsers_ShouldImportValidRowsAndReportRejectedOnes_WhenNdjson() throws Exception {
+        String input = String.join("\n",
+                ndjson("Ann Able", "ann@example.com"),
+                ndjson("Bob Baker", "bob@example.com"),
+                "{\"name\": \"Broken\"",
+                ndjson("Cat Cole", "not-an-email"),
+                ndjson("Ann Again", "ann@example.com"),
+                ndjson("Existing Again", "existing@example.com"),
+                "",
+                ndjson("Dan Dean", "dan@example.com"));
+
+        UserImportResult result = userImporter.importUsers(reader(input), UserImportFormat.NDJSON, errors::add);
+
+        assertThat(result.rowsRead()).isEqualTo(7);
+        assertThat(result.imported()).isEqualTo(3);
+        assertThat(result.duplicates()).isEqualTo(2);
+        assertThat(result.invalid()).isEqualTo(2);
+        assertThat(errors).extracting(UserImportError::line).containsExactly(3L, 4L, 5L, 6L);
+        assertThat(errors.get(0).message()).startsWith("Malformed JSON");
+        assertThat(errors.get(1).message()).startsWith("email:");
+        assertThat(errors.get(2).message()).isEqualTo("Email already exists");
+        assertThat(errors.get(3).message()).isEqualTo("Email already exists");
+
+        User dan = userRepository.findByEmail("dan@example.com").orElseThrow();
+        assertThat(dan.getId()).startsWith("usr-");
+        assertThat(dan.getName()).isEqualTo("Dan Dean");
+        assertThat(dan.getAddress().getTown()).isEqualTo("London");
+        assertThat(dan.getCreatedTimestamp()).isNotNull();
+        assertThat(passwordEncoder.matches("s3cret-pass", dan.getPassword())).isTrue();
+    }
+
+    @Test
+    void importUsers_ShouldCatchRepeatedEmailsWithinAChunk_WhenCsv() throws Exception {
+        String input = String.join("\n",
+                "email,name,phoneNumber,password,line1,town,county,postcode",
+                "eve@example.com,\"Evans, Eve\",+447700900002,s3cret-pass,2 Low Road,Leeds,West Yorkshire,LS1 1AA",
+                "eve@example.com,Eve Twice,+447700900003,s3cret-pass,3 Low Road,Leeds,West Yorkshire,LS1 1AA",
+                "fay@example.com,Fay Ford,07700,s3cret-pass,4 Low Road,Leeds,West Yorkshire,LS1 1AA");
+
+        UserImportResult result = userImporter.importUsers(reader(input), UserImportFormat.CSV, errors::add);
+
+        assertThat(result.imported()).isEqualTo(1);
+        assertThat(result.failed()).isEqualTo(2);
+        assertThat(errors).extracting(UserImportError::line).containsExactly(3L, 4L);
+        assertThat(errors.get(0).message()).isEqualTo("Email repeated in import");
+        assertThat(errors.get(1).message()).startsWith("phoneNumber:");
+        assertThat(userRepository.findByEmail("eve@example.com").orElseThrow().getName()).isEqualTo("Evans, Eve");
+    }
+
+    private static String ndjson(String name, String email) {
+        return """
+                {"name": "%s", "address": {"line1": "2 Low Road", "town": "London", "county": "Greater London", \
+                "postcode": "E2 2BB"}, "phoneNumber": "+447700900009", "email": "%s", "password": "s3cret-pass"}"""
+                .formatted(name, email);
+    }
+
+    private static BufferedReader reader(String input) {
+        return new BufferedReader(new StringReader(input));
+    }
+}
@@ -0,0 +1,182 @@
+package com.eaglebank.api.pool;
+
+import com.eaglebank.api.jdbc.InstrumentedDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdaptivePoolControllerTest {
+
+    private static final long QUERY_MILLIS = 40;
+
+    private final PoolProperties.Controller properties =
+            new PoolProperties.Controller(true, 2, 6, 2, Duration.ofSeconds(15), 0.5, 0.05);
+
+    private MeterRegistry meterRegistry;
+    private PoolWaitWindow window;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        window = new PoolWaitWindow();
+    }
+
+    @Test
+    void nextSize_ShouldGrow_WhenWaitIsLargeRelativeToHoldTime() {
+        AdaptivePoolController controller = controller(poolConfig(2));
+
+        int next = controller.nextSize(2, new PoolWaitWindow.Snapshot(100, 100 * 30_000_000L, 0, 100, 100 * 40_000_000L));
+
+        assertThat(next).isEqualTo(4);
+    }
+
+    @Test
+    void nextSize_ShouldGrow_WhenAnyAcquireTimedOut() {
+        AdaptivePoolController controller = controller(poolConfig(2));
+
+        int next = controller.nextSize(2, new PoolWaitWindow.Snapshot(100, 0, 1, 100, 100 * 40_000_000L));
+
+        assertThat(next).isEqualTo(4);
+    }
+
+    @Test
+    void nextSize_ShouldShrink_WhenRequestsBarelyWait() {
+        AdaptivePoolController controller = controller(poolConfig(6));
+
+        int next = controller.nextSize(6, new PoolWaitWindow.Snapshot(100, 100 * 100_000L, 0, 100, 100 * 40_000_000L));
+
+        assertThat(next).isEqualTo(4);
+    }
+
+    @Test
+    void nextSize_ShouldStayWithinBounds() {
+        AdaptivePoolController controller = controller(poolConfig(6));
+
+        assertThat(controller.nextSize(6, new PoolWaitWindow.Snapshot(10, 0, 5, 10, 10))).isEqualTo(6);
+        assertThat(controller.nextSize(2, new PoolWaitWindow.Snapshot(10, 0, 0, 10, 10_000_000L))).isEqualTo(2);
+    }
+
+    @Test
+    void nextSize_ShouldHold_WhenThereWasNoTraffic() {
+        AdaptivePoolController controller = controller(poolConfig(4));
+
+        assertThat(controller.nextSize(4, new PoolWaitWindow.Snapshot(0, 0, 0, 0, 0))).isEqualTo(4);
+    }
+
+    @Test
+    void constructor_ShouldClampInitialPoolSizeIntoBounds() {
+        HikariConfig config = poolConfig(10);
+        config.setMinimumIdle(10);
+
+        AdaptivePoolController controller = controller(config);
+
+        assertThat(controller.targetSize()).isEqualTo(6);
+        assertThat(config.getMaximumPoolSize()).isEqualTo(6);
+        assertThat(config.getMinimumIdle()).isEqualTo(6);
+    }
+
+    @Test
+    void constructor_ShouldRejectInvertedBounds() {
+        PoolProperties.Controller inverted = new PoolProperties.Controller(true, 8, 4, 1, Duration.ofSeconds(15), 0.5, 0.05);
+
+        assertThatThrownBy(() -> new AdaptivePoolController(poolConfig(4), window, inverted, meterRegistry))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void adjust_ShouldGrowUnderSlowDatabaseLoadAndShrinkWhenLoadDrops() throws Exception {
+        try (HikariDataSource hikari = slowDatabasePool()) {
+            InstrumentedDataSource dataSource = new InstrumentedDataSource(hikari,
+                    List.of(new PoolMonitoringHook(meterRegistry, window)));
+            AdaptivePoolController controller = new AdaptivePoolController(hikari.getHikariConfigMXBean(), window,
+                    properties, meterRegistry);
+
+            runQueries(dataSource, 1, 1);
+            window.drain();
+
+            for (int round = 0; round < 3; round++) {
+                runQueries(dataSource, 8, 5);
+                controller.adjust();
+            }
+
+            assertThat(controller.targetSize()).isEqualTo(6);
+            assertThat(hikari.getMaximumPoolSize()).isEqualTo(6);
+            assertThat(hikari.getHikariPoolMXBean().getTotalConnections()).isGreaterThan(2);
+
+            for (int round = 0; round < 3; round++) {
+                runQueries(dataSource, 1, 5);
+                controller.adjust();
+            }
+
+            assertThat(controller.targetSize()).isEqualTo(2);
+            assertThat(hikari.getMaximumPoolSize()).isEqualTo(2);
+
+            Timer acquire = meterRegistry.find("db.pool.acquire").tag("endpoint", PoolMonitoringHook.NO_ENDPOINT).timer();
+            assertThat(acquire).isNotNull();
+            assertThat(acquire.count()).isEqualTo(1 + 3 * 8 * 5 + 3 * 5);
+            assertThat(meterRegistry.get("db.pool.controller.resizes").counter().count()).isEqualTo(4);
+        }
+    }
+
+    private AdaptivePoolController controller(HikariConfig config) {
+        return new AdaptivePoolController(config, window, properties, meterRegistry);
+    }
+
+    private static HikariConfig poolConfig(int maximumPoolSize) {
+        HikariConfig config = new HikariConfig();
+        config.setMaximumPoolSize(maximumPoolSize);
+        return config;
+    }
+
+    private static HikariDataSource slowDatabasePool() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:pool-controller;DB_CLOSE_DELAY=-1");
+        config.setUsername("sa");
+        config.setPassword("");
+        config.setMaximumPoolSize(2);
+        config.setConnectionTimeout(10_000);
+        return new HikariDataSource(config);
+    }
+
+    // Each query holds its connection for QUERY_MILLIS, standing in for a database that has become slow.
+    private static void runQueries(InstrumentedDataSource dataSource, int threads, int queriesPerThread) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int q = 0; q < queriesPerThread; q++) {
+                        try (Connection connection = dataSource.getConnection();
+                             Statement statement = connection.createStatement()) {
+                            statement.execute("select 1");
+                            Thread.sleep(QUERY_MILLIS);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
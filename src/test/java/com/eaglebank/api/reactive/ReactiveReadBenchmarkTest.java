@@ -0,0 +1,294 @@
+package com.eaglebank.api.reactive;
+
+import com.eaglebank.api.domain.Address;
+import com.eaglebank.api.domain.BankAccount;
+import com.eaglebank.api.domain.User;
+import com.eaglebank.api.dto.account.ListBankAccountsResponse;
+import com.eaglebank.api.dto.transaction.ListTransactionsResponse;
+import com.eaglebank.api.repository.BankAccountRepository;
+import com.eaglebank.api.repository.TransactionRepository;
+import com.eaglebank.api.repository.UserRepository;
+import com.eaglebank.api.service.JwtService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the reactive listing endpoints with the MVC ones. Correctness is asserted; throughput and latency
+ * under concurrent load with slow readers holding connections open are only logged, so the test stays stable
+ * on shared CI hosts. Tomcat's pool is kept small so a test-sized number of slow clients can exhaust it.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:eaglebank-reactive-db;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=update",
+        "server.tomcat.threads.max=32",
+        "rate-limit.enabled=false",
+        "deadline.default-timeout=30s",
+        "reactive-read.enabled=true",
+        "reactive-read.port=0",
+        "reactive-read.url=r2dbc:h2:mem:///eaglebank-reactive-db?options=MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "reactive-read.username=sa",
+        "reactive-read.password=",
+        "reactive-read.request-timeout=30s"
+})
+class ReactiveReadBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveReadBenchmarkTest.class);
+
+    private static final String ACCOUNT_NUMBER = "01800001";
+    private static final String OTHER_ACCOUNT_NUMBER = "01800002";
+    private static final int TRANSACTIONS = 2_000;
+    private static final int SLOW_CLIENTS = 64;
+    private static final Duration SLOW_CLIENT_LINGER = Duration.ofMillis(1_500);
+    private static final int CONCURRENT_REQUESTS = 256;
+
+    @LocalServerPort
+    private int mvcPort;
+
+    @Autowired
+    private ReactiveReadServer reactiveReadServer;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BankAccountRepository bankAccountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        User user = saveUser("usr-reactive", "reactive@example.com");
+        User other = saveUser("usr-reactive-other", "reactive-other@example.com");
+        saveAccount(ACCOUNT_NUMBER, user);
+        saveAccount(OTHER_ACCOUNT_NUMBER, other);
+        insertTransactions();
+        token = jwtService.generateToken(user.getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionRepository.deleteAll();
+        bankAccountRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void listEndpoints_ShouldReturnSameBodiesAsMvc() throws Exception {
+        String transactionsPath = "/v1/accounts/" + ACCOUNT_NUMBER + "/transactions";
+        
+        ListTransactionsResponse reactiveTransactions = objectMapper.readValue(
+                get(reactiveReadServer.getPort(), transactionsPath, "application/json").body(),
+                ListTransactionsResponse.class);
+        ListTransactionsResponse mvcTransactions = objectMapper.readValue(
+                get(mvcPort, transactionsPath, "application/json").body(), ListTransactionsResponse.class);
+        ListBankAccountsResponse reactiveAccounts = objectMapper.readValue(
+                get(reactiveReadServer.getPort(), "/v1/accounts", "application/json").body(),
+                ListBankAccountsResponse.class);
+        ListBankAccountsResponse mvcAccounts = objectMapper.readValue(
+                get(mvcPort, "/v1/accounts", "application/json").body(), ListBankAccountsResponse.class);
+        
+        assertThat(reactiveTransactions.transactions()).hasSize(TRANSACTIONS);
+        assertThat(reactiveTransactions).isEqualTo(mvcTransactions);
+        assertThat(reactiveAccounts).isEqualTo(mvcAccounts);
+    }
+
+    @Test
+    void listTransactions_ShouldStreamOneRecordPerLine_WhenNdjsonIsAccepted() throws Exception {
+        HttpResponse<String> response = get(reactiveReadServer.getPort(),
+                "/v1/accounts/" + ACCOUNT_NUMBER + "/transactions", "application/x-ndjson");
+        
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Type")).hasValueSatisfying(
+                contentType -> assertThat(contentType).startsWith("application/x-ndjson"));
+        assertThat(response.body().lines()).hasSize(TRANSACTIONS);
+    }
+
+    @Test
+    void listTransactions_ShouldRejectForeignUnknownAndUnauthenticatedRequests() throws Exception {
+        int port = reactiveReadServer.getPort();
+        
+        assertThat(get(port, "/v1/accounts/" + OTHER_ACCOUNT_NUMBER + "/transactions", "application/json")
+                .statusCode()).isEqualTo(403);
+        assertThat(get(port, "/v1/accounts/01899999/transactions", "application/json").statusCode())
+                .isEqualTo(404);
+        assertThat(get(port, "/v1/accounts/12345678/transactions", "application/json").statusCode())
+                .isEqualTo(400);
+        
+        HttpResponse<String> anonymous = httpClient.send(HttpRequest.newBuilder(
+                URI.create("http://localhost:" + port + "/v1/accounts")).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertThat(anonymous.statusCode()).isEqualTo(403);
+    }
+
+    @Test
+    void listTransactions_UnderConcurrentLoadWithSlowClients() throws Exception {
+        LoadResult mvc = runLoad(mvcPort);
+        LoadResult reactive = runLoad(reactiveReadServer.getPort());
+        
+        log.info("{} concurrent requests with {} slow readers: mvc p50 {} ms / p99 {} ms / {} req/s, "
+                        + "reactive p50 {} ms / p99 {} ms / {} req/s",
+                CONCURRENT_REQUESTS, SLOW_CLIENTS, mvc.p50Millis(), mvc.p99Millis(), mvc.requestsPerSecond(),
+                reactive.p50Millis(), reactive.p99Millis(), reactive.requestsPerSecond());
+        
+        assertThat(mvc.failures()).isZero();
+        assertThat(reactive.failures()).isZero();
+    }
+
+    private LoadResult runLoad(int port) throws Exception {
+        String path = "/v1/accounts/" + ACCOUNT_NUMBER + "/transactions";
+        try (ExecutorService slowReaders = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < SLOW_CLIENTS; i++) {
+                slowReaders.submit(() -> readSlowly(port, path));
+            }
+            Thread.sleep(200);
+            
+            long started = System.nanoTime();
+            List<CompletableFuture<Long>> requests = new ArrayList<>(CONCURRENT_REQUESTS);
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                long requestStarted = System.nanoTime();
+                requests.add(httpClient.sendAsync(request(port, path, "application/json"),
+                                HttpResponse.BodyHandlers.ofString())
+                        .thenApply(response -> response.statusCode() == 200
+                                ? (System.nanoTime() - requestStarted) / 1_000_000 : -1L));
+            }
+            long[] latencies = requests.stream().mapToLong(CompletableFuture::join).toArray();
+            double elapsedSeconds = (System.nanoTime() - started) / 1_000_000_000.0;
+            
+            long failures = Arrays.stream(latencies).filter(latency -> latency < 0).count();
+            long[] succeeded = Arrays.stream(latencies).filter(latency -> latency >= 0).sorted().toArray();
+            return new LoadResult(percentile(succeeded, 0.50), percentile(succeeded, 0.99),
+                    Math.round(succeeded.length / elapsedSeconds), failures);
+        }
+    }
+
+    // Opens a connection with a small receive window and drains it a little at a time, so the server cannot
+    // finish writing the response until the reader lets go.
+    private Void readSlowly(int port, String path) throws IOException, InterruptedException {
+        try (Socket socket = new Socket()) {
+            socket.setReceiveBufferSize(4 * 1024);
+            socket.connect(new InetSocketAddress("localhost", port));
+            OutputStream out = socket.getOutputStream();
+            out.write(("GET " + path + " HTTP/1.1\r\nHost: localhost\r\nAuthorization: Bearer " + token
+                    + "\r\nAccept: application/json\r\nConnection: close\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            InputStream in = socket.getInputStream();
+            byte[] buffer = new byte[512];
+            long deadline = System.nanoTime() + SLOW_CLIENT_LINGER.toNanos();
+            while (System.nanoTime() < deadline && in.read(buffer) >= 0) {
+                Thread.sleep(20);
+            }
+        }
+        return null;
+    }
+
+    private HttpResponse<String> get(int port, String path, String accept) throws Exception {
+        return httpClient.send(request(port, path, accept), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest request(int port, String path, String accept) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", "Bearer " + token)
+                .header("Accept", accept)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return -1;
+        }
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(percentile * sorted.length) - 1)];
+    }
+
+    private User saveUser(String id, String email) {
+        User user = new User();
+        user.setId(id);
+        user.setName("Reactive Test");
+        user.setAddress(new Address("1 High Street", null, null, "London", "Greater London", "E1 1AA"));
+        user.setPhoneNumber("+447700900001");
+        user.setEmail(email);
+        user.setPassword("not-used");
+        return userRepository.save(user);
+    }
+
+    private void saveAccount(String accountNumber, User user) {
+        BankAccount account = new BankAccount();
+        account.setAccountNumber(accountNumber);
+        account.setSortCode("10-10-10");
+        account.setName("Reactive Account");
+        account.setAccountType("personal");
+        account.setBalance(0L);
+        account.setCurrency("GBP");
+        account.setUser(user);
+        bankAccountRepository.save(account);
+    }
+
+    private void insertTransactions() {
+        Instant base = Instant.parse("2024-01-01T00:00:00Z");
+        List<Object[]> batch = new ArrayList<>(TRANSACTIONS);
+        for (int i = 0; i < TRANSACTIONS; i++) {
+            batch.add(new Object[] {
+                    "tan-rx" + i, (long) (i % 100_000) + 1, "GBP", i % 2 == 0 ? "deposit" : "withdrawal",
+                    "ref " + i, ACCOUNT_NUMBER, "usr-reactive", Timestamp.from(base.plusSeconds(i))
+            });
+        }
+        jdbcTemplate.batchUpdate("""
+                insert into transactions (id, amount, currency, type, reference, account_number, user_id, created_timestamp)
+                values (?, ?, ?, ?, ?, ?, ?, ?)
+                """, batch);
+    }
+
+    private record LoadResult(long p50Millis, long p99Millis, long requestsPerSecond, long failures) {
+    }
+}
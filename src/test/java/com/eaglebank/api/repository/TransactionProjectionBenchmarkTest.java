@@ -0,0 +1,172 @@
+package com.eaglebank.api.repository;
+
+import com.eaglebank.api.domain.Address;
+import com.eaglebank.api.domain.BankAccount;
+import com.eaglebank.api.domain.Transaction;
+import com.eaglebank.api.domain.User;
+import com.eaglebank.api.dto.transaction.TransactionResponse;
+import com.eaglebank.api.util.EntityMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares listing transactions through managed entities with the constructor-expression projection.
+ * Latency and allocated bytes are logged rather than asserted so the test stays stable on shared CI hosts;
+ * the assertions only check that both paths return identical responses.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:eaglebank-projection-db;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=update"
+})
+class TransactionProjectionBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionProjectionBenchmarkTest.class);
+
+    private static final String ACCOUNT_NUMBER = "01900001";
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final int MEASURED_ITERATIONS = 5;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BankAccountRepository bankAccountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        User user = new User();
+        user.setId("usr-projection");
+        user.setName("Projection Test");
+        user.setAddress(new Address("1 High Street", null, null, "London", "Greater London", "E1 1AA"));
+        user.setPhoneNumber("+447700900001");
+        user.setEmail("projection@example.com");
+        user.setPassword("not-used");
+        userRepository.save(user);
+
+        BankAccount account = new BankAccount();
+        account.setAccountNumber(ACCOUNT_NUMBER);
+        account.setSortCode("10-10-10");
+        account.setName("Projection Account");
+        account.setAccountType("personal");
+        account.setBalance(0L);
+        account.setCurrency("GBP");
+        account.setUser(user);
+        bankAccountRepository.save(account);
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionRepository.deleteAll();
+        bankAccountRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1_000, 10_000})
+    void listTransactions_ProjectionShouldMatchEntityMapping(int rows) {
+        insertTransactions(rows);
+
+        List<TransactionResponse> viaEntities = readOnly.execute(status -> listViaEntities());
+        List<TransactionResponse> viaProjection = readOnly.execute(status ->
+                transactionRepository.findResponsesByAccountNumber(ACCOUNT_NUMBER));
+
+        assertThat(viaProjection).hasSize(rows);
+        assertThat(viaProjection).containsExactlyElementsOf(viaEntities);
+
+        Measurement entities = measure(() -> readOnly.execute(status -> listViaEntities()));
+        Measurement projection = measure(() -> readOnly.execute(status ->
+                transactionRepository.findResponsesByAccountNumber(ACCOUNT_NUMBER)));
+
+        log.info("{} rows: entities {} ms / {} KB per call, projection {} ms / {} KB per call",
+                rows, entities.millis(), entities.allocatedBytes() / 1024,
+                projection.millis(), projection.allocatedBytes() / 1024);
+    }
+
+    // The entity-path baseline: hydrate managed entities, then map them the way the service used to.
+    private List<TransactionResponse> listViaEntities() {
+        return entityManager.createQuery("""
+                        select t from Transaction t join fetch t.user
+                        where t.account.accountNumber = :accountNumber
+                        order by t.createdTimestamp desc
+                        """, Transaction.class)
+                .setParameter("accountNumber", ACCOUNT_NUMBER)
+                .getResultList()
+                .stream()
+                .map(EntityMapper::toTransactionResponse)
+                .toList();
+    }
+
+    private void insertTransactions(int rows) {
+        Instant base = Instant.parse("2024-01-01T00:00:00Z");
+        List<Object[]> batch = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            batch.add(new Object[] {
+                    "tan-proj" + i, (long) (i % 100_000) + 1, "GBP", i % 2 == 0 ? "deposit" : "withdrawal",
+                    "ref " + i, ACCOUNT_NUMBER, "usr-projection", Timestamp.from(base.plusSeconds(i))
+            });
+        }
+        jdbcTemplate.batchUpdate("""
+                insert into transactions (id, amount, currency, type, reference, account_number, user_id, created_timestamp)
+                values (?, ?, ?, ?, ?, ?, ?, ?)
+                """, batch);
+    }
+
+    private static Measurement measure(Supplier<List<TransactionResponse>> call) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            call.get();
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long started = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            call.get();
+        }
+        long elapsed = System.nanoTime() - started;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        return new Measurement(elapsed / 1_000_000.0 / MEASURED_ITERATIONS, allocated / MEASURED_ITERATIONS);
+    }
+
+    private record Measurement(double millis, long allocatedBytes) {
+    }
+}
@@ -0,0 +1,186 @@
+package com.eaglebank.api.repository;
+
+import com.eaglebank.api.domain.Address;
+import com.eaglebank.api.domain.BankAccount;
+import com.eaglebank.api.domain.User;
+import com.eaglebank.api.dto.transaction.TransactionResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:eaglebank-search-db;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=update"
+})
+class TransactionSearchRepositoryTest {
+
+    private static final String ACCOUNT_NUMBER = "01700001";
+    private static final String OTHER_ACCOUNT_NUMBER = "01700002";
+    private static final Instant BASE = Instant.parse("2024-01-01T00:00:00Z");
+    private static final int ROWS = 300;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BankAccountRepository bankAccountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        User user = new User();
+        user.setId("usr-search");
+        user.setName("Search Test");
+        user.setAddress(new Address("1 High Street", null, null, "London", "Greater London", "E1 1AA"));
+        user.setPhoneNumber("+447700900001");
+        user.setEmail("search@example.com");
+        user.setPassword("not-used");
+        userRepository.save(user);
+        saveAccount(ACCOUNT_NUMBER, user);
+        saveAccount(OTHER_ACCOUNT_NUMBER, user);
+
+        // Every third row is a withdrawal, amounts cycle through 1.00-10.00, every tenth reference mentions rent,
+        // and pairs of rows share a timestamp so the ID tie-breaker is exercised.
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(new Object[] {
+                    String.format("tan-s%04d", i), (long) (i % 10 + 1) * 100, "GBP",
+                    i % 3 == 0 ? "withdrawal" : "deposit", i % 10 == 0 ? "March RENT_" + i : "groceries " + i,
+                    ACCOUNT_NUMBER, "usr-search", Timestamp.from(BASE.plusSeconds(i / 2 * 60L))
+            });
+            rows.add(new Object[] {
+                    String.format("tan-o%04d", i), 500L, "GBP", "deposit", "rent elsewhere",
+                    OTHER_ACCOUNT_NUMBER, "usr-search", Timestamp.from(BASE.plusSeconds(i * 60L))
+            });
+        }
+        jdbcTemplate.batchUpdate("""
+                insert into transactions (id, amount, currency, type, reference, account_number, user_id, created_timestamp)
+                values (?, ?, ?, ?, ?, ?, ?, ?)
+                """, rows);
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionRepository.deleteAll();
+        bankAccountRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void search_ShouldApplyEveryFilterWithinTheAccount() {
+        Instant from = BASE.plusSeconds(10 * 60);
+        Instant to = BASE.plusSeconds(100 * 60);
+
+        List<TransactionResponse> results = search(new TransactionSearchQuery(
+                "withdrawal", 300L, 800L, from, to, null, null, null, 1000));
+
+        assertThat(results).isNotEmpty().allSatisfy(transaction -> {
+            assertThat(transaction.type()).isEqualTo("withdrawal");
+            assertThat(transaction.amount()).isBetween(new BigDecimal("3.00"), new BigDecimal("8.00"));
+            assertThat(transaction.createdTimestamp()).isAfterOrEqualTo(from).isBefore(to);
+            assertThat(transaction.id()).startsWith("tan-s");
+        });
+        long expected = IntStream.range(0, ROWS)
+                .filter(i -> i % 3 == 0 && i % 10 + 1 >= 3 && i % 10 + 1 <= 8 && i / 2 >= 10 && i / 2 < 100)
+                .count();
+        assertThat(results).hasSize((int) expected);
+    }
+
+    @Test
+    void search_ShouldMatchReferenceCaseInsensitivelyAndTreatWildcardsLiterally() {
+        List<TransactionResponse> rent = search(new TransactionSearchQuery(
+                null, null, null, null, null, "rent", null, null, 1000));
+        List<TransactionResponse> underscore = search(new TransactionSearchQuery(
+                null, null, null, null, null, "_1", null, null, 1000));
+
+        assertThat(rent).hasSize(ROWS / 10).allSatisfy(transaction ->
+                assertThat(transaction.reference()).startsWith("March RENT_"));
+        assertThat(underscore).extracting(TransactionResponse::reference)
+                .containsExactlyInAnyOrder("March RENT_10", "March RENT_100", "March RENT_110", "March RENT_120",
+                        "March RENT_130", "March RENT_140", "March RENT_150", "March RENT_160", "March RENT_170",
+                        "March RENT_180", "March RENT_190");
+    }
+
+    @Test
+    void search_ShouldWalkAllPagesWithoutGapsOrDuplicates() {
+        List<TransactionResponse> all = search(new TransactionSearchQuery(
+                null, null, null, null, null, null, null, null, 1000));
+        List<TransactionResponse> paged = new ArrayList<>();
+        TransactionResponse last = null;
+        do {
+            List<TransactionResponse> page = search(new TransactionSearchQuery(null, null, null, null, null, null,
+                    last != null ? last.createdTimestamp() : null, last != null ? last.id() : null, 7));
+            paged.addAll(page);
+            last = page.isEmpty() ? null : page.getLast();
+        } while (last != null);
+
+        assertThat(all).hasSize(ROWS);
+        assertThat(paged).containsExactlyElementsOf(all);
+    }
+
+    @Test
+    void filteredPlans_ShouldNotScanTheWholeTable() {
+        List<String> plans = List.of(
+                explain("select id from transactions where account_number = ? and type = ? "
+                        + "order by created_timestamp desc, id desc limit 51"),
+                explain("select id from transactions where account_number = ? and amount between ? and ? "
+                        + "order by created_timestamp desc, id desc limit 51"),
+                explain("select id from transactions where account_number = ? and lower(reference) like ? "
+                        + "and created_timestamp < ? order by created_timestamp desc, id desc limit 51"));
+
+        assertThat(plans).allSatisfy(plan -> assertThat(plan).doesNotContainIgnoringCase("tableScan"));
+    }
+
+    private List<TransactionResponse> search(TransactionSearchQuery query) {
+        return readOnly.execute(status -> transactionRepository.search(ACCOUNT_NUMBER, query));
+    }
+
+    private String explain(String sql) {
+        String bound = sql.replaceFirst("\\?", "'" + ACCOUNT_NUMBER + "'").replace("?", "'x'")
+                .replace("between 'x' and 'x'", "between 100 and 500")
+                .replace("created_timestamp < 'x'", "created_timestamp < TIMESTAMP '2024-06-01 00:00:00'");
+        return jdbcTemplate.queryForObject("explain " + bound, String.class);
+    }
+
+    private void saveAccount(String accountNumber, User user) {
+        BankAccount account = new BankAccount();
+        account.setAccountNumber(accountNumber);
+        account.setSortCode("10-10-10");
+        account.setName("Search Account");
+        account.setAccountType("personal");
+        account.setBalance(0L);
+        account.setCurrency("GBP");
+        account.setUser(user);
+        bankAccountRepository.save(account);
+    }
+}
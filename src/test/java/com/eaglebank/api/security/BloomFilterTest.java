@@ -0,0 +1,49 @@
+package com.eaglebank.api.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    void mightContain_ShouldReturnTrueForEveryAddedKey() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        String[] keys = new String[10_000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = UUID.randomUUID().toString();
+            filter.add(keys[i]);
+        }
+
+        for (String key : keys) {
+            assertThat(filter.mightContain(key)).isTrue();
+        }
+    }
+
+    @Test
+    void mightContain_ShouldKeepFalsePositivesNearTheConfiguredRate() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add("revoked-" + i);
+        }
+
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain("active-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        assertThat((double) falsePositives / probes).isLessThan(0.03);
+    }
+
+    @Test
+    void mightContain_ShouldReturnFalse_WhenNothingWasAdded() {
+        BloomFilter filter = new BloomFilter(100, 0.01);
+
+        assertThat(filter.mightContain("anything")).isFalse();
+    }
+}
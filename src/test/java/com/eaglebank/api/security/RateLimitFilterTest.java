@@ -0,0 +1,144 @@
+package com.eaglebank.api.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs the filter in the real security chain with two narrow routes whose buckets take about 1000 seconds
+ * to refill one token, so a bucket drained in a test stays drained until it ends. Each test signs up its own
+ * users, since buckets are keyed by user and outlive a test.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:rate-limit-test-db;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=update",
+        "rate-limit.enabled=true",
+        "rate-limit.routes[0].name=transaction-writes",
+        "rate-limit.routes[0].method=POST",
+        "rate-limit.routes[0].pattern=/v1/accounts/{accountNumber}/transactions",
+        "rate-limit.routes[0].capacity=2",
+        "rate-limit.routes[0].refill-per-second=0.001",
+        "rate-limit.routes[1].name=account-reads",
+        "rate-limit.routes[1].method=GET",
+        "rate-limit.routes[1].pattern=/v1/accounts/**",
+        "rate-limit.routes[1].capacity=1",
+        "rate-limit.routes[1].refill-per-second=0.001"
+})
+@AutoConfigureMockMvc
+class RateLimitFilterTest {
+
+    private static final AtomicInteger USERS = new AtomicInteger();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void doFilter_ShouldReturn429WithRetryAfter_WhenRouteCapacityIsExhausted() throws Exception {
+        String token = signUp();
+        String accountNumber = openAccount(token);
+
+        assertThat(deposit(token, accountNumber).getResponse().getStatus()).isEqualTo(201);
+        assertThat(deposit(token, accountNumber).getResponse().getStatus()).isEqualTo(201);
+
+        MvcResult rejected = deposit(token, accountNumber);
+
+        assertThat(rejected.getResponse().getStatus()).isEqualTo(429);
+        assertThat(Long.parseLong(rejected.getResponse().getHeader(HttpHeaders.RETRY_AFTER))).isBetween(999L, 1000L);
+        assertThat(objectMapper.readTree(rejected.getResponse().getContentAsString()).get("message").asText())
+                .isEqualTo("Too many requests. Please retry later.");
+    }
+
+    @Test
+    void doFilter_ShouldKeepSeparateBucketsPerRoute() throws Exception {
+        String token = signUp();
+        String accountNumber = openAccount(token);
+        deposit(token, accountNumber);
+        deposit(token, accountNumber);
+        assertThat(deposit(token, accountNumber).getResponse().getStatus()).isEqualTo(429);
+
+        mockMvc.perform(get("/v1/accounts/" + accountNumber).header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/v1/accounts/" + accountNumber).header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                .andExpect(jsonPath("$.message").value("Too many requests. Please retry later."));
+    }
+
+    @Test
+    void doFilter_ShouldKeepSeparateBucketsPerUser() throws Exception {
+        String token = signUp();
+        String accountNumber = openAccount(token);
+        String otherToken = signUp();
+        String otherAccountNumber = openAccount(otherToken);
+        deposit(token, accountNumber);
+        deposit(token, accountNumber);
+        assertThat(deposit(token, accountNumber).getResponse().getStatus()).isEqualTo(429);
+
+        assertThat(deposit(otherToken, otherAccountNumber).getResponse().getStatus()).isEqualTo(201);
+    }
+
+    private String signUp() throws Exception {
+        int user = USERS.incrementAndGet();
+        String email = "rate-limit-" + user + "@example.com";
+        send(post("/v1/users").content(objectMapper.writeValueAsString(Map.of(
+                "name", "Rate Limit Test",
+                "address", Map.of("line1", "1 High Street", "town", "London", "county", "Greater London",
+                        "postcode", "E1 1AA"),
+                "phoneNumber", "+447700900004",
+                "email", email,
+                "password", "password123"))));
+        return read(send(post("/v1/auth/login").content(objectMapper.writeValueAsString(
+                Map.of("email", email, "password", "password123"))))).get("token").asText();
+    }
+
+    private String openAccount(String token) throws Exception {
+        return read(send(post("/v1/accounts")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .content(objectMapper.writeValueAsString(Map.of("name", "Rate Limited", "accountType", "personal")))))
+                .get("accountNumber").asText();
+    }
+
+    private MvcResult deposit(String token, String accountNumber) throws Exception {
+        return mockMvc.perform(post("/v1/accounts/" + accountNumber + "/transactions")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                Map.of("amount", new BigDecimal("1.00"), "currency", "GBP", "type", "deposit"))))
+                .andReturn();
+    }
+
+    private MvcResult send(MockHttpServletRequestBuilder request) throws Exception {
+        return mockMvc.perform(request.contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().is2xxSuccessful())
+                .andReturn();
+    }
+
+    private JsonNode read(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+}
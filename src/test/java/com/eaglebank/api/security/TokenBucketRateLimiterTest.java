@@ -0,0 +1,88 @@
+package com.eaglebank.api.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenBucketRateLimiterTest {
+
+    private AtomicLong clock;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(TimeUnit.SECONDS.toNanos(1_000));
+    }
+
+    @Test
+    void tryAcquire_ShouldAllowBurstUpToCapacity() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(3, 1.0, 10, clock::get);
+
+        assertThat(limiter.tryAcquire("usr-1")).isZero();
+        assertThat(limiter.tryAcquire("usr-1")).isZero();
+        assertThat(limiter.tryAcquire("usr-1")).isZero();
+        assertThat(limiter.tryAcquire("usr-1")).isPositive();
+    }
+
+    @Test
+    void tryAcquire_ShouldReportWaitUntilNextToken() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 2.0, 10, clock::get);
+
+        assertThat(limiter.tryAcquire("usr-1")).isZero();
+
+        assertThat(limiter.tryAcquire("usr-1")).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+    }
+
+    @Test
+    void tryAcquire_ShouldRefillOverTime() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(2, 1.0, 10, clock::get);
+        limiter.tryAcquire("usr-1");
+        limiter.tryAcquire("usr-1");
+        assertThat(limiter.tryAcquire("usr-1")).isPositive();
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+        assertThat(limiter.tryAcquire("usr-1")).isZero();
+        assertThat(limiter.tryAcquire("usr-1")).isPositive();
+    }
+
+    @Test
+    void tryAcquire_ShouldKeepSeparateBucketsPerKey() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 1.0, 10, clock::get);
+
+        assertThat(limiter.tryAcquire("usr-1")).isZero();
+        assertThat(limiter.tryAcquire("usr-2")).isZero();
+        assertThat(limiter.tryAcquire("usr-1")).isPositive();
+    }
+
+    @Test
+    void tryAcquire_ShouldEvictFullBuckets_WhenKeyLimitReached() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(5, 1.0, 2, clock::get);
+        limiter.tryAcquire("usr-1");
+        limiter.tryAcquire("usr-2");
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        limiter.tryAcquire("usr-3");
+
+        assertThat(limiter.trackedKeys()).isEqualTo(1);
+    }
+
+    @Test
+    void tryAcquire_ShouldAllowUntrackedKey_WhenNoBucketCanBeEvicted() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 1.0, 1, clock::get);
+        limiter.tryAcquire("usr-1");
+
+        assertThat(limiter.tryAcquire("usr-2")).isZero();
+        assertThat(limiter.trackedKeys()).isEqualTo(1);
+    }
+
+    @Test
+    void constructor_ShouldRejectNonPositiveCapacity() {
+        assertThatThrownBy(() -> new TokenBucketRateLimiter(0, 1.0, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
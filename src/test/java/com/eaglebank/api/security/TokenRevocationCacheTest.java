@@ -0,0 +1,104 @@
+package com.eaglebank.api.security;
+
+import com.eaglebank.api.domain.TokenRevocation;
+import com.eaglebank.api.enums.RevocationType;
+import com.eaglebank.api.repository.TokenRevocationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationCacheTest {
+
+    private static final Instant NOW = Instant.parse("2024-06-01T12:00:00Z");
+
+    @Mock
+    private TokenRevocationRepository repository;
+
+    private TokenRevocationCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TokenRevocationCache(repository, 1_000, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void isRevoked_ShouldRejectRevokedTokenIdOnly() {
+        cache.revokeToken("jti-1", NOW.plus(Duration.ofHours(1)));
+
+        assertThat(cache.isRevoked("jti-1", "usr-1", NOW.minusSeconds(60))).isTrue();
+        assertThat(cache.isRevoked("jti-2", "usr-1", NOW.minusSeconds(60))).isFalse();
+    }
+
+    @Test
+    void isRevoked_ShouldRejectTokensIssuedUpToTheUserCutoff() {
+        cache.revokeUser("usr-1", NOW, NOW.plus(Duration.ofHours(24)));
+
+        assertThat(cache.isRevoked("jti-1", "usr-1", NOW.minusSeconds(60))).isTrue();
+        assertThat(cache.isRevoked("jti-2", "usr-1", NOW)).isTrue();
+        assertThat(cache.isRevoked("jti-3", "usr-1", NOW.plusSeconds(1))).isFalse();
+        assertThat(cache.isRevoked("jti-4", "usr-2", NOW.minusSeconds(60))).isFalse();
+    }
+
+    @Test
+    void revokeUser_ShouldKeepTheLatestCutoff() {
+        cache.revokeUser("usr-1", NOW, NOW.plus(Duration.ofHours(24)));
+        cache.revokeUser("usr-1", NOW.minusSeconds(600), NOW.plus(Duration.ofHours(23)));
+
+        assertThat(cache.isRevoked("jti-1", "usr-1", NOW.minusSeconds(10))).isTrue();
+    }
+
+    @Test
+    void refresh_ShouldApplyRevocationsWrittenByOtherNodes() {
+        when(repository.findByUpdatedTimestampAfterAndExpiresAtAfter(any(Instant.class), eq(NOW))).thenReturn(List.of(
+                new TokenRevocation("TOKEN:jti-remote", RevocationType.TOKEN, "jti-remote", null,
+                        NOW.plus(Duration.ofHours(1)), NOW),
+                new TokenRevocation("USER:usr-remote", RevocationType.USER, "usr-remote", NOW.minusSeconds(5),
+                        NOW.plus(Duration.ofHours(24)), NOW)
+        ));
+
+        cache.refresh();
+
+        assertThat(cache.isRevoked("jti-remote", "usr-1", NOW.minusSeconds(60))).isTrue();
+        assertThat(cache.isRevoked("jti-other", "usr-remote", NOW.minusSeconds(60))).isTrue();
+        assertThat(cache.isRevoked("jti-other", "usr-remote", NOW)).isFalse();
+    }
+
+    @Test
+    void reloadAll_ShouldDropLocalEntriesThatHaveExpired() {
+        when(repository.findByUpdatedTimestampAfterAndExpiresAtAfter(Instant.EPOCH, NOW)).thenReturn(List.of());
+        cache.revokeToken("jti-expired", NOW.minusSeconds(1));
+        cache.revokeToken("jti-live", NOW.plusSeconds(60));
+        cache.revokeUser("usr-expired", NOW.minus(Duration.ofHours(25)), NOW.minus(Duration.ofHours(1)));
+
+        cache.reloadAll();
+
+        assertThat(cache.isRevoked("jti-expired", "usr-1", NOW.minusSeconds(60))).isFalse();
+        assertThat(cache.isRevoked("jti-live", "usr-1", NOW.minusSeconds(60))).isTrue();
+        assertThat(cache.isRevoked("jti-1", "usr-expired", NOW.minus(Duration.ofHours(26)))).isFalse();
+    }
+
+    @Test
+    void isRevoked_ShouldNotQueryTheRepository() {
+        cache.revokeToken("jti-1", NOW.plusSeconds(60));
+
+        for (int i = 0; i < 100; i++) {
+            cache.isRevoked("jti-" + i, "usr-" + i, NOW.minusSeconds(1));
+        }
+
+        verifyNoInteractions(repository);
+    }
+}
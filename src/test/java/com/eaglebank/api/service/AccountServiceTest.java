@@ -1,12 +1,16 @@
 package com.eaglebank.api.service;
 
+import com.eaglebank.api.cache.ResponseByteCache;
 import com.eaglebank.api.constants.ApplicationConstants;
 import com.eaglebank.api.domain.BankAccount;
 import com.eaglebank.api.domain.User;
+import com.eaglebank.api.dto.account.AccountSummaryResponse;
+import com.eaglebank.api.dto.account.AccountTypeSummary;
 import com.eaglebank.api.dto.account.BankAccountResponse;
 import com.eaglebank.api.dto.account.CreateBankAccountRequest;
 import com.eaglebank.api.dto.account.ListBankAccountsResponse;
 import com.eaglebank.api.dto.account.UpdateBankAccountRequest;
+import com.eaglebank.api.enums.AccountStatus;
 import com.eaglebank.api.repository.BankAccountRepository;
 import com.eaglebank.api.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,7 +24,6 @@ import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
 import java.time.Instant;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,11 +42,15 @@ class AccountServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ResponseByteCache responseByteCache;
+
     @InjectMocks
     private AccountService accountService;
 
     private User testUser;
     private BankAccount testAccount;
+    private BankAccountResponse testAccountResponse;
 
     @BeforeEach
     void setUp() {
@@ -57,11 +64,15 @@ class AccountServiceTest {
         testAccount.setSortCode(ApplicationConstants.ACCOUNT_SORT_CODE);
         testAccount.setName("Test Account");
         testAccount.setAccountType("personal");
-        testAccount.setBalance(BigDecimal.ZERO);
+        testAccount.setBalance(0L);
         testAccount.setCurrency(ApplicationConstants.ACCOUNT_DEFAULT_CURRENCY);
         testAccount.setUser(testUser);
         testAccount.setCreatedTimestamp(Instant.now());
         testAccount.setUpdatedTimestamp(Instant.now());
+
+        testAccountResponse = new BankAccountResponse("01234567", ApplicationConstants.ACCOUNT_SORT_CODE,
+                "Test Account", "personal", 0L, ApplicationConstants.ACCOUNT_DEFAULT_CURRENCY,
+                testAccount.getCreatedTimestamp(), testAccount.getUpdatedTimestamp());
     }
 
     @Test
@@ -69,7 +80,7 @@ class AccountServiceTest {
         CreateBankAccountRequest request = new CreateBankAccountRequest("Test Account", "personal");
 
         when(userRepository.findById("usr-123abc")).thenReturn(Optional.of(testUser));
-        when(bankAccountRepository.existsById(anyString())).thenReturn(false);
+        when(bankAccountRepository.existsIncludingClosed(anyString())).thenReturn(false);
         when(bankAccountRepository.save(any(BankAccount.class))).thenReturn(testAccount);
 
         BankAccountResponse response = accountService.createAccount(request, "usr-123abc");
@@ -118,8 +129,7 @@ class AccountServiceTest {
 
     @Test
     void listAccounts_ShouldReturnListOfAccounts_WhenAccountsExist() {
-        List<BankAccount> accounts = Arrays.asList(testAccount);
-        when(bankAccountRepository.findByUserId("usr-123abc")).thenReturn(accounts);
+        when(bankAccountRepository.findResponsesByUserId("usr-123abc")).thenReturn(List.of(testAccountResponse));
 
         ListBankAccountsResponse response = accountService.listAccounts("usr-123abc");
 
@@ -127,37 +137,68 @@ class AccountServiceTest {
         assertThat(response.accounts()).hasSize(1);
         assertThat(response.accounts().get(0).accountNumber()).isEqualTo("01234567");
 
-        verify(bankAccountRepository).findByUserId("usr-123abc");
+        verify(bankAccountRepository).findResponsesByUserId("usr-123abc");
+    }
+
+    @Test
+    void getAccountSummary_ShouldAggregateAcrossAccountTypes() {
+        when(bankAccountRepository.summarizeByUserId("usr-123abc")).thenReturn(List.of(
+                new AccountTypeSummary("personal", 2L, 15025L, Instant.parse("2024-01-02T00:00:00Z")),
+                new AccountTypeSummary("savings", 1L, 4975L, Instant.parse("2024-01-05T00:00:00Z"))
+        ));
+
+        AccountSummaryResponse response = accountService.getAccountSummary("usr-123abc");
+
+        assertThat(response.totalBalance()).isEqualByComparingTo(new BigDecimal("200.00"));
+        assertThat(response.accountCount()).isEqualTo(3);
+        assertThat(response.accountCountByType()).containsEntry("personal", 2L).containsEntry("savings", 1L);
+        assertThat(response.lastActivityTimestamp()).isEqualTo(Instant.parse("2024-01-05T00:00:00Z"));
+
+        verify(bankAccountRepository).summarizeByUserId("usr-123abc");
+        verify(bankAccountRepository, never()).findResponsesByUserId(anyString());
+    }
+
+    @Test
+    void getAccountSummary_ShouldReturnZeroTotals_WhenNoAccountsExist() {
+        when(bankAccountRepository.summarizeByUserId("usr-123abc")).thenReturn(List.of());
+
+        AccountSummaryResponse response = accountService.getAccountSummary("usr-123abc");
+
+        assertThat(response.totalBalance()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(response.accountCount()).isZero();
+        assertThat(response.accountCountByType()).isEmpty();
+        assertThat(response.lastActivityTimestamp()).isNull();
     }
 
     @Test
     void listAccounts_ShouldReturnEmptyList_WhenNoAccountsExist() {
-        when(bankAccountRepository.findByUserId("usr-123abc")).thenReturn(List.of());
+        when(bankAccountRepository.findResponsesByUserId("usr-123abc")).thenReturn(List.of());
 
         ListBankAccountsResponse response = accountService.listAccounts("usr-123abc");
 
         assertThat(response).isNotNull();
         assertThat(response.accounts()).isEmpty();
 
-        verify(bankAccountRepository).findByUserId("usr-123abc");
+        verify(bankAccountRepository).findResponsesByUserId("usr-123abc");
     }
 
     @Test
     void getAccountByAccountNumber_ShouldReturnAccount_WhenAccountExistsAndBelongsToUser() {
-        when(bankAccountRepository.findByAccountNumberAndUserId("01234567", "usr-123abc"))
-                .thenReturn(Optional.of(testAccount));
+        when(bankAccountRepository.findResponseByAccountNumberAndUserId("01234567", "usr-123abc"))
+                .thenReturn(Optional.of(testAccountResponse));
 
         BankAccountResponse response = accountService.getAccountByAccountNumber("01234567", "usr-123abc");
 
         assertThat(response).isNotNull();
         assertThat(response.accountNumber()).isEqualTo("01234567");
+        verify(bankAccountRepository, never()).findByAccountNumberAndUserId(anyString(), anyString());
 
-        verify(bankAccountRepository).findByAccountNumberAndUserId("01234567", "usr-123abc");
+        verify(bankAccountRepository).findResponseByAccountNumberAndUserId("01234567", "usr-123abc");
     }
 
     @Test
     void getAccountByAccountNumber_ShouldThrowForbidden_WhenAccountBelongsToDifferentUser() {
-        when(bankAccountRepository.findByAccountNumberAndUserId("01234567", "usr-123abc"))
+        when(bankAccountRepository.findResponseByAccountNumberAndUserId("01234567", "usr-123abc"))
                 .thenReturn(Optional.empty());
         when(bankAccountRepository.existsById("01234567")).thenReturn(true);
 
@@ -166,13 +207,13 @@ class AccountServiceTest {
                 .extracting("statusCode")
                 .isEqualTo(HttpStatus.FORBIDDEN);
 
-        verify(bankAccountRepository).findByAccountNumberAndUserId("01234567", "usr-123abc");
+        verify(bankAccountRepository).findResponseByAccountNumberAndUserId("01234567", "usr-123abc");
         verify(bankAccountRepository).existsById("01234567");
     }
 
     @Test
     void getAccountByAccountNumber_ShouldThrowNotFound_WhenAccountDoesNotExist() {
-        when(bankAccountRepository.findByAccountNumberAndUserId("01234567", "usr-123abc"))
+        when(bankAccountRepository.findResponseByAccountNumberAndUserId("01234567", "usr-123abc"))
                 .thenReturn(Optional.empty());
         when(bankAccountRepository.existsById("01234567")).thenReturn(false);
 
@@ -181,7 +222,7 @@ class AccountServiceTest {
                 .extracting("statusCode")
                 .isEqualTo(HttpStatus.NOT_FOUND);
 
-        verify(bankAccountRepository).findByAccountNumberAndUserId("01234567", "usr-123abc");
+        verify(bankAccountRepository).findResponseByAccountNumberAndUserId("01234567", "usr-123abc");
         verify(bankAccountRepository).existsById("01234567");
     }
 
@@ -217,15 +258,18 @@ class AccountServiceTest {
     }
 
     @Test
-    void deleteAccount_ShouldDeleteAccount_WhenAccountExistsAndBelongsToUser() {
+    void deleteAccount_ShouldMarkAccountClosed_WhenAccountExistsAndBelongsToUser() {
         when(bankAccountRepository.findByAccountNumberAndUserId("01234567", "usr-123abc"))
                 .thenReturn(Optional.of(testAccount));
-        doNothing().when(bankAccountRepository).delete(any(BankAccount.class));
 
         accountService.deleteAccount("01234567", "usr-123abc");
 
         verify(bankAccountRepository).findByAccountNumberAndUserId("01234567", "usr-123abc");
-        verify(bankAccountRepository).delete(testAccount);
+        verify(bankAccountRepository).save(testAccount);
+        verify(bankAccountRepository, never()).delete(any(BankAccount.class));
+        assertThat(testAccount.getStatus()).isEqualTo(AccountStatus.CLOSED);
+        assertThat(testAccount.getClosedTimestamp()).isNotNull();
+        verify(responseByteCache).invalidate(ResponseByteCache.accountsKey("usr-123abc"));
     }
 
     @Test
@@ -268,5 +312,36 @@ class AccountServiceTest {
 
         verify(bankAccountRepository).findByAccountNumberAndUserId("01234567", "usr-123abc");
     }
-}
 
+    @Test
+    void verifyAccountAccess_ShouldPass_WhenAccountBelongsToUser() {
+        when(bankAccountRepository.existsByAccountNumberAndUserId("01234567", "usr-123abc")).thenReturn(true);
+
+        accountService.verifyAccountAccess("01234567", "usr-123abc");
+
+        verify(bankAccountRepository, never()).existsById(anyString());
+        verify(bankAccountRepository, never()).findByAccountNumberAndUserId(anyString(), anyString());
+    }
+
+    @Test
+    void verifyAccountAccess_ShouldThrowForbidden_WhenAccountBelongsToDifferentUser() {
+        when(bankAccountRepository.existsByAccountNumberAndUserId("01234567", "usr-123abc")).thenReturn(false);
+        when(bankAccountRepository.existsById("01234567")).thenReturn(true);
+
+        assertThatThrownBy(() -> accountService.verifyAccountAccess("01234567", "usr-123abc"))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting("statusCode")
+                .isEqualTo(HttpStatus.FORBIDDEN);
+    }
+
+    @Test
+    void verifyAccountAccess_ShouldThrowNotFound_WhenAccountDoesNotExist() {
+        when(bankAccountRepository.existsByAccountNumberAndUserId("01234567", "usr-123abc")).thenReturn(false);
+        when(bankAccountRepository.existsById("01234567")).thenReturn(false);
+
+        assertThatThrownBy(() -> accountService.verifyAccountAccess("01234567", "usr-123abc"))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting("statusCode")
+                .isEqualTo(HttpStatus.NOT_FOUND);
+    }
+}
@@ -0,0 +1,69 @@
+package com.eaglebank.api.service;
+
+import com.eaglebank.api.domain.MonthlyRollup;
+import com.eaglebank.api.dto.insights.MonthlyInsight;
+import com.eaglebank.api.dto.insights.MonthlyInsightsResponse;
+import com.eaglebank.api.repository.MonthlyRollupRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InsightsServiceTest {
+
+    @Mock
+    private MonthlyRollupRepository monthlyRollupRepository;
+
+    @Mock
+    private AccountService accountService;
+
+    @InjectMocks
+    private InsightsService insightsService;
+
+    @Test
+    void getMonthlyInsights_ShouldMapRollupsToMonthlyTotals() {
+        when(monthlyRollupRepository.findByAccountNumberOrderByMonthStartDesc("01234567")).thenReturn(List.of(
+                new MonthlyRollup("01234567:2024-03", "01234567", LocalDate.of(2024, 3, 1),
+                        150000L, 2, 20050L, 3, Instant.now()),
+                new MonthlyRollup("01234567:2024-02", "01234567", LocalDate.of(2024, 2, 1),
+                        1000L, 1, 2500L, 1, Instant.now())));
+
+        MonthlyInsightsResponse response = insightsService.getMonthlyInsights("01234567", "usr-123abc");
+
+        assertThat(response.months()).extracting(MonthlyInsight::month).containsExactly("2024-03", "2024-02");
+        MonthlyInsight march = response.months().getFirst();
+        assertThat(march.deposits()).isEqualByComparingTo(new BigDecimal("1500.00"));
+        assertThat(march.depositCount()).isEqualTo(2);
+        assertThat(march.withdrawals()).isEqualByComparingTo(new BigDecimal("200.50"));
+        assertThat(march.withdrawalCount()).isEqualTo(3);
+        assertThat(march.netFlow()).isEqualByComparingTo(new BigDecimal("1299.50"));
+        assertThat(response.months().get(1).netFlow()).isEqualByComparingTo(new BigDecimal("-15.00"));
+        verify(accountService).verifyAccountAccess("01234567", "usr-123abc");
+    }
+
+    @Test
+    void getMonthlyInsights_ShouldThrowForbidden_WhenAccountBelongsToAnotherUser() {
+        doThrow(new ResponseStatusException(HttpStatus.FORBIDDEN, "Access denied"))
+                .when(accountService).verifyAccountAccess("01234567", "usr-123abc");
+
+        assertThatThrownBy(() -> insightsService.getMonthlyInsights("01234567", "usr-123abc"))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting("statusCode")
+                .isEqualTo(HttpStatus.FORBIDDEN);
+
+        verifyNoInteractions(monthlyRollupRepository);
+    }
+}
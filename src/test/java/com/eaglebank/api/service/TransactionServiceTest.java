@@ -1,33 +1,48 @@
 package com.eaglebank.api.service;
 
+import com.eaglebank.api.cache.ResponseByteCache;
 import com.eaglebank.api.domain.BankAccount;
 import com.eaglebank.api.domain.Transaction;
 import com.eaglebank.api.domain.User;
 import com.eaglebank.api.dto.transaction.CreateTransactionRequest;
 import com.eaglebank.api.dto.transaction.ListTransactionsResponse;
 import com.eaglebank.api.dto.transaction.TransactionResponse;
+import com.eaglebank.api.dto.transaction.TransactionSearchRequest;
+import com.eaglebank.api.enums.Currency;
+import com.eaglebank.api.enums.TransactionType;
+import com.eaglebank.api.fx.FxRateProvider;
+import com.eaglebank.api.ledger.EventSourcedLedger;
 import com.eaglebank.api.repository.BankAccountRepository;
+import com.eaglebank.api.repository.MonthlyRollupStore;
 import com.eaglebank.api.repository.TransactionRepository;
+import com.eaglebank.api.repository.TransactionSearchQuery;
 import com.eaglebank.api.repository.UserRepository;
+import com.eaglebank.api.util.EntityMapper;
+import com.eaglebank.api.util.TransactionCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
 import java.time.Instant;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,6 +60,21 @@ class TransactionServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ObjectProvider<EventSourcedLedger> eventSourcedLedgerProvider;
+
+    @Mock
+    private EventSourcedLedger eventSourcedLedger;
+
+    @Mock
+    private FxRateProvider fxRateProvider;
+
+    @Mock
+    private MonthlyRollupStore monthlyRollupStore;
+
+    @Mock
+    private ResponseByteCache responseByteCache;
+
     @InjectMocks
     private TransactionService transactionService;
 
@@ -60,13 +90,13 @@ class TransactionServiceTest {
 
         testAccount = new BankAccount();
         testAccount.setAccountNumber("01234567");
-        testAccount.setBalance(new BigDecimal("1000.00"));
+        testAccount.setBalance(100000L);
         testAccount.setCurrency("GBP");
         testAccount.setUser(testUser);
 
         testTransaction = new Transaction();
         testTransaction.setId("tan-123abc");
-        testTransaction.setAmount(new BigDecimal("100.00"));
+        testTransaction.setAmount(10000L);
         testTransaction.setCurrency("GBP");
         testTransaction.setType("deposit");
         testTransaction.setAccount(testAccount);
@@ -101,6 +131,11 @@ class TransactionServiceTest {
         verify(accountService).getAccountEntity("01234567", "usr-123abc");
         verify(bankAccountRepository).save(any(BankAccount.class));
         verify(transactionRepository).save(any(Transaction.class));
+        InOrder writes = inOrder(transactionRepository, monthlyRollupStore);
+        writes.verify(transactionRepository).flush();
+        writes.verify(monthlyRollupStore).add("01234567", testTransaction.getCreatedTimestamp(),
+                TransactionType.DEPOSIT, 10000L);
+        verify(responseByteCache).invalidate(ResponseByteCache.accountsKey("usr-123abc"));
     }
 
     @Test
@@ -129,7 +164,7 @@ class TransactionServiceTest {
 
     @Test
     void createTransaction_ShouldThrowException_WhenInsufficientFunds() {
-        testAccount.setBalance(new BigDecimal("50.00"));
+        testAccount.setBalance(5000L);
         CreateTransactionRequest request = new CreateTransactionRequest(
                 new BigDecimal("100.00"),
                 "GBP",
@@ -151,11 +186,125 @@ class TransactionServiceTest {
     }
 
     @Test
-    void createTransaction_ShouldThrowException_WhenInvalidCurrency() {
+    void createTransaction_ShouldThrowException_WhenDepositExceedsMaximumBalance() {
+        testAccount.setBalance(995000L);
         CreateTransactionRequest request = new CreateTransactionRequest(
                 new BigDecimal("100.00"),
+                "GBP",
+                "deposit",
+                "Test deposit"
+        );
+
+        when(accountService.getAccountEntity("01234567", "usr-123abc")).thenReturn(testAccount);
+        when(userRepository.findById("usr-123abc")).thenReturn(Optional.of(testUser));
+
+        assertThatThrownBy(() -> transactionService.createTransaction("01234567", request, "usr-123abc"))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting("statusCode")
+                .isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+
+        verify(bankAccountRepository, never()).save(any(BankAccount.class));
+        verify(transactionRepository, never()).save(any(Transaction.class));
+    }
+
+    @Test
+    void createTransaction_ShouldTakeBalanceFromLedger_WhenEventSourcedLedgerEnabled() {
+        TransactionService ledgerBackedService = ledgerBackedService();
+        CreateTransactionRequest request = new CreateTransactionRequest(
+                new BigDecimal("50.00"),
+                "GBP",
+                "withdrawal",
+                "Test withdrawal"
+        );
+
+        when(accountService.getAccountEntity("01234567", "usr-123abc")).thenReturn(testAccount);
+        when(userRepository.findById("usr-123abc")).thenReturn(Optional.of(testUser));
+        when(eventSourcedLedger.apply("01234567", 100000L, -5000L)).thenReturn(OptionalLong.of(95000L));
+        when(transactionRepository.existsById(anyString())).thenReturn(false);
+        when(bankAccountRepository.save(any(BankAccount.class))).thenReturn(testAccount);
+        when(transactionRepository.save(any(Transaction.class))).thenReturn(testTransaction);
+
+        ledgerBackedService.createTransaction("01234567", request, "usr-123abc");
+
+        assertThat(testAccount.getBalance()).isEqualTo(95000L);
+        verify(eventSourcedLedger).apply("01234567", 100000L, -5000L);
+    }
+
+    @Test
+    void createTransaction_ShouldThrowException_WhenLedgerRejectsWithdrawal() {
+        TransactionService ledgerBackedService = ledgerBackedService();
+        CreateTransactionRequest request = new CreateTransactionRequest(
+                new BigDecimal("50.00"),
+                "GBP",
+                "withdrawal",
+                "Test withdrawal"
+        );
+
+        when(accountService.getAccountEntity("01234567", "usr-123abc")).thenReturn(testAccount);
+        when(userRepository.findById("usr-123abc")).thenReturn(Optional.of(testUser));
+        when(eventSourcedLedger.apply(eq("01234567"), anyLong(), eq(-5000L))).thenReturn(OptionalLong.empty());
+
+        assertThatThrownBy(() -> ledgerBackedService.createTransaction("01234567", request, "usr-123abc"))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting("statusCode")
+                .isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+
+        verify(bankAccountRepository, never()).save(any(BankAccount.class));
+    }
+
+    @Test
+    void createTransaction_ShouldConvertToAccountCurrency_WhenForeignCurrency() {
+        CreateTransactionRequest request = new CreateTransactionRequest(
+                new BigDecimal("127.00"),
                 "USD",
                 "deposit",
+                "Dollar deposit"
+        );
+
+        when(accountService.getAccountEntity("01234567", "usr-123abc")).thenReturn(testAccount);
+        when(userRepository.findById("usr-123abc")).thenReturn(Optional.of(testUser));
+        when(fxRateProvider.convertMinor(12700L, Currency.USD, Currency.GBP)).thenReturn(10000L);
+        when(transactionRepository.existsById(anyString())).thenReturn(false);
+        when(bankAccountRepository.save(any(BankAccount.class))).thenReturn(testAccount);
+        when(transactionRepository.save(any(Transaction.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        TransactionResponse response = transactionService.createTransaction("01234567", request, "usr-123abc");
+
+        assertThat(response.amount()).isEqualByComparingTo(new BigDecimal("100.00"));
+        assertThat(response.currency()).isEqualTo("GBP");
+        assertThat(testAccount.getBalance()).isEqualTo(110000L);
+        verify(transactionRepository).save(argThat(transaction ->
+                "USD".equals(transaction.getOriginalCurrency())
+                        && transaction.getOriginalAmount() == 12700L));
+    }
+
+    @Test
+    void createTransaction_ShouldThrowUnprocessable_WhenNoExchangeRate() {
+        CreateTransactionRequest request = new CreateTransactionRequest(
+                new BigDecimal("10.00"),
+                "NOK",
+                "deposit",
+                null
+        );
+
+        when(accountService.getAccountEntity("01234567", "usr-123abc")).thenReturn(testAccount);
+        when(userRepository.findById("usr-123abc")).thenReturn(Optional.of(testUser));
+        when(fxRateProvider.convertMinor(1000L, Currency.NOK, Currency.GBP)).thenReturn(-1L);
+
+        assertThatThrownBy(() -> transactionService.createTransaction("01234567", request, "usr-123abc"))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting("statusCode")
+                .isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+
+        verify(bankAccountRepository, never()).save(any(BankAccount.class));
+    }
+
+    @Test
+    void createTransaction_ShouldThrowException_WhenInvalidCurrency() {
+        CreateTransactionRequest request = new CreateTransactionRequest(
+                new BigDecimal("100.00"),
+                "XYZ",
+                "deposit",
                 "Test deposit"
         );
 
@@ -194,9 +343,8 @@ class TransactionServiceTest {
 
     @Test
     void listTransactions_ShouldReturnListOfTransactions_WhenTransactionsExist() {
-        List<Transaction> transactions = Arrays.asList(testTransaction);
-        when(accountService.getAccountEntity("01234567", "usr-123abc")).thenReturn(testAccount);
-        when(transactionRepository.findByAccountAccountNumberOrderByCreatedTimestampDesc("01234567")).thenReturn(transactions);
+        when(transactionRepository.findResponsesByAccountNumber("01234567"))
+                .thenReturn(List.of(EntityMapper.toTransactionResponse(testTransaction)));
 
         ListTransactionsResponse response = transactionService.listTransactions("01234567", "usr-123abc");
 
@@ -204,29 +352,27 @@ class TransactionServiceTest {
         assertThat(response.transactions()).hasSize(1);
         assertThat(response.transactions().get(0).id()).isEqualTo("tan-123abc");
 
-        verify(accountService).getAccountEntity("01234567", "usr-123abc");
-        verify(transactionRepository).findByAccountAccountNumberOrderByCreatedTimestampDesc("01234567");
+        verify(accountService).verifyAccountAccess("01234567", "usr-123abc");
+        verify(transactionRepository).findResponsesByAccountNumber("01234567");
     }
 
     @Test
     void listTransactions_ShouldReturnEmptyList_WhenNoTransactionsExist() {
-        when(accountService.getAccountEntity("01234567", "usr-123abc")).thenReturn(testAccount);
-        when(transactionRepository.findByAccountAccountNumberOrderByCreatedTimestampDesc("01234567")).thenReturn(List.of());
+        when(transactionRepository.findResponsesByAccountNumber("01234567")).thenReturn(List.of());
 
         ListTransactionsResponse response = transactionService.listTransactions("01234567", "usr-123abc");
 
         assertThat(response).isNotNull();
         assertThat(response.transactions()).isEmpty();
 
-        verify(accountService).getAccountEntity("01234567", "usr-123abc");
-        verify(transactionRepository).findByAccountAccountNumberOrderByCreatedTimestampDesc("01234567");
+        verify(accountService).verifyAccountAccess("01234567", "usr-123abc");
+        verify(transactionRepository).findResponsesByAccountNumber("01234567");
     }
 
     @Test
     void getTransactionById_ShouldReturnTransaction_WhenTransactionExists() {
-        when(accountService.getAccountEntity("01234567", "usr-123abc")).thenReturn(testAccount);
-        when(transactionRepository.findByIdAndAccountAccountNumber("tan-123abc", "01234567"))
-                .thenReturn(Optional.of(testTransaction));
+        when(transactionRepository.findResponseByIdAndAccountNumber("tan-123abc", "01234567"))
+                .thenReturn(Optional.of(EntityMapper.toTransactionResponse(testTransaction)));
 
         TransactionResponse response = transactionService.getTransactionById("01234567", "tan-123abc", "usr-123abc");
 
@@ -234,14 +380,13 @@ class TransactionServiceTest {
         assertThat(response.id()).isEqualTo("tan-123abc");
         assertThat(response.amount()).isEqualByComparingTo(new BigDecimal("100.00"));
 
-        verify(accountService).getAccountEntity("01234567", "usr-123abc");
-        verify(transactionRepository).findByIdAndAccountAccountNumber("tan-123abc", "01234567");
+        verify(accountService).verifyAccountAccess("01234567", "usr-123abc");
+        verify(transactionRepository).findResponseByIdAndAccountNumber("tan-123abc", "01234567");
     }
 
     @Test
     void getTransactionById_ShouldThrowNotFound_WhenTransactionDoesNotExist() {
-        when(accountService.getAccountEntity("01234567", "usr-123abc")).thenReturn(testAccount);
-        when(transactionRepository.findByIdAndAccountAccountNumber("tan-123abc", "01234567"))
+        when(transactionRepository.findResponseByIdAndAccountNumber("tan-123abc", "01234567"))
                 .thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> transactionService.getTransactionById("01234567", "tan-123abc", "usr-123abc"))
@@ -249,8 +394,86 @@ class TransactionServiceTest {
                 .extracting("statusCode")
                 .isEqualTo(HttpStatus.NOT_FOUND);
 
-        verify(accountService).getAccountEntity("01234567", "usr-123abc");
-        verify(transactionRepository).findByIdAndAccountAccountNumber("tan-123abc", "01234567");
+        verify(accountService).verifyAccountAccess("01234567", "usr-123abc");
+        verify(transactionRepository).findResponseByIdAndAccountNumber("tan-123abc", "01234567");
     }
-}
 
+    private TransactionService ledgerBackedService() {
+        when(eventSourcedLedgerProvider.getIfAvailable()).thenReturn(eventSourcedLedger);
+        return new TransactionService(transactionRepository, accountService, bankAccountRepository,
+                userRepository, eventSourcedLedgerProvider, fxRateProvider, monthlyRollupStore,
+                responseByteCache);
+    }
+
+    @Test
+    void searchTransactions_ShouldConvertFiltersAndFetchOneExtraRow() {
+        when(transactionRepository.search(eq("01234567"), any(TransactionSearchQuery.class))).thenReturn(List.of());
+        TransactionSearchRequest request = new TransactionSearchRequest("Deposit", new BigDecimal("10.5"),
+                new BigDecimal("99.99"), Instant.parse("2024-01-01T00:00:00Z"), Instant.parse("2024-02-01T00:00:00Z"),
+                "  rent ", 20, null);
+
+        ListTransactionsResponse response = transactionService.searchTransactions("01234567", request, "usr-123abc");
+
+        ArgumentCaptor<TransactionSearchQuery> query = ArgumentCaptor.forClass(TransactionSearchQuery.class);
+        verify(accountService).verifyAccountAccess("01234567", "usr-123abc");
+        verify(transactionRepository).search(eq("01234567"), query.capture());
+        assertThat(query.getValue()).isEqualTo(new TransactionSearchQuery("deposit", 1050L, 9999L,
+                Instant.parse("2024-01-01T00:00:00Z"), Instant.parse("2024-02-01T00:00:00Z"), "rent", null, null, 21));
+        assertThat(response.transactions()).isEmpty();
+        assertThat(response.nextCursor()).isNull();
+    }
+
+    @Test
+    void searchTransactions_ShouldReturnNextCursor_WhenMoreRowsThanLimit() {
+        Instant newest = Instant.parse("2024-03-03T00:00:00Z");
+        Instant middle = Instant.parse("2024-03-02T00:00:00Z");
+        when(transactionRepository.search(eq("01234567"), any(TransactionSearchQuery.class))).thenReturn(List.of(
+                new TransactionResponse("tan-3", 300L, "GBP", "deposit", null, "usr-123abc", newest),
+                new TransactionResponse("tan-2", 200L, "GBP", "deposit", null, "usr-123abc", middle),
+                new TransactionResponse("tan-1", 100L, "GBP", "deposit", null, "usr-123abc",
+                        Instant.parse("2024-03-01T00:00:00Z"))));
+
+        ListTransactionsResponse response = transactionService.searchTransactions("01234567",
+                new TransactionSearchRequest(null, null, null, null, null, null, 2, null), "usr-123abc");
+
+        assertThat(response.transactions()).extracting(TransactionResponse::id).containsExactly("tan-3", "tan-2");
+        assertThat(TransactionCursor.decode(response.nextCursor())).isEqualTo(new TransactionCursor(middle, "tan-2"));
+    }
+
+    @Test
+    void searchTransactions_ShouldContinueFromCursor() {
+        Instant created = Instant.parse("2024-03-02T00:00:00Z");
+        String cursor = new TransactionCursor(created, "tan-2").encode();
+        when(transactionRepository.search(eq("01234567"), any(TransactionSearchQuery.class))).thenReturn(List.of());
+
+        transactionService.searchTransactions("01234567",
+                new TransactionSearchRequest(null, null, null, null, null, null, null, cursor), "usr-123abc");
+
+        ArgumentCaptor<TransactionSearchQuery> query = ArgumentCaptor.forClass(TransactionSearchQuery.class);
+        verify(transactionRepository).search(eq("01234567"), query.capture());
+        assertThat(query.getValue().afterCreated()).isEqualTo(created);
+        assertThat(query.getValue().afterId()).isEqualTo("tan-2");
+        assertThat(query.getValue().limit()).isEqualTo(51);
+    }
+
+    @Test
+    void searchTransactions_ShouldRejectInvalidFilters() {
+        List<TransactionSearchRequest> invalid = List.of(
+                new TransactionSearchRequest("transfer", null, null, null, null, null, null, null),
+                new TransactionSearchRequest(null, new BigDecimal("5.00"), new BigDecimal("1.00"), null, null, null, null, null),
+                new TransactionSearchRequest(null, new BigDecimal("-1"), null, null, null, null, null, null),
+                new TransactionSearchRequest(null, null, null, Instant.parse("2024-02-01T00:00:00Z"),
+                        Instant.parse("2024-01-01T00:00:00Z"), null, null, null),
+                new TransactionSearchRequest(null, null, null, null, null, null, 0, null),
+                new TransactionSearchRequest(null, null, null, null, null, null, 501, null),
+                new TransactionSearchRequest(null, null, null, null, null, null, null, "not-a-cursor"));
+
+        for (TransactionSearchRequest request : invalid) {
+            assertThatThrownBy(() -> transactionService.searchTransactions("01234567", request, "usr-123abc"))
+                    .isInstanceOf(ResponseStatusException.class)
+                    .extracting("statusCode")
+                    .isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+        verifyNoInteractions(transactionRepository);
+    }
+}
@@ -0,0 +1,144 @@
+package com.eaglebank.api.service;
+
+import com.eaglebank.api.domain.Address;
+import com.eaglebank.api.domain.BankAccount;
+import com.eaglebank.api.domain.User;
+import com.eaglebank.api.dto.transfer.CreateTransferRequest;
+import com.eaglebank.api.repository.BankAccountRepository;
+import com.eaglebank.api.repository.TransactionRepository;
+import com.eaglebank.api.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives crossing transfers between the same pair of accounts from many threads and reports throughput.
+ * Without ordered locking this workload deadlocks within a few iterations.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:eaglebank-transfer-db;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=update"
+})
+class TransferServiceConcurrencyTest {
+
+    private static final Logger log = LoggerFactory.getLogger(TransferServiceConcurrencyTest.class);
+
+    private static final int THREADS = 8;
+    private static final int TRANSFERS_PER_THREAD = 50;
+    private static final long OPENING_BALANCE = 500_000L;
+
+    @Autowired
+    private TransferService transferService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BankAccountRepository bankAccountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setId("usr-transfer");
+        user.setName("Transfer Test");
+        user.setAddress(new Address("1 High Street", null, null, "London", "Greater London", "E1 1AA"));
+        user.setPhoneNumber("+447700900000");
+        user.setEmail("transfer@example.com");
+        user.setPassword("not-used");
+        userRepository.save(user);
+
+        bankAccountRepository.save(account("01000001", user));
+        bankAccountRepository.save(account("01000002", user));
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionRepository.deleteAll();
+        bankAccountRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void createTransfer_ShouldConserveFundsWithoutDeadlock_WhenTransfersCross() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger completed = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            boolean forward = t % 2 == 0;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < TRANSFERS_PER_THREAD; i++) {
+                    CreateTransferRequest request = forward
+                            ? new CreateTransferRequest("01000001", "01000002", new BigDecimal("1.25"), "GBP", null)
+                            : new CreateTransferRequest("01000002", "01000001", new BigDecimal("1.25"), "GBP", null);
+                    try {
+                        transferService.createTransfer(request, "usr-transfer");
+                        completed.incrementAndGet();
+                    } catch (ResponseStatusException e) {
+                        // Insufficient funds is a legitimate outcome; anything else fails the future.
+                        if (e.getStatusCode().value() != 422) {
+                            throw e;
+                        }
+                    }
+                }
+                return null;
+            }));
+        }
+
+        long startNanos = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        executor.shutdown();
+
+        long first = bankAccountRepository.findById("01000001").orElseThrow().getBalance();
+        long second = bankAccountRepository.findById("01000002").orElseThrow().getBalance();
+
+        assertThat(completed.get()).isEqualTo(THREADS * TRANSFERS_PER_THREAD);
+        assertThat(first + second).isEqualTo(2 * OPENING_BALANCE);
+        assertThat(transactionRepository.count()).isEqualTo(2L * completed.get());
+
+        log.info("Completed {} crossing transfers on {} threads in {} ms ({} transfers/s)",
+                completed.get(), THREADS, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                Math.round(completed.get() / (elapsedNanos / 1_000_000_000.0)));
+    }
+
+    private static BankAccount account(String accountNumber, User user) {
+        BankAccount account = new BankAccount();
+        account.setAccountNumber(accountNumber);
+        account.setSortCode("10-10-10");
+        account.setName("Transfer " + accountNumber);
+        account.setAccountType("personal");
+        account.setBalance(OPENING_BALANCE);
+        account.setCurrency("GBP");
+        account.setUser(user);
+        return account;
+    }
+}
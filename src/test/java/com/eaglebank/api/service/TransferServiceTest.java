@@ -0,0 +1,197 @@
+package com.eaglebank.api.service;
+
+import com.eaglebank.api.cache.ResponseByteCache;
+import com.eaglebank.api.domain.BankAccount;
+import com.eaglebank.api.domain.Transaction;
+import com.eaglebank.api.domain.User;
+import com.eaglebank.api.dto.transfer.CreateTransferRequest;
+import com.eaglebank.api.dto.transfer.TransferResponse;
+import com.eaglebank.api.enums.TransactionType;
+import com.eaglebank.api.fx.FxRateProvider;
+import com.eaglebank.api.ledger.EventSourcedLedger;
+import com.eaglebank.api.repository.BankAccountRepository;
+import com.eaglebank.api.repository.MonthlyRollupStore;
+import com.eaglebank.api.repository.TransactionRepository;
+import com.eaglebank.api.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransferServiceTest {
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private BankAccountRepository bankAccountRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ObjectProvider<EventSourcedLedger> eventSourcedLedgerProvider;
+
+    @Mock
+    private FxRateProvider fxRateProvider;
+
+    @Mock
+    private MonthlyRollupStore monthlyRollupStore;
+
+    @Mock
+    private ResponseByteCache responseByteCache;
+
+    @InjectMocks
+    private TransferService transferService;
+
+    private User testUser;
+    private BankAccount lowAccount;
+    private BankAccount highAccount;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User();
+        testUser.setId("usr-123abc");
+
+        User otherUser = new User();
+        otherUser.setId("usr-456def");
+
+        lowAccount = new BankAccount();
+        lowAccount.setAccountNumber("01000001");
+        lowAccount.setBalance(10000L);
+        lowAccount.setCurrency("GBP");
+        lowAccount.setUser(testUser);
+
+        highAccount = new BankAccount();
+        highAccount.setAccountNumber("01999999");
+        highAccount.setBalance(5000L);
+        highAccount.setCurrency("GBP");
+        highAccount.setUser(otherUser);
+    }
+
+    @Test
+    void createTransfer_ShouldMoveFundsAndRecordPairedTransactions() {
+        CreateTransferRequest request = new CreateTransferRequest("01000001", "01999999",
+                new BigDecimal("30.00"), "GBP", "Rent");
+
+        stubAccountsAndUser();
+        when(transactionRepository.existsById(anyString())).thenReturn(false);
+        when(transactionRepository.save(any(Transaction.class))).thenAnswer(invocation -> {
+            Transaction transaction = invocation.getArgument(0);
+            transaction.setCreatedTimestamp(Instant.now());
+            return transaction;
+        });
+
+        TransferResponse response = transferService.createTransfer(request, "usr-123abc");
+
+        assertThat(lowAccount.getBalance()).isEqualTo(7000L);
+        assertThat(highAccount.getBalance()).isEqualTo(8000L);
+        assertThat(response.debit().type()).isEqualTo("withdrawal");
+        assertThat(response.credit().type()).isEqualTo("deposit");
+        assertThat(response.debit().reference()).isEqualTo("Rent");
+        verify(transactionRepository, times(2)).save(any(Transaction.class));
+        verify(monthlyRollupStore).add(eq("01000001"), any(Instant.class), eq(TransactionType.WITHDRAWAL), eq(3000L));
+        verify(monthlyRollupStore).add(eq("01999999"), any(Instant.class), eq(TransactionType.DEPOSIT), eq(3000L));
+        verify(responseByteCache).invalidate(ResponseByteCache.accountsKey("usr-123abc"));
+        verify(responseByteCache).invalidate(ResponseByteCache.accountsKey("usr-456def"));
+    }
+
+    @Test
+    void createTransfer_ShouldLockAccountsInAccountNumberOrder_WhenSourceSortsLast() {
+        highAccount.setUser(testUser);
+        CreateTransferRequest request = new CreateTransferRequest("01999999", "01000001",
+                new BigDecimal("10.00"), "GBP", null);
+
+        stubAccountsAndUser();
+        when(transactionRepository.existsById(anyString())).thenReturn(false);
+        when(transactionRepository.save(any(Transaction.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        transferService.createTransfer(request, "usr-123abc");
+
+        InOrder lockOrder = inOrder(bankAccountRepository);
+        lockOrder.verify(bankAccountRepository).findByAccountNumberForUpdate("01000001");
+        lockOrder.verify(bankAccountRepository).findByAccountNumberForUpdate("01999999");
+    }
+
+    @Test
+    void createTransfer_ShouldThrowForbidden_WhenSourceBelongsToAnotherUser() {
+        CreateTransferRequest request = new CreateTransferRequest("01999999", "01000001",
+                new BigDecimal("10.00"), "GBP", null);
+
+        stubAccountsAndUser();
+
+        assertThatThrownBy(() -> transferService.createTransfer(request, "usr-123abc"))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting("statusCode")
+                .isEqualTo(HttpStatus.FORBIDDEN);
+
+        verify(bankAccountRepository, never()).save(any(BankAccount.class));
+    }
+
+    @Test
+    void createTransfer_ShouldThrowUnprocessable_WhenInsufficientFunds() {
+        CreateTransferRequest request = new CreateTransferRequest("01000001", "01999999",
+                new BigDecimal("100.01"), "GBP", null);
+
+        stubAccountsAndUser();
+
+        assertThatThrownBy(() -> transferService.createTransfer(request, "usr-123abc"))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting("statusCode")
+                .isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+
+        verify(transactionRepository, never()).save(any(Transaction.class));
+    }
+
+    @Test
+    void createTransfer_ShouldThrowBadRequest_WhenAccountsAreTheSame() {
+        CreateTransferRequest request = new CreateTransferRequest("01000001", "01000001",
+                new BigDecimal("10.00"), "GBP", null);
+
+        assertThatThrownBy(() -> transferService.createTransfer(request, "usr-123abc"))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting("statusCode")
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+
+        verify(bankAccountRepository, never()).findByAccountNumberForUpdate(anyString());
+    }
+
+    @Test
+    void createTransfer_ShouldThrowNotFound_WhenDestinationDoesNotExist() {
+        CreateTransferRequest request = new CreateTransferRequest("01000001", "01999999",
+                new BigDecimal("10.00"), "GBP", null);
+
+        when(userRepository.findById("usr-123abc")).thenReturn(Optional.of(testUser));
+        when(bankAccountRepository.findByAccountNumberForUpdate("01000001")).thenReturn(Optional.of(lowAccount));
+        when(bankAccountRepository.findByAccountNumberForUpdate("01999999")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> transferService.createTransfer(request, "usr-123abc"))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting("statusCode")
+                .isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    private void stubAccountsAndUser() {
+        when(userRepository.findById("usr-123abc")).thenReturn(Optional.of(testUser));
+        when(bankAccountRepository.findByAccountNumberForUpdate("01000001")).thenReturn(Optional.of(lowAccount));
+        when(bankAccountRepository.findByAccountNumberForUpdate("01999999")).thenReturn(Optional.of(highAccount));
+    }
+}
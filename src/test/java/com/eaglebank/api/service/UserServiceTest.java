@@ -1,5 +1,6 @@
 package com.eaglebank.api.service;
 
+import com.eaglebank.api.cache.ResponseByteCache;
 import com.eaglebank.api.domain.Address;
 import com.eaglebank.api.domain.User;
 import com.eaglebank.api.dto.user.AddressDto;
@@ -39,12 +40,19 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @Mock
+    private ResponseByteCache responseByteCache;
+
     @InjectMocks
     private UserService userService;
 
     private User testUser;
     private Address testAddress;
     private AddressDto testAddressDto;
+    private UserResponse testUserResponse;
 
     @BeforeEach
     void setUp() {
@@ -60,6 +68,10 @@ class UserServiceTest {
         testUser.setPassword("encodedPassword");
         testUser.setCreatedTimestamp(Instant.now());
         testUser.setUpdatedTimestamp(Instant.now());
+
+        testUserResponse = new UserResponse("usr-123abc", "Test User", "123 Main St", "Apt 4", null, "London",
+                "Greater London", "SW1A 1AA", "+441234567890", "test@example.com",
+                testUser.getCreatedTimestamp(), testUser.getUpdatedTimestamp());
     }
 
     @Test
@@ -111,20 +123,21 @@ class UserServiceTest {
 
     @Test
     void getUserById_ShouldReturnUserResponse_WhenValidUserId() {
-        when(userRepository.findById("usr-123abc")).thenReturn(Optional.of(testUser));
+        when(userRepository.findResponseById("usr-123abc")).thenReturn(Optional.of(testUserResponse));
 
         UserResponse response = userService.getUserById("usr-123abc", "usr-123abc");
 
         assertThat(response).isNotNull();
         assertThat(response.id()).isEqualTo("usr-123abc");
         assertThat(response.name()).isEqualTo("Test User");
+        assertThat(response.address()).isEqualTo(testAddressDto);
         
-        verify(userRepository).findById("usr-123abc");
+        verify(userRepository).findResponseById("usr-123abc");
     }
 
     @Test
     void getUserById_ShouldThrowForbidden_WhenUserIdDoesNotMatch() {
-        when(userRepository.findById("usr-123abc")).thenReturn(Optional.of(testUser));
+        when(userRepository.findResponseById("usr-123abc")).thenReturn(Optional.of(testUserResponse));
         assertThatThrownBy(() -> userService.getUserById("usr-123abc", "usr-different"))
                 .isInstanceOf(ResponseStatusException.class)
                 .extracting("statusCode")
@@ -133,14 +146,14 @@ class UserServiceTest {
 
     @Test
     void getUserById_ShouldThrowNotFound_WhenUserDoesNotExist() {
-        when(userRepository.findById("usr-123abc")).thenReturn(Optional.empty());
+        when(userRepository.findResponseById("usr-123abc")).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> userService.getUserById("usr-123abc", "usr-123abc"))
                 .isInstanceOf(ResponseStatusException.class)
                 .extracting("statusCode")
                 .isEqualTo(HttpStatus.NOT_FOUND);
 
-        verify(userRepository).findById("usr-123abc");
+        verify(userRepository).findResponseById("usr-123abc");
     }
 
     @Test
@@ -160,6 +173,7 @@ class UserServiceTest {
         assertThat(response).isNotNull();
         verify(userRepository).findById("usr-123abc");
         verify(userRepository).save(any(User.class));
+        verify(responseByteCache).invalidate(ResponseByteCache.userKey("usr-123abc"));
     }
 
     @Test
@@ -227,12 +241,13 @@ class UserServiceTest {
         verify(userRepository).findById("usr-123abc");
         verify(bankAccountRepository).existsByUserId("usr-123abc");
         verify(userRepository).delete(testUser);
+        verify(tokenRevocationService).revokeUser("usr-123abc");
     }
 
     @Test
     void deleteUser_ShouldThrowConflict_WhenBankAccountsExist() {
         when(userRepository.findById("usr-123abc")).thenReturn(Optional.of(testUser));
-        when(bankAccountRepository.existsByUserId("usr-123abc")).thenReturn(true);
+        when(bankAccountRepository.existsOpenByUserId("usr-123abc")).thenReturn(true);
 
         assertThatThrownBy(() -> userService.deleteUser("usr-123abc", "usr-123abc"))
                 .isInstanceOf(ResponseStatusException.class)
@@ -240,8 +255,25 @@ class UserServiceTest {
                 .isEqualTo(HttpStatus.CONFLICT);
 
         verify(userRepository).findById("usr-123abc");
-        verify(bankAccountRepository).existsByUserId("usr-123abc");
+        verify(bankAccountRepository).existsOpenByUserId("usr-123abc");
+        verify(userRepository, never()).delete(any(User.class));
+        verify(tokenRevocationService, never()).revokeUser(anyString());
+    }
+
+    @Test
+    void deleteUser_ShouldAskToRetry_WhenOnlyClosedAccountsAwaitPurge() {
+        when(userRepository.findById("usr-123abc")).thenReturn(Optional.of(testUser));
+        when(bankAccountRepository.existsOpenByUserId("usr-123abc")).thenReturn(false);
+        when(bankAccountRepository.existsByUserId("usr-123abc")).thenReturn(true);
+
+        assertThatThrownBy(() -> userService.deleteUser("usr-123abc", "usr-123abc"))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("still being purged")
+                .extracting("statusCode")
+                .isEqualTo(HttpStatus.CONFLICT);
+
         verify(userRepository, never()).delete(any(User.class));
+        verify(tokenRevocationService, never()).revokeUser(anyString());
     }
 
     @Test
@@ -252,6 +284,7 @@ class UserServiceTest {
                 .extracting("statusCode")
                 .isEqualTo(HttpStatus.FORBIDDEN);
 
+        verify(bankAccountRepository, never()).existsOpenByUserId(anyString());
         verify(bankAccountRepository, never()).existsByUserId(anyString());
     }
 
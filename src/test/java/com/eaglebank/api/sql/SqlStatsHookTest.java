@@ -0,0 +1,112 @@
+package com.eaglebank.api.sql;
+
+import com.eaglebank.api.jdbc.InstrumentedDataSource;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SqlStatsHookTest {
+
+    private InstrumentedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:sql-stats-test;DB_CLOSE_DELAY=-1");
+        dataSource = new InstrumentedDataSource(h2, List.of(new SqlStatsHook()));
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("create table if not exists items (id int primary key, owner_id int)");
+            statement.execute("delete from items");
+            statement.execute("insert into items values (1, 10), (2, 20), (3, 30)");
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        SqlRequestStats.end();
+    }
+
+    @Test
+    void executeQuery_ShouldCountStatementsAndFetchedRows_WhenScopeIsOpen() throws SQLException {
+        SqlRequestStats stats = SqlRequestStats.begin(10, false);
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("select id from items where id > ?")) {
+            statement.setInt(1, 1);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    // drain
+                }
+            }
+        }
+
+        assertThat(stats.statements()).isEqualTo(1);
+        assertThat(stats.rows()).isEqualTo(2);
+        assertThat(stats.elapsedNanos()).isPositive();
+    }
+
+    @Test
+    void executeUpdate_ShouldCountAffectedRows() throws SQLException {
+        SqlRequestStats stats = SqlRequestStats.begin(10, false);
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("update items set owner_id = ?")) {
+            statement.setInt(1, 99);
+            statement.executeUpdate();
+        }
+
+        assertThat(stats.statements()).isEqualTo(1);
+        assertThat(stats.rows()).isEqualTo(3);
+    }
+
+    @Test
+    void execute_ShouldReportRepeatedShape_WhenSameStatementRunsPerRow() throws SQLException {
+        SqlRequestStats stats = SqlRequestStats.begin(2, false);
+
+        runPerRowLookups(3);
+
+        assertThat(stats.statements()).isEqualTo(3);
+        assertThat(stats.repeatedShape()).isEqualTo("select owner_id from items where id = ?");
+        assertThat(stats.repeatedCount()).isEqualTo(3);
+    }
+
+    @Test
+    void execute_ShouldFail_WhenThresholdExceededInFailMode() {
+        SqlRequestStats.begin(2, true);
+
+        assertThatThrownBy(() -> runPerRowLookups(3))
+                .isInstanceOf(NPlusOneQueryException.class)
+                .hasMessageContaining("3 times");
+    }
+
+    @Test
+    void execute_ShouldNotRecord_WhenNoScopeIsOpen() throws SQLException {
+        runPerRowLookups(3);
+
+        assertThat(SqlRequestStats.current()).isNull();
+    }
+
+    private void runPerRowLookups(int rows) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            for (int id = 1; id <= rows; id++) {
+                try (PreparedStatement statement = connection.prepareStatement("select owner_id from items where id = ?")) {
+                    statement.setInt(1, id);
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        resultSet.next();
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.eaglebank.api.tracing;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OtlpFileExporterTest {
+
+    @TempDir
+    Path directory;
+
+    @AfterEach
+    void tearDown() {
+        RequestTrace.end();
+    }
+
+    @Test
+    void export_ShouldWriteOneOtlpJsonRequestPerTrace() throws Exception {
+        Path file = directory.resolve("traces/otlp.jsonl");
+        OtlpFileExporter exporter = new OtlpFileExporter(file, 16, "Eagle Bank API");
+        exporter.export(trace(500));
+        exporter.export(trace(200));
+        exporter.close();
+
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(2);
+
+        JsonNode request = new ObjectMapper().readTree(lines.get(0));
+        JsonNode resourceSpans = request.path("resourceSpans").get(0);
+        assertThat(resourceSpans.path("resource").path("attributes").get(0).path("value").path("stringValue").asText())
+                .isEqualTo("Eagle Bank API");
+        JsonNode spans = resourceSpans.path("scopeSpans").get(0).path("spans");
+        assertThat(spans).hasSize(2);
+
+        JsonNode root = spans.get(0);
+        JsonNode jdbc = spans.get(1);
+        assertThat(root.path("traceId").asText()).hasSize(32);
+        assertThat(root.path("spanId").asText()).hasSize(16);
+        assertThat(root.has("parentSpanId")).isFalse();
+        assertThat(root.path("name").asText()).isEqualTo("POST /v1/accounts");
+        assertThat(root.path("kind").asInt()).isEqualTo(2);
+        assertThat(root.path("status").path("code").asInt()).isEqualTo(2);
+        assertThat(jdbc.path("parentSpanId").asText()).isEqualTo(root.path("spanId").asText());
+        assertThat(jdbc.path("kind").asInt()).isEqualTo(3);
+        assertThat(Long.parseLong(jdbc.path("startTimeUnixNano").asText()))
+                .isGreaterThanOrEqualTo(Long.parseLong(root.path("startTimeUnixNano").asText()));
+        assertThat(exporter.droppedCount()).isZero();
+    }
+
+    private static CompletedTrace trace(int status) {
+        RequestTrace trace = RequestTrace.begin();
+        int root = RequestTrace.enter(SpanLayer.HTTP, "POST");
+        RequestTrace.exit(RequestTrace.enter(SpanLayer.JDBC, "insert into bank_accounts"));
+        RequestTrace.exit(root);
+        RequestTrace.end();
+        return trace.complete("POST", "/v1/accounts", status);
+    }
+}
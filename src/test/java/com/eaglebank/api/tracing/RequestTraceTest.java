@@ -0,0 +1,102 @@
+package com.eaglebank.api.tracing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestTraceTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestTrace.end();
+    }
+
+    @Test
+    void enter_ShouldDoNothing_WhenNoTraceIsOpen() {
+        int span = RequestTrace.enter(SpanLayer.SERVICE, "UserService.getUser");
+
+        RequestTrace.exit(span);
+
+        assertThat(span).isEqualTo(-1);
+        assertThat(RequestTrace.currentLayer()).isNull();
+    }
+
+    @Test
+    void complete_ShouldNestSpansAndChargeOwnTimeToEachLayer() throws InterruptedException {
+        RequestTrace trace = RequestTrace.begin();
+        int root = RequestTrace.enter(SpanLayer.HTTP, "GET");
+        int service = RequestTrace.enter(SpanLayer.SERVICE, "AccountService.getAccount");
+        int jdbc = RequestTrace.enter(SpanLayer.JDBC, "select * from bank_accounts");
+        Thread.sleep(20);
+        RequestTrace.exit(jdbc);
+        assertThat(RequestTrace.currentLayer()).isEqualTo(SpanLayer.SERVICE);
+        RequestTrace.exit(service);
+        RequestTrace.exit(root);
+
+        CompletedTrace completed = trace.complete("GET", "/v1/accounts/{accountNumber}", 200);
+
+        assertThat(completed.traceId()).hasSize(32);
+        assertThat(completed.spans()).extracting(CompletedTrace.Span::parent).containsExactly(-1, 0, 1);
+        assertThat(completed.spans().get(0).name()).isEqualTo("GET /v1/accounts/{accountNumber}");
+        Map<SpanLayer, Long> breakdown = completed.selfTimeNanos();
+        assertThat(breakdown).containsOnlyKeys(SpanLayer.HTTP, SpanLayer.SERVICE, SpanLayer.JDBC);
+        assertThat(breakdown.get(SpanLayer.JDBC)).isGreaterThanOrEqualTo(20_000_000L);
+        assertThat(breakdown.values().stream().mapToLong(Long::longValue).sum())
+                .isEqualTo(completed.spans().get(0).durationNanos());
+    }
+
+    @Test
+    void exit_ShouldEndSpansLeftOpen_WhenAncestorExits() {
+        RequestTrace trace = RequestTrace.begin();
+        int root = RequestTrace.enter(SpanLayer.HTTP, "POST");
+        int service = RequestTrace.enter(SpanLayer.SERVICE, "TransactionService.createTransaction");
+        RequestTrace.enter(SpanLayer.FLUSH, "flush");
+        RequestTrace.exit(service);
+        int serialization = RequestTrace.enter(SpanLayer.SERIALIZATION, "write ErrorResponse");
+        RequestTrace.exit(serialization);
+        RequestTrace.exit(service);
+        RequestTrace.exit(root);
+
+        CompletedTrace completed = trace.complete("POST", "/v1/accounts/{accountNumber}/transactions", 500);
+
+        assertThat(completed.spans()).extracting(CompletedTrace.Span::parent).containsExactly(-1, 0, 1, 0);
+        CompletedTrace.Span flush = completed.spans().get(2);
+        CompletedTrace.Span serviceSpan = completed.spans().get(1);
+        assertThat(flush.startOffsetNanos() + flush.durationNanos())
+                .isEqualTo(serviceSpan.startOffsetNanos() + serviceSpan.durationNanos());
+        assertThat(completed.selfTimeNanos().values().stream().mapToLong(Long::longValue).sum())
+                .isEqualTo(completed.spans().get(0).durationNanos());
+    }
+
+    @Test
+    void enter_ShouldCountSpansBeyondLimit() {
+        RequestTrace trace = RequestTrace.begin();
+        int root = RequestTrace.enter(SpanLayer.HTTP, "GET");
+        for (int i = 0; i < RequestTrace.MAX_SPANS + 5; i++) {
+            RequestTrace.exit(RequestTrace.enter(SpanLayer.JDBC, "select 1"));
+        }
+        RequestTrace.exit(root);
+
+        CompletedTrace completed = trace.complete("GET", "/v1/accounts", 200);
+
+        assertThat(completed.spans()).hasSize(RequestTrace.MAX_SPANS);
+        assertThat(completed.droppedSpans()).isEqualTo(6);
+    }
+
+    @Test
+    void traceBuffer_ShouldKeepOnlyMostRecentTraces() {
+        TraceBuffer buffer = new TraceBuffer(2);
+        for (int i = 0; i < 3; i++) {
+            RequestTrace trace = RequestTrace.begin();
+            RequestTrace.exit(RequestTrace.enter(SpanLayer.HTTP, "GET"));
+            buffer.record(trace.complete("GET", "/v1/users/" + i, 200));
+        }
+
+        assertThat(buffer.recorded()).isEqualTo(3);
+        assertThat(buffer.snapshot()).extracting(CompletedTrace::route)
+                .containsExactlyInAnyOrder("/v1/users/1", "/v1/users/2");
+    }
+}
@@ -0,0 +1,100 @@
+package com.eaglebank.api.tracing;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:tracing-test-db;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=update",
+        "rate-limit.enabled=false",
+        "tracing.sample-rate=1"
+})
+@AutoConfigureMockMvc
+class TracingMvcTest {
+
+    private static final String TRANSACTIONS_ROUTE = "/v1/accounts/{accountNumber}/transactions";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TraceBuffer traceBuffer;
+
+    @Test
+    void createTransaction_ShouldRecordTraceBrokenDownByLayer() throws Exception {
+        perform(post("/v1/users"), null, Map.of(
+                "name", "Tracing Test",
+                "address", Map.of("line1", "1 High Street", "town", "London", "county", "Greater London",
+                        "postcode", "E1 1AA"),
+                "phoneNumber", "+447700900003",
+                "email", "tracing@example.com",
+                "password", "password123"));
+        String token = perform(post("/v1/auth/login"), null,
+                Map.of("email", "tracing@example.com", "password", "password123")).get("token").asText();
+        String accountNumber = perform(post("/v1/accounts"), token,
+                Map.of("name", "Tracing Account", "accountType", "personal")).get("accountNumber").asText();
+
+        perform(post("/v1/accounts/" + accountNumber + "/transactions"), token,
+                Map.of("amount", new BigDecimal("25.00"), "currency", "GBP", "type", "deposit"));
+
+        CompletedTrace trace = traceBuffer.snapshot().stream()
+                .filter(t -> t.method().equals("POST") && t.route().equals(TRANSACTIONS_ROUTE))
+                .findFirst()
+                .orElseThrow();
+        List<CompletedTrace.Span> spans = trace.spans();
+        assertThat(trace.status()).isEqualTo(201);
+        assertThat(spans.get(0).layer()).isEqualTo(SpanLayer.HTTP);
+        assertThat(spans.get(0).name()).isEqualTo("POST " + TRANSACTIONS_ROUTE);
+        assertThat(trace.selfTimeNanos()).containsKeys(SpanLayer.HTTP, SpanLayer.AUTHENTICATION,
+                SpanLayer.VALIDATION, SpanLayer.SERVICE, SpanLayer.FLUSH, SpanLayer.JDBC, SpanLayer.SERIALIZATION);
+        assertThat(trace.selfTimeNanos().values().stream().mapToLong(Long::longValue).sum())
+                .isEqualTo(spans.get(0).durationNanos());
+
+        // Flushes happen inside the service call and contain nothing but the statements they issue.
+        List<CompletedTrace.Span> flushes = spans.stream().filter(s -> s.layer() == SpanLayer.FLUSH).toList();
+        assertThat(flushes).allSatisfy(flush -> assertThat(spans.get(flush.parent()).layer())
+                .isIn(SpanLayer.SERVICE, SpanLayer.FLUSH));
+        assertThat(spans).filteredOn(s -> s.parent() >= 0 && spans.get(s.parent()).layer() == SpanLayer.FLUSH)
+                .isNotEmpty()
+                .allSatisfy(s -> assertThat(s.layer()).isIn(SpanLayer.JDBC, SpanLayer.FLUSH));
+        assertThat(spans).filteredOn(s -> s.layer() == SpanLayer.SERIALIZATION)
+                .allSatisfy(s -> assertThat(s.parent()).isZero());
+    }
+
+    private JsonNode perform(MockHttpServletRequestBuilder request, String token, Map<String, ?> body)
+            throws Exception {
+        if (token != null) {
+            request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        }
+        String response = mockMvc.perform(request
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(body)))
+                .andExpect(status().is2xxSuccessful())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(response);
+    }
+}
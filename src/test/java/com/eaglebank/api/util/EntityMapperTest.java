@@ -44,7 +44,7 @@ class EntityMapperTest {
         testAccount.setSortCode("10-10-10");
         testAccount.setName("Test Account");
         testAccount.setAccountType("personal");
-        testAccount.setBalance(new BigDecimal("1000.00"));
+        testAccount.setBalance(100000L);
         testAccount.setCurrency("GBP");
         testAccount.setUser(testUser);
         testAccount.setCreatedTimestamp(Instant.parse("2024-01-01T00:00:00Z"));
@@ -52,7 +52,7 @@ class EntityMapperTest {
 
         testTransaction = new Transaction();
         testTransaction.setId("tan-123abc");
-        testTransaction.setAmount(new BigDecimal("100.00"));
+        testTransaction.setAmount(10000L);
         testTransaction.setCurrency("GBP");
         testTransaction.setType("deposit");
         testTransaction.setReference("Test reference");
@@ -0,0 +1,91 @@
+package com.eaglebank.api.util;
+
+import com.eaglebank.api.constants.ApplicationConstants;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Randomised equivalence checks between the minor-unit arithmetic used on the balance path and the
+ * {@code BigDecimal} arithmetic it replaced. Seeds are fixed so any failure reproduces exactly.
+ */
+class MoneyUtilTest {
+
+    private static final long SEED = 0x5EED_CAFEL;
+    private static final int ITERATIONS = 200_000;
+    private static final BigDecimal MAX_AMOUNT = new BigDecimal("10000.00");
+
+    @Test
+    void toMinorUnits_ShouldMatchBigDecimalRounding_ForRandomAmounts() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < ITERATIONS; i++) {
+            BigDecimal amount = randomAmount(random);
+
+            BigDecimal expected = amount.setScale(2, RoundingMode.HALF_UP);
+            BigDecimal actual = MoneyUtil.fromMinorUnits(MoneyUtil.toMinorUnits(amount));
+
+            assertThat(actual).as("amount %s", amount).isEqualTo(expected);
+            assertThat(actual.toString()).isEqualTo(expected.toString());
+        }
+    }
+
+    @Test
+    void minorUnitBalancePath_ShouldMatchBigDecimalPath_ForRandomTransactionSequences() {
+        Random random = new Random(SEED + 1);
+        for (int sequence = 0; sequence < ITERATIONS / 100; sequence++) {
+            BigDecimal decimalBalance = randomAmount(random).setScale(2, RoundingMode.HALF_UP);
+            long minorBalance = MoneyUtil.toMinorUnits(decimalBalance);
+
+            for (int step = 0; step < 100; step++) {
+                BigDecimal requested = randomAmount(random);
+                boolean withdrawal = random.nextBoolean();
+
+                BigDecimal decimalAmount = requested.setScale(2, RoundingMode.HALF_UP);
+                boolean decimalRejected = withdrawal && decimalBalance.compareTo(decimalAmount) < 0;
+                if (!decimalRejected) {
+                    decimalBalance = withdrawal ? decimalBalance.subtract(decimalAmount) : decimalBalance.add(decimalAmount);
+                }
+
+                long minorAmount = MoneyUtil.toMinorUnits(requested);
+                boolean minorRejected = withdrawal && minorBalance < minorAmount;
+                if (!minorRejected) {
+                    minorBalance = withdrawal ? minorBalance - minorAmount : minorBalance + minorAmount;
+                }
+
+                assertThat(minorRejected).as("sequence %d step %d", sequence, step).isEqualTo(decimalRejected);
+                assertThat(MoneyUtil.fromMinorUnits(minorBalance)).isEqualTo(decimalBalance);
+            }
+        }
+    }
+
+    @Test
+    void minorUnitLimitCheck_ShouldMatchBigDecimalLimitCheck_AroundTheMaximum() {
+        Random random = new Random(SEED + 2);
+        for (int i = 0; i < ITERATIONS; i++) {
+            long minor = ApplicationConstants.MAX_TRANSACTION_AMOUNT_MINOR - 1_000 + random.nextInt(2_001);
+
+            boolean decimalExceeds = MoneyUtil.fromMinorUnits(minor).compareTo(MAX_AMOUNT) > 0;
+            boolean minorExceeds = minor > ApplicationConstants.MAX_TRANSACTION_AMOUNT_MINOR;
+
+            assertThat(minorExceeds).as("minor %d", minor).isEqualTo(decimalExceeds);
+        }
+    }
+
+    @Test
+    void toMinorUnits_ShouldRoundHalfUp_AtTheThirdDecimal() {
+        assertThat(MoneyUtil.toMinorUnits(new BigDecimal("0.005"))).isEqualTo(1L);
+        assertThat(MoneyUtil.toMinorUnits(new BigDecimal("0.004"))).isEqualTo(0L);
+        assertThat(MoneyUtil.toMinorUnits(new BigDecimal("10000"))).isEqualTo(1_000_000L);
+    }
+
+    // Amounts up to 10000 with between zero and four decimal places, as a client may send them.
+    private static BigDecimal randomAmount(Random random) {
+        int scale = random.nextInt(5);
+        long bound = 10_000L * (long) Math.pow(10, scale);
+        return BigDecimal.valueOf(random.nextLong(bound + 1), scale);
+    }
+}